@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.Arrays;
+import javafx.collections.ObservableDoubleList;
+
+/**
+ * ObservableDoubleList default implementation.
+ */
+public final class ObservableDoubleListImpl extends ObservablePrimitiveListBase<Double, double[]>
+        implements ObservableDoubleList {
+
+    private static final double[] INITIAL = new double[0];
+
+    /**
+     * Creates empty observable double list
+     */
+    public ObservableDoubleListImpl() {
+        super(INITIAL, 0);
+    }
+
+    /**
+     * Creates observable double list with copy of given initial values
+     * @param elements initial values to copy to observable double list
+     */
+    public ObservableDoubleListImpl(double... elements) {
+        super(Arrays.copyOf(elements, elements.length), elements.length);
+    }
+
+    @Override
+    double[] newArray(int length) {
+        return new double[length];
+    }
+
+    @Override
+    int capacity() {
+        return array.length;
+    }
+
+    @Override
+    Double elementAt(int index) {
+        return array[index];
+    }
+
+    @Override
+    void setElement(double[] dest, int index, Double element) {
+        dest[index] = element;
+    }
+
+    @Override
+    public double getDouble(int index) {
+        rangeCheck(index);
+        return array[index];
+    }
+
+    @Override
+    public double setDouble(int index, double value) {
+        rangeCheck(index);
+        final double old = array[index];
+        array[index] = value;
+        notifySet(index, old);
+        return old;
+    }
+
+    @Override
+    public void addDouble(double value) {
+        addDouble(size, value);
+    }
+
+    @Override
+    public void addDouble(int index, double value) {
+        rangeCheckForAdd(index);
+        openGap(index, 1);
+        array[index] = value;
+        notifyAdd(index, index + 1);
+    }
+
+    @Override
+    public void addAllDoubles(double... values) {
+        insertValues(size, values, values.length);
+    }
+
+    @Override
+    public void setAllDoubles(double... values) {
+        replaceValues(values, values.length);
+    }
+
+    @Override
+    public void copyTo(int srcIndex, double[] dest, int destIndex, int length) {
+        copyValues(srcIndex, dest, destIndex, length);
+    }
+
+    @Override
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(array, size);
+    }
+}
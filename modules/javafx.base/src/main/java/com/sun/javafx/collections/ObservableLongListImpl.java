@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.Arrays;
+import javafx.collections.ObservableLongList;
+
+/**
+ * ObservableLongList default implementation.
+ */
+public final class ObservableLongListImpl extends ObservablePrimitiveListBase<Long, long[]>
+        implements ObservableLongList {
+
+    private static final long[] INITIAL = new long[0];
+
+    /**
+     * Creates empty observable long list
+     */
+    public ObservableLongListImpl() {
+        super(INITIAL, 0);
+    }
+
+    /**
+     * Creates observable long list with copy of given initial values
+     * @param elements initial values to copy to observable long list
+     */
+    public ObservableLongListImpl(long... elements) {
+        super(Arrays.copyOf(elements, elements.length), elements.length);
+    }
+
+    @Override
+    long[] newArray(int length) {
+        return new long[length];
+    }
+
+    @Override
+    int capacity() {
+        return array.length;
+    }
+
+    @Override
+    Long elementAt(int index) {
+        return array[index];
+    }
+
+    @Override
+    void setElement(long[] dest, int index, Long element) {
+        dest[index] = element;
+    }
+
+    @Override
+    public long getLong(int index) {
+        rangeCheck(index);
+        return array[index];
+    }
+
+    @Override
+    public long setLong(int index, long value) {
+        rangeCheck(index);
+        final long old = array[index];
+        array[index] = value;
+        notifySet(index, old);
+        return old;
+    }
+
+    @Override
+    public void addLong(long value) {
+        addLong(size, value);
+    }
+
+    @Override
+    public void addLong(int index, long value) {
+        rangeCheckForAdd(index);
+        openGap(index, 1);
+        array[index] = value;
+        notifyAdd(index, index + 1);
+    }
+
+    @Override
+    public void addAllLongs(long... values) {
+        insertValues(size, values, values.length);
+    }
+
+    @Override
+    public void setAllLongs(long... values) {
+        replaceValues(values, values.length);
+    }
+
+    @Override
+    public void copyTo(int srcIndex, long[] dest, int destIndex, int length) {
+        copyValues(srcIndex, dest, destIndex, length);
+    }
+
+    @Override
+    public long[] toLongArray() {
+        return Arrays.copyOf(array, size);
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * Base class for the observable lists backed by an array of primitive
+ * values. It keeps the array, its growth, the range checks and the change
+ * notifications; subclasses only access the elements of their array type.
+ *
+ * @param <E> the boxed type of the elements
+ * @param <A> the array type of the elements, for example {@code double[]}
+ */
+abstract class ObservablePrimitiveListBase<E extends Number, A>
+        extends ModifiableObservableListBase<E> implements RandomAccess {
+
+    A array;
+    int size;
+
+    ObservablePrimitiveListBase(A array, int size) {
+        this.array = array;
+        this.size = size;
+    }
+
+    /**
+     * Creates an array of the given length.
+     */
+    abstract A newArray(int length);
+
+    /**
+     * Returns the length of the backing array.
+     */
+    abstract int capacity();
+
+    /**
+     * Returns the element at the given index of the backing array, without
+     * range check.
+     */
+    abstract E elementAt(int index);
+
+    /**
+     * Unboxes the element into the given index of the given array.
+     */
+    abstract void setElement(A dest, int index, E element);
+
+    @Override
+    public E get(int index) {
+        rangeCheck(index);
+        return elementAt(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        return addAll(size, c);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(int index, Collection<? extends E> c) {
+        rangeCheckForAdd(index);
+        final Object[] values = c.toArray();
+        final int length = values.length;
+        if (length == 0) {
+            return false;
+        }
+        // unbox first so that a null element leaves the list unchanged
+        final A unboxed = newArray(length);
+        for (int i = 0; i < length; ++i) {
+            setElement(unboxed, i, (E) values[i]);
+        }
+        insertValues(index, unboxed, length);
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", size: " + size);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        final List<E> removed = boxed(fromIndex, toIndex);
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        beginChange();
+        nextRemove(fromIndex, removed);
+        ++modCount;
+        endChange();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        rangeCheckForAdd(index);
+        // check first so that a null element leaves the list unchanged
+        Objects.requireNonNull(element);
+        openGap(index, 1);
+        setElement(array, index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        rangeCheck(index);
+        final E old = elementAt(index);
+        setElement(array, index, element);
+        return old;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        rangeCheck(index);
+        final E old = elementAt(index);
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        --size;
+        return old;
+    }
+
+    /**
+     * Inserts the first {@code length} values of the given array at the
+     * given index and fires the addition.
+     */
+    final void insertValues(int index, A values, int length) {
+        if (length == 0) {
+            return;
+        }
+        openGap(index, length);
+        System.arraycopy(values, 0, array, index, length);
+        notifyAdd(index, index + length);
+    }
+
+    /**
+     * Replaces the content of this list with the first {@code length}
+     * values of the given array and fires the replacement.
+     */
+    final void replaceValues(A values, int length) {
+        final List<E> removed = boxed(0, size);
+        if (length > capacity()) {
+            array = newArray(length);
+        }
+        System.arraycopy(values, 0, array, 0, length);
+        size = length;
+        if (!removed.isEmpty() || size != 0) {
+            beginChange();
+            nextReplace(0, size, removed);
+            ++modCount;
+            endChange();
+        }
+    }
+
+    /**
+     * Copies {@code length} values from the given index into the given array.
+     */
+    final void copyValues(int srcIndex, A dest, int destIndex, int length) {
+        if (srcIndex < 0 || length < 0 || srcIndex + length > size) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        System.arraycopy(array, srcIndex, dest, destIndex, length);
+    }
+
+    /**
+     * Makes room for {@code length} values at the given index, growing
+     * the array if needed. The caller stores the new values.
+     */
+    final void openGap(int index, int length) {
+        final int minCapacity = size + length;
+        final int oldCapacity = capacity();
+        if (minCapacity > oldCapacity) {
+            int newCapacity = oldCapacity + (oldCapacity >> 1);
+            if (newCapacity < minCapacity) {
+                newCapacity = minCapacity;
+            }
+            final A newArray = newArray(newCapacity);
+            System.arraycopy(array, 0, newArray, 0, index);
+            System.arraycopy(array, index, newArray, index + length, size - index);
+            array = newArray;
+        } else {
+            System.arraycopy(array, index, array, index + length, size - index);
+        }
+        size += length;
+    }
+
+    final void notifyAdd(int from, int to) {
+        beginChange();
+        nextAdd(from, to);
+        ++modCount;
+        endChange();
+    }
+
+    final void notifySet(int index, E old) {
+        beginChange();
+        nextSet(index, old);
+        endChange();
+    }
+
+    final void rangeCheck(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    final void rangeCheckForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private List<E> boxed(int from, int to) {
+        final List<E> list = new ArrayList<>(to - from);
+        for (int i = from; i < to; ++i) {
+            list.add(elementAt(i));
+        }
+        return list;
+    }
+}
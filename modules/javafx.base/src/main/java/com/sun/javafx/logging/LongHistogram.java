@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of non-negative long values with buckets of logarithmic size:
+ * each power of two is split into 8 linear sub-buckets, so that the value
+ * reported for a bucket is within 12.5% of the values counted in it, using
+ * a fixed amount of memory whatever the range of the values.
+ *
+ * The minimum, maximum, mean and count are exact. This class is not thread
+ * safe.
+ */
+public final class LongHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKETS - 1;
+        return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+    }
+
+    /**
+     * Returns the largest value counted in the bucket at the given index.
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKETS - 1;
+        final long upper = ((long) (SUB_BUCKETS + index % SUB_BUCKETS + 1) << shift) - 1;
+        // the last bucket ends at Long.MAX_VALUE
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+
+    /**
+     * Counts the given value; negative values are counted as zero.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts[bucketIndex(value)]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    public LongHistogram copy() {
+        final LongHistogram copy = new LongHistogram();
+        System.arraycopy(counts, 0, copy.counts, 0, BUCKETS);
+        copy.count = count;
+        copy.sum = sum;
+        copy.min = min;
+        copy.max = max;
+        return copy;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Returns the value below or at which the given percentage of the values
+     * fall, as the largest value of the bucket containing it, clamped to the
+     * range of the values.
+     *
+     * @param percentile the percentage, between 0 and 100
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100 || Double.isNaN(percentile)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, bucketUpperBound(i)));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the number of values greater than the given threshold. Values
+     * in the bucket containing the threshold are counted if the bucket lies
+     * mostly above it.
+     */
+    public long getCountAbove(long threshold) {
+        if (threshold < 0) {
+            return count;
+        }
+        if (threshold >= max) {
+            return 0;
+        }
+        final int index = bucketIndex(threshold);
+        long above = 0;
+        for (int i = index + 1; i < BUCKETS; ++i) {
+            above += counts[i];
+        }
+        final long lower = bucketLowerBound(index);
+        final long upper = bucketUpperBound(index);
+        if (threshold - lower < upper - threshold) {
+            above += counts[index];
+        }
+        return above;
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Measures the duration of the phases of each pulse, and counts the nodes,
+ * textures and dirty regions processed by it, for the {@code javafx.application.PulseStatistics}
+ * API and the {@code javafx.Pulse} flight recorder event.
+ *
+ * A pulse is measured only when statistics are enabled or the event is
+ * enabled in a recording; otherwise each instrumentation point only checks
+ * for a null record. The record of a pulse is filled by the FX thread and,
+ * if the pulse renders, handed to the render thread at {@link #renderStart()}
+ * and completed at {@link #renderEnd()}. The time between the start of the
+ * pulse and its completion is reported as the {@link #TOTAL} phase.
+ */
+public final class PulseMetrics {
+
+    public static final int NONE = -1;
+    public static final int ANIMATION = 0;
+    public static final int CSS = 1;
+    public static final int LAYOUT = 2;
+    public static final int SYNC = 3;
+    public static final int RENDER = 4;
+    public static final int PRESENT = 5;
+    public static final int TOTAL = 6;
+    public static final int PHASE_COUNT = 7;
+
+    public static final int DIRTY_NODES = 0;
+    public static final int CSS_NODES = 1;
+    public static final int TEXTURE_UPLOADS = 2;
+    public static final int GLYPH_RASTERIZATIONS = 3;
+    public static final int DIRTY_REGIONS = 4;
+    public static final int DIRTY_AREA = 5;
+    public static final int COUNTER_COUNT = 6;
+
+    /**
+     * The measures of a single pulse.
+     */
+    public static final class Record {
+        private final long pulseNumber;
+        private final long start;
+        private final long[] durations = new long[PHASE_COUNT];
+        private final int[] counts = new int[COUNTER_COUNT];
+        private int phase = NONE;
+        private long phaseStart;
+        private boolean rendering;
+
+        Record(long pulseNumber) {
+            this.pulseNumber = pulseNumber;
+            this.start = System.nanoTime();
+        }
+
+        void phase(int newPhase) {
+            final long now = System.nanoTime();
+            if (phase != NONE) {
+                durations[phase] += now - phaseStart;
+            }
+            phase = newPhase;
+            phaseStart = now;
+        }
+
+        public long getPulseNumber() {
+            return pulseNumber;
+        }
+
+        /**
+         * Returns the duration of the given phase, in nanoseconds.
+         */
+        public long getDuration(int phase) {
+            return durations[phase];
+        }
+
+        public int getCount(int counter) {
+            return counts[counter];
+        }
+    }
+
+    /**
+     * Receives the records of completed pulses.
+     */
+    public interface Listener {
+        boolean isEnabled();
+        void pulseCompleted(Record record);
+    }
+
+    private static final Listener jfrListener =
+            loadListener("com.sun.javafx.logging.jfr.JFRPulseMetrics");
+
+    private static volatile boolean statisticsEnabled;
+    private static final Object statisticsLock = new Object();
+    private static final LongHistogram[] histograms = new LongHistogram[PHASE_COUNT + COUNTER_COUNT];
+    static {
+        for (int i = 0; i < histograms.length; ++i) {
+            histograms[i] = new LongHistogram();
+        }
+    }
+
+    private static long pulseNumber;
+    // accessed by the FX thread only
+    private static Record fxRecord;
+    // the record handed to the render thread
+    private static volatile Record renderRecord;
+
+    private PulseMetrics() {
+    }
+
+    public static boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    /**
+     * Enables or disables the collection of statistics; the statistics are
+     * kept when collection is disabled.
+     */
+    public static void setStatisticsEnabled(boolean enabled) {
+        statisticsEnabled = enabled;
+    }
+
+    public static void resetStatistics() {
+        synchronized (statisticsLock) {
+            for (LongHistogram h : histograms) {
+                h.reset();
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of the histograms of the phase durations, indexed by
+     * phase, followed by the histograms of the counters.
+     */
+    public static LongHistogram[] copyStatistics() {
+        final LongHistogram[] copy = new LongHistogram[histograms.length];
+        synchronized (statisticsLock) {
+            for (int i = 0; i < histograms.length; ++i) {
+                copy[i] = histograms[i].copy();
+            }
+        }
+        return copy;
+    }
+
+    /* *************************************************************************
+     * FX thread                                                               *
+     **************************************************************************/
+
+    public static void pulseStart() {
+        ++pulseNumber;
+        if (statisticsEnabled || (jfrListener != null && jfrListener.isEnabled())) {
+            fxRecord = new Record(pulseNumber);
+        } else {
+            fxRecord = null;
+        }
+    }
+
+    /**
+     * Ends the current phase of the pulse, and starts the given one.
+     */
+    public static void phase(int phase) {
+        final Record r = fxRecord;
+        if (r != null) {
+            r.phase(phase);
+        }
+    }
+
+    public static void addDirtyNodes(int count) {
+        final Record r = fxRecord;
+        if (r != null) {
+            r.counts[DIRTY_NODES] += count;
+        }
+    }
+
+    public static void cssNodeProcessed() {
+        final Record r = fxRecord;
+        if (r != null) {
+            r.counts[CSS_NODES]++;
+        }
+    }
+
+    /**
+     * Hands the record of the current pulse to the render thread, which must
+     * call {@link #renderEnd()} once all the scenes of the pulse are rendered.
+     */
+    public static void renderStart() {
+        final Record r = fxRecord;
+        if (r != null) {
+            r.phase(NONE);
+            r.rendering = true;
+            renderRecord = r;
+        }
+    }
+
+    public static void pulseEnd() {
+        final Record r = fxRecord;
+        fxRecord = null;
+        if (r != null && !r.rendering) {
+            r.phase(NONE);
+            publish(r);
+        }
+    }
+
+    /* *************************************************************************
+     * Render thread                                                           *
+     **************************************************************************/
+
+    /**
+     * Ends the current rendering phase, and starts the given one, which may
+     * be {@link #NONE}.
+     */
+    public static void renderPhase(int phase) {
+        final Record r = renderRecord;
+        if (r != null) {
+            r.phase(phase);
+        }
+    }
+
+    public static void textureUploaded() {
+        final Record r = renderRecord;
+        if (r != null) {
+            r.counts[TEXTURE_UPLOADS]++;
+        }
+    }
+
+    public static void glyphRasterized() {
+        final Record r = renderRecord;
+        if (r != null) {
+            r.counts[GLYPH_RASTERIZATIONS]++;
+        }
+    }
+
+    /**
+     * Adds the given number of regions painted for a scene, and the area
+     * they cover, in pixels.
+     */
+    public static void dirtyRegionsPainted(int count, int area) {
+        final Record r = renderRecord;
+        if (r != null) {
+            r.counts[DIRTY_REGIONS] += count;
+            r.counts[DIRTY_AREA] += area;
+        }
+    }
+
+    public static void renderEnd() {
+        final Record r = renderRecord;
+        renderRecord = null;
+        if (r != null) {
+            r.phase(NONE);
+            publish(r);
+        }
+    }
+
+    private static void publish(Record r) {
+        r.durations[TOTAL] = System.nanoTime() - r.start;
+        if (statisticsEnabled) {
+            synchronized (statisticsLock) {
+                for (int i = 0; i < PHASE_COUNT; ++i) {
+                    histograms[i].record(r.durations[i]);
+                }
+                for (int i = 0; i < COUNTER_COUNT; ++i) {
+                    histograms[PHASE_COUNT + i].record(r.counts[i]);
+                }
+            }
+        }
+        if (jfrListener != null && jfrListener.isEnabled()) {
+            jfrListener.pulseCompleted(r);
+        }
+    }
+
+    // Loading the flight recorder listener reflectively, in case jdk.jfr isn't available
+    private static Listener loadListener(String className) {
+        try {
+            Class<?> klass = Class.forName(className);
+            Method method = klass.getDeclaredMethod("createInstance");
+            return (Listener) method.invoke(null);
+        } catch (NoClassDefFoundError | ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            // Ignore
+        }
+        return null;
+    }
+}
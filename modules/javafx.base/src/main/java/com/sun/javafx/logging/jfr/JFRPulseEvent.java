@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("javafx.Pulse")
+@Label("JavaFX Pulse")
+@Category("JavaFX")
+@Description("Durations of the phases of a JavaFX pulse and the work done by it")
+@StackTrace(false)
+@Enabled(false)
+public final class JFRPulseEvent extends Event {
+    @Label("Pulse Number")
+    long pulseNumber;
+
+    @Label("Animation")
+    @Timespan(Timespan.NANOSECONDS)
+    long animation;
+
+    @Label("CSS")
+    @Timespan(Timespan.NANOSECONDS)
+    long css;
+
+    @Label("Layout")
+    @Timespan(Timespan.NANOSECONDS)
+    long layout;
+
+    @Label("Synchronization")
+    @Timespan(Timespan.NANOSECONDS)
+    long sync;
+
+    @Label("Rendering")
+    @Timespan(Timespan.NANOSECONDS)
+    long render;
+
+    @Label("Presenting")
+    @Timespan(Timespan.NANOSECONDS)
+    long present;
+
+    @Label("Total")
+    @Description("Time from the start of the pulse until its rendering is complete")
+    @Timespan(Timespan.NANOSECONDS)
+    long total;
+
+    @Label("Dirty Nodes")
+    int dirtyNodes;
+
+    @Label("CSS Nodes")
+    @Description("Number of nodes whose styles were applied")
+    int cssNodes;
+
+    @Label("Texture Uploads")
+    int textureUploads;
+
+    @Label("Glyph Rasterizations")
+    @Description("Number of glyphs rasterized into the glyph cache")
+    int glyphRasterizations;
+
+    @Label("Dirty Regions")
+    @Description("Number of regions painted, counting a scene painted in full as one region")
+    int dirtyRegions;
+
+    @Label("Dirty Area")
+    @Description("Area covered by the painted regions, in pixels")
+    int dirtyArea;
+}
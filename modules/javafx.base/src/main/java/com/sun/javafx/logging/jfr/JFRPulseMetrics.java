@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging.jfr;
+
+import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.logging.PulseMetrics;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Emits a {@link JFRPulseEvent} for each pulse measured by {@link PulseMetrics}.
+ */
+public final class JFRPulseMetrics implements PulseMetrics.Listener {
+    private final EventType eventType;
+
+    public static PulseMetrics.Listener createInstance() {
+        if (FlightRecorder.isInitialized() || PulseLogger.isPulseLoggingRequested()) {
+            return new JFRPulseMetrics();
+        }
+        return null;
+    }
+
+    private JFRPulseMetrics() {
+        FlightRecorder.register(JFRPulseEvent.class);
+        eventType = EventType.getEventType(JFRPulseEvent.class);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return eventType.isEnabled();
+    }
+
+    @Override
+    public void pulseCompleted(PulseMetrics.Record record) {
+        JFRPulseEvent event = new JFRPulseEvent();
+        event.pulseNumber = record.getPulseNumber();
+        event.animation = record.getDuration(PulseMetrics.ANIMATION);
+        event.css = record.getDuration(PulseMetrics.CSS);
+        event.layout = record.getDuration(PulseMetrics.LAYOUT);
+        event.sync = record.getDuration(PulseMetrics.SYNC);
+        event.render = record.getDuration(PulseMetrics.RENDER);
+        event.present = record.getDuration(PulseMetrics.PRESENT);
+        event.total = record.getDuration(PulseMetrics.TOTAL);
+        event.dirtyNodes = record.getCount(PulseMetrics.DIRTY_NODES);
+        event.cssNodes = record.getCount(PulseMetrics.CSS_NODES);
+        event.textureUploads = record.getCount(PulseMetrics.TEXTURE_UPLOADS);
+        event.glyphRasterizations = record.getCount(PulseMetrics.GLYPH_RASTERIZATIONS);
+        event.dirtyRegions = record.getCount(PulseMetrics.DIRTY_REGIONS);
+        event.dirtyArea = record.getCount(PulseMetrics.DIRTY_AREA);
+        event.commit();
+    }
+}
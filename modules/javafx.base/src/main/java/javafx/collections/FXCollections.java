@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2018, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -53,8 +53,11 @@ import com.sun.javafx.collections.ObservableListWrapper;
 import com.sun.javafx.collections.ObservableMapWrapper;
 import com.sun.javafx.collections.ObservableSetWrapper;
 import com.sun.javafx.collections.MapAdapterChange;
+import com.sun.javafx.collections.ObservableDoubleListImpl;
 import com.sun.javafx.collections.ObservableFloatArrayImpl;
+import com.sun.javafx.collections.ObservableIntListImpl;
 import com.sun.javafx.collections.ObservableIntegerArrayImpl;
+import com.sun.javafx.collections.ObservableLongListImpl;
 import com.sun.javafx.collections.ObservableSequentialListWrapper;
 import com.sun.javafx.collections.SetAdapterChange;
 import com.sun.javafx.collections.SortableList;
@@ -306,6 +309,63 @@ public class FXCollections {
         return new ObservableFloatArrayImpl(array);
     }
 
+    /**
+     * Creates a new empty observable double list.
+     * @return a newly created ObservableDoubleList
+     * @since 14
+     */
+    public static ObservableDoubleList observableDoubleList() {
+        return new ObservableDoubleListImpl();
+    }
+
+    /**
+     * Creates a new observable double list with {@code values} set to it.
+     * @param values the values that will be in the new observable double list
+     * @return a newly created ObservableDoubleList
+     * @since 14
+     */
+    public static ObservableDoubleList observableDoubleList(double... values) {
+        return new ObservableDoubleListImpl(values);
+    }
+
+    /**
+     * Creates a new empty observable long list.
+     * @return a newly created ObservableLongList
+     * @since 14
+     */
+    public static ObservableLongList observableLongList() {
+        return new ObservableLongListImpl();
+    }
+
+    /**
+     * Creates a new observable long list with {@code values} set to it.
+     * @param values the values that will be in the new observable long list
+     * @return a newly created ObservableLongList
+     * @since 14
+     */
+    public static ObservableLongList observableLongList(long... values) {
+        return new ObservableLongListImpl(values);
+    }
+
+    /**
+     * Creates a new empty observable int list.
+     * @return a newly created ObservableIntList
+     * @since 14
+     */
+    public static ObservableIntList observableIntList() {
+        return new ObservableIntListImpl();
+    }
+
+    /**
+     * Creates a new observable int list with {@code values} set to it.
+     * @param values the values that will be in the new observable int list
+     * @return a newly created ObservableIntList
+     * @since 14
+     */
+    public static ObservableIntList observableIntList(int... values) {
+        return new ObservableIntListImpl(values);
+    }
+
     /**
      * Creates a new empty observable list that is backed by an arraylist.
      * @see #observableList(java.util.List)
@@ -702,6 +762,59 @@ public class FXCollections {
         }
     }
 
+    /**
+     * Runs the provided mutations of the list as a single change.
+     * All the modifications done to {@code list} by {@code mutations}, including
+     * nested calls of this method, are coalesced and listeners of the list
+     * are notified only once, with a {@code Change} describing the minimal
+     * difference between the old and new content of the list.
+     * <p>
+     * Coalescing is supported by lists extending {@link ObservableListBase},
+     * such as the lists created by {@link #observableArrayList()} and
+     * {@link #observableList(java.util.List)}, and by the checked and synchronized
+     * wrappers of such lists. Other lists are modified as usual,
+     * and notify their listeners as each mutation occurs.
+     * <p>
+     * If {@code mutations} throws an exception, the changes done so far are
+     * still reported before the exception is propagated.
+     * <pre>
+     * FXCollections.batch(list, () -&gt; {
+     *     list.remove(0);
+     *     list.add("new");
+     *     list.set(3, "updated");
+     * });
+     * </pre>
+     *
+     * @param list the list to be modified
+     * @param mutations the modifications to apply to the list
+     * @throws NullPointerException if {@code list} or {@code mutations} is null
+     * @since 14
+     */
+    public static void batch(ObservableList<?> list, Runnable mutations) {
+        if (list == null || mutations == null) {
+            throw new NullPointerException();
+        }
+        if (list instanceof SynchronizedObservableList) {
+            // the wrappers forward the coalesced change of the list they wrap
+            final SynchronizedObservableList<?> sync = (SynchronizedObservableList<?>) list;
+            synchronized (sync.mutex) {
+                batch(sync.backingList, mutations);
+            }
+        } else if (list instanceof CheckedObservableList) {
+            batch(((CheckedObservableList<?>) list).list, mutations);
+        } else if (list instanceof ObservableListBase) {
+            final ObservableListBase<?> base = (ObservableListBase<?>) list;
+            base.beginChange();
+            try {
+                mutations.run();
+            } finally {
+                base.endChange();
+            }
+        } else {
+            mutations.run();
+        }
+    }
+
     private static class EmptyObservableList<E> extends AbstractList<E> implements ObservableList<E> {
 
         private static final ListIterator iterator = new ListIterator() {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,13 +27,12 @@ package javafx.collections;
 
 import com.sun.javafx.collections.ChangeHelper;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
-import java.util.TreeSet;
 import javafx.collections.ListChangeListener.Change;
 
 final class ListChangeBuilder<E> {
@@ -149,6 +148,15 @@ final class ListChangeBuilder<E> {
         }
     }
 
+    private static <E> int totalRemoved(List<SubChange<E>> changes) {
+        int total = 0;
+        for (int i = 0, sz = changes.size(); i < sz; ++i) {
+            final List<E> removed = changes.get(i).removed;
+            total += (removed != null ? removed.size() : 0);
+        }
+        return total;
+    }
+
     private int compress(List<SubChange<E>> list) {
         int removed = 0;
 
@@ -210,6 +218,10 @@ final class ListChangeBuilder<E> {
             insertRemoved(idx, removed);
         }
 
+        removeFromUpdates(idx);
+    }
+
+    private void removeFromUpdates(int idx) {
         if (updateChanges != null && !updateChanges.isEmpty()) {
             int uPos = findSubChange(idx, updateChanges);
             if (uPos < 0) {
@@ -228,14 +240,35 @@ final class ListChangeBuilder<E> {
                 updateChanges.get(i).to--;
             }
         }
-
     }
 
     public void nextRemove(int idx, List<? extends E> removed) {
         checkState();
+        final int removedSize = removed.size();
+        if (removedSize <= 1) {
+            if (removedSize == 1) {
+                nextRemove(idx, removed.get(0));
+            }
+            return;
+        }
+        checkAddRemoveList();
 
-        for (int i = 0; i < removed.size(); ++i) {
-            nextRemove(idx, removed.get(i));
+        // Removing a range after all the other changes (the common case when
+        // mutations are batched) appends all the elements at once
+        final SubChange<E> last = addRemoveChanges.isEmpty() ? null
+                : addRemoveChanges.get(addRemoveChanges.size() - 1);
+        if (last == null || idx > last.to) {
+            addRemoveChanges.add(new SubChange<E>(idx, idx, new ArrayList<E>(removed), EMPTY_PERM, false));
+        } else if (last.to == idx && last.removed != null) {
+            last.removed.addAll(removed);
+        } else {
+            for (int i = 0; i < removedSize; ++i) {
+                nextRemove(idx, removed.get(i));
+            }
+            return;
+        }
+        for (int i = 0; i < removedSize; ++i) {
+            removeFromUpdates(idx);
         }
     }
 
@@ -293,7 +326,7 @@ final class ListChangeBuilder<E> {
             // items were permutated by our new permutation.
             int[] mapToOriginal = new int[list.size()];
             // Marks the original-list indexes that were removed
-            Set<Integer> removed = new TreeSet<Integer>();
+            boolean[] removed = null;
             int last = 0;
             int offset = 0;
             for (int i = 0, sz = addRemoveChanges.size(); i < sz; ++i) {
@@ -306,9 +339,11 @@ final class ListChangeBuilder<E> {
                 }
                 last = change.to;
                 int removedSize = (change.removed != null ? change.removed.size() : 0);
-                for (int j = change.from + offset, upTo = change.from + offset + removedSize;
-                        j < upTo; ++j) {
-                    removed.add(j);
+                if (removedSize > 0) {
+                    if (removed == null) {
+                        removed = new boolean[list.size() + totalRemoved(addRemoveChanges)];
+                    }
+                    Arrays.fill(removed, change.from + offset, change.from + offset + removedSize, true);
                 }
                 offset += removedSize - (change.to - change.from);
 
@@ -321,7 +356,7 @@ final class ListChangeBuilder<E> {
             int[] newPerm = new int[list.size() + offset];
             int mapPtr = 0;
             for (int i = 0; i < newPerm.length; ++i) {
-                if (removed.contains(i)) {
+                if (removed != null && removed[i]) {
                     newPerm[i] = i;
                 } else {
                     while(mapToOriginal[mapPtr] == -1) {
@@ -372,15 +407,15 @@ final class ListChangeBuilder<E> {
         }
 
         if ((addRemoveChanges != null && !addRemoveChanges.isEmpty())) {
-            Set<Integer> newAdded = new TreeSet<Integer>();
+            final boolean[] newAdded = new boolean[list.size()];
             Map<Integer, List<E>> newRemoved = new HashMap<Integer, List<E>>();
             for (int i = 0, sz = addRemoveChanges.size(); i < sz; ++i) {
                 SubChange<E> change = addRemoveChanges.get(i);
                 for (int cIndex = change.from; cIndex < change.to; ++cIndex) {
                     if (cIndex < from || cIndex >= to) {
-                        newAdded.add(cIndex);
+                        newAdded[cIndex] = true;
                     } else {
-                        newAdded.add(perm[cIndex - from]);
+                        newAdded[perm[cIndex - from]] = true;
                     }
                 }
                 if (change.removed != null) {
@@ -393,7 +428,10 @@ final class ListChangeBuilder<E> {
             }
             addRemoveChanges.clear();
             SubChange<E> lastChange = null;
-            for (Integer i : newAdded) {
+            for (int i = 0; i < newAdded.length; ++i) {
+                if (!newAdded[i]) {
+                    continue;
+                }
                 if (lastChange == null || lastChange.to != i) {
                     lastChange = new SubChange<E>(i, i + 1, null, EMPTY_PERM, false);
                     addRemoveChanges.add(lastChange);
@@ -414,25 +452,28 @@ final class ListChangeBuilder<E> {
                 final Integer at = e.getKey();
                 int idx = findSubChange(at, addRemoveChanges);
                 assert(idx < 0);
-                addRemoveChanges.add(~idx, new SubChange<E>(at, at, e.getValue(), new int[0], false));
+                addRemoveChanges.add(~idx, new SubChange<E>(at, at, e.getValue(), EMPTY_PERM, false));
             }
         }
 
         if (updateChanges != null && !updateChanges.isEmpty()) {
-            Set<Integer> newUpdated = new TreeSet<Integer>();
+            final boolean[] newUpdated = new boolean[list.size()];
             for (int i = 0, sz = updateChanges.size(); i < sz; ++i) {
                 SubChange<E> change = updateChanges.get(i);
                 for (int cIndex = change.from; cIndex < change.to; ++cIndex) {
                     if (cIndex < from || cIndex >= to) {
-                        newUpdated.add(cIndex);
+                        newUpdated[cIndex] = true;
                     } else {
-                        newUpdated.add(perm[cIndex - from]);
+                        newUpdated[perm[cIndex - from]] = true;
                     }
                 }
             }
             updateChanges.clear();
             SubChange<E> lastUpdateChange = null;
-            for (Integer i : newUpdated) {
+            for (int i = 0; i < newUpdated.length; ++i) {
+                if (!newUpdated[i]) {
+                    continue;
+                }
                 if (lastUpdateChange == null || lastUpdateChange.to != i) {
                     lastUpdateChange = new SubChange<E>(i, i + 1, null, EMPTY_PERM, true);
                     updateChanges.add(lastUpdateChange);
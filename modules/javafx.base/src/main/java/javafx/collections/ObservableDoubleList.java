@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections;
+
+/**
+ * {@code ObservableDoubleList} is an {@code ObservableList} of {@code double}
+ * values which stores its elements in a {@code double[]} array instead of
+ * boxing each of them in a {@code Double}. Listeners are notified with the same
+ * {@link ListChangeListener.Change} objects as for any other observable list,
+ * in which only the removed elements are boxed.
+ * <p>
+ * The primitive accessors of this interface neither box nor unbox values.
+ * The methods inherited from {@code List} box the values they return, and
+ * do not accept {@code null} elements.
+ *
+ * @see FXCollections#observableDoubleList()
+ * @since 14
+ */
+public interface ObservableDoubleList extends ObservableList<Double> {
+
+    /**
+     * Gets a single value of the list without boxing it.
+     * @param index index of the element to get
+     * @return value at the given index
+     * @throws IndexOutOfBoundsException if {@code index} is outside the list
+     * bounds
+     */
+    public double getDouble(int index);
+
+    /**
+     * Replaces a single value of the list.
+     * @param index index of the element to replace
+     * @param value the new value
+     * @return the value previously at the given index
+     * @throws IndexOutOfBoundsException if {@code index} is outside the list
+     * bounds
+     */
+    public double setDouble(int index, double value);
+
+    /**
+     * Appends a single value to the end of the list.
+     * @param value the value to append
+     */
+    public void addDouble(double value);
+
+    /**
+     * Inserts a single value at the given position of the list.
+     * @param index index at which the value is inserted
+     * @param value the value to insert
+     * @throws IndexOutOfBoundsException if {@code index} is negative or
+     * greater than the size of the list
+     */
+    public void addDouble(int index, double value);
+
+    /**
+     * Appends given {@code values} to the end of the list.
+     * Fires only <b>one</b> change notification on the list.
+     * @param values values to append
+     */
+    public void addAllDoubles(double... values);
+
+    /**
+     * Replaces the content of the list with given {@code values}.
+     * Fires only <b>one</b> change notification on the list.
+     * @param values values to put into the list
+     */
+    public void setAllDoubles(double... values);
+
+    /**
+     * Copies specified portion of the list into {@code dest} array. Throws
+     * the same exceptions as {@link System#arraycopy(java.lang.Object,
+     * int, java.lang.Object, int, int) System.arraycopy()} method.
+     * @param srcIndex starting position in the list
+     * @param dest destination array
+     * @param destIndex starting position in destination array
+     * @param length length of portion to copy
+     */
+    public void copyTo(int srcIndex, double[] dest, int destIndex, int length);
+
+    /**
+     * Returns an array containing a copy of all the values of the list.
+     * @return a new {@code double[]} array with the content of the list
+     */
+    public double[] toDoubleArray();
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,6 +32,8 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Predicate;
 import javafx.beans.NamedArg;
 import javafx.beans.property.ObjectProperty;
@@ -55,6 +57,16 @@ public final class FilteredList<E> extends TransformationList<E, E>{
     private SortHelper helper;
     private static final Predicate ALWAYS_TRUE = t -> true;
 
+    private static final int REFILTER_ALL = 0;
+    private static final int REFILTER_VISIBLE = 1;
+    private static final int REFILTER_HIDDEN = 2;
+
+    // Number of elements tested by a single task of the parallel filtering
+    private static final int PARALLEL_CHUNK_SIZE = 1024;
+
+    private int refilterMode = REFILTER_ALL;
+    private int parallelThreshold = Integer.MAX_VALUE;
+
     /**
      * Constructs a new FilteredList wrapper around the source list.
      * The provided predicate will match the elements in the source list that will be visible.
@@ -99,7 +111,16 @@ public final class FilteredList<E> extends TransformationList<E, E>{
             predicate = new ObjectPropertyBase<Predicate<? super E>>() {
                 @Override
                 protected void invalidated() {
-                    refilter();
+                    switch (refilterMode) {
+                        case REFILTER_VISIBLE:
+                            refilterVisible();
+                            break;
+                        case REFILTER_HIDDEN:
+                            refilterHidden();
+                            break;
+                        default:
+                            refilter();
+                    }
                 }
 
                 @Override
@@ -125,6 +146,91 @@ public final class FilteredList<E> extends TransformationList<E, E>{
         predicateProperty().set(predicate);
     }
 
+    /**
+     * Sets a predicate which is a refinement of the current predicate,
+     * that is a predicate matching only elements that are also matched
+     * by the current predicate. Only the elements currently in this list
+     * are tested, and the filtered-out elements are reported as removals.
+     * This is much cheaper than {@link #setPredicate(Predicate)} for
+     * large source lists, e.g. when a search text is being extended.
+     * <p>
+     * If the new predicate is not a refinement of the current one, elements
+     * of the source list that are not in this list but match the new
+     * predicate will not be added to this list.
+     *
+     * @param predicate the refining predicate or null to match all elements
+     * @throws RuntimeException if the {@link #predicateProperty() predicate}
+     * is bound
+     * @since 14
+     */
+    public final void refinePredicate(Predicate<? super E> predicate) {
+        setPredicateImpl(predicate, REFILTER_VISIBLE);
+    }
+
+    /**
+     * Sets a predicate which is a relaxation of the current predicate,
+     * that is a predicate matching all elements that are matched by the
+     * current predicate. Only the elements of the source list that are
+     * not in this list are tested, and the newly matched elements are
+     * reported as additions. This is much cheaper than
+     * {@link #setPredicate(Predicate)} for large source lists, e.g. when
+     * characters are removed from a search text.
+     * <p>
+     * If the new predicate is not a relaxation of the current one, elements
+     * in this list that do not match the new predicate will not be removed
+     * from this list.
+     *
+     * @param predicate the relaxing predicate or null to match all elements
+     * @throws RuntimeException if the {@link #predicateProperty() predicate}
+     * is bound
+     * @since 14
+     */
+    public final void relaxPredicate(Predicate<? super E> predicate) {
+        setPredicateImpl(predicate, REFILTER_HIDDEN);
+    }
+
+    private void setPredicateImpl(Predicate<? super E> predicate, int mode) {
+        refilterMode = mode;
+        try {
+            setPredicate(predicate);
+        } finally {
+            refilterMode = REFILTER_ALL;
+        }
+    }
+
+    /**
+     * Returns the number of elements above which the predicate is tested
+     * in parallel when the predicate changes.
+     *
+     * @return the parallel filtering threshold
+     * @since 14
+     */
+    public final int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Sets the number of elements above which the predicate is tested in
+     * parallel, using the common {@link ForkJoinPool}, when the predicate
+     * changes. The elements are always read from the source list on the
+     * calling thread, but the predicate must be safe to call from multiple
+     * threads concurrently. Changes of the source list are always filtered
+     * on the calling thread.
+     * <p>
+     * By default this threshold is {@code Integer.MAX_VALUE}, so that the
+     * predicate is never tested in parallel.
+     *
+     * @param threshold the minimal number of elements to test in parallel
+     * @throws IllegalArgumentException if {@code threshold} is negative
+     * @since 14
+     */
+    public final void setParallelThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold cannot be negative: " + threshold);
+        }
+        parallelThreshold = threshold;
+    }
+
     private Predicate<? super E> getPredicateImpl() {
         if (getPredicate() != null) {
             return getPredicate();
@@ -325,18 +431,141 @@ public final class FilteredList<E> extends TransformationList<E, E>{
             removed = new ArrayList<>(this);
         }
         size = 0;
-        int i = 0;
         Predicate<? super E> pred = getPredicateImpl();
-        for (Iterator<? extends E> it = getSource().iterator();it.hasNext(); ) {
-            final E next = it.next();
-            if (pred.test(next)) {
-                filtered[size++] = i;
+        if (getSource().size() >= parallelThreshold) {
+            final Object[] elements = getSource().toArray();
+            final boolean[] matches = testAll(pred, elements);
+            for (int i = 0; i < elements.length; ++i) {
+                if (matches[i]) {
+                    filtered[size++] = i;
+                }
+            }
+        } else {
+            int i = 0;
+            for (Iterator<? extends E> it = getSource().iterator();it.hasNext(); ) {
+                final E next = it.next();
+                if (pred.test(next)) {
+                    filtered[size++] = i;
+                }
+                ++i;
             }
-            ++i;
         }
         if (hasListeners()) {
             fireChange(new GenericAddRemoveChange<>(0, size, removed, this));
         }
     }
 
+    /**
+     * Tests only the elements currently in this list, removing those that
+     * are not matched by the predicate anymore.
+     */
+    @SuppressWarnings("unchecked")
+    private void refilterVisible() {
+        final Predicate<? super E> pred = getPredicateImpl();
+        final List<? extends E> source = getSource();
+        final Object[] elements = new Object[size];
+        for (int i = 0; i < size; ++i) {
+            elements[i] = source.get(filtered[i]);
+        }
+        final boolean[] matches = testAll(pred, elements);
+
+        beginChange();
+        int newSize = 0;
+        for (int i = 0; i < elements.length; ++i) {
+            if (matches[i]) {
+                filtered[newSize++] = filtered[i];
+            } else {
+                nextRemove(newSize, (E) elements[i]);
+            }
+        }
+        size = newSize;
+        endChange();
+    }
+
+    /**
+     * Tests only the elements of the source list that are not in this
+     * list, adding those that are now matched by the predicate.
+     */
+    private void refilterHidden() {
+        final Predicate<? super E> pred = getPredicateImpl();
+        final List<? extends E> source = getSource();
+        final int sourceSize = source.size();
+        final Object[] elements = new Object[sourceSize - size];
+        int count = 0;
+        int pos = 0;
+        final Iterator<? extends E> it = source.iterator();
+        for (int i = 0; i < sourceSize; ++i) {
+            final E next = it.next();
+            if (pos < size && filtered[pos] == i) {
+                ++pos;
+            } else {
+                elements[count++] = next;
+            }
+        }
+        final boolean[] matches = testAll(pred, elements);
+
+        final int[] result = new int[sourceSize * 3 / 2 + 1];
+        beginChange();
+        int newSize = 0;
+        int hidden = 0;
+        pos = 0;
+        for (int i = 0; i < sourceSize; ++i) {
+            if (pos < size && filtered[pos] == i) {
+                result[newSize++] = i;
+                ++pos;
+            } else if (matches[hidden++]) {
+                result[newSize] = i;
+                nextAdd(newSize, newSize + 1);
+                ++newSize;
+            }
+        }
+        filtered = result;
+        size = newSize;
+        endChange();
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean[] testAll(Predicate<? super E> pred, Object[] elements) {
+        final boolean[] matches = new boolean[elements.length];
+        if (elements.length >= parallelThreshold && elements.length > PARALLEL_CHUNK_SIZE) {
+            ForkJoinPool.commonPool().invoke(new TestTask<>(pred, elements, matches, 0, elements.length));
+        } else {
+            for (int i = 0; i < elements.length; ++i) {
+                matches[i] = pred.test((E) elements[i]);
+            }
+        }
+        return matches;
+    }
+
+    private static final class TestTask<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<? super E> pred;
+        private final Object[] elements;
+        private final boolean[] matches;
+        private final int from, to;
+
+        TestTask(Predicate<? super E> pred, Object[] elements, boolean[] matches, int from, int to) {
+            this.pred = pred;
+            this.elements = elements;
+            this.matches = matches;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            if (to - from <= PARALLEL_CHUNK_SIZE) {
+                for (int i = from; i < to; ++i) {
+                    matches[i] = pred.test((E) elements[i]);
+                }
+            } else {
+                final int mid = (from + to) >>> 1;
+                invokeAll(new TestTask<>(pred, elements, matches, from, mid),
+                          new TestTask<>(pred, elements, matches, mid, to));
+            }
+        }
+    }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -62,6 +62,12 @@ public final class SortedList<E> extends TransformationList<E, E>{
 
     private final Element<E> tempElement = new Element<>(null, -1);
 
+    private int parallelSortThreshold = Integer.MAX_VALUE;
+
+    // source indexes of updated elements, sorted in one pass at the end of a change
+    private int[] pendingUpdates;
+    private int pendingUpdatesCount;
+
 
     /**
      * Creates a new SortedList wrapped around the source list.
@@ -101,13 +107,20 @@ public final class SortedList<E> extends TransformationList<E, E>{
             beginChange();
             while (c.next()) {
                 if (c.wasPermutated()) {
+                    flushUpdates();
                     updatePermutationIndexes(c);
                 } else if (c.wasUpdated()) {
-                    update(c);
+                    if (isLargeList()) {
+                        addPendingUpdates(c);
+                    } else {
+                        update(c);
+                    }
                 } else {
+                    flushUpdates();
                     addRemove(c);
                 }
             }
+            flushUpdates();
             endChange();
         } else {
             updateUnsorted(c);
@@ -155,6 +168,49 @@ public final class SortedList<E> extends TransformationList<E, E>{
         comparatorProperty().set(comparator);
     }
 
+    /**
+     * Returns the size from which this list is handled as a large list.
+     *
+     * @return the size threshold of large lists
+     * @see #setParallelSortThreshold(int)
+     * @since 14
+     */
+    public final int getParallelSortThreshold() {
+        return parallelSortThreshold;
+    }
+
+    /**
+     * Sets the size from which this list is handled as a large list.
+     * When this list is large:
+     * <ul>
+     * <li>it is resorted with {@link Arrays#parallelSort(Object[], int, int, Comparator)}
+     * when the comparator changes,</li>
+     * <li>all the elements updated by a single change of the source list are
+     * sorted and then merged into this list in one pass,</li>
+     * <li>the elements added by a single change of the source list are sorted
+     * and then merged into this list in one pass, and</li>
+     * <li>the permutations reported to listeners only span the range of
+     * elements that actually moved.</li>
+     * </ul>
+     * The comparator must be safe to call from multiple threads concurrently
+     * when the list is large. By default this threshold is
+     * {@code Integer.MAX_VALUE}, so that lists are never handled as large.
+     *
+     * @param threshold the size threshold of large lists
+     * @throws IllegalArgumentException if {@code threshold} is negative
+     * @since 14
+     */
+    public final void setParallelSortThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold cannot be negative: " + threshold);
+        }
+        parallelSortThreshold = threshold;
+    }
+
+    private boolean isLargeList() {
+        return size >= parallelSortThreshold;
+    }
+
     /**
      * Returns the element at the specified position in this list.
      *
@@ -181,7 +237,16 @@ public final class SortedList<E> extends TransformationList<E, E>{
     }
 
     private void doSortWithPermutationChange() {
-        if (elementComparator != null) {
+        if (elementComparator != null && isLargeList()) {
+            Arrays.parallelSort(sorted, 0, size, elementComparator);
+            final int[] perm = updatePermutation();
+            final int from = getPermutationFrom(perm);
+            if (from < size) {
+                final int to = getPermutationTo(perm);
+                fireChange(new SimplePermutationChange<>(from, to,
+                        Arrays.copyOfRange(perm, from, to), this));
+            }
+        } else if (elementComparator != null) {
             int[] perm = helper.sort(sorted, 0, size, elementComparator);
             for (int i = 0; i < size; i++) {
                 this.perm[sorted[i].index] = i;
@@ -390,6 +455,153 @@ public final class SortedList<E> extends TransformationList<E, E>{
         }
     }
 
+    /**
+     * Updates the mapping from the source list after the elements were
+     * reordered and returns the permutation from the previous order.
+     */
+    private int[] updatePermutation() {
+        final int[] p = new int[size];
+        for (int i = 0; i < size; i++) {
+            p[this.perm[sorted[i].index]] = i;
+        }
+        for (int i = 0; i < size; i++) {
+            this.perm[sorted[i].index] = i;
+        }
+        return p;
+    }
+
+    private int getPermutationFrom(int[] p) {
+        int from = 0;
+        while (from < size && p[from] == from) {
+            ++from;
+        }
+        return from;
+    }
+
+    private int getPermutationTo(int[] p) {
+        int to = size;
+        while (to > 0 && p[to - 1] == to - 1) {
+            --to;
+        }
+        return to;
+    }
+
+    private void addPendingUpdates(Change<? extends E> c) {
+        final int count = pendingUpdatesCount + c.getTo() - c.getFrom();
+        if (pendingUpdates == null || pendingUpdates.length < count) {
+            pendingUpdates = pendingUpdates == null
+                    ? new int[count]
+                    : Arrays.copyOf(pendingUpdates, Math.max(count, pendingUpdates.length * 2));
+        }
+        for (int i = c.getFrom(), to = c.getTo(); i < to; ++i) {
+            pendingUpdates[pendingUpdatesCount++] = i;
+        }
+    }
+
+    /**
+     * Sorts the updated elements and merges them with the other elements,
+     * which are still sorted.
+     */
+    private void flushUpdates() {
+        if (pendingUpdatesCount == 0) {
+            return;
+        }
+        final boolean[] updated = new boolean[size];
+        for (int i = 0; i < pendingUpdatesCount; ++i) {
+            updated[perm[pendingUpdates[i]]] = true;
+        }
+        pendingUpdatesCount = 0;
+
+        final Element<E>[] kept = newElementArray(size);
+        final Element<E>[] changed = newElementArray(size);
+        int keptCount = 0;
+        int changedCount = 0;
+        for (int i = 0; i < size; ++i) {
+            if (updated[i]) {
+                changed[changedCount++] = sorted[i];
+            } else {
+                kept[keptCount++] = sorted[i];
+            }
+        }
+        Arrays.sort(changed, 0, changedCount, elementComparator);
+        merge(kept, keptCount, changed, changedCount);
+
+        final int[] p = updatePermutation();
+        final int from = getPermutationFrom(p);
+        if (from < size) {
+            final int to = getPermutationTo(p);
+            nextPermutation(from, to, Arrays.copyOfRange(p, from, to));
+        }
+        for (int i = 0; i < size; ++i) {
+            if (updated[i]) {
+                nextUpdate(p[i]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Element<E>[] newElementArray(int length) {
+        return (Element<E>[]) new Element<?>[length];
+    }
+
+    /**
+     * Merges two sorted arrays of elements into the sorted elements,
+     * keeping the elements of the first array first in case of ties.
+     */
+    private void merge(Element<E>[] a, int aCount, Element<E>[] b, int bCount) {
+        int i = 0;
+        int j = 0;
+        for (int out = 0, total = aCount + bCount; out < total; ++out) {
+            if (j >= bCount || (i < aCount && elementComparator.compare(a[i], b[j]) <= 0)) {
+                sorted[out] = a[i++];
+            } else {
+                sorted[out] = b[j++];
+            }
+        }
+    }
+
+    /**
+     * Sorts the added elements and merges them with the existing elements.
+     */
+    private void insertAllToMapping(Change<? extends E> c) {
+        final int from = c.getFrom();
+        final int added = c.getAddedSize();
+        final List<? extends E> list = c.getList();
+        ensureSize(size + added);
+
+        final Element<E>[] existing = Arrays.copyOf(sorted, size);
+        for (int i = 0; i < size; ++i) {
+            if (existing[i].index >= from) {
+                existing[i].index += added;
+            }
+        }
+        final Element<E>[] newElements = newElementArray(added);
+        for (int i = 0; i < added; ++i) {
+            newElements[i] = new Element<>(list.get(from + i), from + i);
+        }
+        Arrays.sort(newElements, elementComparator);
+        final int existingCount = size;
+        size += added;
+        merge(existing, existingCount, newElements, added);
+
+        int addFrom = -1;
+        for (int i = 0; i < size; ++i) {
+            final Element<E> e = sorted[i];
+            perm[e.index] = i;
+            if (e.index >= from && e.index < from + added) {
+                if (addFrom == -1) {
+                    addFrom = i;
+                }
+            } else if (addFrom != -1) {
+                nextAdd(addFrom, i);
+                addFrom = -1;
+            }
+        }
+        if (addFrom != -1) {
+            nextAdd(addFrom, size);
+        }
+    }
+
     private void addRemove(Change<? extends E> c) {
         if (c.getFrom() == 0 && c.getRemovedSize() == size) {
             removeAllFromMapping();
@@ -401,6 +613,8 @@ public final class SortedList<E> extends TransformationList<E, E>{
         if (size == 0) {
             setAllToMapping(c.getList(), c.getTo()); // This is basically equivalent to getAddedSubList
                                                      // as size is 0, only valid "from" is also 0
+        } else if (c.getAddedSize() > 1 && isLargeList()) {
+            insertAllToMapping(c);
         } else {
             for (int i = c.getFrom(), to = c.getTo(); i < to; ++i) {
                 insertToMapping(c.getList().get(i), i);
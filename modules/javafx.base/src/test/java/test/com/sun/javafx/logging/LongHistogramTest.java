@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.logging;
+
+import com.sun.javafx.logging.LongHistogram;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class LongHistogramTest {
+
+    private final LongHistogram histogram = new LongHistogram();
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMean(), 0);
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getCountAbove(0));
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        for (int i = 0; i < 8; ++i) {
+            histogram.record(i);
+        }
+        assertEquals(8, histogram.getCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(7, histogram.getMax());
+        assertEquals(3.5, histogram.getMean(), 0);
+        assertEquals(3, histogram.getValueAtPercentile(50));
+        assertEquals(7, histogram.getValueAtPercentile(100));
+        assertEquals(0, histogram.getValueAtPercentile(0));
+        assertEquals(4, histogram.getCountAbove(3));
+        assertEquals(0, histogram.getCountAbove(7));
+    }
+
+    @Test
+    public void testNegativeValuesAreRecordedAsZero() {
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void testLargeValues() {
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(1L << 40);
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+        assertEquals(1L << 40, histogram.getMin());
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+        assertEquals(1, histogram.getCountAbove(1L << 41));
+    }
+
+    @Test
+    public void testPercentilesWithinPrecision() {
+        Random random = new Random(3);
+        long[] values = new long[10000];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = (long) (random.nextDouble() * random.nextDouble() * 50_000_000);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (double p : new double[] {1, 10, 50, 90, 99, 99.9}) {
+            long expected = values[(int) Math.ceil(p / 100 * values.length) - 1];
+            long actual = histogram.getValueAtPercentile(p);
+            assertTrue(p + ": " + actual + " vs " + expected,
+                    actual >= expected && actual <= expected * 1.125 + 1);
+        }
+        assertEquals(values[0], histogram.getMin());
+        assertEquals(values[values.length - 1], histogram.getMax());
+        assertEquals(values[values.length - 1], histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testCountAboveWithinPrecision() {
+        for (long v = 1_000; v <= 100_000; v += 1_000) {
+            histogram.record(v);
+        }
+        long threshold = 16_000;
+        long above = histogram.getCountAbove(threshold);
+        // exactly 84 values are above the threshold, the bucket of the threshold
+        // only holds values within 12.5% of it
+        assertTrue("" + above, above >= 82 && above <= 85);
+        assertEquals(100, histogram.getCountAbove(-1));
+        assertEquals(0, histogram.getCountAbove(100_000));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        histogram.getValueAtPercentile(101);
+    }
+
+    @Test
+    public void testCopyAndReset() {
+        histogram.record(10);
+        histogram.record(20);
+        LongHistogram copy = histogram.copy();
+        histogram.reset();
+        histogram.record(5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(5, histogram.getMax());
+        assertEquals(2, copy.getCount());
+        assertEquals(10, copy.getMin());
+        assertEquals(20, copy.getMax());
+        assertEquals(15, copy.getMean(), 0);
+    }
+}
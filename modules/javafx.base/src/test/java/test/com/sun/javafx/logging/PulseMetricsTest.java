@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.logging;
+
+import com.sun.javafx.logging.LongHistogram;
+import com.sun.javafx.logging.PulseMetrics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class PulseMetricsTest {
+
+    @Before
+    public void setUp() {
+        PulseMetrics.resetStatistics();
+        PulseMetrics.setStatisticsEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        PulseMetrics.setStatisticsEnabled(false);
+        PulseMetrics.resetStatistics();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static LongHistogram phase(int phase) {
+        return PulseMetrics.copyStatistics()[phase];
+    }
+
+    private static LongHistogram counter(int counter) {
+        return PulseMetrics.copyStatistics()[PulseMetrics.PHASE_COUNT + counter];
+    }
+
+    @Test
+    public void testPulseWithoutRendering() {
+        PulseMetrics.pulseStart();
+        PulseMetrics.phase(PulseMetrics.CSS);
+        PulseMetrics.cssNodeProcessed();
+        PulseMetrics.cssNodeProcessed();
+        sleep(5);
+        PulseMetrics.phase(PulseMetrics.LAYOUT);
+        PulseMetrics.addDirtyNodes(3);
+        PulseMetrics.pulseEnd();
+
+        assertEquals(1, phase(PulseMetrics.TOTAL).getCount());
+        assertTrue(phase(PulseMetrics.CSS).getMax() >= 5_000_000);
+        assertTrue(phase(PulseMetrics.TOTAL).getMax() >= phase(PulseMetrics.CSS).getMax());
+        assertEquals(0, phase(PulseMetrics.RENDER).getMax());
+        assertEquals(2, counter(PulseMetrics.CSS_NODES).getMax());
+        assertEquals(3, counter(PulseMetrics.DIRTY_NODES).getMax());
+    }
+
+    @Test
+    public void testPulseIsCompletedByRenderThread() throws Exception {
+        PulseMetrics.pulseStart();
+        PulseMetrics.phase(PulseMetrics.SYNC);
+        PulseMetrics.renderStart();
+        PulseMetrics.pulseEnd();
+        // not published until rendering is complete
+        assertEquals(0, phase(PulseMetrics.TOTAL).getCount());
+
+        Thread renderThread = new Thread(() -> {
+            PulseMetrics.renderPhase(PulseMetrics.RENDER);
+            PulseMetrics.textureUploaded();
+            PulseMetrics.dirtyRegionsPainted(2, 300);
+            PulseMetrics.dirtyRegionsPainted(1, 100);
+            sleep(5);
+            PulseMetrics.renderPhase(PulseMetrics.PRESENT);
+            PulseMetrics.renderPhase(PulseMetrics.NONE);
+            PulseMetrics.renderEnd();
+        });
+        renderThread.start();
+        renderThread.join();
+
+        assertEquals(1, phase(PulseMetrics.TOTAL).getCount());
+        assertTrue(phase(PulseMetrics.RENDER).getMax() >= 5_000_000);
+        assertEquals(1, counter(PulseMetrics.TEXTURE_UPLOADS).getMax());
+        assertEquals(3, counter(PulseMetrics.DIRTY_REGIONS).getMax());
+        assertEquals(400, counter(PulseMetrics.DIRTY_AREA).getMax());
+    }
+
+    @Test
+    public void testNextPulseIsIndependentOfRendering() {
+        PulseMetrics.pulseStart();
+        PulseMetrics.renderStart();
+        PulseMetrics.pulseEnd();
+
+        PulseMetrics.pulseStart();
+        PulseMetrics.cssNodeProcessed();
+        PulseMetrics.pulseEnd();
+        assertEquals(1, phase(PulseMetrics.TOTAL).getCount());
+        assertEquals(1, counter(PulseMetrics.CSS_NODES).getMax());
+
+        PulseMetrics.renderEnd();
+        assertEquals(2, phase(PulseMetrics.TOTAL).getCount());
+        assertEquals(0, counter(PulseMetrics.CSS_NODES).getMin());
+    }
+
+    @Test
+    public void testDisabled() {
+        PulseMetrics.setStatisticsEnabled(false);
+        PulseMetrics.pulseStart();
+        PulseMetrics.cssNodeProcessed();
+        PulseMetrics.pulseEnd();
+        assertEquals(0, phase(PulseMetrics.TOTAL).getCount());
+    }
+
+    @Test
+    public void testInstrumentationOutsideOfPulse() {
+        PulseMetrics.phase(PulseMetrics.CSS);
+        PulseMetrics.cssNodeProcessed();
+        PulseMetrics.renderPhase(PulseMetrics.RENDER);
+        PulseMetrics.textureUploaded();
+        PulseMetrics.renderEnd();
+        assertEquals(0, phase(PulseMetrics.TOTAL).getCount());
+    }
+
+    @Test
+    public void testReset() {
+        PulseMetrics.pulseStart();
+        PulseMetrics.pulseEnd();
+        PulseMetrics.resetStatistics();
+        assertEquals(0, phase(PulseMetrics.TOTAL).getCount());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -123,6 +123,98 @@ public class FXCollectionsTest {
         observer2.check1();
     }
 
+    @Test
+    public void batchTest() {
+        ObservableList<String> seq = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+        final MockListObserver<String> observer = new MockListObserver<String>();
+        seq.addListener(observer);
+
+        FXCollections.batch(seq, () -> {
+            seq.remove(0);
+            seq.add(0, "aa");
+            seq.set(3, "dd");
+            seq.remove("e");
+            FXCollections.batch(seq, () -> seq.add("f"));
+        });
+        assertEquals(Arrays.asList("aa", "b", "c", "dd", "f"), seq);
+        assertEquals(2, observer.calls.size());
+        observer.checkAddRemove(0, seq, Arrays.asList("a"), 0, 1);
+        observer.checkAddRemove(1, seq, Arrays.asList("d", "e"), 3, 5);
+    }
+
+    @Test
+    public void batchNoChangeTest() {
+        ObservableList<String> seq = FXCollections.observableArrayList("a", "b");
+        final MockListObserver<String> observer = new MockListObserver<String>();
+        seq.addListener(observer);
+
+        FXCollections.batch(seq, () -> {
+            seq.add("c");
+            seq.remove(2);
+        });
+        assertEquals(Arrays.asList("a", "b"), seq);
+        observer.check0();
+    }
+
+    @Test
+    public void batchExceptionTest() {
+        ObservableList<String> seq = FXCollections.observableArrayList("a", "b");
+        final MockListObserver<String> observer = new MockListObserver<String>();
+        seq.addListener(observer);
+
+        try {
+            FXCollections.batch(seq, () -> {
+                seq.add("c");
+                seq.add("d");
+                throw new IllegalStateException();
+            });
+            fail("Exception expected");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        observer.check1AddRemove(seq, Collections.EMPTY_LIST, 2, 4);
+
+        observer.clear();
+        seq.add("e");
+        observer.check1AddRemove(seq, Collections.EMPTY_LIST, 4, 5);
+    }
+
+    @Test
+    public void batchWrapperTest() {
+        ObservableList<String> seq = FXCollections.observableArrayList("a", "b");
+        ObservableList<String> sync = FXCollections.synchronizedObservableList(seq);
+        ObservableList<String> checked = FXCollections.checkedObservableList(seq, String.class);
+        final MockListObserver<String> syncObserver = new MockListObserver<String>();
+        final MockListObserver<String> checkedObserver = new MockListObserver<String>();
+        sync.addListener(syncObserver);
+        checked.addListener(checkedObserver);
+
+        FXCollections.batch(sync, () -> {
+            sync.add("c");
+            sync.add(0, "z");
+        });
+        assertEquals(Arrays.asList("z", "a", "b", "c"), seq);
+        syncObserver.checkAddRemove(0, sync, Collections.EMPTY_LIST, 0, 1);
+        syncObserver.checkAddRemove(1, sync, Collections.EMPTY_LIST, 3, 4);
+        checkedObserver.checkAddRemove(0, checked, Collections.EMPTY_LIST, 0, 1);
+        checkedObserver.checkAddRemove(1, checked, Collections.EMPTY_LIST, 3, 4);
+
+        syncObserver.clear();
+        checkedObserver.clear();
+        FXCollections.batch(checked, () -> {
+            checked.remove("a");
+            checked.remove("b");
+        });
+        assertEquals(Arrays.asList("z", "c"), seq);
+        syncObserver.check1AddRemove(sync, Arrays.asList("a", "b"), 1, 1);
+        checkedObserver.check1AddRemove(checked, Arrays.asList("a", "b"), 1, 1);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void batchNullTest() {
+        FXCollections.batch(null, () -> {});
+    }
+
     @Test
     public void rotateTest() {
         ObservableList<String> seq = FXCollections.observableArrayList("one", "two", "three", "four", "five");
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -30,6 +30,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
@@ -288,4 +290,82 @@ public class FilteredListTest {
         assertEquals(list, filteredList);
         compareIndices();
     }
+
+    @Test
+    public void testRefinePredicate() {
+        filteredList.refinePredicate((String e) -> !e.equals("c") && !e.equals("a"));
+        assertEquals(Arrays.asList("d"), filteredList);
+        mlo.check1AddRemove(filteredList, Arrays.asList("a"), 0, 0);
+        compareIndices();
+    }
+
+    @Test
+    public void testRefinePredicate_minimalChanges() {
+        list.setAll("a", "b", "c", "d", "e");
+        filteredList.setPredicate(null);
+        mlo.clear();
+        filteredList.refinePredicate((String e) -> !e.equals("b") && !e.equals("d"));
+        assertEquals(Arrays.asList("a", "c", "e"), filteredList);
+        assertEquals(2, mlo.calls.size());
+        mlo.checkAddRemove(0, filteredList, Arrays.asList("b"), 1, 1);
+        mlo.checkAddRemove(1, filteredList, Arrays.asList("d"), 2, 2);
+        compareIndices();
+    }
+
+    @Test
+    public void testRelaxPredicate() {
+        filteredList.relaxPredicate(null);
+        assertEquals(list, filteredList);
+        assertEquals(2, mlo.calls.size());
+        mlo.checkAddRemove(0, filteredList, Collections.<String>emptyList(), 1, 2);
+        mlo.checkAddRemove(1, filteredList, Collections.<String>emptyList(), 3, 4);
+        compareIndices();
+
+        mlo.clear();
+        list.add(2, "b");
+        assertEquals(list, filteredList);
+        mlo.check1AddRemove(filteredList, Collections.<String>emptyList(), 2, 3);
+        compareIndices();
+    }
+
+    @Test
+    public void testRelaxPredicate_noChange() {
+        filteredList.relaxPredicate((String e) -> !e.equals("c"));
+        assertEquals(Arrays.asList("a", "d"), filteredList);
+        mlo.check0();
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testRefinePredicate_bound() {
+        filteredList.predicateProperty().bind(new SimpleObjectProperty<>());
+        filteredList.refinePredicate(e -> true);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeParallelThreshold() {
+        filteredList.setParallelThreshold(-1);
+    }
+
+    @Test
+    public void testParallelFiltering() {
+        List<String> numbers = IntStream.range(0, 20000).mapToObj(Integer::toString)
+                .collect(Collectors.toList());
+        list.setAll(numbers);
+        filteredList.setParallelThreshold(0);
+
+        filteredList.setPredicate((String e) -> e.endsWith("1"));
+        assertEquals(numbers.stream().filter(e -> e.endsWith("1")).collect(Collectors.toList()),
+                filteredList);
+        compareIndices();
+
+        filteredList.refinePredicate((String e) -> e.endsWith("11"));
+        assertEquals(numbers.stream().filter(e -> e.endsWith("11")).collect(Collectors.toList()),
+                filteredList);
+        compareIndices();
+
+        filteredList.relaxPredicate((String e) -> e.endsWith("1") || e.startsWith("2"));
+        assertEquals(numbers.stream().filter(e -> e.endsWith("1") || e.startsWith("2"))
+                .collect(Collectors.toList()), filteredList);
+        compareIndices();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -536,4 +536,34 @@ public class ListChangeBuilderTest {
         builder.endChange();
     }
 
+    @Test
+    public void testRemoveRangeAfterOtherChanges() {
+        builder.beginChange();
+        list.add(0, "aa");
+        builder.nextAdd(0, 1);
+        builder.nextUpdate(4);
+        list.subList(2, 4).clear();
+        builder.nextRemove(2, Arrays.asList("b", "c"));
+        builder.endChange();
+
+        assertEquals(Arrays.asList("aa", "a", "d"), list);
+        assertEquals(3, observer.calls.size());
+        observer.checkAddRemove(0, observableList, Collections.EMPTY_LIST, 0, 1);
+        observer.checkAddRemove(1, observableList, Arrays.asList("b", "c"), 2, 2);
+        observer.checkUpdate(2, observableList, 2, 3);
+    }
+
+    @Test
+    public void testRemoveRangeInsideAdded() {
+        builder.beginChange();
+        list.addAll(1, Arrays.asList("x", "y", "z"));
+        builder.nextAdd(1, 4);
+        list.subList(2, 5).clear();
+        builder.nextRemove(2, Arrays.asList("y", "z", "b"));
+        builder.endChange();
+
+        assertEquals(Arrays.asList("a", "x", "c", "d"), list);
+        observer.check1AddRemove(observableList, Arrays.asList("b"), 1, 2);
+    }
+
 }
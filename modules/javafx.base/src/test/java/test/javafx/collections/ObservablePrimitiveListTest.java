@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.collections;
+
+import java.util.Arrays;
+import java.util.Collections;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableDoubleList;
+import javafx.collections.ObservableIntList;
+import javafx.collections.ObservableLongList;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ObservablePrimitiveListTest {
+
+    private ObservableDoubleList list;
+    private MockListObserver<Double> observer;
+
+    @Before
+    public void setUp() {
+        list = FXCollections.observableDoubleList(1, 2, 3, 4);
+        observer = new MockListObserver<>();
+        list.addListener(observer);
+    }
+
+    @Test
+    public void testInitialContent() {
+        assertEquals(Arrays.asList(1.0, 2.0, 3.0, 4.0), list);
+        assertEquals(4, list.size());
+        assertEquals(3.0, list.getDouble(2), 0);
+        assertArrayEquals(new double[] {1, 2, 3, 4}, list.toDoubleArray(), 0);
+        observer.check0();
+    }
+
+    @Test
+    public void testEmpty() {
+        ObservableDoubleList empty = FXCollections.observableDoubleList();
+        assertTrue(empty.isEmpty());
+        assertArrayEquals(new double[0], empty.toDoubleArray(), 0);
+    }
+
+    @Test
+    public void testSetDouble() {
+        assertEquals(2.0, list.setDouble(1, 5), 0);
+        assertEquals(Arrays.asList(1.0, 5.0, 3.0, 4.0), list);
+        observer.check1AddRemove(list, Arrays.asList(2.0), 1, 2);
+    }
+
+    @Test
+    public void testAddDouble() {
+        list.addDouble(5);
+        observer.check1AddRemove(list, Collections.<Double>emptyList(), 4, 5);
+
+        observer.clear();
+        list.addDouble(0, 0);
+        assertEquals(Arrays.asList(0.0, 1.0, 2.0, 3.0, 4.0, 5.0), list);
+        observer.check1AddRemove(list, Collections.<Double>emptyList(), 0, 1);
+    }
+
+    @Test
+    public void testAddAllDoubles() {
+        list.addAllDoubles(5, 6, 7);
+        assertArrayEquals(new double[] {1, 2, 3, 4, 5, 6, 7}, list.toDoubleArray(), 0);
+        observer.check1AddRemove(list, Collections.<Double>emptyList(), 4, 7);
+
+        observer.clear();
+        list.addAllDoubles();
+        observer.check0();
+    }
+
+    @Test
+    public void testSetAllDoubles() {
+        list.setAllDoubles(7, 8);
+        assertEquals(Arrays.asList(7.0, 8.0), list);
+        observer.check1AddRemove(list, Arrays.asList(1.0, 2.0, 3.0, 4.0), 0, 2);
+    }
+
+    @Test
+    public void testBoxedOperations() {
+        list.add(1, 1.5);
+        assertEquals(Arrays.asList(1.0, 1.5, 2.0, 3.0, 4.0), list);
+        observer.check1AddRemove(list, Collections.<Double>emptyList(), 1, 2);
+
+        observer.clear();
+        assertEquals(Double.valueOf(3.0), list.set(3, 3.5));
+        observer.check1AddRemove(list, Arrays.asList(3.0), 3, 4);
+
+        observer.clear();
+        assertEquals(Double.valueOf(1.0), list.remove(0));
+        assertEquals(Arrays.asList(1.5, 2.0, 3.5, 4.0), list);
+        observer.check1AddRemove(list, Arrays.asList(1.0), 0, 0);
+
+        observer.clear();
+        assertTrue(list.remove(Double.valueOf(2.0)));
+        observer.check1AddRemove(list, Arrays.asList(2.0), 1, 1);
+        assertEquals(1, list.indexOf(3.5));
+    }
+
+    @Test
+    public void testAddAllCollection() {
+        list.addAll(1, Arrays.asList(8.0, 9.0));
+        assertEquals(Arrays.asList(1.0, 8.0, 9.0, 2.0, 3.0, 4.0), list);
+        observer.check1AddRemove(list, Collections.<Double>emptyList(), 1, 3);
+    }
+
+    @Test
+    public void testAddAllWithNull() {
+        try {
+            list.addAll(Arrays.asList(5.0, null));
+            fail("NullPointerException expected");
+        } catch (NullPointerException e) {
+            // expected
+        }
+        assertEquals(Arrays.asList(1.0, 2.0, 3.0, 4.0), list);
+        observer.check0();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAddNull() {
+        list.add(null);
+    }
+
+    @Test
+    public void testRejectedNullAddLeavesListUnchanged() {
+        try {
+            list.add(1, null);
+            fail();
+        } catch (NullPointerException e) {
+            // expected
+        }
+        assertEquals(4, list.size());
+        assertArrayEquals(new double[] {1, 2, 3, 4}, list.toDoubleArray(), 0);
+        observer.check0();
+
+        ObservableLongList longs = FXCollections.observableLongList(1L, 2L);
+        try {
+            longs.add(0, null);
+            fail();
+        } catch (NullPointerException e) {
+            // expected
+        }
+        assertArrayEquals(new long[] {1, 2}, longs.toLongArray());
+
+        ObservableIntList ints = FXCollections.observableIntList(1, 2);
+        try {
+            ints.add(2, null);
+            fail();
+        } catch (NullPointerException e) {
+            // expected
+        }
+        assertArrayEquals(new int[] {1, 2}, ints.toIntArray());
+    }
+
+    @Test
+    public void testRemoveRange() {
+        list.remove(1, 3);
+        assertEquals(Arrays.asList(1.0, 4.0), list);
+        observer.check1AddRemove(list, Arrays.asList(2.0, 3.0), 1, 1);
+
+        observer.clear();
+        list.clear();
+        assertTrue(list.isEmpty());
+        observer.check1AddRemove(list, Arrays.asList(1.0, 4.0), 0, 0);
+    }
+
+    @Test
+    public void testCopyTo() {
+        double[] dest = new double[3];
+        list.copyTo(1, dest, 1, 2);
+        assertArrayEquals(new double[] {0, 2, 3}, dest, 0);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testCopyToOutOfBounds() {
+        list.copyTo(3, new double[4], 0, 2);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetDoubleOutOfBounds() {
+        list.getDouble(4);
+    }
+
+    @Test
+    public void testGrowth() {
+        ObservableDoubleList big = FXCollections.observableDoubleList();
+        for (int i = 0; i < 1000; ++i) {
+            big.addDouble(i);
+        }
+        assertEquals(1000, big.size());
+        for (int i = 0; i < 1000; ++i) {
+            assertEquals(i, big.getDouble(i), 0);
+        }
+    }
+
+    @Test
+    public void testInsertWithGrowth() {
+        list.addAll(2, Arrays.asList(10.0, 11.0, 12.0));
+        assertEquals(Arrays.asList(1.0, 2.0, 10.0, 11.0, 12.0, 3.0, 4.0), list);
+        observer.check1AddRemove(list, Collections.<Double>emptyList(), 2, 5);
+
+        observer.clear();
+        list.addDouble(1, 20);
+        list.add(0, 30.0);
+        assertArrayEquals(new double[] {30, 1, 20, 2, 10, 11, 12, 3, 4}, list.toDoubleArray(), 0);
+    }
+
+    @Test
+    public void testBatch() {
+        FXCollections.batch(list, () -> {
+            list.addDouble(5);
+            list.setDouble(0, 0);
+            list.remove(4);
+        });
+        assertEquals(Arrays.asList(0.0, 2.0, 3.0, 4.0), list);
+        observer.check1AddRemove(list, Arrays.asList(1.0), 0, 1);
+    }
+
+    @Test
+    public void testSorted() {
+        list.setAllDoubles(3, 1, 2);
+        assertEquals(Arrays.asList(1.0, 2.0, 3.0), list.sorted());
+    }
+
+    @Test
+    public void testLongList() {
+        ObservableLongList longs = FXCollections.observableLongList(1L, 2L);
+        MockListObserver<Long> observer = new MockListObserver<>();
+        longs.addListener(observer);
+
+        longs.addAllLongs(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, longs.getLong(2));
+        observer.check1AddRemove(longs, Collections.<Long>emptyList(), 2, 3);
+
+        observer.clear();
+        assertEquals(1L, longs.setLong(0, 5));
+        assertArrayEquals(new long[] {5, 2, Long.MAX_VALUE}, longs.toLongArray());
+        observer.check1AddRemove(longs, Arrays.asList(1L), 0, 1);
+    }
+
+    @Test
+    public void testIntList() {
+        ObservableIntList ints = FXCollections.observableIntList();
+        MockListObserver<Integer> observer = new MockListObserver<>();
+        ints.addListener(observer);
+
+        ints.addAllInts(3, 4);
+        ints.addInt(0, 2);
+        assertEquals(Arrays.asList(2, 3, 4), ints);
+        assertEquals(4, ints.getInt(2));
+        assertArrayEquals(new int[] {2, 3, 4}, ints.toIntArray());
+
+        observer.clear();
+        ints.setAllInts();
+        assertTrue(ints.isEmpty());
+        observer.check1AddRemove(ints, Arrays.asList(2, 3, 4), 0, 0);
+    }
+}
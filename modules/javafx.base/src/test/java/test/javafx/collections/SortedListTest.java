@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,6 +34,7 @@ import java.util.Collections;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Map;
+import java.util.Random;
 
 import javafx.beans.Observable;
 import javafx.beans.property.SimpleObjectProperty;
@@ -595,4 +596,124 @@ public class SortedListTest {
         mockListObserver.check1Permutation(sortedList, new int[] {0, 3, 2, 1});
         compareIndices();
     }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeParallelSortThreshold() {
+        sortedList.setParallelSortThreshold(-1);
+    }
+
+    @Test
+    public void testLargeListComparatorChange() {
+        list.setAll("a", "b", "c", "d", "e");
+        sortedList.setParallelSortThreshold(0);
+        mockListObserver.clear();
+        // swaps "b" and "c"
+        sortedList.setComparator(Comparator.comparing(s -> "b".equals(s) ? "c" : "c".equals(s) ? "b" : s));
+        assertEquals(Arrays.asList("a", "c", "b", "d", "e"), sortedList);
+        mockListObserver.checkPermutation(0, sortedList, 1, 3, new int[] {2, 1});
+        compareIndices();
+
+        mockListObserver.clear();
+        sortedList.setComparator(Comparator.<String>reverseOrder());
+        assertEquals(Arrays.asList("e", "d", "c", "b", "a"), sortedList);
+        mockListObserver.checkPermutation(0, sortedList, 0, 5, new int[] {4, 2, 3, 1, 0});
+        compareIndices();
+    }
+
+    @Test
+    public void testLargeListAddAll() {
+        sortedList.setParallelSortThreshold(0);
+        list.addAll("b", "e");
+        assertEquals(Arrays.asList("a", "b", "c", "c", "d", "e"), sortedList);
+        mockListObserver.checkAddRemove(0, sortedList, Collections.<String>emptyList(), 1, 2);
+        mockListObserver.checkAddRemove(1, sortedList, Collections.<String>emptyList(), 5, 6);
+        compareIndices();
+
+        mockListObserver.clear();
+        list.addAll(0, Arrays.asList("bb", "b"));
+        assertEquals(Arrays.asList("a", "b", "b", "bb", "c", "c", "d", "e"), sortedList);
+        mockListObserver.check1AddRemove(sortedList, Collections.<String>emptyList(), 2, 4);
+        compareIndices();
+    }
+
+    @Test
+    public void testLargeListMutableElement() {
+        ObservableList<Person> list = createPersonsList();
+
+        SortedList<Person> sorted = list.sorted();
+        sorted.setParallelSortThreshold(0);
+        MockListObserver<Person> listener = new MockListObserver<>();
+        sorted.addListener(listener);
+        list.get(3).name.set("zero"); // four -> zero
+        ObservableList<Person> expected = FXCollections.observableArrayList(
+                new Person("five"), new Person("one"), new Person("three"),
+                new Person("two"), new Person("zero"));
+        listener.checkPermutation(0, expected, 1, list.size(), new int[]{4, 1, 2, 3});
+        listener.checkUpdate(1, expected, 4, 5);
+        assertEquals(expected, sorted);
+
+        compareIndices(sorted);
+    }
+
+    @Test
+    public void testLargeListBatchUpdate() {
+        Updater<Person> list = new Updater<>(Person.createPersonsFromNames(
+                "a", "b", "c", "d", "e", "f"));
+        SortedList<Person> sorted = list.sorted(Comparator.comparing(p -> p.name.get()));
+        sorted.setParallelSortThreshold(0);
+        MockListObserver<Person> listener = new MockListObserver<>();
+        sorted.addListener(listener);
+
+        list.get(1).name.set("g"); // b -> g
+        list.get(4).name.set("bb"); // e -> bb
+        list.update(1, 5);
+        assertEquals(Person.createPersonsFromNames("a", "bb", "c", "d", "f", "g"), sorted);
+        listener.checkPermutation(0, sorted, 1, 6, new int[]{5, 2, 3, 1, 4});
+        assertEquals(3, listener.calls.size());
+        listener.checkUpdate(1, sorted, 1, 4);
+        listener.checkUpdate(2, sorted, 5, 6);
+        compareIndices(sorted);
+    }
+
+    @Test
+    public void testLargeListRandomChanges() {
+        final Random random = new Random(42);
+        ObservableList<Integer> source = FXCollections.observableArrayList();
+        for (int i = 0; i < 2000; ++i) {
+            source.add(random.nextInt(500));
+        }
+        SortedList<Integer> sorted = source.sorted(Comparator.<Integer>naturalOrder());
+        sorted.setParallelSortThreshold(100);
+        for (int i = 0; i < 50; ++i) {
+            List<Integer> added = new ArrayList<>();
+            for (int j = 0; j < 20; ++j) {
+                added.add(random.nextInt(500));
+            }
+            source.addAll(random.nextInt(source.size()), added);
+            source.remove(random.nextInt(source.size()));
+        }
+        List<Integer> expected = new ArrayList<>(source);
+        Collections.sort(expected);
+        assertEquals(expected, sorted);
+        compareIndices(sorted);
+
+        sorted.setComparator(Comparator.<Integer>reverseOrder());
+        Collections.reverse(expected);
+        assertEquals(expected, sorted);
+        compareIndices(sorted);
+    }
+
+    private static class Updater<E> extends ObservableListWrapper<E> {
+        public Updater(List<E> list) {
+            super(list);
+        }
+
+        public void update(int from, int to) {
+            ObservableListWrapperShim.beginChange(this);
+            for (int i = from; i < to; ++i) {
+               ObservableListWrapperShim.nextUpdate(this, i);
+            }
+            ObservableListWrapperShim.endChange(this);
+        }
+    }
 }
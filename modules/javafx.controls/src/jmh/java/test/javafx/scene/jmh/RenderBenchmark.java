@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.jmh;
+
+import com.sun.javafx.scene.NodeHelper;
+import com.sun.javafx.sg.prism.NGNode;
+import com.sun.javafx.tk.RenderJob;
+import com.sun.javafx.tk.Toolkit;
+import com.sun.prism.Graphics;
+import com.sun.prism.GraphicsPipeline;
+import com.sun.prism.RTTexture;
+import com.sun.prism.ResourceFactory;
+import com.sun.prism.Texture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures rendering of the synchronized NG tree of the scene into a
+ * software render target. This benchmark starts the real toolkit on the
+ * Monocle headless platform with the software pipeline, so it needs the
+ * native libraries of the build. The scene is built and synchronized on
+ * the FX application thread and rendered on the render thread, as in a
+ * pulse; each invocation includes the hand-off to the render thread.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {
+        "-Dglass.platform=Monocle",
+        "-Dmonocle.platform=Headless",
+        "-Dprism.order=sw"
+})
+public class RenderBenchmark extends SceneBenchmarkBase {
+
+    static {
+        final CountDownLatch startupLatch = new CountDownLatch(1);
+        Platform.setImplicitExit(false);
+        Platform.startup(startupLatch::countDown);
+        await(startupLatch);
+    }
+
+    private NGNode peer;
+    private RTTexture target;
+
+    private final Runnable renderTask = () -> {
+        final Graphics g = target.createGraphics();
+        g.clear();
+        peer.render(g);
+        g.sync();
+    };
+
+    @Override
+    protected void runOnSceneThread(Runnable runnable) {
+        runAndWait(Platform::runLater, runnable);
+    }
+
+    private static void runOnRenderThread(Runnable runnable) {
+        runAndWait(r -> Toolkit.getToolkit().addRenderJob(new RenderJob(r)), runnable);
+    }
+
+    private static void runAndWait(Consumer<Runnable> executor, Runnable runnable) {
+        final CountDownLatch doneLatch = new CountDownLatch(1);
+        final Throwable[] failure = new Throwable[1];
+        executor.accept(() -> {
+            try {
+                runnable.run();
+            } catch (Throwable t) {
+                failure[0] = t;
+            } finally {
+                doneLatch.countDown();
+            }
+        });
+        await(doneLatch);
+        if (failure[0] != null) {
+            throw new IllegalStateException(failure[0]);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(15, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timeout waiting for FX runtime");
+            }
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setupRendering() {
+        // The scene is not shown, so its nodes are synchronized here
+        // instead of by the pulse
+        runOnSceneThread(() -> {
+            for (Node node : nodes) {
+                NodeHelper.syncPeer(node);
+            }
+            peer = NodeHelper.getPeer(root);
+        });
+        runOnRenderThread(() -> {
+            final ResourceFactory factory = GraphicsPipeline.getDefaultResourceFactory();
+            target = factory.createRTTexture((int) scene.getWidth(), (int) scene.getHeight(),
+                                             Texture.WrapMode.CLAMP_NOT_NEEDED);
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void disposeRendering() {
+        runOnRenderThread(target::dispose);
+    }
+
+    @Benchmark
+    public void render() {
+        runOnRenderThread(renderTask);
+    }
+}
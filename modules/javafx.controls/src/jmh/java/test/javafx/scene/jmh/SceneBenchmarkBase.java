@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Common state of the pulse phase benchmarks: a scene made of rows of
+ * controls of a single type.
+ */
+@State(Scope.Thread)
+public abstract class SceneBenchmarkBase {
+
+    static final String STUB_TOOLKIT =
+            "-Djavafx.toolkit=test.com.sun.javafx.pgstub.StubToolkit";
+
+    private static final int NODES_PER_ROW = 10;
+
+    @Param({"100", "1000", "10000"})
+    public int nodeCount;
+
+    @Param({"Label", "Button", "CheckBox", "TextField", "Region"})
+    public String controlType;
+
+    protected VBox root;
+    protected Scene scene;
+
+    /** All nodes of the scene, containers included, in tree order. */
+    protected final List<Node> nodes = new ArrayList<>();
+
+    @Setup
+    public void setupScene() {
+        runOnSceneThread(this::createScene);
+    }
+
+    /**
+     * Runs the given code on the thread that owns the scene and waits for
+     * it to complete. The stub toolkit has no such thread, so by default the
+     * code runs on the calling thread.
+     */
+    protected void runOnSceneThread(Runnable runnable) {
+        runnable.run();
+    }
+
+    private void createScene() {
+        root = new VBox();
+        HBox row = null;
+        for (int i = 0; i < nodeCount; i++) {
+            if (i % NODES_PER_ROW == 0) {
+                row = new HBox(4);
+                root.getChildren().add(row);
+            }
+            row.getChildren().add(createNode(i));
+        }
+        scene = new Scene(root, 1024, 768);
+        // bring the scene to a steady state before measuring
+        root.applyCss();
+        root.layout();
+        collectNodes(root);
+    }
+
+    private Node createNode(int index) {
+        switch (controlType) {
+            case "Label":
+                return new Label("Label " + index);
+            case "Button":
+                return new Button("Button " + index);
+            case "CheckBox":
+                return new CheckBox("CheckBox " + index);
+            case "TextField":
+                return new TextField("TextField " + index);
+            case "Region":
+                Region region = new Region();
+                region.setPrefSize(20, 20);
+                region.setStyle("-fx-background-color: lightgray; -fx-border-color: gray;");
+                return region;
+            default:
+                throw new IllegalArgumentException("Unknown control type: " + controlType);
+        }
+    }
+
+    private void collectNodes(Node node) {
+        nodes.add(node);
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                collectNodes(child);
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,9 +27,12 @@ package com.sun.javafx.scene.control;
 
 import com.sun.javafx.scene.layout.RegionHelper;
 import com.sun.javafx.util.Utils;
+import java.util.function.BiConsumer;
 import javafx.beans.property.StringProperty;
 import javafx.scene.Node;
 import javafx.scene.control.Control;
+import javafx.scene.control.Labeled;
+import javafx.scene.text.Font;
 
 /*
  * Used to access internal methods of Control.
@@ -67,6 +70,25 @@ public class ControlHelper extends RegionHelper {
         controlAccessor.doProcessCSS(node);
     }
 
+    @Override
+    protected void collectMeasuredTextImpl(Node node, BiConsumer<String, Font> collector) {
+        if (node instanceof Labeled) {
+            // The skin measures the text without the mnemonic marker
+            final Labeled labeled = (Labeled) node;
+            String text = labeled.getText();
+            if (text == null || text.isEmpty()) {
+                return;
+            }
+            if (labeled.isMnemonicParsing()) {
+                final int i = text.indexOf('_');
+                if (i >= 0 && i != text.length() - 1) {
+                    text = text.substring(0, i) + text.substring(i + 1);
+                }
+            }
+            collector.accept(text, labeled.getFont());
+        }
+    }
+
 
     public static void setControlAccessor(final ControlAccessor newAccessor) {
         if (controlAccessor != null) {
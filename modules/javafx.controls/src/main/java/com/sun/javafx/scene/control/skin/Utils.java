@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -127,6 +127,10 @@ public class Utils {
     public static double computeTextWidth(Font font, String text, double wrappingWidth) {
         layout.setContent(text != null ? text : "", FontHelper.getNativeFont(font));
         layout.setWrapWidth((float)wrappingWidth);
+        // Same attributes as the text of the controls, so that the layout of
+        // short strings is shared with them (and with TextMeasurer)
+        layout.setLineSpacing(0);
+        layout.setBoundsType(TextLayout.BOUNDS_CENTER);
         return layout.getBounds().getWidth();
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -169,6 +169,7 @@ public class AreaChart<X,Y> extends XYChart<X,Y> {
                     if(xData != null) xData.add(data.getXValue());
                     if(yData != null) yData.add(data.getYValue());
                 }
+                addSampledDataRange(series, xData, yData);
             }
             if(xData != null && !(xData.size() == 1 && getXAxis().toNumericValue(xData.get(0)) == 0)) {
                 xa.invalidateRange(xData);
@@ -425,8 +426,12 @@ public class AreaChart<X,Y> extends XYChart<X,Y> {
             final ObservableList<Node> children = ((Group) series.getNode()).getChildren();
             Path fillPath = (Path) children.get(0);
             Path linePath = (Path) children.get(1);
-            makePaths(this, series, constructedPath, fillPath, linePath,
-                      seriesYAnimMultiplier.get(), SortingPolicy.X_AXIS);
+            if (series.getSampledData() != null) {
+                layoutSampledPaths(series, fillPath, linePath, seriesYAnimMultiplier.get());
+            } else {
+                makePaths(this, series, constructedPath, fillPath, linePath,
+                          seriesYAnimMultiplier.get(), SortingPolicy.X_AXIS);
+            }
         }
     }
 
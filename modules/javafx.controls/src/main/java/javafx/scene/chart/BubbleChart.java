@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,18 +26,23 @@
 package javafx.scene.chart;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.application.Platform;
 import javafx.beans.NamedArg;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.BooleanPropertyBase;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.AccessibleAttribute;
 import javafx.scene.AccessibleRole;
 import javafx.scene.Node;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.shape.Ellipse;
 import javafx.util.Duration;
@@ -80,6 +85,69 @@ public class BubbleChart<X,Y> extends XYChart<X,Y> {
         setData(data);
     }
 
+    // -------------- PUBLIC PROPERTIES ----------------------------------------
+
+    /**
+     * When true, the bubbles of the data items are drawn into a single canvas
+     * instead of creating a node for each data item. This keeps charts with
+     * a very large number of data items responsive, at the cost of the
+     * features of individual nodes: data nodes are neither created nor
+     * displayed, and the bubbles are drawn with the background fills of the
+     * {@code chart-bubble} style of their series, without styles specific to
+     * a data item. Use {@link #getDataAt(double, double)} to find the data
+     * item under the mouse, for instance to show a tooltip.
+     *
+     * @defaultValue false
+     * @since 14
+     */
+    private final BooleanProperty canvasRendering = new BooleanPropertyBase(false) {
+        @Override protected void invalidated() {
+            if (get()) {
+                symbolCanvas = new SymbolCanvas();
+                // remove the nodes at once, a set keeps the removal linear
+                final Set<Node> nodes = new HashSet<>();
+                for (int seriesIndex=0; seriesIndex < getDataSize(); seriesIndex++) {
+                    Series<X,Y> series = getData().get(seriesIndex);
+                    for (Data<X,Y> item : series.getData()) {
+                        if (item.getNode() != null) {
+                            nodes.add(item.getNode());
+                        }
+                    }
+                }
+                getPlotChildren().removeAll(nodes);
+            } else {
+                symbolCanvas.dispose(getPlotChildren());
+                symbolCanvas = null;
+                final List<Node> nodes = new ArrayList<>();
+                for (int seriesIndex=0; seriesIndex < getDataSize(); seriesIndex++) {
+                    Series<X,Y> series = getData().get(seriesIndex);
+                    for (int itemIndex=0; itemIndex < series.getData().size(); itemIndex++) {
+                        nodes.add(createBubble(series, seriesIndex, series.getData().get(itemIndex), itemIndex));
+                    }
+                }
+                getPlotChildren().addAll(nodes);
+            }
+            requestChartLayout();
+        }
+
+        @Override public Object getBean() {
+            return BubbleChart.this;
+        }
+
+        @Override public String getName() {
+            return "canvasRendering";
+        }
+    };
+
+    public final boolean isCanvasRendering() { return canvasRendering.get(); }
+    public final void setCanvasRendering(boolean value) { canvasRendering.set(value); }
+    public final BooleanProperty canvasRenderingProperty() { return canvasRendering; }
+
+    // -------------- PRIVATE FIELDS -------------------------------------------
+
+    /** Draws the bubbles when rendering to a canvas, null otherwise */
+    private SymbolCanvas symbolCanvas;
+
     // -------------- METHODS ------------------------------------------------------------------------------------------
 
     /**
@@ -95,6 +163,10 @@ public class BubbleChart<X,Y> extends XYChart<X,Y> {
 
     /** {@inheritDoc} */
     @Override protected void layoutPlotChildren() {
+        if (symbolCanvas != null) {
+            layoutCanvasBubbles();
+            return;
+        }
         // update bubble positions
       for (int seriesIndex=0; seriesIndex < getDataSize(); seriesIndex++) {
             Series<X,Y> series = getData().get(seriesIndex);
@@ -138,7 +210,55 @@ public class BubbleChart<X,Y> extends XYChart<X,Y> {
         }
     }
 
+    /**
+     * Draws the bubbles of all the series into the canvas.
+     */
+    private void layoutCanvasBubbles() {
+        symbolCanvas.begin(getXAxis().getWidth(), getYAxis().getHeight(), getPlotChildren());
+        final double xScale = (getXAxis() instanceof NumberAxis) ? Math.abs(((NumberAxis)getXAxis()).getScale()) : 1;
+        final double yScale = (getYAxis() instanceof NumberAxis) ? Math.abs(((NumberAxis)getYAxis()).getScale()) : 1;
+        for (int seriesIndex=0; seriesIndex < getDataSize(); seriesIndex++) {
+            Series<X,Y> series = getData().get(seriesIndex);
+            final Region prototype = symbolCanvas.getPrototype(seriesIndex, getPlotChildren(),
+                    "chart-bubble", "series" + seriesIndex, series.defaultColorStyleClass);
+            symbolCanvas.beginSeries(prototype);
+            Iterator<Data<X,Y>> iter = getDisplayedDataIterator(series);
+            while(iter.hasNext()) {
+                Data<X,Y> item = iter.next();
+                double x = getXAxis().getDisplayPosition(item.getCurrentX());
+                double y = getYAxis().getDisplayPosition(item.getCurrentY());
+                if (Double.isNaN(x) || Double.isNaN(y)) {
+                    continue;
+                }
+                final double radius = getDoubleValue(item.getExtraValue(), 1);
+                symbolCanvas.drawSymbol(x, y, 2 * radius * xScale, 2 * radius * yScale, true, item);
+            }
+            symbolCanvas.endSeries();
+        }
+        symbolCanvas.trimPrototypes(getDataSize(), getPlotChildren());
+    }
+
+    /**
+     * Returns the data item whose bubble is displayed at the given point, or
+     * null if there is none. When several bubbles overlap, the item of the
+     * bubble drawn last is returned. With {@link #canvasRenderingProperty()
+     * canvas rendering}, this uses an index of the bubbles drawn by the last
+     * layout and does not visit all the data items.
+     *
+     * @param x the x coordinate of the point, in the local coordinates of this chart
+     * @param y the y coordinate of the point, in the local coordinates of this chart
+     * @return the data item displayed at the point, or null
+     * @since 14
+     */
+    public Data<X,Y> getDataAt(double x, double y) {
+        return pickData(symbolCanvas, x, y);
+    }
+
     @Override protected void dataItemAdded(Series<X,Y> series, int itemIndex, Data<X,Y> item) {
+        if (symbolCanvas != null) {
+            // the bubble is drawn on the next layout
+            return;
+        }
         Node bubble = createBubble(series, getData().indexOf(series), item, itemIndex);
         if (shouldAnimate()) {
             // fade in new bubble
@@ -153,6 +273,10 @@ public class BubbleChart<X,Y> extends XYChart<X,Y> {
     }
 
     @Override protected  void dataItemRemoved(final Data<X,Y> item, final Series<X,Y> series) {
+        if (symbolCanvas != null) {
+            removeDataItemFromDisplay(series, item);
+            return;
+        }
         final Node bubble = item.getNode();
         if (shouldAnimate()) {
             // fade out old bubble
@@ -175,6 +299,9 @@ public class BubbleChart<X,Y> extends XYChart<X,Y> {
     }
 
     @Override protected  void seriesAdded(Series<X,Y> series, int seriesIndex) {
+        if (symbolCanvas != null) {
+            return;
+        }
         // handle any data already in series
         for (int j=0; j<series.getData().size(); j++) {
             Data<X,Y> item = series.getData().get(j);
@@ -193,6 +320,10 @@ public class BubbleChart<X,Y> extends XYChart<X,Y> {
     }
 
     @Override protected  void seriesRemoved(final Series<X,Y> series) {
+        if (symbolCanvas != null) {
+            removeSeriesFromDisplay(series);
+            return;
+        }
         // remove all bubble nodes
         if (shouldAnimate()) {
             ParallelTransition pt = new ParallelTransition();
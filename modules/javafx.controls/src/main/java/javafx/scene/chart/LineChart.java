@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -201,6 +201,7 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
                     if(xData != null) xData.add(data.getXValue());
                     if(yData != null) yData.add(data.getYValue());
                 }
+                addSampledDataRange(series, xData, yData);
             }
             // RT-32838 No need to invalidate range if there is one data item - whose value is zero.
             if(xData != null && !(xData.size() == 1 && getXAxis().toNumericValue(xData.get(0)) == 0)) {
@@ -454,7 +455,9 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
             Series<X,Y> series = getData().get(seriesIndex);
             final DoubleProperty seriesYAnimMultiplier = seriesYMultiplierMap.get(series);
             final Node seriesNode = series.getNode();
-            if (seriesNode instanceof Path) {
+            if (seriesNode instanceof Path && series.getSampledData() != null) {
+                layoutSampledPaths(series, null, (Path) seriesNode, seriesYAnimMultiplier.get());
+            } else if (seriesNode instanceof Path) {
                 AreaChart.makePaths(this, series,
                                     constructedPath, null, (Path) seriesNode,
                                     seriesYAnimMultiplier.get(), getAxisSortingPolicy());
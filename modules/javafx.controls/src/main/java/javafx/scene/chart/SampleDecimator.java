@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.chart;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.collections.ObservableList;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+
+/**
+ * Reduces the {@link SampledData} of a series to the first, minimum, maximum
+ * and last samples of each pixel column along the x axis, and builds the paths
+ * displaying them.
+ *
+ * The decimated points of the previous layout are kept, so that when samples
+ * were only appended and the axes did not change, only the points of the last
+ * pixel column are computed again and only the corresponding path elements
+ * are updated.
+ */
+final class SampleDecimator {
+
+    /** Decimated points in display coordinates, as x, y pairs */
+    private double[] points = new double[64];
+    private int pointCount;
+
+    // state of the last decimation
+    private SampledData data;
+    private int resetCount;
+    private boolean linearX, linearY;
+    private double xOrigin, xScale, yOrigin, yScale, yMultiplier, width;
+    private long firstSample;       // absolute index of the first decimated sample
+    private long lastColumnSample;  // absolute index of the first sample of the last column
+    private int lastColumnPoint;    // index of the first point of the last column
+    private boolean valid;
+
+    // the path used by the scatter chart to draw the points
+    Path symbolPath;
+    private double symbolRadius;
+
+    int getPointCount() {
+        return pointCount;
+    }
+
+    double getPointX(int i) {
+        return points[2 * i];
+    }
+
+    double getPointY(int i) {
+        return points[2 * i + 1];
+    }
+
+    void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Decimates the samples which are visible along the x axis, plus the
+     * samples just before and after them, into display coordinates.
+     *
+     * @return the index of the first point which may have changed since the
+     *         previous call
+     */
+    int decimate(SampledData data, Axis<?> xAxis, Axis<?> yAxis, double yMultiplier) {
+        final boolean linX = isLinear(xAxis);
+        final boolean linY = isLinear(yAxis);
+        final double xo = linX ? ((ValueAxis<?>) xAxis).getDisplayOrigin() : 0;
+        final double xs = linX ? ((ValueAxis<?>) xAxis).getScale() : 0;
+        final double yo = linY ? ((ValueAxis<?>) yAxis).getDisplayOrigin() : 0;
+        final double ys = linY ? ((ValueAxis<?>) yAxis).getScale() : 0;
+        final double w = xAxis.getWidth();
+
+        // visible range of samples, including one sample on each side
+        final int size = data.size();
+        int from = 0;
+        int to = size;
+        if (linX && xs != 0) {
+            final double v0 = -xo / xs;
+            final double v1 = (w - xo) / xs;
+            from = Math.max(0, data.indexOfX(Math.min(v0, v1)) - 1);
+            to = Math.min(size, data.indexOfX(Math.nextUp(Math.max(v0, v1))) + 1);
+        }
+
+        final long removed = data.getRemovedCount();
+        int start = from;
+        if (valid && linX && linY
+                && this.data == data && resetCount == data.getResetCount()
+                && xOrigin == xo && xScale == xs && yOrigin == yo && yScale == ys
+                && this.yMultiplier == yMultiplier && width == w
+                && firstSample == removed + from && lastColumnSample >= removed
+                && lastColumnSample - removed <= to) {
+            // only samples were appended, start again from the last column
+            start = (int) (lastColumnSample - removed);
+            pointCount = lastColumnPoint;
+        } else {
+            pointCount = 0;
+            lastColumnPoint = 0;
+            lastColumnSample = removed + from;
+        }
+        final int changedFrom = pointCount;
+
+        this.data = data;
+        resetCount = data.getResetCount();
+        linearX = linX;
+        linearY = linY;
+        xOrigin = xo;
+        xScale = xs;
+        yOrigin = yo;
+        yScale = ys;
+        this.yMultiplier = yMultiplier;
+        width = w;
+        firstSample = removed + from;
+        valid = true;
+
+        int column = Integer.MIN_VALUE;
+        int firstIndex = -1, minIndex = -1, maxIndex = -1, lastIndex = -1;
+        double firstX = 0, firstY = 0, minX = 0, minY = 0, maxX = 0, maxY = 0, lastX = 0, lastY = 0;
+        for (int i = start; i < to; ++i) {
+            final double y = data.getY(i);
+            if (Double.isNaN(y)) {
+                continue;
+            }
+            final double px = linX ? xo + data.getX(i) * xs : displayPosition(xAxis, data.getX(i));
+            final double py = linY ? yo + y * yMultiplier * ys : displayPosition(yAxis, y * yMultiplier);
+            if (Double.isNaN(px) || Double.isNaN(py)) {
+                continue;
+            }
+            final int c = (int) Math.floor(px);
+            if (c != column) {
+                if (firstIndex != -1) {
+                    addColumn(firstIndex, firstX, firstY, minIndex, minX, minY,
+                              maxIndex, maxX, maxY, lastIndex, lastX, lastY);
+                }
+                column = c;
+                lastColumnSample = removed + i;
+                lastColumnPoint = pointCount;
+                firstIndex = minIndex = maxIndex = i;
+                firstX = minX = maxX = px;
+                firstY = minY = maxY = py;
+            } else if (py < minY) {
+                minIndex = i;
+                minX = px;
+                minY = py;
+            } else if (py > maxY) {
+                maxIndex = i;
+                maxX = px;
+                maxY = py;
+            }
+            lastIndex = i;
+            lastX = px;
+            lastY = py;
+        }
+        if (firstIndex != -1) {
+            addColumn(firstIndex, firstX, firstY, minIndex, minX, minY,
+                      maxIndex, maxX, maxY, lastIndex, lastX, lastY);
+        }
+        return Math.min(changedFrom, pointCount);
+    }
+
+    private void addColumn(int firstIndex, double firstX, double firstY,
+                           int minIndex, double minX, double minY,
+                           int maxIndex, double maxX, double maxY,
+                           int lastIndex, double lastX, double lastY) {
+        addPoint(firstX, firstY);
+        if (minIndex < maxIndex) {
+            if (minIndex != firstIndex) addPoint(minX, minY);
+            if (maxIndex != lastIndex) addPoint(maxX, maxY);
+        } else if (maxIndex < minIndex) {
+            if (maxIndex != firstIndex) addPoint(maxX, maxY);
+            if (minIndex != lastIndex) addPoint(minX, minY);
+        }
+        if (lastIndex != firstIndex) {
+            addPoint(lastX, lastY);
+        }
+    }
+
+    private void addPoint(double x, double y) {
+        if (2 * pointCount == points.length) {
+            final double[] newPoints = new double[points.length * 2];
+            System.arraycopy(points, 0, newPoints, 0, points.length);
+            points = newPoints;
+        }
+        points[2 * pointCount] = x;
+        points[2 * pointCount + 1] = y;
+        ++pointCount;
+    }
+
+    /**
+     * Updates the elements of a line path, and of the optional fill path
+     * closed along {@code fillOrigin}, with the decimated points.
+     */
+    void updatePaths(int changedFrom, Path linePath, Path fillPath, double fillOrigin) {
+        if (pointCount == 0) {
+            linePath.getElements().clear();
+            if (fillPath != null) {
+                fillPath.getElements().clear();
+            }
+            return;
+        }
+        updateLineElements(linePath.getElements(), changedFrom);
+        if (fillPath != null) {
+            final ObservableList<PathElement> elements = fillPath.getElements();
+            // drop the elements closing the previous fill
+            final int closing = elements.size() - 2;
+            if (closing >= 1 && elements.get(closing + 1) instanceof ClosePath) {
+                elements.remove(closing, closing + 2);
+            } else {
+                elements.clear();
+            }
+            setMoveTo(elements, 0, getPointX(0), fillOrigin);
+            updateElements(elements, 1, changedFrom, false);
+            elements.addAll(new LineTo(getPointX(pointCount - 1), fillOrigin), new ClosePath());
+        }
+    }
+
+    private void updateLineElements(ObservableList<PathElement> elements, int changedFrom) {
+        if (changedFrom == 0 || elements.isEmpty()) {
+            setMoveTo(elements, 0, getPointX(0), getPointY(0));
+            changedFrom = 1;
+        }
+        updateElements(elements, 0, changedFrom, true);
+    }
+
+    /**
+     * Updates the LineTo elements of the points from {@code changedFrom},
+     * where the element of point i is at {@code offset + i}.
+     */
+    private void updateElements(ObservableList<PathElement> elements, int offset,
+                                int changedFrom, boolean firstIsMoveTo) {
+        int first = Math.max(changedFrom, firstIsMoveTo ? 1 : 0);
+        final int count = offset + pointCount;
+        final int reused = Math.min(elements.size(), count);
+        for (int i = first; i + offset < reused; ++i) {
+            final PathElement e = elements.get(i + offset);
+            if (e instanceof LineTo) {
+                ((LineTo) e).setX(getPointX(i));
+                ((LineTo) e).setY(getPointY(i));
+            } else {
+                elements.set(i + offset, new LineTo(getPointX(i), getPointY(i)));
+            }
+        }
+        if (elements.size() > count) {
+            elements.remove(count, elements.size());
+        } else if (elements.size() < count) {
+            final List<PathElement> added = new ArrayList<>(count - elements.size());
+            for (int i = elements.size() - offset; i < pointCount; ++i) {
+                added.add(new LineTo(getPointX(i), getPointY(i)));
+            }
+            elements.addAll(added);
+        }
+    }
+
+    /**
+     * Updates the elements of a path drawing each decimated point as a
+     * horizontal segment as long as the stroke is wide, that is a square.
+     */
+    void updateSymbolPath(int changedFrom, Path path) {
+        final ObservableList<PathElement> elements = path.getElements();
+        final double r = path.getStrokeWidth() / 2;
+        if (r != symbolRadius) {
+            symbolRadius = r;
+            changedFrom = 0;
+        }
+        final int count = 2 * pointCount;
+        final int reused = Math.min(elements.size(), count) / 2;
+        for (int i = changedFrom; i < reused; ++i) {
+            final PathElement m = elements.get(2 * i);
+            final PathElement l = elements.get(2 * i + 1);
+            if (m instanceof MoveTo && l instanceof LineTo) {
+                ((MoveTo) m).setX(getPointX(i) - r);
+                ((MoveTo) m).setY(getPointY(i));
+                ((LineTo) l).setX(getPointX(i) + r);
+                ((LineTo) l).setY(getPointY(i));
+            } else {
+                elements.set(2 * i, new MoveTo(getPointX(i) - r, getPointY(i)));
+                elements.set(2 * i + 1, new LineTo(getPointX(i) + r, getPointY(i)));
+            }
+        }
+        if (elements.size() > count) {
+            elements.remove(count, elements.size());
+        } else if (elements.size() < count) {
+            final List<PathElement> added = new ArrayList<>(count - elements.size());
+            for (int i = elements.size() / 2; i < pointCount; ++i) {
+                added.add(new MoveTo(getPointX(i) - r, getPointY(i)));
+                added.add(new LineTo(getPointX(i) + r, getPointY(i)));
+            }
+            elements.addAll(added);
+        }
+    }
+
+    private static void setMoveTo(ObservableList<PathElement> elements, int index, double x, double y) {
+        if (index < elements.size() && elements.get(index) instanceof MoveTo) {
+            ((MoveTo) elements.get(index)).setX(x);
+            ((MoveTo) elements.get(index)).setY(y);
+        } else if (index < elements.size()) {
+            elements.set(index, new MoveTo(x, y));
+        } else {
+            elements.add(new MoveTo(x, y));
+        }
+    }
+
+    /**
+     * Returns true if the axis is a ValueAxis whose display positions are a
+     * linear function of the values.
+     */
+    private static boolean isLinear(Axis<?> axis) {
+        if (!(axis instanceof ValueAxis)) {
+            return false;
+        }
+        final ValueAxis<?> va = (ValueAxis<?>) axis;
+        final double origin = va.getDisplayOrigin();
+        final double scale = va.getScale();
+        final double lower = va.getLowerBound();
+        final double upper = va.getUpperBound();
+        return Math.abs(displayPosition(axis, lower) - (origin + lower * scale)) < 0.5
+            && Math.abs(displayPosition(axis, upper) - (origin + upper * scale)) < 0.5;
+    }
+
+    private static <T> double displayPosition(Axis<T> axis, double value) {
+        final T realValue = axis.toRealValue(value);
+        return realValue == null ? Double.NaN : axis.getDisplayPosition(realValue);
+    }
+}
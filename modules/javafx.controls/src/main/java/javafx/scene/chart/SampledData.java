@@ -0,0 +1,481 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.chart;
+
+import java.util.Arrays;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+
+/**
+ * A buffer of numeric samples, ordered by their x value, which can be displayed
+ * by a {@link XYChart.Series} instead of its {@link XYChart.Data data items}.
+ * The samples are held in primitive arrays, without a {@code Data} object or a
+ * node per sample, so that a series can hold millions of them.
+ * <p>
+ * {@link LineChart}, {@link AreaChart} and {@link ScatterChart} decimate the
+ * samples before displaying them: only the first, minimum, maximum and last
+ * samples of each pixel column of the visible range of the x axis are drawn.
+ * When samples are only appended, and the axes do not change, just the last
+ * pixel column is computed again.
+ * <p>
+ * A buffer with a {@link #getMaxSize() maximum size} drops its oldest samples
+ * when new samples are added, which makes it suitable for rolling windows of
+ * streaming data:
+ * <pre><code>
+ * SampledData samples = new SampledData(100_000);
+ * series.setSampledData(samples);
+ * ...
+ * samples.add(time, value);
+ * </code></pre>
+ * The x values must not decrease. The y values can be {@code NaN}, in which
+ * case the sample is not drawn. Samples are only displayed by charts with
+ * numeric axes.
+ *
+ * @since 14
+ */
+public final class SampledData implements Observable {
+
+    private static final double[] INITIAL = new double[0];
+
+    private double[] xValues = INITIAL;
+    private double[] yValues = INITIAL;
+    // index of the oldest sample in the arrays, which are used as ring buffers
+    // when the size is limited
+    private int head;
+    private int size;
+    private int maxSize;
+
+    private double minY = Double.NaN;
+    private double maxY = Double.NaN;
+    private boolean yRangeValid = true;
+
+    // counters used by the charts to detect appends
+    private long removedCount;
+    private int resetCount;
+
+    private InvalidationListener[] listeners;
+    private int listenerCount;
+
+    /**
+     * Creates an empty, unbounded buffer of samples.
+     */
+    public SampledData() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty buffer which keeps at most {@code maxSize} samples.
+     *
+     * @param maxSize the maximum number of samples, or 0 for an unbounded buffer
+     * @throws IllegalArgumentException if {@code maxSize} is negative
+     */
+    public SampledData(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize cannot be negative: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the maximum number of samples kept by this buffer.
+     *
+     * @return the maximum number of samples, or 0 if this buffer is unbounded
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum number of samples kept by this buffer. The oldest
+     * samples are dropped if the buffer holds more than {@code maxSize} samples.
+     *
+     * @param maxSize the maximum number of samples, or 0 for an unbounded buffer
+     * @throws IllegalArgumentException if {@code maxSize} is negative
+     */
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize cannot be negative: " + maxSize);
+        }
+        if (maxSize == this.maxSize) {
+            return;
+        }
+        final int newSize = (maxSize == 0) ? size : Math.min(size, maxSize);
+        final int capacity = (maxSize == 0) ? newSize : maxSize;
+        final double[] newX = new double[capacity];
+        final double[] newY = new double[capacity];
+        copyTo(size - newSize, newX, newY, 0, newSize);
+        xValues = newX;
+        yValues = newY;
+        head = 0;
+        size = newSize;
+        this.maxSize = maxSize;
+        yRangeValid = false;
+        ++resetCount;
+        fireInvalidation();
+    }
+
+    /**
+     * Gets the number of samples in this buffer.
+     *
+     * @return the number of samples
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the x value of a sample.
+     *
+     * @param index index of the sample, 0 being the oldest sample
+     * @return the x value of the sample
+     * @throws IndexOutOfBoundsException if {@code index} is outside the buffer
+     */
+    public double getX(int index) {
+        return xValues[toArrayIndex(index)];
+    }
+
+    /**
+     * Gets the y value of a sample.
+     *
+     * @param index index of the sample, 0 being the oldest sample
+     * @return the y value of the sample
+     * @throws IndexOutOfBoundsException if {@code index} is outside the buffer
+     */
+    public double getY(int index) {
+        return yValues[toArrayIndex(index)];
+    }
+
+    /**
+     * Appends a sample to this buffer, dropping the oldest sample if the buffer
+     * is full.
+     *
+     * @param x the x value of the sample
+     * @param y the y value of the sample
+     * @throws IllegalArgumentException if {@code x} is {@code NaN} or less than
+     * the x value of the last sample
+     */
+    public void add(double x, double y) {
+        checkOrder(x, size > 0 ? getX(size - 1) : Double.NEGATIVE_INFINITY);
+        append(x, y);
+        fireInvalidation();
+    }
+
+    /**
+     * Appends samples to this buffer, dropping the oldest samples if the buffer
+     * is full. Listeners are notified only once.
+     *
+     * @param x the x values of the samples
+     * @param y the y values of the samples
+     * @throws IllegalArgumentException if the arrays do not have the same length,
+     * or if the x values are not ordered
+     */
+    public void addAll(double[] x, double[] y) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("x and y must have the same length");
+        }
+        double last = size > 0 ? getX(size - 1) : Double.NEGATIVE_INFINITY;
+        for (double v : x) {
+            checkOrder(v, last);
+            last = v;
+        }
+        if (x.length == 0) {
+            return;
+        }
+        final int start = (maxSize > 0) ? Math.max(0, x.length - maxSize) : 0;
+        if (start > 0) {
+            // the new samples replace all the current ones
+            removedCount += size + start;
+            head = 0;
+            size = 0;
+            yRangeValid = false;
+        }
+        for (int i = start; i < x.length; ++i) {
+            append(x[i], y[i]);
+        }
+        fireInvalidation();
+    }
+
+    /**
+     * Replaces the content of this buffer with the given samples. If the buffer
+     * has a maximum size, only the last samples are kept.
+     *
+     * @param x the x values of the samples
+     * @param y the y values of the samples
+     * @throws IllegalArgumentException if the arrays do not have the same length,
+     * or if the x values are not ordered
+     */
+    public void setAll(double[] x, double[] y) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("x and y must have the same length");
+        }
+        double last = Double.NEGATIVE_INFINITY;
+        for (double v : x) {
+            checkOrder(v, last);
+            last = v;
+        }
+        final int start = (maxSize > 0) ? Math.max(0, x.length - maxSize) : 0;
+        final int newSize = x.length - start;
+        if (maxSize == 0 && xValues.length < newSize) {
+            xValues = new double[newSize];
+            yValues = new double[newSize];
+        } else if (maxSize > 0 && xValues.length < maxSize) {
+            xValues = new double[maxSize];
+            yValues = new double[maxSize];
+        }
+        System.arraycopy(x, start, xValues, 0, newSize);
+        System.arraycopy(y, start, yValues, 0, newSize);
+        head = 0;
+        size = newSize;
+        removedCount = 0;
+        yRangeValid = false;
+        ++resetCount;
+        fireInvalidation();
+    }
+
+    /**
+     * Removes all the samples of this buffer.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+        removedCount = 0;
+        minY = maxY = Double.NaN;
+        yRangeValid = true;
+        ++resetCount;
+        fireInvalidation();
+    }
+
+    /**
+     * Gets the x value of the oldest sample, which is also the smallest one.
+     *
+     * @return the smallest x value, or {@code NaN} if this buffer is empty
+     */
+    public double getMinX() {
+        return size > 0 ? getX(0) : Double.NaN;
+    }
+
+    /**
+     * Gets the x value of the newest sample, which is also the largest one.
+     *
+     * @return the largest x value, or {@code NaN} if this buffer is empty
+     */
+    public double getMaxX() {
+        return size > 0 ? getX(size - 1) : Double.NaN;
+    }
+
+    /**
+     * Gets the smallest y value of the samples, ignoring {@code NaN} values.
+     *
+     * @return the smallest y value, or {@code NaN} if there is none
+     */
+    public double getMinY() {
+        validateYRange();
+        return minY;
+    }
+
+    /**
+     * Gets the largest y value of the samples, ignoring {@code NaN} values.
+     *
+     * @return the largest y value, or {@code NaN} if there is none
+     */
+    public double getMaxY() {
+        validateYRange();
+        return maxY;
+    }
+
+    /**
+     * Copies x and y values of the samples into the given arrays.
+     *
+     * @param srcIndex index of the first sample to copy
+     * @param x destination array of the x values
+     * @param y destination array of the y values
+     * @param destIndex starting position in the destination arrays
+     * @param length number of samples to copy
+     * @throws IndexOutOfBoundsException if copying would cause access of data
+     * outside the buffer or the destination arrays
+     */
+    public void copyTo(int srcIndex, double[] x, double[] y, int destIndex, int length) {
+        if (srcIndex < 0 || length < 0 || srcIndex + length > size) {
+            throw new IndexOutOfBoundsException("srcIndex: " + srcIndex + ", length: " + length + ", size: " + size);
+        }
+        final int start = (head + srcIndex) % Math.max(xValues.length, 1);
+        final int first = Math.min(length, xValues.length - start);
+        System.arraycopy(xValues, start, x, destIndex, first);
+        System.arraycopy(yValues, start, y, destIndex, first);
+        System.arraycopy(xValues, 0, x, destIndex + first, length - first);
+        System.arraycopy(yValues, 0, y, destIndex + first, length - first);
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        if (listeners == null) {
+            listeners = new InvalidationListener[2];
+        } else if (listenerCount == listeners.length) {
+            listeners = Arrays.copyOf(listeners, listenerCount * 2);
+        }
+        listeners[listenerCount++] = listener;
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        for (int i = 0; i < listenerCount; ++i) {
+            if (listener.equals(listeners[i])) {
+                // copy so that a notification in progress is not affected
+                final InvalidationListener[] newListeners = new InvalidationListener[listeners.length];
+                System.arraycopy(listeners, 0, newListeners, 0, i);
+                System.arraycopy(listeners, i + 1, newListeners, i, listenerCount - i - 1);
+                listeners = newListeners;
+                --listenerCount;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first sample whose x value is greater than or
+     * equal to {@code x}, or the size of this buffer if there is none.
+     */
+    int indexOfX(double x) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (getX(mid) < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the number of samples dropped from the start of this buffer since
+     * it was last reset.
+     */
+    long getRemovedCount() {
+        return removedCount;
+    }
+
+    /**
+     * Returns a counter incremented every time samples are replaced or removed
+     * other than by dropping the oldest ones.
+     */
+    int getResetCount() {
+        return resetCount;
+    }
+
+    private int toArrayIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        final int i = head + index;
+        return i < xValues.length ? i : i - xValues.length;
+    }
+
+    private static void checkOrder(double x, double last) {
+        if (Double.isNaN(x) || x < last) {
+            throw new IllegalArgumentException("x values must be ordered: " + x + " after " + last);
+        }
+    }
+
+    private void append(double x, double y) {
+        if (maxSize > 0 && size == maxSize) {
+            // drop the oldest sample
+            final double dropped = yValues[head];
+            if (dropped <= minY || dropped >= maxY) {
+                yRangeValid = false;
+            }
+            head = (head + 1 == xValues.length) ? 0 : head + 1;
+            --size;
+            ++removedCount;
+        } else if (size == xValues.length) {
+            final int capacity = (maxSize > 0)
+                    ? maxSize
+                    : Math.max(16, xValues.length + (xValues.length >> 1));
+            final double[] newX = new double[capacity];
+            final double[] newY = new double[capacity];
+            copyTo(0, newX, newY, 0, size);
+            xValues = newX;
+            yValues = newY;
+            head = 0;
+        }
+        final int i = toArrayIndexForAppend();
+        xValues[i] = x;
+        yValues[i] = y;
+        ++size;
+        if (yRangeValid && !Double.isNaN(y)) {
+            if (Double.isNaN(minY) || y < minY) {
+                minY = y;
+            }
+            if (Double.isNaN(maxY) || y > maxY) {
+                maxY = y;
+            }
+        }
+    }
+
+    private int toArrayIndexForAppend() {
+        final int i = head + size;
+        return i < xValues.length ? i : i - xValues.length;
+    }
+
+    private void validateYRange() {
+        if (yRangeValid) {
+            return;
+        }
+        double min = Double.NaN;
+        double max = Double.NaN;
+        for (int i = 0; i < size; ++i) {
+            final double y = getY(i);
+            if (!Double.isNaN(y)) {
+                if (Double.isNaN(min) || y < min) {
+                    min = y;
+                }
+                if (Double.isNaN(max) || y > max) {
+                    max = y;
+                }
+            }
+        }
+        minY = min;
+        maxY = max;
+        yRangeValid = true;
+    }
+
+    private void fireInvalidation() {
+        final InvalidationListener[] current = listeners;
+        final int count = listenerCount;
+        for (int i = 0; i < count; ++i) {
+            try {
+                current[i].invalidated(this);
+            } catch (Exception e) {
+                Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+            }
+        }
+    }
+}
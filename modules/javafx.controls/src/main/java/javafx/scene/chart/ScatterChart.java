@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,16 +29,24 @@ import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.application.Platform;
 import javafx.beans.NamedArg;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.BooleanPropertyBase;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.AccessibleRole;
 import javafx.scene.Node;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import javafx.scene.shape.Path;
 import javafx.util.Duration;
 
 import com.sun.javafx.charts.Legend.LegendItem;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Chart type that plots symbols for the data points in a series.
@@ -70,22 +78,78 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
         setData(data);
     }
 
+    // -------------- PUBLIC PROPERTIES ----------------------------------------
+
+    /**
+     * When true, the symbols of the data items are drawn into a single canvas
+     * instead of creating a node for each data item. This keeps charts with
+     * a very large number of data items responsive, at the cost of the
+     * features of individual nodes: data nodes are neither created nor
+     * displayed, and the symbols are drawn with the background fills and shape
+     * of the {@code chart-symbol} style of their series, without styles
+     * specific to a data item. Use {@link #getDataAt(double, double)} to find
+     * the data item under the mouse, for instance to show a tooltip.
+     *
+     * @defaultValue false
+     * @since 14
+     */
+    private final BooleanProperty canvasRendering = new BooleanPropertyBase(false) {
+        @Override protected void invalidated() {
+            if (get()) {
+                symbolCanvas = new SymbolCanvas();
+                // remove the nodes at once, a set keeps the removal linear
+                final Set<Node> nodes = new HashSet<>();
+                for (int seriesIndex=0; seriesIndex < getDataSize(); seriesIndex++) {
+                    Series<X,Y> series = getData().get(seriesIndex);
+                    for (Data<X,Y> item : series.getData()) {
+                        if (item.getNode() != null) {
+                            nodes.add(item.getNode());
+                        }
+                    }
+                }
+                getPlotChildren().removeAll(nodes);
+            } else {
+                symbolCanvas.dispose(getPlotChildren());
+                symbolCanvas = null;
+                final List<Node> nodes = new ArrayList<>();
+                for (int seriesIndex=0; seriesIndex < getDataSize(); seriesIndex++) {
+                    Series<X,Y> series = getData().get(seriesIndex);
+                    for (int itemIndex=0; itemIndex < series.getData().size(); itemIndex++) {
+                        nodes.add(createSymbol(series, seriesIndex, series.getData().get(itemIndex), itemIndex));
+                    }
+                }
+                getPlotChildren().addAll(nodes);
+            }
+            requestChartLayout();
+        }
+
+        @Override public Object getBean() {
+            return ScatterChart.this;
+        }
+
+        @Override public String getName() {
+            return "canvasRendering";
+        }
+    };
+
+    public final boolean isCanvasRendering() { return canvasRendering.get(); }
+    public final void setCanvasRendering(boolean value) { canvasRendering.set(value); }
+    public final BooleanProperty canvasRenderingProperty() { return canvasRendering; }
+
+    // -------------- PRIVATE FIELDS -------------------------------------------
+
+    /** Draws the symbols when rendering to a canvas, null otherwise */
+    private SymbolCanvas symbolCanvas;
+
     // -------------- METHODS ------------------------------------------------------------------------------------------
 
     /** {@inheritDoc} */
     @Override protected void dataItemAdded(Series<X,Y> series, int itemIndex, Data<X,Y> item) {
-        Node symbol = item.getNode();
-        // check if symbol has already been created
-        if (symbol == null) {
-            symbol = new StackPane();
-            symbol.setAccessibleRole(AccessibleRole.TEXT);
-            symbol.setAccessibleRoleDescription("Point");
-            symbol.focusTraversableProperty().bind(Platform.accessibilityActiveProperty());
-            item.setNode(symbol);
+        if (symbolCanvas != null) {
+            // the symbol is drawn on the next layout
+            return;
         }
-        // set symbol styles
-        symbol.getStyleClass().setAll("chart-symbol", "series" + getData().indexOf(series), "data" + itemIndex,
-                series.defaultColorStyleClass);
+        Node symbol = createSymbol(series, getData().indexOf(series), item, itemIndex);
         // add and fade in new symbol if animated
         if (shouldAnimate()) {
             symbol.setOpacity(0);
@@ -98,8 +162,28 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
         }
     }
 
+    private Node createSymbol(Series<X,Y> series, int seriesIndex, Data<X,Y> item, int itemIndex) {
+        Node symbol = item.getNode();
+        // check if symbol has already been created
+        if (symbol == null) {
+            symbol = new StackPane();
+            symbol.setAccessibleRole(AccessibleRole.TEXT);
+            symbol.setAccessibleRoleDescription("Point");
+            symbol.focusTraversableProperty().bind(Platform.accessibilityActiveProperty());
+            item.setNode(symbol);
+        }
+        // set symbol styles
+        symbol.getStyleClass().setAll("chart-symbol", "series" + seriesIndex, "data" + itemIndex,
+                series.defaultColorStyleClass);
+        return symbol;
+    }
+
     /** {@inheritDoc} */
     @Override protected  void dataItemRemoved(final Data<X,Y> item, final Series<X,Y> series) {
+        if (symbolCanvas != null) {
+            removeDataItemFromDisplay(series, item);
+            return;
+        }
         final Node symbol = item.getNode();
 
         if (symbol != null) {
@@ -136,6 +220,11 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
 
     /** {@inheritDoc} */
     @Override protected  void seriesRemoved(final Series<X,Y> series) {
+        removeSampledSymbols(series);
+        if (symbolCanvas != null) {
+            removeSeriesFromDisplay(series);
+            return;
+        }
         // remove all symbol nodes
         if (shouldAnimate()) {
             ParallelTransition pt = new ParallelTransition();
@@ -165,9 +254,18 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
 
     /** {@inheritDoc} */
     @Override protected void layoutPlotChildren() {
+        if (symbolCanvas != null) {
+            layoutCanvasSymbols();
+            return;
+        }
         // update symbol positions
         for (int seriesIndex=0; seriesIndex < getDataSize(); seriesIndex++) {
             Series<X,Y> series = getData().get(seriesIndex);
+            if (series.getSampledData() != null) {
+                layoutSampledSymbols(series, seriesIndex);
+                continue;
+            }
+            removeSampledSymbols(series);
             for (Iterator<Data<X, Y>> it = getDisplayedDataIterator(series); it.hasNext(); ) {
                 Data<X, Y> item = it.next();
                 double x = getXAxis().getDisplayPosition(item.getCurrentX());
@@ -185,12 +283,90 @@ public class ScatterChart<X,Y> extends XYChart<X,Y> {
         }
     }
 
+    /**
+     * Draws the symbols of all the series into the canvas.
+     */
+    private void layoutCanvasSymbols() {
+        symbolCanvas.begin(getXAxis().getWidth(), getYAxis().getHeight(), getPlotChildren());
+        for (int seriesIndex=0; seriesIndex < getDataSize(); seriesIndex++) {
+            Series<X,Y> series = getData().get(seriesIndex);
+            if (series.getSampledData() != null) {
+                layoutSampledSymbols(series, seriesIndex);
+                continue;
+            }
+            removeSampledSymbols(series);
+            final Region prototype = symbolCanvas.getPrototype(seriesIndex, getPlotChildren(),
+                    "chart-symbol", "series" + seriesIndex, series.defaultColorStyleClass);
+            final double w = prototype.prefWidth(-1);
+            final double h = prototype.prefHeight(-1);
+            symbolCanvas.beginSeries(prototype);
+            for (Iterator<Data<X, Y>> it = getDisplayedDataIterator(series); it.hasNext(); ) {
+                Data<X, Y> item = it.next();
+                double x = getXAxis().getDisplayPosition(item.getCurrentX());
+                double y = getYAxis().getDisplayPosition(item.getCurrentY());
+                if (Double.isNaN(x) || Double.isNaN(y)) {
+                    continue;
+                }
+                symbolCanvas.drawSymbol(x, y, w, h, false, item);
+            }
+            symbolCanvas.endSeries();
+        }
+        symbolCanvas.trimPrototypes(getDataSize(), getPlotChildren());
+    }
+
+    /**
+     * Returns the data item whose symbol is displayed at the given point, or
+     * null if there is none. When several symbols overlap, the item of the
+     * symbol drawn last is returned. With {@link #canvasRenderingProperty()
+     * canvas rendering}, this uses an index of the symbols drawn by the last
+     * layout and does not visit all the data items.
+     *
+     * @param x the x coordinate of the point, in the local coordinates of this chart
+     * @param y the y coordinate of the point, in the local coordinates of this chart
+     * @return the data item displayed at the point, or null
+     * @since 14
+     */
+    public Data<X,Y> getDataAt(double x, double y) {
+        return pickData(symbolCanvas, x, y);
+    }
+
+    /**
+     * Draws the decimated samples of a series as squares of a single path,
+     * instead of creating a symbol node per sample.
+     */
+    private void layoutSampledSymbols(Series<X,Y> series, int seriesIndex) {
+        final SampleDecimator decimator = series.getDecimator();
+        if (decimator.symbolPath == null) {
+            decimator.symbolPath = new Path();
+            decimator.symbolPath.getStyleClass().setAll("chart-sampled-symbols", "series" + seriesIndex,
+                    series.defaultColorStyleClass);
+            decimator.invalidate();
+        }
+        if (decimator.symbolPath.getParent() == null) {
+            getPlotChildren().add(decimator.symbolPath);
+            decimator.invalidate();
+        }
+        final int changedFrom = decimator.decimate(series.getSampledData(), getXAxis(), getYAxis(), 1);
+        decimator.updateSymbolPath(changedFrom, decimator.symbolPath);
+    }
+
+    private void removeSampledSymbols(Series<X,Y> series) {
+        final SampleDecimator decimator = series.decimator;
+        if (decimator != null && decimator.symbolPath != null) {
+            getPlotChildren().remove(decimator.symbolPath);
+            decimator.symbolPath = null;
+        }
+    }
+
     @Override
     LegendItem createLegendItemForSeries(Series<X, Y> series, int seriesIndex) {
         LegendItem legendItem = new LegendItem(series.getName());
         Node node = series.getData().isEmpty() ? null : series.getData().get(0).getNode();
         if (node != null) {
             legendItem.getSymbol().getStyleClass().addAll(node.getStyleClass());
+        } else if (symbolCanvas != null) {
+            legendItem.getSymbol().getStyleClass().addAll("chart-symbol", "series" + seriesIndex,
+                    series.defaultColorStyleClass);
         }
         return legendItem;
     }
@@ -0,0 +1,422 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.chart;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javafx.geometry.Bounds;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.CornerRadii;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.shape.SVGPath;
+import javafx.scene.shape.Shape;
+import javafx.scene.transform.Affine;
+
+/**
+ * Draws the data symbols of a chart into a single {@link Canvas} instead of
+ * using a node per data item, and indexes the drawn symbols so that the item
+ * under a point can be found without visiting all of them.
+ *
+ * The appearance of the symbols of a series is taken from a hidden prototype
+ * region, styled with the same style classes as the symbol nodes would be.
+ * Its background fills, including their insets, radii and the region shape,
+ * are replayed at the position of every symbol. When a series uses a single
+ * fill with a paint that does not depend on the bounds of the shape, all the
+ * symbols of the series are appended to one path that is filled once.
+ *
+ * The canvas accumulates its drawing commands in a buffer until the next
+ * pulse; clearing the whole canvas at the start of each layout discards the
+ * commands of the previous one.
+ */
+final class SymbolCanvas {
+
+    // size of the cells of the hit-testing grid
+    private static final double CELL_SIZE = 32;
+    // symbols covering more cells than this are kept in a separate list
+    private static final int MAX_CELLS_PER_SYMBOL = 64;
+
+    final Canvas canvas = new Canvas();
+    private final List<Region> prototypes = new ArrayList<>();
+    private final Affine identity = new Affine();
+    private final Affine shapeTransform = new Affine();
+
+    // state of the series being drawn
+    private GraphicsContext gc;
+    private BackgroundFill[] fills;
+    private String shapeContent;
+    private Bounds shapeBounds;
+    private boolean scaleShape, centerShape;
+    private boolean batched;
+
+    // drawn symbols, in drawing order, as center x, center y, half width, half height
+    private double[] symbols = new double[256];
+    private boolean[] ellipses = new boolean[64];
+    private Object[] items = new Object[64];
+    private int symbolCount;
+
+    // hit-testing grid: the symbols of cell c are cellSymbols[cellStart[c] .. cellStart[c + 1]]
+    private int columns, rows;
+    private int[] cellStart;
+    private int[] cellSymbols;
+    private int[] largeSymbols = new int[0];
+    private int largeCount;
+
+    SymbolCanvas() {
+        canvas.setManaged(false);
+        canvas.setMouseTransparent(true);
+    }
+
+    /**
+     * Returns the hidden region that provides the style of the symbols of the
+     * series at the given index, creating it if needed. The prototypes are
+     * added to the given plot children, so that they get styled by CSS.
+     */
+    Region getPrototype(int seriesIndex, List<Node> plotChildren, String... styleClasses) {
+        while (prototypes.size() <= seriesIndex) {
+            final Region prototype = new StackPane();
+            prototype.setVisible(false);
+            prototype.setManaged(false);
+            prototypes.add(prototype);
+        }
+        final Region prototype = prototypes.get(seriesIndex);
+        if (!prototype.getStyleClass().equals(Arrays.asList(styleClasses))) {
+            prototype.getStyleClass().setAll(styleClasses);
+        }
+        if (prototype.getParent() == null) {
+            plotChildren.add(prototype);
+        }
+        prototype.applyCss();
+        return prototype;
+    }
+
+    /**
+     * Removes the canvas and the prototypes not needed by the given number
+     * of series.
+     */
+    void trimPrototypes(int seriesCount, List<Node> plotChildren) {
+        while (prototypes.size() > seriesCount) {
+            plotChildren.remove(prototypes.remove(prototypes.size() - 1));
+        }
+    }
+
+    void dispose(List<Node> plotChildren) {
+        trimPrototypes(0, plotChildren);
+        plotChildren.remove(canvas);
+        clear();
+    }
+
+    /**
+     * Resizes and clears the canvas, and forgets the drawn symbols.
+     */
+    void begin(double width, double height, List<Node> plotChildren) {
+        if (canvas.getParent() == null) {
+            plotChildren.add(canvas);
+        }
+        canvas.setWidth(Math.max(0, width));
+        canvas.setHeight(Math.max(0, height));
+        gc = canvas.getGraphicsContext2D();
+        gc.setTransform(identity);
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        clear();
+    }
+
+    private void clear() {
+        Arrays.fill(items, 0, symbolCount, null);
+        symbolCount = 0;
+        cellStart = null;
+        cellSymbols = null;
+        largeCount = 0;
+    }
+
+    /**
+     * Starts drawing the symbols styled by the given prototype.
+     */
+    void beginSeries(Region prototype) {
+        final Background background = prototype.getBackground();
+        fills = (background == null) ? new BackgroundFill[0] :
+                background.getFills().toArray(new BackgroundFill[0]);
+        final Shape shape = prototype.getShape();
+        if (shape instanceof SVGPath && ((SVGPath) shape).getContent() != null) {
+            shapeContent = ((SVGPath) shape).getContent();
+            shapeBounds = shape.getLayoutBounds();
+            scaleShape = prototype.isScaleShape();
+            centerShape = prototype.isCenterShape();
+        } else {
+            shapeContent = null;
+            shapeBounds = null;
+        }
+        batched = fills.length == 1 && !isProportional(fills[0].getFill());
+        if (batched) {
+            gc.beginPath();
+        }
+    }
+
+    /**
+     * Draws a symbol of the given size centered at the given position, and
+     * associates it with the given item for hit-testing.
+     */
+    void drawSymbol(double x, double y, double width, double height, boolean ellipse, Object item) {
+        if (batched) {
+            appendShape(fills[0], x - width / 2, y - height / 2, width, height, ellipse);
+        } else {
+            for (BackgroundFill fill : fills) {
+                gc.beginPath();
+                appendShape(fill, x - width / 2, y - height / 2, width, height, ellipse);
+                gc.setFill(fill.getFill());
+                gc.fill();
+            }
+        }
+        addSymbol(x, y, width / 2, height / 2, ellipse, item);
+    }
+
+    /**
+     * Finishes drawing the symbols of the current series.
+     */
+    void endSeries() {
+        if (batched) {
+            gc.setFill(fills[0].getFill());
+            gc.fill();
+        }
+        fills = null;
+        shapeContent = null;
+        shapeBounds = null;
+    }
+
+    private static boolean isProportional(Paint paint) {
+        if (paint instanceof LinearGradient) {
+            return ((LinearGradient) paint).isProportional();
+        } else if (paint instanceof RadialGradient) {
+            return ((RadialGradient) paint).isProportional();
+        }
+        return !(paint instanceof Color);
+    }
+
+    private void appendShape(BackgroundFill fill, double x, double y, double w, double h, boolean ellipse) {
+        final Insets insets = fill.getInsets();
+        x += insets.getLeft();
+        y += insets.getTop();
+        w -= insets.getLeft() + insets.getRight();
+        h -= insets.getTop() + insets.getBottom();
+        if (w <= 0 || h <= 0) {
+            return;
+        }
+        if (ellipse) {
+            gc.moveTo(x + w, y + h / 2);
+            gc.arc(x + w / 2, y + h / 2, w / 2, h / 2, 0, 360);
+            gc.closePath();
+        } else if (shapeContent != null) {
+            appendSVGShape(x, y, w, h);
+        } else {
+            final CornerRadii radii = fill.getRadii();
+            double r = radii.getTopLeftHorizontalRadius();
+            if (radii.isTopLeftHorizontalRadiusAsPercentage()) {
+                r *= w;
+            }
+            appendRoundRect(x, y, w, h, Math.min(r, Math.min(w, h) / 2));
+        }
+    }
+
+    private void appendSVGShape(double x, double y, double w, double h) {
+        final double sw = shapeBounds.getWidth();
+        final double sh = shapeBounds.getHeight();
+        if (scaleShape) {
+            if (sw <= 0 || sh <= 0) {
+                return;
+            }
+            shapeTransform.setToTransform(w / sw, 0, x - shapeBounds.getMinX() * w / sw,
+                                          0, h / sh, y - shapeBounds.getMinY() * h / sh);
+        } else if (centerShape) {
+            shapeTransform.setToTransform(1, 0, x + (w - sw) / 2 - shapeBounds.getMinX(),
+                                          0, 1, y + (h - sh) / 2 - shapeBounds.getMinY());
+        } else {
+            shapeTransform.setToTransform(1, 0, x, 0, 1, y);
+        }
+        // the path coordinates are transformed as they are appended
+        gc.setTransform(shapeTransform);
+        gc.appendSVGPath(shapeContent);
+        gc.setTransform(identity);
+    }
+
+    private void appendRoundRect(double x, double y, double w, double h, double r) {
+        if (r <= 0) {
+            gc.rect(x, y, w, h);
+            return;
+        }
+        gc.moveTo(x + r, y);
+        gc.arcTo(x + w, y, x + w, y + h, r);
+        gc.arcTo(x + w, y + h, x, y + h, r);
+        gc.arcTo(x, y + h, x, y, r);
+        gc.arcTo(x, y, x + w, y, r);
+        gc.closePath();
+    }
+
+    /* *************************************************************************
+     *                                                                         *
+     * Hit-testing                                                             *
+     *                                                                         *
+     **************************************************************************/
+
+    private void addSymbol(double x, double y, double hw, double hh, boolean ellipse, Object item) {
+        if (symbolCount == items.length) {
+            final int capacity = symbolCount * 2;
+            symbols = Arrays.copyOf(symbols, capacity * 4);
+            ellipses = Arrays.copyOf(ellipses, capacity);
+            items = Arrays.copyOf(items, capacity);
+        }
+        final int i = symbolCount++;
+        symbols[4 * i] = x;
+        symbols[4 * i + 1] = y;
+        symbols[4 * i + 2] = Math.abs(hw);
+        symbols[4 * i + 3] = Math.abs(hh);
+        ellipses[i] = ellipse;
+        items[i] = item;
+        cellStart = null;
+    }
+
+    private int column(double x) {
+        return Math.max(0, Math.min(columns - 1, (int) Math.floor(x / CELL_SIZE)));
+    }
+
+    private int row(double y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor(y / CELL_SIZE)));
+    }
+
+    private boolean isLarge(int i) {
+        final int c0 = column(symbols[4 * i] - symbols[4 * i + 2]);
+        final int c1 = column(symbols[4 * i] + symbols[4 * i + 2]);
+        final int r0 = row(symbols[4 * i + 1] - symbols[4 * i + 3]);
+        final int r1 = row(symbols[4 * i + 1] + symbols[4 * i + 3]);
+        return (c1 - c0 + 1) * (r1 - r0 + 1) > MAX_CELLS_PER_SYMBOL;
+    }
+
+    /**
+     * Builds the grid of the symbols drawn so far, with two passes over the
+     * symbols: the first counts the symbols of each cell and the second
+     * stores them, in drawing order.
+     */
+    private void buildIndex() {
+        columns = Math.max(1, (int) Math.ceil(canvas.getWidth() / CELL_SIZE));
+        rows = Math.max(1, (int) Math.ceil(canvas.getHeight() / CELL_SIZE));
+        cellStart = new int[columns * rows + 1];
+        largeCount = 0;
+        for (int i = 0; i < symbolCount; ++i) {
+            if (isLarge(i)) {
+                largeCount++;
+                continue;
+            }
+            forEachCell(i, c -> cellStart[c + 1]++);
+        }
+        for (int c = 0; c < columns * rows; ++c) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        cellSymbols = new int[cellStart[columns * rows]];
+        if (largeSymbols.length < largeCount) {
+            largeSymbols = new int[largeCount];
+        }
+        final int[] next = Arrays.copyOf(cellStart, columns * rows);
+        int large = 0;
+        for (int i = 0; i < symbolCount; ++i) {
+            if (isLarge(i)) {
+                largeSymbols[large++] = i;
+                continue;
+            }
+            final int symbol = i;
+            forEachCell(i, c -> cellSymbols[next[c]++] = symbol);
+        }
+    }
+
+    private interface CellConsumer {
+        void accept(int cell);
+    }
+
+    private void forEachCell(int i, CellConsumer consumer) {
+        final int c0 = column(symbols[4 * i] - symbols[4 * i + 2]);
+        final int c1 = column(symbols[4 * i] + symbols[4 * i + 2]);
+        final int r0 = row(symbols[4 * i + 1] - symbols[4 * i + 3]);
+        final int r1 = row(symbols[4 * i + 1] + symbols[4 * i + 3]);
+        for (int r = r0; r <= r1; ++r) {
+            for (int c = c0; c <= c1; ++c) {
+                consumer.accept(r * columns + c);
+            }
+        }
+    }
+
+    private boolean contains(int i, double x, double y) {
+        final double dx = x - symbols[4 * i];
+        final double dy = y - symbols[4 * i + 1];
+        final double hw = symbols[4 * i + 2];
+        final double hh = symbols[4 * i + 3];
+        if (ellipses[i]) {
+            if (hw == 0 || hh == 0) {
+                return false;
+            }
+            return (dx * dx) / (hw * hw) + (dy * dy) / (hh * hh) <= 1;
+        }
+        return Math.abs(dx) <= hw && Math.abs(dy) <= hh;
+    }
+
+    /**
+     * Returns the item of the topmost symbol containing the given point, in
+     * the coordinates of the canvas, or null if there is none.
+     */
+    Object pick(double x, double y) {
+        if (symbolCount == 0) {
+            return null;
+        }
+        if (cellStart == null) {
+            buildIndex();
+        }
+        int found = -1;
+        if (x >= 0 && y >= 0 && x < columns * CELL_SIZE && y < rows * CELL_SIZE) {
+            final int c = row(y) * columns + column(x);
+            // symbols are stored in drawing order, the last one is on top
+            for (int k = cellStart[c + 1] - 1; k >= cellStart[c]; --k) {
+                if (contains(cellSymbols[k], x, y)) {
+                    found = cellSymbols[k];
+                    break;
+                }
+            }
+        }
+        for (int k = largeCount - 1; k >= 0 && largeSymbols[k] > found; --k) {
+            if (contains(largeSymbols[k], x, y)) {
+                found = largeSymbols[k];
+                break;
+            }
+        }
+        return found < 0 ? null : items[found];
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -465,6 +465,14 @@ public abstract class ValueAxis<T extends Number> extends Axis<T> {
         return offset + ((value.doubleValue() - currentLowerBound.get()) * getScale());
     }
 
+    /**
+     * Gets the display position of the value 0, which is such that the display
+     * position of any value v is {@code getDisplayOrigin() + v * getScale()}.
+     */
+    double getDisplayOrigin() {
+        return offset - currentLowerBound.get() * getScale();
+    }
+
     /**
      * Gets the data value for the given display position on this axis. If the axis
      * is a CategoryAxis this will be the nearest value.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -40,6 +40,7 @@ import java.util.Set;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.StringBinding;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
@@ -59,6 +60,7 @@ import javafx.css.Styleable;
 import javafx.css.StyleableBooleanProperty;
 import javafx.css.StyleableProperty;
 import javafx.geometry.Orientation;
+import javafx.geometry.Point2D;
 import javafx.geometry.Side;
 import javafx.scene.Group;
 import javafx.scene.Node;
@@ -649,12 +651,82 @@ public abstract class XYChart<X,Y> extends Chart {
                     if(xData != null) xData.add(data.getXValue());
                     if(yData != null) yData.add(data.getYValue());
                 }
+                addSampledDataRange(series, xData, yData);
             }
             if(xData != null) xa.invalidateRange(xData);
             if(yData != null) ya.invalidateRange(yData);
         }
     }
 
+    /**
+     * Adds the bounds of the sampled data of the series, if any, to the lists
+     * of values used to auto-range the axes.
+     */
+    void addSampledDataRange(Series<X,Y> series, List<X> xData, List<Y> yData) {
+        final SampledData samples = series.getSampledData();
+        if (samples == null || samples.size() == 0) return;
+        if (xData != null) {
+            addRealValue(getXAxis(), xData, samples.getMinX());
+            addRealValue(getXAxis(), xData, samples.getMaxX());
+        }
+        if (yData != null) {
+            addRealValue(getYAxis(), yData, samples.getMinY());
+            addRealValue(getYAxis(), yData, samples.getMaxY());
+        }
+    }
+
+    private static <T> void addRealValue(Axis<T> axis, List<T> values, double value) {
+        if (Double.isNaN(value)) return;
+        final T realValue = axis.toRealValue(value);
+        if (realValue != null) values.add(realValue);
+    }
+
+    /**
+     * Lays out the paths displaying the sampled data of a series, decimated
+     * along the x axis.
+     */
+    void layoutSampledPaths(Series<X,Y> series, Path fillPath, Path linePath, double yMultiplier) {
+        final SampleDecimator decimator = series.getDecimator();
+        final int changedFrom = decimator.decimate(series.getSampledData(), getXAxis(), getYAxis(), yMultiplier);
+        final double fillOrigin = (fillPath == null) ? 0 :
+                getYAxis().getDisplayPosition(getYAxis().toRealValue(0.0));
+        decimator.updatePaths(changedFrom, linePath, fillPath, fillOrigin);
+    }
+
+    /**
+     * Returns the data item whose node, or whose symbol drawn by the given
+     * symbol canvas if it is not null, is displayed at the given point in the
+     * local coordinates of this chart.
+     */
+    @SuppressWarnings("unchecked")
+    Data<X,Y> pickData(SymbolCanvas symbolCanvas, double x, double y) {
+        final Point2D scenePoint = localToScene(x, y);
+        if (symbolCanvas != null) {
+            final Point2D p = symbolCanvas.canvas.sceneToLocal(scenePoint);
+            return (Data<X,Y>) symbolCanvas.pick(p.getX(), p.getY());
+        }
+        for (int seriesIndex = getDataSize() - 1; seriesIndex >= 0; seriesIndex--) {
+            final Series<X,Y> series = getData().get(seriesIndex);
+            for (int itemIndex = series.getData().size() - 1; itemIndex >= 0; itemIndex--) {
+                final Data<X,Y> item = series.getData().get(itemIndex);
+                final Node node = item.getNode();
+                if (node != null && node.isVisible() && node.getParent() != null
+                        && node.contains(node.sceneToLocal(scenePoint))) {
+                    return item;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Called when the sampled data of a series, or its content, has changed.
+     */
+    void sampledDataChanged() {
+        invalidateRange();
+        requestChartLayout();
+    }
+
     /**
      * Called to update and layout the plot children. This should include all work to updates nodes representing
      * the plot on top of the axis and grid lines etc. The origin is the top left of the plot area, the plot area with
@@ -1585,6 +1657,46 @@ public abstract class XYChart<X,Y> extends Chart {
         public final void setData(ObservableList<Data<X,Y>> value) { data.setValue(value); }
         public final ObjectProperty<ObservableList<Data<X,Y>>> dataProperty() { return data; }
 
+        SampleDecimator decimator;
+
+        private final InvalidationListener sampledDataListener = o -> {
+            final XYChart<X,Y> chart = getChart();
+            if (chart != null) chart.sampledDataChanged();
+        };
+
+        /**
+         * The numeric samples displayed by this series. When set, {@link LineChart}, {@link AreaChart} and
+         * {@link ScatterChart} draw the samples, decimated to a few points per pixel column, instead of the data
+         * items of the series.
+         *
+         * @see SampledData
+         * @since 14
+         */
+        private final ObjectProperty<SampledData> sampledData = new ObjectPropertyBase<SampledData>() {
+            private SampledData old;
+            @Override protected void invalidated() {
+                final SampledData current = get();
+                if (old != null) old.removeListener(sampledDataListener);
+                if (current != null) current.addListener(sampledDataListener);
+                old = current;
+                if (decimator != null) decimator.invalidate();
+                sampledDataListener.invalidated(this);
+            }
+
+            @Override
+            public Object getBean() {
+                return Series.this;
+            }
+
+            @Override
+            public String getName() {
+                return "sampledData";
+            }
+        };
+        public final SampledData getSampledData() { return sampledData.get(); }
+        public final void setSampledData(SampledData value) { sampledData.set(value); }
+        public final ObjectProperty<SampledData> sampledDataProperty() { return sampledData; }
+
         // -------------- CONSTRUCTORS ----------------------------------------------
 
         /**
@@ -1647,6 +1759,13 @@ public abstract class XYChart<X,Y> extends Chart {
         int getDataSize() {
             return displayedData.size();
         }
+
+        SampleDecimator getDecimator() {
+            if (decimator == null) {
+                decimator = new SampleDecimator();
+            }
+            return decimator;
+        }
     }
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -36,6 +36,7 @@ import com.sun.javafx.scene.traversal.ParentTraversalEngine;
 import com.sun.javafx.scene.traversal.TraversalContext;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.property.BooleanProperty;
@@ -110,6 +111,13 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
     private static final double GOLDEN_RATIO_MULTIPLIER = 0.618033987;
 
+    /**
+     * The time, in nanoseconds, which may be spent preparing overscan cells
+     * after the layout of a pulse. Cells which do not fit in the budget are
+     * prepared during the following pulses.
+     */
+    private static final long PREFETCH_BUDGET = 4_000_000L;
+
 
 
     /***************************************************************************
@@ -257,6 +265,13 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     private boolean needLengthBar;
     private boolean tempVisibility = false;
 
+    // The direction of the last scroll, in which overscan cells are prepared
+    private int scrollDirection = 1;
+
+    // The scene to which the prefetch listener is added, if any
+    private Scene prefetchScene;
+    private final Runnable prefetchListener = this::runPrefetch;
+
 
 
     /***************************************************************************
@@ -793,6 +808,36 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     public final void setPannable(boolean value) { pannable.set(value); }
     public final BooleanProperty pannableProperty() { return pannable; }
 
+    // --- overscan
+    /**
+     * The number of cells beyond the viewport which are prepared ahead of
+     * time, in the direction in which the flow was last scrolled. These cells
+     * are created and updated after the layout of a pulse, within a small
+     * time budget, and are then shown without further updates when they
+     * scroll into the viewport. The default value of zero prepares no cells.
+     *
+     * @since 14
+     */
+    private IntegerProperty overscan;
+    public final void setOverscan(int value) {
+        overscanProperty().set(value);
+    }
+
+    public final int getOverscan() {
+        return overscan == null ? 0 : overscan.get();
+    }
+
+    public final IntegerProperty overscanProperty() {
+        if (overscan == null) {
+            overscan = new SimpleIntegerProperty(this, "overscan", 0) {
+                @Override protected void invalidated() {
+                    schedulePrefetch();
+                }
+            };
+        }
+        return overscan;
+    }
+
     // --- cell count
     /**
      * Indicates the number of cells that should be in the flow. The user of
@@ -1264,6 +1309,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         lastHeight = getHeight();
         lastCellCount = getCellCount();
         lastVertical = isVertical();
+        schedulePrefetch();
         lastPosition = getPosition();
 
         cleanPile();
@@ -1648,6 +1694,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
         // Finally, update the scroll bars
         updateScrollBarsAndCells(false);
+        schedulePrefetch();
         lastPosition = getPosition();
 
         // notify
@@ -2666,6 +2713,107 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         pile.addLast(cell);
     }
 
+    /**
+     * Prepares the overscan cells after the layout of the current pulse,
+     * following the direction in which the position moved since the last
+     * layout.
+     */
+    private void schedulePrefetch() {
+        final double position = getPosition();
+        if (position != lastPosition) {
+            scrollDirection = position > lastPosition ? 1 : -1;
+        }
+        if (getOverscan() <= 0 || prefetchScene != null) {
+            return;
+        }
+        final Scene scene = getScene();
+        if (scene != null) {
+            prefetchScene = scene;
+            scene.addPostLayoutPulseListener(prefetchListener);
+            Platform.requestNextPulse();
+        }
+    }
+
+    private void runPrefetch() {
+        if (getScene() == prefetchScene && prefetchCells(PREFETCH_BUDGET)) {
+            // Continue during the next pulse
+            Platform.requestNextPulse();
+            return;
+        }
+        prefetchScene.removePostLayoutPulseListener(prefetchListener);
+        prefetchScene = null;
+    }
+
+    /**
+     * Prepares the overscan cells which are not yet on the pile, nearest
+     * first. At least one cell is prepared, and no more once the given
+     * budget has been spent. Prepared cells stay on the pile, from where
+     * {@link #getAvailableCell(int)} returns them when their index comes
+     * into view.
+     *
+     * @return true if cells remain to be prepared
+     */
+    boolean prefetchCells(long budget) {
+        final int count = getOverscan();
+        if (count <= 0 || cells.isEmpty()) {
+            return false;
+        }
+        final int cellCount = getCellCount();
+        final int firstIndex = getCellIndex(cells.getFirst());
+        final int lastIndex = getCellIndex(cells.getLast());
+        final long start = System.nanoTime();
+        boolean prepared = false;
+        for (int i = 1; i <= count; i++) {
+            final int index = scrollDirection > 0 ? lastIndex + i : firstIndex - i;
+            if (index < 0 || index >= cellCount) {
+                break;
+            }
+            if (getPiledCell(index) != null) {
+                continue;
+            }
+            if (prepared && System.nanoTime() - start >= budget) {
+                return true;
+            }
+            final T cell = getPrefetchCell(firstIndex - count, lastIndex + count);
+            setCellIndex(cell, index);
+            resizeCell(cell);
+            prepared = true;
+        }
+        return false;
+    }
+
+    private T getPiledCell(int index) {
+        for (int i = 0, max = pile.size(); i < max; i++) {
+            final T cell = pile.get(i);
+            if (getCellIndex(cell) == index) {
+                return cell;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a cell of the pile whose index is outside of the given range,
+     * or a new cell added to the pile if there is none.
+     */
+    private T getPrefetchCell(int fromIndex, int toIndex) {
+        for (int i = 0, max = pile.size(); i < max; i++) {
+            final T cell = pile.get(i);
+            final int index = getCellIndex(cell);
+            if (index < fromIndex || index > toIndex) {
+                return cell;
+            }
+        }
+        final T cell = getCellFactory().call(this);
+        cell.getProperties().put(NEW_CELL, null);
+        cell.setVisible(false);
+        sheetChildren.add(cell);
+        // New cells are added to the front of the pile, since cells which
+        // do not match the index they are needed for are taken from its end
+        pile.addFirst(cell);
+        return cell;
+    }
+
     private void cleanPile() {
         boolean wasFocusOwner = false;
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,6 +34,7 @@ import javafx.scene.layout.StackPane;
 public class VirtualFlowShim<T extends IndexedCell> extends VirtualFlow<T> {
 
     public final ArrayLinkedList<T> cells = super.cells;
+    public final ArrayLinkedList<T> pile = super.pile;
     public final ObservableList<Node> sheetChildren = super.sheetChildren;
 
     @Override
@@ -104,6 +105,10 @@ public class VirtualFlowShim<T extends IndexedCell> extends VirtualFlow<T> {
         super.addLeadingCells(currentIndex, startOffset);
     }
 
+    public boolean shim_prefetchCells(long budget) {
+        return super.prefetchCells(budget);
+    }
+
     //------------------- statics --------------------
 
     public static <T> T cells_getFirst(VirtualFlow.ArrayLinkedList<T> list) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,10 +34,14 @@ import javafx.scene.chart.Axis;
 import javafx.scene.chart.CategoryAxis;
 import javafx.scene.chart.Chart;
 import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.SampledData;
 import javafx.scene.chart.XYChart;
 import javafx.scene.chart.XYChartShim;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.LineTo;
 import javafx.scene.shape.Path;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -151,4 +155,29 @@ public class AreaChartTest extends XYChartTestBase {
          pulse();
          assertEquals(5, countSymbols(ac, "chart-area-symbol"));
      }
+
+    @Test
+    public void testSampledData() {
+        startApp();
+        SampledData samples = new SampledData();
+        for (int i = 0; i < 50000; i++) {
+            samples.add(i, 10 + i % 7);
+        }
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        series.setSampledData(samples);
+        ac.getData().add(series);
+        pulse();
+
+        Group group = (Group) series.getNode();
+        Path fill = (Path) group.getChildren().get(0);
+        Path line = (Path) group.getChildren().get(1);
+        assertTrue(line.getElements().size() <= 4 * (ac.getXAxis().getWidth() + 2));
+        // the fill follows the line and is closed along the y axis origin
+        assertEquals(line.getElements().size() + 3, fill.getElements().size());
+        assertTrue(fill.getElements().get(fill.getElements().size() - 1) instanceof ClosePath);
+        LineTo lineEnd = (LineTo) line.getElements().get(line.getElements().size() - 1);
+        LineTo fillEnd = (LineTo) fill.getElements().get(fill.getElements().size() - 3);
+        assertEquals(lineEnd.getX(), fillEnd.getX(), 0);
+        assertEquals(lineEnd.getY(), fillEnd.getY(), 0);
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.chart;
+
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.chart.BubbleChart;
+import javafx.scene.chart.Chart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.scene.chart.XYChartShim;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class BubbleChartTest extends ChartTestBase {
+
+    private BubbleChart<Number, Number> bc;
+    private final XYChart.Series<Number, Number> series = new XYChart.Series<>();
+
+    @Override
+    protected Chart createChart() {
+        NumberAxis xAxis = new NumberAxis(0, 100, 10);
+        NumberAxis yAxis = new NumberAxis(0, 100, 10);
+        xAxis.setAutoRanging(false);
+        yAxis.setAutoRanging(false);
+        bc = new BubbleChart<>(xAxis, yAxis);
+        series.getData().add(new XYChart.Data<>(20, 20, 10));
+        series.getData().add(new XYChart.Data<>(60, 60, 5));
+        return bc;
+    }
+
+    private XYChart.Data<Number, Number> getDataAt(double x, double y) {
+        Node plotContent = XYChartShim.getPlotChildren(bc).get(0).getParent();
+        Point2D p = bc.sceneToLocal(plotContent.localToScene(bc.getXAxis().getDisplayPosition(x),
+                                                             bc.getYAxis().getDisplayPosition(y)));
+        return bc.getDataAt(p.getX(), p.getY());
+    }
+
+    @Test
+    public void testCanvasRenderingCreatesNoNodes() {
+        bc.setCanvasRendering(true);
+        startApp();
+        bc.getData().add(series);
+        pulse();
+        for (XYChart.Data<Number, Number> item : series.getData()) {
+            assertNull(item.getNode());
+        }
+    }
+
+    @Test
+    public void testToggleCanvasRenderingWithNullData() {
+        startApp();
+        bc.setData(null);
+        pulse();
+        bc.setCanvasRendering(true);
+        pulse();
+        bc.setCanvasRendering(false);
+        pulse();
+        assertFalse(bc.isCanvasRendering());
+    }
+
+    @Test
+    public void testGetDataAt() {
+        startApp();
+        bc.getData().add(series);
+        pulse();
+        assertSame(series.getData().get(0), getDataAt(25, 25));
+        assertNull(getDataAt(40, 40));
+
+        bc.setCanvasRendering(true);
+        pulse();
+        assertSame(series.getData().get(0), getDataAt(25, 25));
+        assertSame(series.getData().get(1), getDataAt(63, 60));
+        assertNull(getDataAt(40, 40));
+        // inside the bounds of the bubble, but outside of its ellipse
+        assertNull(getDataAt(28, 28));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -30,10 +30,16 @@ import javafx.scene.Node;
 import javafx.scene.chart.Chart;
 import javafx.scene.chart.LineChart;
 import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.SampledData;
 import javafx.scene.chart.XYChart;
 import javafx.scene.chart.XYChartShim;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -159,4 +165,114 @@ public class LineChartTest extends XYChartTestBase {
         int nodesPerSeries = 4; // 3 symbols + 1 path
         checkSeriesRemoveAnimatedStyleClasses(lineChart, nodesPerSeries, 900);
     }
+
+    private static SampledData createSamples(int count) {
+        SampledData samples = new SampledData();
+        for (int i = 0; i < count; i++) {
+            samples.add(i, 50 + 40 * Math.sin(i / 50.0));
+        }
+        return samples;
+    }
+
+    private void setFixedAxes() {
+        NumberAxis xAxis = (NumberAxis) lineChart.getXAxis();
+        NumberAxis yAxis = (NumberAxis) lineChart.getYAxis();
+        xAxis.setAutoRanging(false);
+        xAxis.setLowerBound(0);
+        xAxis.setUpperBound(10000);
+        yAxis.setAutoRanging(false);
+        yAxis.setLowerBound(0);
+        yAxis.setUpperBound(100);
+    }
+
+    @Test
+    public void testSampledDataIsDecimated() {
+        startApp();
+        SampledData samples = createSamples(100000);
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        series.setSampledData(samples);
+        lineChart.getData().add(series);
+        pulse();
+
+        Path line = (Path) series.getNode();
+        double width = lineChart.getXAxis().getWidth();
+        int size = line.getElements().size();
+        assertTrue("elements: " + size, size > width && size <= 4 * (width + 1));
+        // the axes are auto-ranged to the samples
+        assertTrue(((NumberAxis) lineChart.getXAxis()).getUpperBound() >= 99999);
+        assertTrue(((NumberAxis) lineChart.getYAxis()).getLowerBound() <= 10);
+    }
+
+    @Test
+    public void testSampledDataOutsideAxisRangeIsSkipped() {
+        startApp();
+        setFixedAxes();
+        SampledData samples = createSamples(100000);
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        series.setSampledData(samples);
+        lineChart.getData().add(series);
+        pulse();
+
+        Path line = (Path) series.getNode();
+        // the path ends with the first sample after the visible range
+        LineTo last = (LineTo) line.getElements().get(line.getElements().size() - 1);
+        assertEquals(lineChart.getXAxis().getDisplayPosition(10001), last.getX(), 1e-6);
+        int size = line.getElements().size();
+        assertTrue("elements: " + size, size <= 4 * (lineChart.getXAxis().getWidth() + 2));
+    }
+
+    @Test
+    public void testSampledDataAppendIsIncremental() {
+        startApp();
+        setFixedAxes();
+        SampledData samples = createSamples(5000);
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        series.setSampledData(samples);
+        lineChart.getData().add(series);
+        pulse();
+
+        Path line = (Path) series.getNode();
+        PathElement second = line.getElements().get(1);
+        int size = line.getElements().size();
+        for (int i = 5000; i < 6000; i++) {
+            samples.add(i, 50 + 40 * Math.sin(i / 50.0));
+        }
+        pulse();
+        // the existing elements are kept, and new ones appended
+        assertSame(second, line.getElements().get(1));
+        assertTrue(line.getElements().size() > size);
+        String incremental = computeSVGPath(line);
+
+        // a full decimation gives the same path
+        series.setSampledData(null);
+        series.setSampledData(samples);
+        pulse();
+        assertEquals(incremental, computeSVGPath(line));
+    }
+
+    @Test
+    public void testSampledDataRollingWindow() {
+        startApp();
+        setFixedAxes();
+        SampledData samples = new SampledData(2000);
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        series.setSampledData(samples);
+        lineChart.getData().add(series);
+        for (int i = 0; i < 5000; i++) {
+            samples.add(i, 50 + 40 * Math.sin(i / 50.0));
+            if (i % 500 == 0) {
+                pulse();
+            }
+        }
+        pulse();
+        Path line = (Path) series.getNode();
+        String rolling = computeSVGPath(line);
+        MoveTo first = (MoveTo) line.getElements().get(0);
+        assertEquals(3000, lineChart.getXAxis().getValueForDisplay(first.getX()).doubleValue(), 1);
+
+        series.setSampledData(null);
+        series.setSampledData(samples);
+        pulse();
+        assertEquals(rolling, computeSVGPath(line));
+    }
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.chart;
+
+import javafx.beans.InvalidationListener;
+import javafx.scene.chart.SampledData;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class SampledDataTest {
+
+    private SampledData samples;
+    private int invalidations;
+    private final InvalidationListener listener = o -> invalidations++;
+
+    @Before
+    public void setUp() {
+        samples = new SampledData();
+        samples.addListener(listener);
+    }
+
+    private void assertSamples(double[] x, double[] y) {
+        assertEquals(x.length, samples.size());
+        for (int i = 0; i < x.length; ++i) {
+            assertEquals(x[i], samples.getX(i), 0);
+            assertEquals(y[i], samples.getY(i), 0);
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, samples.size());
+        assertEquals(0, samples.getMaxSize());
+        assertTrue(Double.isNaN(samples.getMinX()));
+        assertTrue(Double.isNaN(samples.getMaxY()));
+    }
+
+    @Test
+    public void testAdd() {
+        for (int i = 0; i < 100; ++i) {
+            samples.add(i, -i);
+        }
+        assertEquals(100, samples.size());
+        assertEquals(100, invalidations);
+        assertEquals(0, samples.getMinX(), 0);
+        assertEquals(99, samples.getMaxX(), 0);
+        assertEquals(-99, samples.getMinY(), 0);
+        assertEquals(0, samples.getMaxY(), 0);
+        assertEquals(42, samples.getX(42), 0);
+        assertEquals(-42, samples.getY(42), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddUnordered() {
+        samples.add(1, 0);
+        samples.add(0, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddNaN() {
+        samples.add(Double.NaN, 0);
+    }
+
+    @Test
+    public void testNaNValuesAreIgnoredByRange() {
+        samples.add(0, Double.NaN);
+        assertTrue(Double.isNaN(samples.getMinY()));
+        samples.add(1, 5);
+        samples.add(2, Double.NaN);
+        assertEquals(5, samples.getMinY(), 0);
+        assertEquals(5, samples.getMaxY(), 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        samples.add(0, 0);
+        samples.getX(1);
+    }
+
+    @Test
+    public void testRollingWindow() {
+        samples.setMaxSize(3);
+        for (int i = 0; i < 10; ++i) {
+            samples.add(i, i % 4);
+        }
+        assertSamples(new double[] {7, 8, 9}, new double[] {3, 0, 1});
+        assertEquals(0, samples.getMinY(), 0);
+        assertEquals(3, samples.getMaxY(), 0);
+
+        samples.add(10, 2);
+        assertSamples(new double[] {8, 9, 10}, new double[] {0, 1, 2});
+        assertEquals(2, samples.getMaxY(), 0);
+    }
+
+    @Test
+    public void testAddAll() {
+        samples.add(0, 0);
+        invalidations = 0;
+        samples.addAll(new double[] {1, 2, 3}, new double[] {10, 20, 30});
+        assertEquals(1, invalidations);
+        assertSamples(new double[] {0, 1, 2, 3}, new double[] {0, 10, 20, 30});
+    }
+
+    @Test
+    public void testAddAllRollingWindow() {
+        samples = new SampledData(4);
+        samples.addAll(new double[] {0, 1, 2}, new double[] {0, 1, 2});
+        samples.addAll(new double[] {3, 4, 5}, new double[] {3, 4, 5});
+        assertSamples(new double[] {2, 3, 4, 5}, new double[] {2, 3, 4, 5});
+
+        samples.addAll(new double[] {6, 7, 8, 9, 10}, new double[] {6, 7, 8, 9, 10});
+        assertSamples(new double[] {7, 8, 9, 10}, new double[] {7, 8, 9, 10});
+        assertEquals(7, samples.getMinY(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddAllLengthMismatch() {
+        samples.addAll(new double[] {1, 2}, new double[] {1});
+    }
+
+    @Test
+    public void testAddAllUnorderedLeavesBufferUnchanged() {
+        samples.add(5, 5);
+        try {
+            samples.addAll(new double[] {6, 4}, new double[] {0, 0});
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertSamples(new double[] {5}, new double[] {5});
+    }
+
+    @Test
+    public void testSetAll() {
+        samples.add(0, 0);
+        samples.setAll(new double[] {1, 2}, new double[] {3, 4});
+        assertSamples(new double[] {1, 2}, new double[] {3, 4});
+        assertEquals(3, samples.getMinY(), 0);
+
+        samples.setMaxSize(1);
+        samples.setAll(new double[] {1, 2}, new double[] {3, 4});
+        assertSamples(new double[] {2}, new double[] {4});
+    }
+
+    @Test
+    public void testClear() {
+        samples.add(0, 0);
+        samples.clear();
+        assertEquals(0, samples.size());
+        assertTrue(Double.isNaN(samples.getMinY()));
+    }
+
+    @Test
+    public void testSetMaxSize() {
+        for (int i = 0; i < 10; ++i) {
+            samples.add(i, i);
+        }
+        samples.setMaxSize(4);
+        assertSamples(new double[] {6, 7, 8, 9}, new double[] {6, 7, 8, 9});
+        samples.add(10, 10);
+        samples.setMaxSize(0);
+        samples.add(11, 11);
+        assertSamples(new double[] {7, 8, 9, 10, 11}, new double[] {7, 8, 9, 10, 11});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeMaxSize() {
+        new SampledData(-1);
+    }
+
+    @Test
+    public void testCopyTo() {
+        samples.setMaxSize(4);
+        for (int i = 0; i < 6; ++i) {
+            samples.add(i, 10 * i);
+        }
+        double[] x = new double[5];
+        double[] y = new double[5];
+        samples.copyTo(0, x, y, 1, 4);
+        assertArrayEquals(new double[] {0, 2, 3, 4, 5}, x, 0);
+        assertArrayEquals(new double[] {0, 20, 30, 40, 50}, y, 0);
+    }
+
+    @Test
+    public void testRemoveListener() {
+        samples.removeListener(listener);
+        samples.add(0, 0);
+        assertEquals(0, invalidations);
+    }
+}
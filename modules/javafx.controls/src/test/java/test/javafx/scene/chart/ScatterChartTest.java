@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.chart;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javafx.collections.ListChangeListener;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.chart.Chart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.ScatterChart;
+import javafx.scene.chart.XYChart;
+import javafx.scene.chart.XYChartShim;
+import javafx.scene.layout.Region;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ScatterChartTest extends ChartTestBase {
+
+    private ScatterChart<Number, Number> sc;
+    private final XYChart.Series<Number, Number> series = new XYChart.Series<>();
+
+    @Override
+    protected Chart createChart() {
+        NumberAxis xAxis = new NumberAxis(0, 100, 10);
+        NumberAxis yAxis = new NumberAxis(0, 100, 10);
+        xAxis.setAutoRanging(false);
+        yAxis.setAutoRanging(false);
+        sc = new ScatterChart<>(xAxis, yAxis);
+        series.getData().add(new XYChart.Data<>(10, 10));
+        series.getData().add(new XYChart.Data<>(50, 50));
+        series.getData().add(new XYChart.Data<>(90, 20));
+        return sc;
+    }
+
+    private Canvas getCanvas() {
+        for (Node n : XYChartShim.getPlotChildren(sc)) {
+            if (n instanceof Canvas) {
+                return (Canvas) n;
+            }
+        }
+        return null;
+    }
+
+    private int countVisibleSymbols() {
+        int count = 0;
+        for (Node n : XYChartShim.getPlotChildren(sc)) {
+            if (n.isVisible() && n.getStyleClass().contains("chart-symbol")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Returns the given data position in the local coordinates of the chart
+    private Point2D toChart(double x, double y) {
+        Node plotContent = XYChartShim.getPlotChildren(sc).get(0).getParent();
+        Point2D p = plotContent.localToScene(sc.getXAxis().getDisplayPosition(x),
+                                             sc.getYAxis().getDisplayPosition(y));
+        return sc.sceneToLocal(p);
+    }
+
+    private XYChart.Data<Number, Number> getDataAt(double x, double y) {
+        Point2D p = toChart(x, y);
+        return sc.getDataAt(p.getX(), p.getY());
+    }
+
+    @Test
+    public void testCanvasRenderingDefault() {
+        assertFalse(sc.isCanvasRendering());
+        startApp();
+        sc.getData().add(series);
+        pulse();
+        assertNull(getCanvas());
+        assertEquals(3, countVisibleSymbols());
+    }
+
+    @Test
+    public void testCanvasRenderingCreatesNoNodes() {
+        sc.setCanvasRendering(true);
+        startApp();
+        sc.getData().add(series);
+        pulse();
+        assertNotNull(getCanvas());
+        assertEquals(0, countVisibleSymbols());
+        for (XYChart.Data<Number, Number> item : series.getData()) {
+            assertNull(item.getNode());
+        }
+        assertEquals(sc.getXAxis().getWidth(), getCanvas().getWidth(), 0);
+        assertEquals(sc.getYAxis().getHeight(), getCanvas().getHeight(), 0);
+    }
+
+    @Test
+    public void testCanvasRenderingUsesSymbolStyle() {
+        sc.setCanvasRendering(true);
+        startApp();
+        sc.getData().add(series);
+        pulse();
+        Region prototype = null;
+        for (Node n : XYChartShim.getPlotChildren(sc)) {
+            if (n.getStyleClass().contains("chart-symbol")) {
+                prototype = (Region) n;
+            }
+        }
+        assertNotNull(prototype);
+        assertFalse(prototype.isVisible());
+        checkStyleClass(prototype, "chart-symbol", "series0", "default-color0");
+        assertNotNull(prototype.getBackground());
+        assertEquals(10, prototype.prefWidth(-1), 0);
+    }
+
+    @Test
+    public void testToggleCanvasRendering() {
+        startApp();
+        sc.getData().add(series);
+        pulse();
+        Node symbol = series.getData().get(0).getNode();
+
+        sc.setCanvasRendering(true);
+        pulse();
+        assertEquals(0, countVisibleSymbols());
+        assertNotNull(getCanvas());
+
+        sc.setCanvasRendering(false);
+        pulse();
+        assertNull(getCanvas());
+        assertEquals(3, countVisibleSymbols());
+        assertSame(symbol, series.getData().get(0).getNode());
+        assertEquals(0, XYChartShim.getPlotChildren(sc).stream()
+                .filter(n -> !n.isVisible()).count());
+    }
+
+    @Test
+    public void testToggleCanvasRenderingChangesSymbolsAtOnce() {
+        startApp();
+        sc.getData().add(series);
+        pulse();
+        List<Node> symbols = new ArrayList<>();
+        for (XYChart.Data<Number, Number> item : series.getData()) {
+            symbols.add(item.getNode());
+        }
+        List<List<Node>> removed = new ArrayList<>();
+        List<List<Node>> added = new ArrayList<>();
+        ListChangeListener<Node> listener = c -> {
+            while (c.next()) {
+                if (c.getRemoved().stream().anyMatch(symbols::contains)) {
+                    removed.add(new ArrayList<>(c.getRemoved()));
+                }
+                if (c.getAddedSubList().stream().anyMatch(symbols::contains)) {
+                    added.add(new ArrayList<>(c.getAddedSubList()));
+                }
+            }
+        };
+        XYChartShim.getPlotChildren(sc).addListener(listener);
+
+        sc.setCanvasRendering(true);
+        assertEquals(1, removed.size());
+        assertTrue(removed.get(0).containsAll(symbols));
+
+        sc.setCanvasRendering(false);
+        assertEquals(1, added.size());
+        assertEquals(symbols, added.get(0));
+        XYChartShim.getPlotChildren(sc).removeListener(listener);
+    }
+
+    @Test
+    public void testToggleCanvasRenderingWithNullData() {
+        startApp();
+        sc.setData(null);
+        pulse();
+        sc.setCanvasRendering(true);
+        pulse();
+        sc.setCanvasRendering(false);
+        pulse();
+        assertFalse(sc.isCanvasRendering());
+    }
+
+    @Test
+    public void testGetDataAt() {
+        startApp();
+        sc.getData().add(series);
+        pulse();
+        assertSame(series.getData().get(1), getDataAt(50, 50));
+        assertNull(getDataAt(30, 30));
+
+        sc.setCanvasRendering(true);
+        pulse();
+        assertSame(series.getData().get(0), getDataAt(10, 10));
+        assertSame(series.getData().get(1), getDataAt(50, 50));
+        assertSame(series.getData().get(2), getDataAt(90, 20));
+        assertNull(getDataAt(30, 30));
+    }
+
+    @Test
+    public void testGetDataAtNearSymbolEdge() {
+        sc.setCanvasRendering(true);
+        startApp();
+        sc.getData().add(series);
+        pulse();
+        Point2D center = toChart(50, 50);
+        // the default symbol is 10 pixels wide
+        assertSame(series.getData().get(1), sc.getDataAt(center.getX() + 4, center.getY() - 4));
+        assertNull(sc.getDataAt(center.getX() + 6, center.getY()));
+    }
+
+    @Test
+    public void testGetDataAtReturnsTopmostSymbol() {
+        sc.setCanvasRendering(true);
+        startApp();
+        XYChart.Series<Number, Number> other = new XYChart.Series<>();
+        other.getData().add(new XYChart.Data<>(50, 50));
+        sc.getData().addAll(series, other);
+        pulse();
+        assertSame(other.getData().get(0), getDataAt(50, 50));
+    }
+
+    @Test
+    public void testGetDataAtAfterRemove() {
+        sc.setCanvasRendering(true);
+        startApp();
+        sc.getData().add(series);
+        pulse();
+        series.getData().remove(1);
+        pulse();
+        assertNull(getDataAt(50, 50));
+        sc.getData().clear();
+        pulse();
+        assertNull(getDataAt(10, 10));
+    }
+
+    @Test
+    public void testGetDataAtMatchesNodes() {
+        Random random = new Random(17);
+        for (int i = 0; i < 2000; i++) {
+            series.getData().add(new XYChart.Data<>(random.nextDouble() * 100, random.nextDouble() * 100));
+        }
+        startApp();
+        sc.getData().add(series);
+        pulse();
+        Point2D[] points = new Point2D[500];
+        Object[] expected = new Object[points.length];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = toChart(random.nextDouble() * 100, random.nextDouble() * 100);
+            expected[i] = sc.getDataAt(points[i].getX(), points[i].getY());
+        }
+
+        sc.setCanvasRendering(true);
+        pulse();
+        int found = 0;
+        for (int i = 0; i < points.length; i++) {
+            assertSame(expected[i], sc.getDataAt(points[i].getX(), points[i].getY()));
+            if (expected[i] != null) {
+                found++;
+            }
+        }
+        assertTrue(found > 0);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -1168,6 +1168,73 @@ public class VirtualFlowTest {
     public void testScrollOneCellHorizontal() {
         assertLastCellInsideViewport(false);
     }
+
+    private IndexedCell getPiledCell(int index) {
+        for (int i = 0; i < VirtualFlowShim.cells_size(flow.pile); i++) {
+            IndexedCell cell = VirtualFlowShim.<IndexedCell>cells_get(flow.pile, i);
+            if (cell.getIndex() == index) {
+                return cell;
+            }
+        }
+        return null;
+    }
+
+    @Test
+    public void testNoCellsArePreparedWithoutOverscan() {
+        int pileSize = VirtualFlowShim.cells_size(flow.pile);
+        assertFalse(flow.shim_prefetchCells(Long.MAX_VALUE));
+        assertEquals(pileSize, VirtualFlowShim.cells_size(flow.pile));
+    }
+
+    @Test
+    public void testOverscanCellsArePreparedOnThePile() {
+        int lastIndex = VirtualFlowShim.<IndexedCell>cells_getLast(flow.cells).getIndex();
+        flow.setOverscan(5);
+        assertFalse(flow.shim_prefetchCells(Long.MAX_VALUE));
+        for (int i = 1; i <= 5; i++) {
+            IndexedCell cell = getPiledCell(lastIndex + i);
+            assertNotNull(cell);
+            assertFalse(cell.isVisible());
+        }
+        assertNull(getPiledCell(lastIndex + 6));
+    }
+
+    @Test
+    public void testOverscanCellsFollowTheScrollDirection() {
+        flow.setPosition(0.5);
+        pulse();
+        flow.scrollPixels(-25);
+        int firstIndex = VirtualFlowShim.<IndexedCell>cells_getFirst(flow.cells).getIndex();
+        flow.setOverscan(3);
+        assertFalse(flow.shim_prefetchCells(Long.MAX_VALUE));
+        for (int i = 1; i <= 3; i++) {
+            assertNotNull(getPiledCell(firstIndex - i));
+        }
+    }
+
+    @Test
+    public void testPreparedCellIsShownWhenScrolledIntoView() {
+        int lastIndex = VirtualFlowShim.<IndexedCell>cells_getLast(flow.cells).getIndex();
+        flow.setOverscan(3);
+        flow.shim_prefetchCells(Long.MAX_VALUE);
+        IndexedCell prepared = getPiledCell(lastIndex + 1);
+        flow.scrollPixels(25);
+        pulse();
+        assertSame(prepared, flow.getVisibleCell(lastIndex + 1));
+        assertTrue(prepared.isVisible());
+        assertMinimalNumberOfCellsAreUsed(flow);
+    }
+
+    @Test
+    public void testPreparingCellsStopsWhenTheBudgetIsSpent() {
+        int lastIndex = VirtualFlowShim.<IndexedCell>cells_getLast(flow.cells).getIndex();
+        flow.setOverscan(5);
+        assertTrue(flow.shim_prefetchCells(0));
+        assertNotNull(getPiledCell(lastIndex + 1));
+        assertNull(getPiledCell(lastIndex + 2));
+        assertFalse(flow.shim_prefetchCells(Long.MAX_VALUE));
+        assertNotNull(getPiledCell(lastIndex + 5));
+    }
 }
 
 class CellStub extends IndexedCellShim {
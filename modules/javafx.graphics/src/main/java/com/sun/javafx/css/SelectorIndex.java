@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.css;
+
+import javafx.css.CompoundSelector;
+import javafx.css.Rule;
+import javafx.css.Selector;
+import javafx.css.SimpleSelector;
+import javafx.css.StyleClass;
+import javafx.css.Stylesheet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An immutable index of the selectors of an ordered list of stylesheets,
+ * such as the user agent, scene and parent stylesheets which apply to a
+ * node. Selectors are bucketed by the id or, if they have no id, by the
+ * type of their rightmost simple selector, using names which are interned
+ * to ints. The selectors that may apply to a node with a given type, id
+ * and style classes are computed once and remembered.
+ * <p>
+ * An index only reads the stylesheets it is created from. It may be
+ * created on any thread and, once created, matched concurrently, which
+ * allows the StyleManager to share it between every Scene and Parent
+ * with the same stack of stylesheets.
+ */
+public final class SelectorIndex {
+
+    // Interned type selector names and ids
+    private static final Map<String,Integer> names = new ConcurrentHashMap<>();
+    private static final AtomicInteger nextName = new AtomicInteger();
+
+    private static final int WILDCARD = intern("*");
+
+    private static int intern(String name) {
+        return names.computeIfAbsent(name, s -> nextName.getAndIncrement());
+    }
+
+    private static int lookup(String name) {
+        final Integer index = names.get(name);
+        return index != null ? index.intValue() : -1;
+    }
+
+    private static final class Entry {
+        final Selector selector;
+        final int type;
+        final StyleClassSet styleClasses;
+        // The position of the selector in the stylesheets of the index
+        final int order;
+
+        Entry(Selector selector, int type, StyleClassSet styleClasses, int order) {
+            this.selector = selector;
+            this.type = type;
+            this.styleClasses = styleClasses;
+            this.order = order;
+        }
+    }
+
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private static final class MatchKey {
+        final int type;
+        final int id;
+        final StyleClassSet styleClasses;
+        final int hash;
+
+        MatchKey(int type, int id, StyleClassSet styleClasses) {
+            this.type = type;
+            this.id = id;
+            this.styleClasses = styleClasses;
+            this.hash = 31 * (31 * type + id) + styleClasses.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof MatchKey) {
+                final MatchKey other = (MatchKey) obj;
+                return type == other.type && id == other.id &&
+                        styleClasses.equals(other.styleClasses);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private final Stylesheet[] stylesheets;
+
+    // Selectors with an id, keyed by the id
+    private final Map<Integer,Entry[]> idMap;
+
+    // Selectors without an id, keyed by the type, which may be the wildcard
+    private final Map<Integer,Entry[]> typeMap;
+
+    private final Map<MatchKey,List<Selector>> matches = new ConcurrentHashMap<>();
+
+    private final int selectorCount;
+
+    /**
+     * Creates the index of the selectors of the given stylesheets. A null
+     * stylesheet, which could not be loaded, is skipped.
+     */
+    public SelectorIndex(List<Stylesheet> stylesheets) {
+
+        this.stylesheets = stylesheets.toArray(new Stylesheet[stylesheets.size()]);
+
+        final Map<Integer,List<Entry>> ids = new HashMap<>();
+        final Map<Integer,List<Entry>> types = new HashMap<>();
+        int order = 0;
+
+        for (Stylesheet stylesheet : this.stylesheets) {
+            if (stylesheet == null) continue;
+            final List<Rule> rules = stylesheet.getRules();
+            for (int r = 0, rMax = rules.size(); r < rMax; r++) {
+                final List<Selector> selectors = rules.get(r).getSelectors();
+                for (int s = 0, sMax = selectors.size(); s < sMax; s++) {
+                    final Selector selector = selectors.get(s);
+                    final SimpleSelector simpleSelector = getRightmost(selector);
+
+                    // SimpleSelector always has a type which defaults to '*'
+                    final String name = simpleSelector.getName();
+                    if (name == null || name.isEmpty()) continue;
+
+                    final Set<StyleClass> styleClassSet = simpleSelector.getStyleClassSet();
+                    final StyleClassSet styleClasses = (styleClassSet instanceof StyleClassSet)
+                            ? (StyleClassSet) styleClassSet
+                            : new StyleClassSet();
+
+                    final Entry entry = new Entry(selector, intern(name), styleClasses, order++);
+
+                    final String id = simpleSelector.getId();
+                    if (id != null && id.isEmpty() == false) {
+                        ids.computeIfAbsent(intern(id), k -> new ArrayList<>()).add(entry);
+                    } else {
+                        types.computeIfAbsent(entry.type, k -> new ArrayList<>()).add(entry);
+                    }
+                }
+            }
+        }
+
+        this.selectorCount = order;
+        this.idMap = toArrays(ids);
+        this.typeMap = toArrays(types);
+    }
+
+    private static SimpleSelector getRightmost(Selector selector) {
+        if (selector instanceof CompoundSelector) {
+            final List<SimpleSelector> selectors = ((CompoundSelector) selector).getSelectors();
+            return selectors.get(selectors.size() - 1);
+        }
+        return (SimpleSelector) selector;
+    }
+
+    private static Map<Integer,Entry[]> toArrays(Map<Integer,List<Entry>> map) {
+        final Map<Integer,Entry[]> result = new HashMap<>(map.size() * 4 / 3 + 1);
+        for (Map.Entry<Integer,List<Entry>> e : map.entrySet()) {
+            result.put(e.getKey(), e.getValue().toArray(NO_ENTRIES));
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if the given stylesheets are the stylesheets of this index,
+     * in the same order.
+     */
+    public boolean isIndexOf(List<Stylesheet> stylesheets) {
+        final int nMax = stylesheets.size();
+        if (nMax != this.stylesheets.length) {
+            return false;
+        }
+        for (int n = 0; n < nMax; n++) {
+            if (stylesheets.get(n) != this.stylesheets[n]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the given stylesheet is one of the stylesheets of
+     * this index.
+     */
+    public boolean contains(Stylesheet stylesheet) {
+        for (Stylesheet s : stylesheets) {
+            if (s == stylesheet) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** The number of selectors in the index */
+    public int getSelectorCount() {
+        return selectorCount;
+    }
+
+    /**
+     * Returns the selectors whose rightmost simple selector matches a node
+     * with the given id, type and style classes, in the order in which they
+     * appear in the stylesheets. The returned list is immutable.
+     */
+    public List<Selector> match(String selectorId, String selectorType, Set<StyleClass> selectorStyleClass) {
+
+        if (selectorType == null || selectorType.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final StyleClassSet styleClasses;
+        if (selectorStyleClass instanceof StyleClassSet) {
+            styleClasses = (StyleClassSet) selectorStyleClass;
+        } else {
+            styleClasses = new StyleClassSet();
+            if (selectorStyleClass != null) {
+                styleClasses.addAll(selectorStyleClass);
+            }
+        }
+
+        final int type = lookup(selectorType);
+        final int id = (selectorId != null && selectorId.isEmpty() == false) ? lookup(selectorId) : -1;
+
+        final MatchKey key = new MatchKey(type, id, styleClasses);
+        List<Selector> selectors = matches.get(key);
+        if (selectors == null) {
+            selectors = computeMatch(type, id, styleClasses);
+            // copy the style classes since the caller may reuse them
+            final StyleClassSet copy = new StyleClassSet();
+            copy.addAll(styleClasses);
+            final List<Selector> previous =
+                    matches.putIfAbsent(new MatchKey(type, id, copy), selectors);
+            if (previous != null) {
+                selectors = previous;
+            }
+        }
+        return selectors;
+    }
+
+    private List<Selector> computeMatch(int type, int id, StyleClassSet styleClasses) {
+
+        final List<Entry> entries = new ArrayList<>();
+
+        if (id != -1) {
+            final Entry[] candidates = idMap.get(id);
+            if (candidates != null) {
+                for (Entry e : candidates) {
+                    if ((e.type == type || e.type == WILDCARD) &&
+                            styleClasses.containsAll(e.styleClasses)) {
+                        entries.add(e);
+                    }
+                }
+            }
+        }
+
+        if (type != -1 && type != WILDCARD) {
+            addMatches(typeMap.get(type), styleClasses, entries);
+        }
+        addMatches(typeMap.get(WILDCARD), styleClasses, entries);
+
+        if (entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final Entry[] sorted = entries.toArray(NO_ENTRIES);
+        Arrays.sort(sorted, (e1, e2) -> Integer.compare(e1.order, e2.order));
+
+        final Selector[] selectors = new Selector[sorted.length];
+        for (int n = 0; n < sorted.length; n++) {
+            selectors[n] = sorted[n].selector;
+        }
+        return Collections.unmodifiableList(Arrays.asList(selectors));
+    }
+
+    private static void addMatches(Entry[] candidates, StyleClassSet styleClasses, List<Entry> entries) {
+        if (candidates == null) return;
+        for (Entry e : candidates) {
+            if (styleClasses.containsAll(e.styleClasses)) {
+                entries.add(e);
+            }
+        }
+    }
+}
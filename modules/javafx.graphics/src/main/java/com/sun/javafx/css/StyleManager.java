@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2018, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -51,6 +51,7 @@ import javafx.stage.Window;
 import com.sun.javafx.logging.PlatformLogger;
 import com.sun.javafx.logging.PlatformLogger.Level;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FilePermission;
 import java.io.IOException;
@@ -192,6 +193,11 @@ final public class StyleManager {
         }
         // todo: what other Styleables need to be handled here?
 
+        return getCacheContainer(root);
+    }
+
+    private CacheContainer getCacheContainer(Parent root) {
+
         if (root == null) return null;
 
         synchronized (styleLock) {
@@ -280,10 +286,6 @@ final public class StyleManager {
         final String fname;
         // the parsed stylesheet so we don't reparse for every parent that uses it
         final Stylesheet stylesheet;
-        // the parents or scenes that use this stylesheet. Typically, this list
-        //  should be very small.
-        final SelectorPartitioning selectorPartitioning;
-
         // who uses this stylesheet?
         final RefList<Parent> parentUsers;
 
@@ -302,25 +304,19 @@ final public class StyleManager {
 
             this.stylesheet = stylesheet;
             if (stylesheet != null) {
-                selectorPartitioning = new SelectorPartitioning();
+                // Keep track of the order in which a selector appears in the stylesheet
+                int ordinal = 0;
                 final List<Rule> rules = stylesheet.getRules();
                 final int rMax = rules == null || rules.isEmpty() ? 0 : rules.size();
                 for (int r=0; r<rMax; r++) {
 
                     final Rule rule = rules.get(r);
-                    // final List<Selector> selectors = rule.getUnobservedSelectorList();
                     final List<Selector> selectors = rule.getSelectors();
                     final int sMax = selectors == null || selectors.isEmpty() ? 0 : selectors.size();
                     for (int s=0; s < sMax; s++) {
-
-                        final Selector selector = selectors.get(s);
-                        selectorPartitioning.partition(selector);
-
+                        selectors.get(s).setOrdinal(ordinal++);
                     }
                 }
-
-            } else {
-                selectorPartitioning = null;
             }
 
             this.parentUsers = new RefList<Parent>();
@@ -450,6 +446,7 @@ final public class StyleManager {
                         container.parentUsers.remove(scene.getRoot());
                         if (container.parentUsers.list.size() == 0) {
                             userAgentStylesheetContainers.remove(n);
+                            removeSelectorIndexes(container.stylesheet);
                         }
                     }
                 }
@@ -554,9 +551,7 @@ final public class StyleManager {
 
                     containerIterator.remove();
 
-                    if (container.selectorPartitioning != null) {
-                        container.selectorPartitioning.reset();
-                    }
+                    removeSelectorIndexes(container.stylesheet);
 
 
                     // clean up image cache by removing images from the cache that
@@ -632,6 +627,7 @@ final public class StyleManager {
                         container.parentUsers.remove(subScene.getRoot());
                         if (container.parentUsers.list.size() == 0) {
                             iterator.remove();
+                            removeSelectorIndexes(container.stylesheet);
                         }
                     }
                 }
@@ -688,9 +684,7 @@ final public class StyleManager {
 
             stylesheetContainerMap.remove(fname);
 
-            if (stylesheetContainer.selectorPartitioning != null) {
-                stylesheetContainer.selectorPartitioning.reset();
-            }
+            removeSelectorIndexes(stylesheetContainer.stylesheet);
 
             // if container has no references, then remove it
             for(Entry<Parent,CacheContainer> entry : cacheContainerMap.entrySet()) {
@@ -1061,6 +1055,23 @@ final public class StyleManager {
     }
 
 
+    /*
+     * Returns true if a binary stylesheet file is older than the file of the
+     * stylesheet from which it was compiled.
+     */
+    private static boolean isStale(URL bssUrl, URL cssUrl) {
+        if (cssUrl == null || !"file".equals(bssUrl.getProtocol()) || !"file".equals(cssUrl.getProtocol())) {
+            return false;
+        }
+        try {
+            final File bss = new File(bssUrl.toURI());
+            final File css = new File(cssUrl.toURI());
+            return bss.lastModified() < css.lastModified();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     private static Stylesheet loadStylesheetUnPrivileged(final String fname) {
 
         synchronized (styleLock) {
@@ -1086,6 +1097,10 @@ final public class StyleManager {
                     final String name = fname.substring(0, fname.length() - 4);
 
                     url = getURL(name+ext);
+                    if (url != null && !parse && fname.endsWith(".css") && isStale(url, getURL(fname))) {
+                        // The .bss file was compiled from an older version of the .css file
+                        url = null;
+                    }
                     if (url == null && (parse = !parse)) {
                         // If we failed to get the URL for the .bss file,
                         // fall back to the .css file.
@@ -1501,6 +1516,9 @@ final public class StyleManager {
                 container.clearCache();
             }
 
+            // the indexes of the previous user agent stylesheets are not used anymore
+            selectorIndexes.clear();
+
             StyleConverter.clearCache();
 
             for (Parent root : cacheContainerMap.keySet()) {
@@ -1611,6 +1629,37 @@ final public class StyleManager {
         }
     }
 
+    /*
+     * The selector indexes of the stacks of stylesheets which have been
+     * matched, shared by all the Scenes and Parents with the same stack.
+     */
+    private final List<SelectorIndex> selectorIndexes = new ArrayList<>();
+
+    /**
+     * Returns the index of the selectors of the given stylesheets, creating
+     * it if no Scene or Parent has used the same stylesheets yet.
+     */
+    private SelectorIndex getSelectorIndex(List<Stylesheet> stylesheets) {
+        synchronized (styleLock) {
+            for (int n = 0, nMax = selectorIndexes.size(); n < nMax; n++) {
+                final SelectorIndex index = selectorIndexes.get(n);
+                if (index.isIndexOf(stylesheets)) {
+                    return index;
+                }
+            }
+            final SelectorIndex index = new SelectorIndex(stylesheets);
+            selectorIndexes.add(index);
+            return index;
+        }
+    }
+
+    private void removeSelectorIndexes(Stylesheet stylesheet) {
+        if (stylesheet == null) return;
+        synchronized (styleLock) {
+            selectorIndexes.removeIf(index -> index.contains(stylesheet));
+        }
+    }
+
     // reuse key to avoid creation of numerous small objects
     private Key key = null;
 
@@ -1627,12 +1676,30 @@ final public class StyleManager {
             return StyleMap.EMPTY_MAP;
         }
 
-        CacheContainer cacheContainer = getCacheContainer(node, subScene);
+        return findMatchingStyles(node, scene, subScene, triggerStates);
+    }
+
+    /*
+     * Finds matching styles for a Node as if it were in the given scene or
+     * subScene, which is the case unless the styles are being prepared.
+     */
+    private StyleMap findMatchingStyles(Node node, Scene scene, SubScene subScene, Set<PseudoClass>[] triggerStates) {
+
+        CacheContainer cacheContainer =
+                getCacheContainer(subScene != null ? subScene.getRoot() : scene.getRoot());
         if (cacheContainer == null) {
             assert false : node.toString();
             return StyleMap.EMPTY_MAP;
         }
 
+        // What is needed to match the node and to cache its styles if
+        // they are not in the cache yet
+        final SelectorIndex selectorIndex;
+        final Key matchKey;
+        final Map<Key, Cache> matchCacheMap;
+        final boolean matchHasInlineStyles;
+        final int cacheGeneration;
+
         synchronized (styleLock) {
             final Parent parent =
                 (node instanceof Parent)
@@ -1720,13 +1787,18 @@ final public class StyleManager {
                 // key will be reused, so clear the styleClasses for next use
                 key.styleClasses.clear();
 
+                //
+                // Create a style helper for this node from the styles that match.
+                //
+                return cache.getStyleMap(cacheContainer, node, triggerStates, hasInlineStyles);
+
             } else {
 
                 // If the cache is null, then we need to create a new Cache and
                 // add it to the cache map
 
-                // Construct the list of Selectors that could possibly apply
-                final List<Selector> selectorData = new ArrayList<>();
+                // Construct the list of Stylesheets whose Selectors could possibly apply
+                final List<Stylesheet> stylesheets = new ArrayList<>();
 
                 // User agent stylesheets have lowest precedence and go first
                 if (hasSubSceneUserAgentStylesheet || hasSceneUserAgentStylesheet) {
@@ -1755,23 +1827,19 @@ final public class StyleManager {
                         userAgentStylesheetContainers.add(container);
                     }
 
-                    if (container.selectorPartitioning != null) {
+                    if (container.stylesheet != null) {
 
                         final Parent root = hasSubSceneUserAgentStylesheet ? subScene.getRoot() : scene.getRoot();
                         container.parentUsers.add(root);
 
-                        final List<Selector> matchingRules =
-                                container.selectorPartitioning.match(id, cname, key.styleClasses);
-                        selectorData.addAll(matchingRules);
+                        stylesheets.add(container.stylesheet);
                     }
 
                 } else if (platformUserAgentStylesheetContainers.isEmpty() == false) {
                     for(int n=0, nMax= platformUserAgentStylesheetContainers.size(); n<nMax; n++) {
                         final StylesheetContainer container = platformUserAgentStylesheetContainers.get(n);
-                        if (container != null && container.selectorPartitioning != null) {
-                            final List<Selector> matchingRules =
-                                    container.selectorPartitioning.match(id, cname, key.styleClasses);
-                            selectorData.addAll(matchingRules);
+                        if (container != null && container.stylesheet != null) {
+                            stylesheets.add(container.stylesheet);
                         }
                     }
                 }
@@ -1796,14 +1864,12 @@ final public class StyleManager {
                         userAgentStylesheetContainers.add(container);
                     }
 
-                    if (container.selectorPartitioning != null) {
+                    if (container.stylesheet != null) {
 
                         // Depending on RefList add method not allowing duplicates.
                         container.parentUsers.add((Parent)region);
 
-                        final List<Selector> matchingRules =
-                                container.selectorPartitioning.match(id, cname, key.styleClasses);
-                        selectorData.addAll(matchingRules);
+                        stylesheets.add(container.stylesheet);
                     }
 
                 }
@@ -1813,10 +1879,8 @@ final public class StyleManager {
                 if (sceneStylesheets.isEmpty() == false) {
                     for(int n=0, nMax=sceneStylesheets.size(); n<nMax; n++) {
                         final StylesheetContainer container = sceneStylesheets.get(n);
-                        if (container != null && container.selectorPartitioning != null) {
-                            final List<Selector> matchingRules =
-                                    container.selectorPartitioning.match(id, cname, key.styleClasses);
-                            selectorData.addAll(matchingRules);
+                        if (container != null && container.stylesheet != null) {
+                            stylesheets.add(container.stylesheet);
                         }
                     }
                 }
@@ -1826,28 +1890,98 @@ final public class StyleManager {
                     final int nMax = parentStylesheets == null ? 0 : parentStylesheets.size();
                     for(int n=0; n<nMax; n++) {
                         final StylesheetContainer container = parentStylesheets.get(n);
-                        if (container.selectorPartitioning != null) {
-                            final List<Selector> matchingRules =
-                                    container.selectorPartitioning.match(id, cname, key.styleClasses);
-                            selectorData.addAll(matchingRules);
+                        if (container.stylesheet != null) {
+                            stylesheets.add(container.stylesheet);
                         }
                     }
                 }
 
-                // create a new Cache from these selectors.
-                cache = new Cache(selectorData);
-                cacheMap.put(key, cache);
+                selectorIndex = getSelectorIndex(stylesheets);
+                matchKey = key;
+                matchCacheMap = cacheMap;
+                matchHasInlineStyles = hasInlineStyles;
+                cacheGeneration = cacheContainer.generation;
 
                 // cause a new Key to be created the next time this method is called
                 key = null;
             }
+        }
+
+        // The index is immutable, so the selectors are matched outside of
+        // styleLock. Nodes prepared on other threads are then matched in
+        // parallel, and do not block the lookups of the FX thread meanwhile.
+        final List<Selector> selectorData =
+                selectorIndex.match(matchKey.id, matchKey.className, matchKey.styleClasses);
+
+        synchronized (styleLock) {
+            Cache cache;
+            if (cacheGeneration == cacheContainer.generation) {
+                // another thread may have matched the same key in the meantime
+                cache = matchCacheMap.get(matchKey);
+                if (cache == null) {
+                    // create a new Cache from these selectors.
+                    cache = new Cache(selectorData);
+                    matchCacheMap.put(matchKey, cache);
+                }
+            } else {
+                // The cache was cleared while matching, so the styles of the
+                // node are found again with the new stylesheets. Don't cache
+                // the styles found with the old ones.
+                cache = new Cache(selectorData);
+            }
 
             //
             // Create a style helper for this node from the styles that match.
             //
-            StyleMap smap = cache.getStyleMap(cacheContainer, node, triggerStates, hasInlineStyles);
+            return cache.getStyleMap(cacheContainer, node, triggerStates, matchHasInlineStyles);
+        }
+    }
+
+    /**
+     * Finds and caches the styles of the nodes of a subtree which is not part
+     * of a scene yet, as though the subtree were added to the given scene.
+     * The nodes are matched against the user agent stylesheets, the
+     * stylesheets of the scene and those of the Parents of the subtree, but
+     * not against the stylesheets of the Parent to which the subtree will be
+     * added. The cascade of the matching styles is computed as well, so that
+     * applying CSS to the subtree once it is added to the scene only has to
+     * calculate the values of the properties.
+     * <p>
+     * This method may be called on any thread and blocks until the nodes have
+     * been matched. The nodes are matched in parallel against the immutable
+     * selector index of their stylesheets, outside of the lock which guards
+     * the caches, so the lookups of the FX thread only wait for the cache
+     * updates. The subtree must not be modified until this method returns.
+     */
+    public void prepareStyles(Node subtree, Scene scene) {
+
+        if (subtree == null || scene == null || scene.getRoot() == null) {
+            return;
+        }
+
+        final List<Node> nodes = new ArrayList<>();
+        collectNodes(subtree, nodes);
 
-            return smap;
+        nodes.parallelStream().forEach(node -> {
+
+            int depth = 0;
+            for (Styleable parent = node; parent != null; parent = parent.getStyleableParent()) {
+                depth++;
+            }
+            final Set<PseudoClass>[] triggerStates = new PseudoClassState[depth];
+
+            final StyleMap styleMap = findMatchingStyles(node, scene, null, triggerStates);
+            // Outside of styleLock, so that the cascades are computed in parallel
+            styleMap.getCascadingStyles();
+        });
+    }
+
+    private static void collectNodes(Node node, List<Node> nodes) {
+        nodes.add(node);
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                collectNodes(child, nodes);
+            }
         }
     }
 
@@ -1969,10 +2103,13 @@ final public class StyleManager {
 
         public StyleMap getStyleMap(int smapId) {
 
-            final int correctedId = smapId - baseStyleMapId;
+            // style maps may be added while styles are prepared on another thread
+            synchronized (styleLock) {
+                final int correctedId = smapId - baseStyleMapId;
 
-            if (0 <= correctedId && correctedId < getStyleMapList().size()) {
-                return getStyleMapList().get(correctedId);
+                if (0 <= correctedId && correctedId < getStyleMapList().size()) {
+                    return getStyleMapList().get(correctedId);
+                }
             }
 
             return StyleMap.EMPTY_MAP;
@@ -1980,6 +2117,7 @@ final public class StyleManager {
 
         private void clearCache() {
 
+            ++generation;
             if (cacheMap != null) cacheMap.clear();
             if (styleCache != null) styleCache.clear();
             if (styleMapList != null) styleMapList.clear();
@@ -2069,6 +2207,10 @@ final public class StyleManager {
         // cache and is no longer valid.
         private int baseStyleMapId = 0;
 
+        // Incremented when the cache is cleared, so that styles matched
+        // outside of styleLock are not cached if they may be stale
+        private int generation;
+
     }
 
     /**
@@ -2120,7 +2262,7 @@ final public class StyleManager {
 
         // this must be initialized to the appropriate possible selectors when
         // the helper cache is created by the StylesheetContainer. Note that
-        // SelectorPartioning sorts the matched selectors by ordinal, so this
+        // SelectorIndex sorts the matched selectors by their position, so this
         // list of selectors will be in the same order in which the selectors
         // appear in the stylesheets.
         private final List<Selector> selectors;
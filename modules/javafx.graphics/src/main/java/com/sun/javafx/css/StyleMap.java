@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,11 +29,16 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 import javafx.css.Declaration;
 import javafx.css.Match;
+import javafx.css.ParsedValue;
+import javafx.css.PseudoClass;
 import javafx.css.Rule;
 import javafx.css.Selector;
 
@@ -56,13 +61,14 @@ public final class StyleMap {
         return id;
     }
 
-    public boolean isEmpty() {
+    public synchronized boolean isEmpty() {
         if (selectors != null) return selectors.isEmpty();
         else if (cascadingStyles != null) return cascadingStyles.isEmpty();
         else return true;
     }
 
-    public Map<String, List<CascadingStyle>> getCascadingStyles() {
+    // synchronized since the cascade may be computed while styles are prepared
+    public synchronized Map<String, List<CascadingStyle>> getCascadingStyles() {
 
         if (cascadingStyles == null) {
 
@@ -153,6 +159,93 @@ public final class StyleMap {
         return cascadingStyles;
     }
 
+    /**
+     * Returns a map from each pseudo-class that appears in the selectors of
+     * this map to the names of the properties whose styles reference it. A
+     * change to a pseudo-class can only change the styles that apply to the
+     * properties it maps to.
+     */
+    public synchronized Map<PseudoClass, Set<String>> getPseudoClassDependencies() {
+
+        if (pseudoClassDependencies == null) {
+
+            final Map<PseudoClass, Set<String>> dependencies = new HashMap<>();
+
+            for (Map.Entry<String, List<CascadingStyle>> entry : getCascadingStyles().entrySet()) {
+                final String property = entry.getKey();
+                for (CascadingStyle style : entry.getValue()) {
+                    final Set<PseudoClass> pseudoClasses = style.getPseudoClasses();
+                    if (pseudoClasses == null) continue;
+                    for (PseudoClass pseudoClass : pseudoClasses) {
+                        dependencies.computeIfAbsent(pseudoClass, k -> new HashSet<>()).add(property);
+                    }
+                }
+            }
+
+            pseudoClassDependencies = dependencies;
+        }
+
+        return pseudoClassDependencies;
+    }
+
+    /**
+     * Returns the names of the properties that the styles in this map may
+     * resolve against the styles of an ancestor, that is, the properties
+     * whose value is {@code inherit} and the names that are looked up.
+     */
+    public synchronized Set<String> getReferencedProperties() {
+
+        if (referencedProperties == null) {
+
+            final Set<String> referenced = new HashSet<>();
+
+            for (Map.Entry<String, List<CascadingStyle>> entry : getCascadingStyles().entrySet()) {
+                for (CascadingStyle style : entry.getValue()) {
+                    final ParsedValue parsedValue = style.getParsedValue();
+                    if (parsedValue == null) continue;
+                    if ("inherit".equals(parsedValue.getValue())) {
+                        referenced.add(entry.getKey());
+                    } else {
+                        collectLookups(parsedValue, referenced);
+                    }
+                }
+            }
+
+            referencedProperties = referenced.isEmpty() ? Collections.emptySet() : referenced;
+        }
+
+        return referencedProperties;
+    }
+
+    private static void collectLookups(final ParsedValue parsedValue, final Set<String> lookups) {
+
+        if (parsedValue.isLookup()) {
+            final Object value = parsedValue.getValue();
+            if (value instanceof String) {
+                lookups.add(((String) value).toLowerCase(Locale.ROOT));
+            }
+            return;
+        }
+
+        if (parsedValue.isContainsLookups() == false) return;
+
+        final Object value = parsedValue.getValue();
+        if (value instanceof ParsedValue) {
+            collectLookups((ParsedValue) value, lookups);
+        } else if (value instanceof ParsedValue[][]) {
+            for (ParsedValue[] values : (ParsedValue[][]) value) {
+                if (values == null) continue;
+                for (ParsedValue pv : values) {
+                    if (pv != null) collectLookups(pv, lookups);
+                }
+            }
+        } else if (value instanceof ParsedValue[]) {
+            for (ParsedValue pv : (ParsedValue[]) value) {
+                if (pv != null) collectLookups(pv, lookups);
+            }
+        }
+    }
+
     private static final Comparator<CascadingStyle> cascadingStyleComparator =
             (o1, o2) -> {
 
@@ -177,4 +270,6 @@ public final class StyleMap {
     private final int id; // unique per container
     private List<Selector> selectors;
     private Map<String, List<CascadingStyle>> cascadingStyles;
+    private Map<PseudoClass, Set<String>> pseudoClassDependencies;
+    private Set<String> referencedProperties;
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,10 +29,24 @@ import javafx.css.Stylesheet;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /** Css2Bin <input file> [<output file name>]
  * java com.sun.javafx.css.parser.Css2Bin input.css output.bss
  *  If no output file is given, then the input file name is used with an extension of 'bss'x
+ *
+ * Css2Bin <input directory> [<output directory>]
+ * java com.sun.javafx.css.parser.Css2Bin src/main/resources build/resources/main
+ *  Every .css file in the input directory and its subdirectories is converted to a .bss
+ *  file at the same relative path in the output directory, which is the input directory
+ *  if no output directory is given. A .bss file which is newer than its .css file is
+ *  not converted again, so that the conversion can be part of an incremental build.
+ *  StyleManager loads the .bss file in place of a .css stylesheet with the same name.
  */
 public final class Css2Bin {
     public static void main(String args[]) throws Exception {
@@ -41,6 +55,12 @@ public final class Css2Bin {
 
         try {
             String ifname = args[0];
+
+            if (new File(ifname).isDirectory()) {
+                convertDirectory(ifname, (args.length > 1) ? args[1] : ifname);
+                return;
+            }
+
             String ofname = (args.length > 1) ?
                 args[1] : ifname.substring(0, ifname.lastIndexOf('.')+1).concat("bss");
 
@@ -69,4 +89,44 @@ public final class Css2Bin {
 
     }
 
+    /**
+     * Converts the .css files of a directory tree to .bss files, skipping
+     * those which are up to date, and returns the number of converted files.
+     */
+    public static int convertDirectory(String idname, String odname) throws IOException {
+
+        if (idname == null || odname == null) {
+            throw new IllegalArgumentException("parameters cannot be null");
+        }
+
+        final Path input = Paths.get(idname);
+        final Path output = Paths.get(odname);
+
+        final List<Path> sources;
+        try (Stream<Path> files = Files.walk(input)) {
+            sources = files
+                    .filter(p -> Files.isRegularFile(p) && p.getFileName().toString().endsWith(".css"))
+                    .collect(Collectors.toList());
+        }
+
+        int converted = 0;
+        for (Path source : sources) {
+            final String name = input.relativize(source).toString();
+            final Path destination = output.resolve(name.substring(0, name.length() - 3).concat("bss"));
+
+            if (Files.exists(destination) &&
+                    Files.getLastModifiedTime(destination).compareTo(Files.getLastModifiedTime(source)) >= 0) {
+                continue;
+            }
+
+            final Path parent = destination.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Stylesheet.convertToBinary(source.toFile(), destination.toFile());
+            converted++;
+        }
+        return converted;
+    }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,7 +25,7 @@
 
 package com.sun.javafx.font;
 
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CompositeGlyphMapper extends CharToGlyphMapper {
 
@@ -42,7 +42,7 @@ public class CompositeGlyphMapper extends CharToGlyphMapper {
             SIMPLE_ASCII_MASK_END - SIMPLE_ASCII_MASK_START + 1;
 
     private boolean asciiCacheOK;
-    private char charToGlyph[]; // Quick lookup
+    private volatile char charToGlyph[]; // Quick lookup
 
     CompositeFontResource font;
     CharToGlyphMapper slotMappers[];
@@ -53,12 +53,12 @@ public class CompositeGlyphMapper extends CharToGlyphMapper {
      * lookup is relatively inexpensive. Or let the slot fonts do
      * the caching ? So a variety of strategies are possible.
      */
-    HashMap<Integer, Integer> glyphMap;
+    ConcurrentHashMap<Integer, Integer> glyphMap;
 
     public CompositeGlyphMapper(CompositeFontResource compFont) {
         font = compFont;
         missingGlyph = 0; // TrueType font standard, avoids lookup.
-        glyphMap = new HashMap<Integer, Integer>();
+        glyphMap = new ConcurrentHashMap<Integer, Integer>();
         slotMappers = new CharToGlyphMapper[compFont.getNumSlots()];
         asciiCacheOK = true;
     }
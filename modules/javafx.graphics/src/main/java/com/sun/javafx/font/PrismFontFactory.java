@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2018, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -91,7 +91,8 @@ public abstract class PrismFontFactory implements FontFactory {
         isIOS     = PlatformUtil.isIOS();
         isAndroid = PlatformUtil.isAndroid();
         isEmbedded = PlatformUtil.isEmbedded();
-        int[] tempCacheLayoutSize = {0x10000};
+        // size in bytes of the text layout cache
+        int[] tempCacheLayoutSize = {0x400000};
 
         debugFonts = AccessController.doPrivileged(
                 (PrivilegedAction<Boolean>) () -> {
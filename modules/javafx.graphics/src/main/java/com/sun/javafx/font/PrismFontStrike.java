@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,8 +25,8 @@
 
 package com.sun.javafx.font;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.sun.javafx.geom.Path2D;
 import com.sun.javafx.geom.Point2D;
@@ -38,7 +38,7 @@ import com.sun.javafx.scene.text.GlyphList;
 public abstract class PrismFontStrike<T extends PrismFontFile> implements FontStrike {
     private DisposerRecord disposer;
     private T fontResource;
-    private Map<Integer,Glyph> glyphMap = new HashMap<Integer,Glyph>();
+    private Map<Integer,Glyph> glyphMap = new ConcurrentHashMap<Integer,Glyph>();
     private PrismMetrics metrics;
     protected boolean drawShapes = false;
     private float size;
@@ -169,7 +169,9 @@ public abstract class PrismFontStrike<T extends PrismFontFile> implements FontSt
         Glyph glyph = glyphMap.get(glyphCode);
         if (glyph == null) {
             glyph = createGlyph(glyphCode);
-            glyphMap.put(glyphCode, glyph);
+            if (glyph != null) {
+                glyphMap.put(glyphCode, glyph);
+            }
         }
         return glyph;
     }
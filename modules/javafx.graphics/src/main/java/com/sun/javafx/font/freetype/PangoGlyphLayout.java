@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -82,6 +82,15 @@ class PangoGlyphLayout extends GlyphLayout {
 
     private long str = 0L;
     public void layout(TextRun run, PGFont font, FontStrike strike, char[] text) {
+        /* The font map is shared by all the instances and is not thread
+         * safe, text may be laid out on other threads than the FX thread.
+         */
+        synchronized (PangoGlyphLayout.class) {
+            layoutImpl(run, font, strike, text);
+        }
+    }
+
+    private void layoutImpl(TextRun run, PGFont font, FontStrike strike, char[] text) {
 
         /* Create the pango font and attribute list */
         FontResource fr = font.getFontResource();
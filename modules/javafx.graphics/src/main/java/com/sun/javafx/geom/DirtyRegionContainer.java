@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -40,8 +40,26 @@ public final class DirtyRegionContainer {
 
     private RectBounds[] dirtyRegions;
     private int emptyIndex;
+    private final float mergeCost;
 
     public DirtyRegionContainer(int count) {
+        this(count, 0);
+    }
+
+    /**
+     * Creates a container for at most {@code count} dirty regions.
+     * The {@code mergeCost} is the cost of painting one more dirty region,
+     * expressed as an area. A new region is merged into an existing one
+     * whenever painting their union is cheaper than painting both, that is
+     * when the union covers no more than {@code mergeCost} beyond the two
+     * regions. With a cost of zero, regions are only merged when they
+     * intersect or when the container is full.
+     *
+     * @param count the maximum number of dirty regions
+     * @param mergeCost the cost of an additional region
+     */
+    public DirtyRegionContainer(int count, float mergeCost) {
+        this.mergeCost = mergeCost;
         initDirtyRegions(count);
     }
 
@@ -115,7 +133,7 @@ public final class DirtyRegionContainer {
     }
 
     public DirtyRegionContainer copy() {
-        DirtyRegionContainer drc = new DirtyRegionContainer(maxSpace());
+        DirtyRegionContainer drc = new DirtyRegionContainer(maxSpace(), mergeCost);
         regioncopy(dirtyRegions, 0, drc.dirtyRegions, 0, emptyIndex);
         drc.emptyIndex = emptyIndex;
         return drc;
@@ -125,6 +143,10 @@ public final class DirtyRegionContainer {
         return dirtyRegions.length;
     }
 
+    public float getMergeCost() {
+        return mergeCost;
+    }
+
     /**
      * Gets the dirty region at given index.
      * @param index the index of requested dirty region
@@ -163,6 +185,9 @@ public final class DirtyRegionContainer {
                     tempIndex++;
                 }
             }//for
+            if (mergeCost > 0 && mergeCheapest(region)) {
+                return;
+            }
             if (hasSpace()) {
                 dr = dirtyRegions[emptyIndex];
                 dr.deriveWithNewBounds(region);
@@ -176,6 +201,45 @@ public final class DirtyRegionContainer {
                 compress(region);
     }
 
+    /**
+     * Merges the given region with the existing region for which painting
+     * their union costs the least compared to painting both, provided that
+     * it does not cost more than an additional region.
+     * @return true if the region was merged
+     */
+    private boolean mergeCheapest(final RectBounds region) {
+        final float area = region.getWidth() * region.getHeight();
+        int cheapest = -1;
+        float minCost = mergeCost;
+        for (int i = 0; i < emptyIndex; i++) {
+            final RectBounds dr = dirtyRegions[i];
+            final float cost = unifiedArea(dr, region) - area - dr.getWidth() * dr.getHeight();
+            if (cost <= minCost) {
+                cheapest = i;
+                minCost = cost;
+            }
+        }
+        if (cheapest < 0) {
+            return false;
+        }
+        region.unionWith(dirtyRegions[cheapest]);
+        RectBounds tmp = dirtyRegions[cheapest];
+        dirtyRegions[cheapest] = dirtyRegions[emptyIndex - 1];
+        dirtyRegions[emptyIndex - 1] = tmp;
+        emptyIndex--;
+        // the union may now intersect other regions, or be cheap to merge with them
+        addDirtyRegion(region);
+        return true;
+    }
+
+    private static float unifiedArea(RectBounds r0, RectBounds r1) {
+        final float minX = Math.min(r0.getMinX(), r1.getMinX());
+        final float minY = Math.min(r0.getMinY(), r1.getMinY());
+        final float maxX = Math.max(r0.getMaxX(), r1.getMaxX());
+        final float maxY = Math.max(r0.getMaxY(), r1.getMaxY());
+        return (maxX - minX) * (maxY - minY);
+    }
+
     public void merge(DirtyRegionContainer other) {
         int otherSize = other.size();
         for(int i = 0; i < otherSize; i++) {
@@ -183,6 +247,18 @@ public final class DirtyRegionContainer {
         }
     }
 
+    /**
+     * Gets the sum of the areas of the dirty regions.
+     * @return the area covered by the dirty regions
+     */
+    public float getArea() {
+        float area = 0;
+        for (int i = 0; i < emptyIndex; i++) {
+            area += dirtyRegions[i].getWidth() * dirtyRegions[i].getHeight();
+        }
+        return area;
+    }
+
     public int size() {
         return emptyIndex;
     }
@@ -274,8 +350,8 @@ public final class DirtyRegionContainer {
             if (idx0 != idx1) {
                 dirtyRegions[idx0].deriveWithUnion(dirtyRegions[idx1]);
                 map[idx1] = idx0;
-                invalidMask |= 1 << idx0;
-                invalidMask |= 1 << idx1;
+                invalidMask |= 1L << idx0;
+                invalidMask |= 1L << idx1;
             }
         }
 
@@ -326,7 +402,7 @@ public final class DirtyRegionContainer {
         // Check if the minimum element wasn't computed with some already merged region
         // If so, we can recompute it and push it down (as the new merged region can be
         // only greater than the original region)
-        while (((1 << temp[1] | 1 << temp[2]) & invalidMask) > 0) {
+        while (((1L << temp[1] | 1L << temp[2]) & invalidMask) != 0) {
             temp[0] = unifiedRegionArea(resolveMap(map, temp[1]), resolveMap(map, temp[2]));
             siftDown(0);
             if (heap[0] == temp) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -44,18 +44,24 @@ public final class DirtyRegionPool {
     private static final int EXPIRATION_TIME = 3000;
     private static final int COUNT_BETWEEN_EXPIRATION_CHECK = 30 * EXPIRATION_TIME / 1000;
     private final int containerSize;
+    private final float mergeCost;
     private int clearCounter = COUNT_BETWEEN_EXPIRATION_CHECK;
     private final Deque<DirtyRegionContainer> fixed;
     private final Deque<PoolItem> unlocked;
     private final Deque<PoolItem> locked;
 
     public DirtyRegionPool(int containerSize) {
+        this(containerSize, 0);
+    }
+
+    public DirtyRegionPool(int containerSize, float mergeCost) {
         this.containerSize = containerSize;
+        this.mergeCost = mergeCost;
         fixed = new LinkedList<DirtyRegionContainer>();
         unlocked = new LinkedList<PoolItem>();
         locked = new LinkedList<PoolItem>();
         for (int i = 0; i < POOL_SIZE_MIN; ++i) {
-            fixed.add(new DirtyRegionContainer(containerSize));
+            fixed.add(new DirtyRegionContainer(containerSize, mergeCost));
         }
     }
 
@@ -69,7 +75,7 @@ public final class DirtyRegionPool {
             locked.push(item);
             return item.container;
         }
-        DirtyRegionContainer c = new DirtyRegionContainer(containerSize);
+        DirtyRegionContainer c = new DirtyRegionContainer(containerSize, mergeCost);
         locked.push(new PoolItem(null, -1));
         return c;
     }
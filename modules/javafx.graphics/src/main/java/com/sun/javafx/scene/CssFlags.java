@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -42,6 +42,13 @@ public enum CssFlags {
      * or grandchildren, etc is UPDATE or REAPPLY so we need to step into this branch.
      */
     DIRTY_BRANCH,
+    /**
+     * Indicates that a pseudo-class state of this node has changed and that
+     * none of the styles which depend on it can be seen by the child nodes.
+     * Only the properties of this node are updated; child nodes are stepped
+     * into like a DIRTY_BRANCH.
+     */
+    TRANSITION,
     /**
      * Indicates that we must update properties for this node and all child
      * nodes. This is typically in response to a pseudoclass state change and
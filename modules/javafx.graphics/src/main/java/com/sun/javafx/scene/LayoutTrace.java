@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.scene;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+
+import com.sun.javafx.logging.PulseLogger;
+
+/**
+ * Counts, for each node class, the sizes computed and reused and the layout
+ * passes performed during a pulse, and reports them as pulse logger
+ * counters such as "Layout prefHeight computed: javafx.scene.control.Label".
+ *
+ * The trace is enabled by setting both the {@code javafx.pulseLogger} and
+ * the {@code javafx.layoutTrace} system properties to true.
+ */
+public final class LayoutTrace {
+
+    public static final boolean ENABLED = PulseLogger.PULSE_LOGGING_ENABLED &&
+            AccessController.doPrivileged((PrivilegedAction<Boolean>) () -> Boolean.getBoolean("javafx.layoutTrace"));
+
+    public static final int PREF_WIDTH = 0;
+    public static final int PREF_HEIGHT = 1;
+    public static final int MIN_WIDTH = 2;
+    public static final int MIN_HEIGHT = 3;
+    public static final int LAYOUT = 4;
+
+    private static final String[] NAMES = {
+        "prefWidth", "prefHeight", "minWidth", "minHeight", "layoutChildren"
+    };
+
+    // The counter names of a class: the computed sizes and layout passes,
+    // followed by the reused sizes.
+    private static final ClassValue<String[]> counters = new ClassValue<String[]>() {
+        @Override protected String[] computeValue(Class<?> type) {
+            final String[] names = new String[NAMES.length + LAYOUT];
+            for (int i = 0; i < NAMES.length; i++) {
+                names[i] = "Layout " + NAMES[i] + (i == LAYOUT ? ": " : " computed: ") + type.getName();
+            }
+            for (int i = 0; i < LAYOUT; i++) {
+                names[NAMES.length + i] = "Layout " + NAMES[i] + " reused: " + type.getName();
+            }
+            return names;
+        }
+    };
+
+    private LayoutTrace() {
+    }
+
+    /**
+     * Records that a size was computed, or that children were laid out.
+     */
+    public static void computed(Object node, int kind) {
+        PulseLogger.incrementCounter(counters.get(node.getClass())[kind]);
+    }
+
+    /**
+     * Records that a size was answered from the cache.
+     */
+    public static void reused(Object node, int kind) {
+        PulseLogger.incrementCounter(counters.get(node.getClass())[NAMES.length + kind]);
+    }
+}
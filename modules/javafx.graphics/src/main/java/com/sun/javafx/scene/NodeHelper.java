@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -35,6 +35,7 @@ import com.sun.javafx.sg.prism.NGNode;
 import com.sun.javafx.util.Utils;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javafx.beans.binding.BooleanExpression;
 import javafx.beans.property.BooleanProperty;
 import javafx.css.CssMetaData;
@@ -46,6 +47,7 @@ import javafx.scene.Node;
 import javafx.scene.SubScene;
 import javafx.scene.shape.Shape;
 import javafx.scene.shape.Shape3D;
+import javafx.scene.text.Font;
 
 /**
  * Used to access internal methods of Node.
@@ -145,6 +147,10 @@ public abstract class NodeHelper {
         getHelper(node).processCSSImpl(node);
     }
 
+    public static void collectMeasuredText(Node node, BiConsumer<String, Font> collector) {
+        getHelper(node).collectMeasuredTextImpl(node, collector);
+    }
+
     /*
      * Methods that will be overridden by subclasses
      */
@@ -192,6 +198,13 @@ public abstract class NodeHelper {
         nodeAccessor.doProcessCSS(node);
     }
 
+    /*
+     * Reports the strings, and their fonts, which are measured when the
+     * preferred size of the node is computed. Most nodes measure no text.
+     */
+    protected void collectMeasuredTextImpl(Node node, BiConsumer<String, Font> collector) {
+    }
+
     /*
      * Methods used by Node (base) class only
      */
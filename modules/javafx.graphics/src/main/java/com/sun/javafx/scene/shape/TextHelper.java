@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,10 +29,13 @@ import com.sun.javafx.geom.BaseBounds;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.sg.prism.NGNode;
 import com.sun.javafx.util.Utils;
+import java.util.function.BiConsumer;
 import javafx.geometry.Bounds;
 import javafx.scene.Node;
 import javafx.scene.shape.Shape;
+import javafx.scene.text.Font;
 import javafx.scene.text.Text;
+import javafx.scene.text.TextFlow;
 
 /**
  * Used to access internal methods of Text.
@@ -75,6 +78,15 @@ public class TextHelper extends ShapeHelper {
         textAccessor.doUpdatePeer(node);
     }
 
+    @Override
+    protected void collectMeasuredTextImpl(Node node, BiConsumer<String, Font> collector) {
+        // The spans of a text flow are laid out by the flow as a whole
+        if (!(node.getParent() instanceof TextFlow)) {
+            final Text text = (Text) node;
+            collector.accept(text.getText(), text.getFont());
+        }
+    }
+
     BaseBounds superComputeGeomBoundsImpl(Node node, BaseBounds bounds,
             BaseTransform tx) {
         return super.computeGeomBoundsImpl(node, bounds, tx);
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.sg.prism;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import com.sun.javafx.logging.PulseLogger;
+import com.sun.prism.impl.PrismSettings;
+
+/**
+ * Keeps track of the effect results retained by {@code EffectFilter}s.
+ *
+ * The results are kept in a least recently used cache bounded by the number
+ * of bytes of their textures. When a new result does not fit, the results
+ * of the filters which were least recently rendered are released first.
+ * The cache is used while the scene graph is synchronized or rendered,
+ * which never happens concurrently, so it is not synchronized.
+ */
+final class EffectCache {
+
+    private static EffectCache instance;
+
+    static EffectCache getInstance() {
+        if (instance == null) {
+            instance = new EffectCache(PrismSettings.effectCacheVram);
+        }
+        return instance;
+    }
+
+    private final long maxSize;
+    private final LinkedHashMap<EffectFilter, Long> entries =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    long hits;
+    long misses;
+    long evictions;
+
+    EffectCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    /**
+     * Records that the cached result of the given filter was rendered.
+     */
+    void hit(EffectFilter filter) {
+        entries.get(filter);
+        hits++;
+        if (PulseLogger.PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("Effect cache hit");
+        }
+    }
+
+    /**
+     * Adds the result of the given filter, releasing the least recently
+     * rendered results as needed to stay within the budget. Returns false
+     * if the result is larger than the whole budget and was not added.
+     */
+    boolean put(EffectFilter filter, long bytes) {
+        remove(filter);
+        misses++;
+        if (PulseLogger.PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("Effect cache miss");
+        }
+        if (bytes > maxSize) {
+            return false;
+        }
+        Iterator<Map.Entry<EffectFilter, Long>> it = entries.entrySet().iterator();
+        while (size + bytes > maxSize && it.hasNext()) {
+            Map.Entry<EffectFilter, Long> eldest = it.next();
+            it.remove();
+            size -= eldest.getValue();
+            eldest.getKey().evict();
+            evictions++;
+            if (PulseLogger.PULSE_LOGGING_ENABLED) {
+                PulseLogger.incrementCounter("Effect cache eviction");
+            }
+        }
+        entries.put(filter, bytes);
+        size += bytes;
+        return true;
+    }
+
+    /**
+     * Forgets the result of the given filter, which releases it itself.
+     */
+    void remove(EffectFilter filter) {
+        Long bytes = entries.remove(filter);
+        if (bytes != null) {
+            size -= bytes;
+        }
+    }
+}
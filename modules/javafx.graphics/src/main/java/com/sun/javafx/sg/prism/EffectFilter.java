@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,15 +28,48 @@ package com.sun.javafx.sg.prism;
 import com.sun.javafx.geom.BaseBounds;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.prism.Graphics;
+import com.sun.prism.PrinterGraphics;
+import com.sun.prism.RenderTarget;
 import com.sun.scenario.effect.Effect;
+import com.sun.scenario.effect.FilterContext;
+import com.sun.scenario.effect.Filterable;
+import com.sun.scenario.effect.ImageData;
 import com.sun.scenario.effect.impl.prism.PrEffectHelper;
 
 /**
+ * Renders the effect of a node.
+ *
+ * When the effect cache is enabled, the filtered result of a node which
+ * is rendered in two consecutive frames with the same device transform,
+ * and which did not change in between, is retained in the
+ * {@link EffectCache} and rendered again in the next frames instead of
+ * filtering the effect chain anew. The result is released when the node
+ * invalidates its cache, in the same cases as a {@link CacheFilter}, or
+ * when the transform changes.
  */
 public class EffectFilter {
+    private static int frame;
+
+    /**
+     * Called by the painter before each frame is rendered.
+     */
+    public static void nextFrame() {
+        frame++;
+    }
+
     private Effect effect;
     private NodeEffectInput nodeInput;
 
+    // true once the node was rendered, until it is invalidated
+    private boolean unchanged;
+    private int renderedFrame;
+    // true if the result did not fit in the cache, until the node is invalidated
+    private boolean uncacheable;
+    private ImageData cachedResult;
+    private BaseTransform cachedTransform;
+    private FilterContext cachedContext;
+    private int cachedWidth, cachedHeight;
+
     EffectFilter(Effect effect, NGNode node) {
         this.effect = effect;
         this.nodeInput = new NodeEffectInput(node);
@@ -46,19 +79,117 @@ public class EffectFilter {
     NodeEffectInput getNodeInput() { return nodeInput; }
 
     void dispose() {
+        invalidate();
         effect = null;
         nodeInput.setNode(null);
         nodeInput = null;
     }
 
+    /**
+     * Releases the cached result, if any, as the node or its effect changed.
+     */
+    void invalidate() {
+        unchanged = false;
+        uncacheable = false;
+        if (cachedResult != null) {
+            EffectCache.getInstance().remove(this);
+            evict();
+        }
+    }
+
+    /**
+     * Releases the cached result. Called by the {@link EffectCache} to
+     * make room for other results.
+     */
+    void evict() {
+        cachedResult.unref();
+        cachedResult = null;
+        cachedTransform = null;
+        cachedContext = null;
+    }
+
+    boolean isCached() {
+        return cachedResult != null;
+    }
+
     BaseBounds getBounds(BaseBounds bounds, BaseTransform xform) {
         BaseBounds r = getEffect().getBounds(xform, nodeInput);
         return bounds.deriveWithNewBounds(r);
     }
 
     void render(Graphics g) {
+        EffectCache cache = EffectCache.getInstance();
+        if (cache.isEnabled() && renderCached(g, cache)) {
+            return;
+        }
         NodeEffectInput nodeInput = getNodeInput();
         PrEffectHelper.render(getEffect(), g, 0, 0, nodeInput);
         nodeInput.flush();
     }
+
+    private boolean renderCached(Graphics g, EffectCache cache) {
+        BaseTransform tx = g.getTransformNoClone();
+        if (!tx.is2D() || g instanceof PrinterGraphics) {
+            return false;
+        }
+        FilterContext fctx = PrEffectHelper.getFilterContext(g);
+        RenderTarget rt = g.getRenderTarget();
+        int w = rt.getContentWidth();
+        int h = rt.getContentHeight();
+        boolean sameTarget = fctx == cachedContext && w == cachedWidth && h == cachedHeight &&
+                tx.equals(cachedTransform);
+        if (cachedResult != null) {
+            if (sameTarget && PrEffectHelper.render(cachedResult, g)) {
+                cache.hit(this);
+                return true;
+            }
+            invalidate();
+        }
+        if (uncacheable) {
+            return false;
+        }
+        if (!unchanged || !sameTarget) {
+            // Wait until the node renders the same way in the next frame,
+            // so that animated nodes never filter the whole target
+            unchanged = true;
+            renderedFrame = frame;
+            cachedTransform = tx.copy();
+            cachedContext = fctx;
+            cachedWidth = w;
+            cachedHeight = h;
+            return false;
+        }
+        if (renderedFrame == frame) {
+            // rendered again for another dirty region of the same frame
+            return false;
+        }
+
+        NodeEffectInput nodeInput = getNodeInput();
+        ImageData res = PrEffectHelper.filter(getEffect(), g, nodeInput);
+        nodeInput.flush();
+        if (res == null) {
+            return true;
+        }
+        Filterable img = res.getUntransformedImage();
+        boolean retained = retain(cache, res, 4L * img.getPhysicalWidth() * img.getPhysicalHeight());
+        PrEffectHelper.render(res, g);
+        if (!retained) {
+            res.unref();
+        }
+        return true;
+    }
+
+    /**
+     * Retains the given result in the cache. Returns false if it does not
+     * fit, in which case the result is not cached again until the node is
+     * invalidated.
+     */
+    boolean retain(EffectCache cache, ImageData res, long bytes) {
+        if (!cache.put(this, bytes)) {
+            uncacheable = true;
+            return false;
+        }
+        cachedResult = res;
+        return true;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -35,6 +35,7 @@ import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.GeneralTransform3D;
 import com.sun.javafx.scene.NodeHelper;
 import com.sun.prism.Graphics;
+import com.sun.prism.impl.PrismSettings;
 import com.sun.scenario.effect.Blend;
 import com.sun.scenario.effect.Blend.Mode;
 import com.sun.scenario.effect.FilterContext;
@@ -70,9 +71,15 @@ public class NGGroup extends NGNode {
 
     /**
      * This mask has all bits that mark that a region intersects this group.
-     * Which means it looks like this: 00010101010101010101010101010101 (first bit for sign)
+     * Which means it looks like this: 0101...0101 (first bit for sign)
      */
-    private static final int REGION_INTERSECTS_MASK = 0x15555555;
+    private static final long REGION_INTERSECTS_MASK = 0x5555555555555555L;
+
+    /**
+     * The retained rendering commands of the children, created lazily when
+     * retained rendering is enabled.
+     */
+    private RenderList renderList;
 
     /***************************************************************************
      *                                                                         *
@@ -258,6 +265,11 @@ public class NGGroup extends NGNode {
         if (blendMode == Blend.Mode.SRC_OVER ||
                 orderedChildren.size() < 2) {  // Blend modes only work "between" siblings
 
+            if (PrismSettings.retainedRendering && g.getRenderRoot() == null &&
+                    getRenderList().render(orderedChildren, g)) {
+                return;
+            }
+
             for (int i = startPos; i < orderedChildren.size(); i++) {
                 NGNode child;
                 try {
@@ -314,6 +326,19 @@ public class NGGroup extends NGNode {
         }
     }
 
+    RenderList getRenderList() {
+        if (renderList == null) {
+            renderList = new RenderList();
+        }
+        return renderList;
+    }
+
+    void invalidateRenderList() {
+        if (renderList != null) {
+            renderList.invalidate();
+        }
+    }
+
     @Override
     protected boolean hasOverlappingContents() {
         if (blendMode != Mode.SRC_OVER) {
@@ -358,7 +383,7 @@ public class NGGroup extends NGNode {
         // If the NGGroup is completely outside the culling area, then we don't have to traverse down
         // to the children yo.
         if (cullingIndex != -1) {
-            final int bits = cullingBits >> (cullingIndex*2);
+            final long bits = cullingBits >> (cullingIndex*2);
             if ((bits & DIRTY_REGION_CONTAINS_OR_INTERSECTS_NODE_BOUNDS) == 0) {
                 return RenderRootResult.NO_RENDER_ROOT;
             }
@@ -445,7 +470,7 @@ public class NGGroup extends NGNode {
     @Override
     protected void markCullRegions(
             DirtyRegionContainer drc,
-            int cullingRegionsBitsOfParent,
+            long cullingRegionsBitsOfParent,
             BaseTransform tx,
             GeneralTransform3D pvTx) {
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -243,7 +243,7 @@ public abstract class NGNode {
     /**
      * Marks position of this node in dirty regions.
      */
-    protected int cullingBits = 0x0;
+    protected long cullingBits = 0x0;
     private DirtyHint hint;
 
     /**
@@ -267,7 +267,7 @@ public abstract class NGNode {
      * was rendered by dirty region 3, then it would have the 3rd bit from the
      * right set ( that is, 1 << 2)
      */
-    private int painted = 0;
+    private long painted = 0;
 
     protected NGNode() { }
 
@@ -939,12 +939,19 @@ public abstract class NGNode {
      * Invalidates the cache, if it is in use. There are several operations
      * which need to cause the cached raster to become invalid so that a
      * subsequent render operation will result in the cached image being
-     * reconstructed.
+     * reconstructed. The cached result of the effect and the retained
+     * rendering commands of a group, if any, are released as well.
      */
     protected final void invalidateCache() {
         if (cacheFilter != null) {
             cacheFilter.invalidate();
         }
+        if (effectFilter != null) {
+            effectFilter.invalidate();
+        }
+        if (this instanceof NGGroup) {
+            ((NGGroup) this).invalidateRenderList();
+        }
     }
 
     /**
@@ -955,6 +962,12 @@ public abstract class NGNode {
         if (cacheFilter != null) {
             cacheFilter.invalidateByTranslation(hint.translateXDelta, hint.translateYDelta);
         }
+        if (effectFilter != null) {
+            effectFilter.invalidate();
+        }
+        if (this instanceof NGGroup) {
+            ((NGGroup) this).invalidateRenderList();
+        }
     }
 
     /***************************************************************************
@@ -1360,7 +1373,7 @@ public abstract class NGNode {
      */
     void markCullRegions(
             DirtyRegionContainer drc,
-            int cullingRegionsBitsOfParent,
+            long cullingRegionsBitsOfParent,
             BaseTransform tx,
             GeneralTransform3D pvTx) {
 
@@ -1383,7 +1396,7 @@ public abstract class NGNode {
 
         cullingBits = 0;
         RectBounds region;
-        int mask = 0x1; // Check only for intersections
+        long mask = 0x1; // Check only for intersections
         for(int i = 0; i < drc.size(); i++) {
             region = drc.getDirtyRegion(i);
             if (region == null || region.isEmpty()) {
@@ -1401,7 +1414,7 @@ public abstract class NGNode {
                 if (region.contains(TEMP_RECT_BOUNDS)) {
                     b = DIRTY_REGION_CONTAINS_NODE_BOUNDS;
                 }
-                cullingBits = cullingBits | (b << (2 * i));
+                cullingBits = cullingBits | ((long) b << (2 * i));
             }
             mask = mask << 2;
         }//for
@@ -1413,7 +1426,7 @@ public abstract class NGNode {
         }
 
 //        System.out.printf("%s bits: %s bounds: %s\n",
-//            this, Integer.toBinaryString(cullingBits), TEMP_RECT_BOUNDS);
+//            this, Long.toBinaryString(cullingBits), TEMP_RECT_BOUNDS);
     }
 
     /**
@@ -1465,9 +1478,9 @@ public abstract class NGNode {
         }
 
         if (node.cullingBits != 0) {
-            int mask = 0x11;
-            for (int i=0; i<15; i++) {
-                int bits = node.cullingBits & mask;
+            long mask = 0x11;
+            for (int i=0; i<31; i++) {
+                long bits = node.cullingBits & mask;
                 if (bits != 0) {
                     stuff.add(bits == 1 ? "i" + i : bits == 0 ? "c" + i : "ci" + i);
                 }
@@ -1523,7 +1536,7 @@ public abstract class NGNode {
      */
     public void drawDirtyOpts(final BaseTransform tx, final GeneralTransform3D pvTx,
                               Rectangle clipBounds, int[] colorBuffer, int dirtyRegionIndex) {
-        if ((painted & (1 << (dirtyRegionIndex * 2))) != 0) {
+        if ((painted & (1L << (dirtyRegionIndex * 2))) != 0) {
             // Transforming the content bounds (which includes the clip) to screen coordinates
             tx.copy().deriveWithConcatenation(getTransform()).transform(contentBounds, TEMP_BOUNDS);
             if (pvTx != null) pvTx.transform(TEMP_BOUNDS, TEMP_BOUNDS);
@@ -1563,7 +1576,7 @@ public abstract class NGNode {
                     // as my counters).
                     if (color == 0) {
                         color = 0x8007F00;
-                    } else if ((painted & (3 << (dirtyRegionIndex * 2))) == 3) {
+                    } else if ((painted & (3L << (dirtyRegionIndex * 2))) == 3) {
                         switch (color) {
                             case 0x80007F00:
                                 color = 0x80008000;
@@ -1639,8 +1652,8 @@ public abstract class NGNode {
         if (path == null || dirtyRegion == null || tx == null || pvTx == null) {
             throw new NullPointerException();
         }
-        if (cullingIndex < -1 || cullingIndex > 15) {
-            throw new IllegalArgumentException("cullingIndex cannot be < -1 or > 15");
+        if (cullingIndex < -1 || cullingIndex > 31) {
+            throw new IllegalArgumentException("cullingIndex cannot be < -1 or > 31");
         }
 
         // This method must NEVER BE CALLED if the depth buffer is turned on. I don't have a good way to test
@@ -1727,7 +1740,7 @@ public abstract class NGNode {
         // Nodes outside of the dirty region can be excluded immediately.
         // This can be used only if the culling information is provided.
         if (cullingIndex != -1) {
-            final int bits = cullingBits >> (cullingIndex * 2);
+            final long bits = cullingBits >> (cullingIndex * 2);
             if ((bits & DIRTY_REGION_CONTAINS_OR_INTERSECTS_NODE_BOUNDS) == 0x00) {
                 return RenderRootResult.NO_RENDER_ROOT;
             }
@@ -1997,7 +2010,7 @@ public abstract class NGNode {
         if (PrismSettings.dirtyOptsEnabled) {
             if (g.hasPreCullingBits()) {
                 //preculling bits available
-                final int bits = cullingBits >> (g.getClipRectIndex() * 2);
+                final long bits = cullingBits >> (g.getClipRectIndex() * 2);
                 if ((bits & DIRTY_REGION_CONTAINS_OR_INTERSECTS_NODE_BOUNDS) == 0) {
                     // If no culling bits are set for this region, this group
                     // does not intersect (nor is covered by) the region
@@ -2097,9 +2110,9 @@ public abstract class NGNode {
         // with our shaders or do something much more invasive to get better data here.
         if (PrismSettings.showOverdraw) {
             if (p) {
-                painted |= 3 << (g.getClipRectIndex() * 2);
+                painted |= 3L << (g.getClipRectIndex() * 2);
             } else {
-                painted |= 1 << (g.getClipRectIndex() * 2);
+                painted |= 1L << (g.getClipRectIndex() * 2);
             }
         }
     }
@@ -0,0 +1,486 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.sg.prism;
+
+import com.sun.glass.ui.Screen;
+import com.sun.javafx.font.FontStrike;
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.geom.Shape;
+import com.sun.javafx.geom.transform.Affine2D;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.javafx.geom.transform.GeneralTransform3D;
+import com.sun.javafx.geom.transform.NoninvertibleTransformException;
+import com.sun.javafx.scene.text.GlyphList;
+import com.sun.prism.BasicStroke;
+import com.sun.prism.CompositeMode;
+import com.sun.prism.Graphics;
+import com.sun.prism.RTTexture;
+import com.sun.prism.RenderTarget;
+import com.sun.prism.ResourceFactory;
+import com.sun.prism.Texture;
+import com.sun.prism.paint.Color;
+import com.sun.prism.paint.Paint;
+
+/**
+ * A {@code Graphics} which forwards all the calls to another graphics and
+ * records the drawing commands into the buffer of a {@link RenderList}.
+ *
+ * The state of the underlying graphics is encoded before each drawing
+ * command in which it differs from the previous one. Any operation which
+ * cannot be replayed from the buffer is still forwarded, but invalidates
+ * the recording.
+ */
+final class RecordingGraphics implements Graphics {
+
+    private final Graphics g;
+    private final GrowableDataBuffer buf;
+    private final float baseExtraAlpha;
+    private BaseTransform baseInverse;
+    private boolean valid = true;
+    private int numCommands;
+
+    // The state encoded for the previous drawing command
+    private boolean stateRecorded;
+    private final Affine2D lastTx = new Affine2D();
+    private final Affine2D relativeTx = new Affine2D();
+    private Paint lastPaint;
+    private BasicStroke lastStroke;
+    private float lastExtraAlpha;
+    private boolean lastAntialiasedShape;
+    private CompositeMode lastCompositeMode;
+
+    RecordingGraphics(Graphics g, GrowableDataBuffer buf) {
+        this.g = g;
+        this.buf = buf;
+        this.baseExtraAlpha = g.getExtraAlpha();
+        try {
+            baseInverse = g.getTransformNoClone().createInverse();
+        } catch (NoninvertibleTransformException e) {
+            invalidate();
+        }
+        if (baseExtraAlpha <= 0f) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Returns true if all the rendering issued so far was recorded.
+     */
+    boolean isValid() {
+        return valid;
+    }
+
+    private void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Encodes the state of the underlying graphics which changed since the
+     * previous drawing command, and returns true if the drawing command
+     * itself can be encoded next.
+     */
+    private boolean recordState() {
+        if (!valid) {
+            return false;
+        }
+        BaseTransform tx = g.getTransformNoClone();
+        if (++numCommands > RenderList.MAX_COMMANDS || !tx.is2D()) {
+            invalidate();
+            return false;
+        }
+        if (!stateRecorded || !lastTx.equals(tx)) {
+            lastTx.setTransform(tx);
+            relativeTx.setTransform(baseInverse);
+            relativeTx.concatenate(tx);
+            buf.putByte(RenderList.TRANSFORM);
+            buf.putDouble(relativeTx.getMxx());
+            buf.putDouble(relativeTx.getMxy());
+            buf.putDouble(relativeTx.getMxt());
+            buf.putDouble(relativeTx.getMyx());
+            buf.putDouble(relativeTx.getMyy());
+            buf.putDouble(relativeTx.getMyt());
+        }
+        Paint paint = g.getPaint();
+        if (!stateRecorded || paint != lastPaint) {
+            lastPaint = paint;
+            buf.putByte(RenderList.PAINT);
+            buf.putObject(paint);
+        }
+        BasicStroke stroke = g.getStroke();
+        if (!stateRecorded || (lastStroke == null ? stroke != null : !lastStroke.equals(stroke))) {
+            // The stroke of a shape is updated in place
+            lastStroke = (stroke == null) ? null : stroke.copy();
+            buf.putByte(RenderList.STROKE);
+            buf.putObject(lastStroke);
+        }
+        float extraAlpha = g.getExtraAlpha();
+        if (!stateRecorded || extraAlpha != lastExtraAlpha) {
+            lastExtraAlpha = extraAlpha;
+            buf.putByte(RenderList.EXTRA_ALPHA);
+            buf.putFloat(extraAlpha / baseExtraAlpha);
+        }
+        boolean antialiasedShape = g.isAntialiasedShape();
+        if (!stateRecorded || antialiasedShape != lastAntialiasedShape) {
+            lastAntialiasedShape = antialiasedShape;
+            buf.putByte(RenderList.ANTIALIAS);
+            buf.putBoolean(antialiasedShape);
+        }
+        CompositeMode compositeMode = g.getCompositeMode();
+        if (!stateRecorded || compositeMode != lastCompositeMode) {
+            lastCompositeMode = compositeMode;
+            buf.putByte(RenderList.COMPOSITE);
+            buf.putObject(compositeMode);
+        }
+        stateRecorded = true;
+        return true;
+    }
+
+    private void record(byte op, float f0, float f1, float f2, float f3) {
+        if (recordState()) {
+            buf.putByte(op);
+            buf.putFloat(f0);
+            buf.putFloat(f1);
+            buf.putFloat(f2);
+            buf.putFloat(f3);
+        }
+    }
+
+    private void record(byte op, float f0, float f1, float f2, float f3, float f4, float f5) {
+        if (recordState()) {
+            buf.putByte(op);
+            buf.putFloat(f0);
+            buf.putFloat(f1);
+            buf.putFloat(f2);
+            buf.putFloat(f3);
+            buf.putFloat(f4);
+            buf.putFloat(f5);
+        }
+    }
+
+    private void record(byte op, Shape shape) {
+        if (recordState()) {
+            buf.putByte(op);
+            buf.putObject(shape);
+        }
+    }
+
+    /***************************************************************************
+     *                                                                         *
+     * Recorded operations                                                     *
+     *                                                                         *
+     **************************************************************************/
+
+    @Override
+    public void fill(Shape shape) {
+        record(RenderList.FILL, shape);
+        g.fill(shape);
+    }
+
+    @Override
+    public void fillQuad(float x1, float y1, float x2, float y2) {
+        record(RenderList.FILL_QUAD, x1, y1, x2, y2);
+        g.fillQuad(x1, y1, x2, y2);
+    }
+
+    @Override
+    public void fillRect(float x, float y, float width, float height) {
+        record(RenderList.FILL_RECT, x, y, width, height);
+        g.fillRect(x, y, width, height);
+    }
+
+    @Override
+    public void fillRoundRect(float x, float y, float width, float height, float arcw, float arch) {
+        record(RenderList.FILL_ROUND_RECT, x, y, width, height, arcw, arch);
+        g.fillRoundRect(x, y, width, height, arcw, arch);
+    }
+
+    @Override
+    public void fillEllipse(float x, float y, float width, float height) {
+        record(RenderList.FILL_ELLIPSE, x, y, width, height);
+        g.fillEllipse(x, y, width, height);
+    }
+
+    @Override
+    public void draw(Shape shape) {
+        record(RenderList.DRAW, shape);
+        g.draw(shape);
+    }
+
+    @Override
+    public void drawLine(float x1, float y1, float x2, float y2) {
+        record(RenderList.DRAW_LINE, x1, y1, x2, y2);
+        g.drawLine(x1, y1, x2, y2);
+    }
+
+    @Override
+    public void drawRect(float x, float y, float width, float height) {
+        record(RenderList.DRAW_RECT, x, y, width, height);
+        g.drawRect(x, y, width, height);
+    }
+
+    @Override
+    public void drawRoundRect(float x, float y, float width, float height, float arcw, float arch) {
+        record(RenderList.DRAW_ROUND_RECT, x, y, width, height, arcw, arch);
+        g.drawRoundRect(x, y, width, height, arcw, arch);
+    }
+
+    @Override
+    public void drawEllipse(float x, float y, float width, float height) {
+        record(RenderList.DRAW_ELLIPSE, x, y, width, height);
+        g.drawEllipse(x, y, width, height);
+    }
+
+    /***************************************************************************
+     *                                                                         *
+     * State and queries, encoded with the next drawing command if needed      *
+     *                                                                         *
+     **************************************************************************/
+
+    @Override public BaseTransform getTransformNoClone() { return g.getTransformNoClone(); }
+    @Override public void setTransform(BaseTransform xform) { g.setTransform(xform); }
+    @Override public void setTransform(double m00, double m10,
+                                       double m01, double m11,
+                                       double m02, double m12) {
+        g.setTransform(m00, m10, m01, m11, m02, m12);
+    }
+    @Override public void setTransform3D(double mxx, double mxy, double mxz, double mxt,
+                                         double myx, double myy, double myz, double myt,
+                                         double mzx, double mzy, double mzz, double mzt) {
+        g.setTransform3D(mxx, mxy, mxz, mxt, myx, myy, myz, myt, mzx, mzy, mzz, mzt);
+    }
+    @Override public void transform(BaseTransform xform) { g.transform(xform); }
+    @Override public void translate(float tx, float ty) { g.translate(tx, ty); }
+    @Override public void translate(float tx, float ty, float tz) { g.translate(tx, ty, tz); }
+    @Override public void scale(float sx, float sy) { g.scale(sx, sy); }
+    @Override public void scale(float sx, float sy, float sz) { g.scale(sx, sy, sz); }
+    @Override public NGCamera getCameraNoClone() { return g.getCameraNoClone(); }
+    @Override public void setDepthTest(boolean depthTest) { g.setDepthTest(depthTest); }
+    @Override public boolean isDepthTest() { return g.isDepthTest(); }
+    @Override public boolean isDepthBuffer() { return g.isDepthBuffer(); }
+    @Override public boolean isAlphaTestShader() { return g.isAlphaTestShader(); }
+    @Override public void setAntialiasedShape(boolean aa) { g.setAntialiasedShape(aa); }
+    @Override public boolean isAntialiasedShape() { return g.isAntialiasedShape(); }
+    @Override public RectBounds getFinalClipNoClone() { return g.getFinalClipNoClone(); }
+    @Override public Rectangle getClipRect() { return g.getClipRect(); }
+    @Override public Rectangle getClipRectNoClone() { return g.getClipRectNoClone(); }
+    @Override public void setHasPreCullingBits(boolean hasBits) { g.setHasPreCullingBits(hasBits); }
+    @Override public boolean hasPreCullingBits() { return g.hasPreCullingBits(); }
+    @Override public int getClipRectIndex() { return g.getClipRectIndex(); }
+    @Override public float getExtraAlpha() { return g.getExtraAlpha(); }
+    @Override public void setExtraAlpha(float extraAlpha) { g.setExtraAlpha(extraAlpha); }
+    @Override public NGLightBase[] getLights() { return g.getLights(); }
+    @Override public Paint getPaint() { return g.getPaint(); }
+    @Override public void setPaint(Paint paint) { g.setPaint(paint); }
+    @Override public BasicStroke getStroke() { return g.getStroke(); }
+    @Override public void setStroke(BasicStroke stroke) { g.setStroke(stroke); }
+    @Override public void setCompositeMode(CompositeMode mode) { g.setCompositeMode(mode); }
+    @Override public CompositeMode getCompositeMode() { return g.getCompositeMode(); }
+    @Override public Screen getAssociatedScreen() { return g.getAssociatedScreen(); }
+    @Override public ResourceFactory getResourceFactory() { return g.getResourceFactory(); }
+    @Override public void setRenderRoot(NodePath root) { g.setRenderRoot(root); }
+    @Override public NodePath getRenderRoot() { return g.getRenderRoot(); }
+    @Override public void setState3D(boolean flag) { g.setState3D(flag); }
+    @Override public boolean isState3D() { return g.isState3D(); }
+    @Override public float getPixelScaleFactorX() { return g.getPixelScaleFactorX(); }
+    @Override public float getPixelScaleFactorY() { return g.getPixelScaleFactorY(); }
+
+    /***************************************************************************
+     *                                                                         *
+     * Operations which cannot be replayed                                     *
+     *                                                                         *
+     **************************************************************************/
+
+    @Override
+    public void setPerspectiveTransform(GeneralTransform3D perspectiveTransform) {
+        invalidate();
+        g.setPerspectiveTransform(perspectiveTransform);
+    }
+
+    @Override
+    public void setCamera(NGCamera camera) {
+        invalidate();
+        g.setCamera(camera);
+    }
+
+    @Override
+    public void setDepthBuffer(boolean depthBuffer) {
+        invalidate();
+        g.setDepthBuffer(depthBuffer);
+    }
+
+    @Override
+    public void setClipRect(Rectangle clipRect) {
+        invalidate();
+        g.setClipRect(clipRect);
+    }
+
+    @Override
+    public void setClipRectIndex(int index) {
+        invalidate();
+        g.setClipRectIndex(index);
+    }
+
+    @Override
+    public void setLights(NGLightBase[] lights) {
+        invalidate();
+        g.setLights(lights);
+    }
+
+    @Override
+    public void clear() {
+        invalidate();
+        g.clear();
+    }
+
+    @Override
+    public void clear(Color color) {
+        invalidate();
+        g.clear(color);
+    }
+
+    @Override
+    public void clearQuad(float x1, float y1, float x2, float y2) {
+        invalidate();
+        g.clearQuad(x1, y1, x2, y2);
+    }
+
+    @Override
+    public void setNodeBounds(RectBounds bounds) {
+        invalidate();
+        g.setNodeBounds(bounds);
+    }
+
+    @Override
+    public void drawString(GlyphList gl, FontStrike strike, float x, float y,
+                           Color selectColor, int selectStart, int selectEnd) {
+        invalidate();
+        g.drawString(gl, strike, x, y, selectColor, selectStart, selectEnd);
+    }
+
+    @Override
+    public void blit(RTTexture srcTex, RTTexture dstTex,
+                     int srcX0, int srcY0, int srcX1, int srcY1,
+                     int dstX0, int dstY0, int dstX1, int dstY1) {
+        invalidate();
+        g.blit(srcTex, dstTex, srcX0, srcY0, srcX1, srcY1, dstX0, dstY0, dstX1, dstY1);
+    }
+
+    @Override
+    public void drawTexture(Texture tex, float x, float y, float w, float h) {
+        invalidate();
+        g.drawTexture(tex, x, y, w, h);
+    }
+
+    @Override
+    public void drawTexture(Texture tex,
+                            float dx1, float dy1, float dx2, float dy2,
+                            float sx1, float sy1, float sx2, float sy2) {
+        invalidate();
+        g.drawTexture(tex, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2);
+    }
+
+    @Override
+    public void drawTexture3SliceH(Texture tex,
+                                   float dx1, float dy1, float dx2, float dy2,
+                                   float sx1, float sy1, float sx2, float sy2,
+                                   float dh1, float dh2, float sh1, float sh2) {
+        invalidate();
+        g.drawTexture3SliceH(tex, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, dh1, dh2, sh1, sh2);
+    }
+
+    @Override
+    public void drawTexture3SliceV(Texture tex,
+                                   float dx1, float dy1, float dx2, float dy2,
+                                   float sx1, float sy1, float sx2, float sy2,
+                                   float dv1, float dv2, float sv1, float sv2) {
+        invalidate();
+        g.drawTexture3SliceV(tex, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, dv1, dv2, sv1, sv2);
+    }
+
+    @Override
+    public void drawTexture9Slice(Texture tex,
+                                  float dx1, float dy1, float dx2, float dy2,
+                                  float sx1, float sy1, float sx2, float sy2,
+                                  float dh1, float dv1, float dh2, float dv2,
+                                  float sh1, float sv1, float sh2, float sv2) {
+        invalidate();
+        g.drawTexture9Slice(tex, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2,
+                            dh1, dv1, dh2, dv2, sh1, sv1, sh2, sv2);
+    }
+
+    @Override
+    public void drawTextureVO(Texture tex,
+                              float topopacity, float botopacity,
+                              float dx1, float dy1, float dx2, float dy2,
+                              float sx1, float sy1, float sx2, float sy2) {
+        invalidate();
+        g.drawTextureVO(tex, topopacity, botopacity, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2);
+    }
+
+    @Override
+    public void drawTextureRaw(Texture tex,
+                               float dx1, float dy1, float dx2, float dy2,
+                               float tx1, float ty1, float tx2, float ty2) {
+        invalidate();
+        g.drawTextureRaw(tex, dx1, dy1, dx2, dy2, tx1, ty1, tx2, ty2);
+    }
+
+    @Override
+    public void drawMappedTextureRaw(Texture tex,
+                                     float dx1, float dy1, float dx2, float dy2,
+                                     float tx11, float ty11, float tx21, float ty21,
+                                     float tx12, float ty12, float tx22, float ty22) {
+        invalidate();
+        g.drawMappedTextureRaw(tex, dx1, dy1, dx2, dy2,
+                               tx11, ty11, tx21, ty21, tx12, ty12, tx22, ty22);
+    }
+
+    @Override
+    public void sync() {
+        invalidate();
+        g.sync();
+    }
+
+    @Override
+    public RenderTarget getRenderTarget() {
+        // Only needed to render into intermediate textures
+        invalidate();
+        return g.getRenderTarget();
+    }
+
+    @Override
+    public void setup3DRendering() {
+        invalidate();
+        g.setup3DRendering();
+    }
+
+    @Override
+    public void setPixelScaleFactors(float pixelScaleX, float pixelScaleY) {
+        invalidate();
+        g.setPixelScaleFactors(pixelScaleX, pixelScaleY);
+    }
+}
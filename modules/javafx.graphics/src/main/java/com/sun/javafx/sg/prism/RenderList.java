@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.sg.prism;
+
+import java.util.List;
+import com.sun.javafx.geom.Shape;
+import com.sun.javafx.geom.transform.Affine2D;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.javafx.logging.PulseLogger;
+import com.sun.prism.BasicStroke;
+import com.sun.prism.CompositeMode;
+import com.sun.prism.Graphics;
+import com.sun.prism.PrinterGraphics;
+import com.sun.prism.paint.Paint;
+
+/**
+ * Retains the rendering commands of the children of a group.
+ *
+ * When retained rendering is enabled, the children of a group which are
+ * rendered in two consecutive frames, and which did not change in between,
+ * are rendered through a {@link RecordingGraphics} which encodes the shapes
+ * they draw and the state they draw them with into a
+ * {@link GrowableDataBuffer}, in the same way as the rendering commands of
+ * a canvas. In the next frames the commands are replayed instead of
+ * traversing the subtree again. The transforms and the extra alpha are
+ * recorded relative to those in effect when the group renders its
+ * children, so that the commands remain valid when an ancestor moves or
+ * fades. The commands are released when the group invalidates its cache,
+ * in the same cases as a {@link CacheFilter}.
+ *
+ * Only subtrees made of groups and shapes, without effects, clips, caches
+ * or blend modes, are recorded. The recording is abandoned as soon as any
+ * other operation, such as rendering a texture or text, is issued.
+ */
+public final class RenderList {
+    private static int frame;
+
+    /**
+     * Called by the painter before each frame is rendered.
+     */
+    public static void nextFrame() {
+        frame++;
+    }
+
+    // The maximum number of nodes in a recorded subtree
+    static final int MAX_NODES = 4096;
+    // The maximum number of drawing commands in a list
+    static final int MAX_COMMANDS = 16384;
+
+    // State commands
+    static final byte TRANSFORM       = 0;
+    static final byte PAINT           = 1;
+    static final byte STROKE          = 2;
+    static final byte EXTRA_ALPHA     = 3;
+    static final byte ANTIALIAS       = 4;
+    static final byte COMPOSITE       = 5;
+
+    // Drawing commands
+    static final byte FILL            = 10;
+    static final byte FILL_QUAD       = 11;
+    static final byte FILL_RECT       = 12;
+    static final byte FILL_ROUND_RECT = 13;
+    static final byte FILL_ELLIPSE    = 14;
+    static final byte DRAW            = 15;
+    static final byte DRAW_LINE       = 16;
+    static final byte DRAW_RECT       = 17;
+    static final byte DRAW_ROUND_RECT = 18;
+    static final byte DRAW_ELLIPSE    = 19;
+
+    // true once the children were rendered, until the group is invalidated
+    private boolean unchanged;
+    private int renderedFrame;
+    // true if the children cannot be recorded, until the group is invalidated
+    private boolean unretainable;
+    private GrowableDataBuffer commands;
+    private final Affine2D replayTx = new Affine2D();
+
+    /**
+     * Releases the retained commands, if any, as the group or one of its
+     * descendants changed.
+     */
+    void invalidate() {
+        unchanged = false;
+        unretainable = false;
+        if (commands != null) {
+            GrowableDataBuffer.returnBuffer(commands);
+            commands = null;
+        }
+    }
+
+    boolean isRetained() {
+        return commands != null;
+    }
+
+    /**
+     * Renders the given children of the group with the retained commands,
+     * recording them first if the children did not change since the
+     * previous frame. Returns false if the children must be rendered as
+     * usual.
+     */
+    boolean render(List<NGNode> children, Graphics g) {
+        if (g instanceof RecordingGraphics) {
+            // The children are recorded as part of an enclosing group
+            invalidate();
+            return false;
+        }
+        if (!canReplay(g)) {
+            return false;
+        }
+        if (commands != null) {
+            replay(g);
+            if (PulseLogger.PULSE_LOGGING_ENABLED) {
+                PulseLogger.incrementCounter("Render list replayed");
+            }
+            return true;
+        }
+        if (unretainable) {
+            return false;
+        }
+        if (!unchanged) {
+            // Wait until the children render the same way in the next frame,
+            // so that animated subtrees are never recorded
+            unchanged = true;
+            renderedFrame = frame;
+            return false;
+        }
+        if (renderedFrame == frame) {
+            // rendered again for another dirty region of the same frame
+            return false;
+        }
+        if (countNodes(children, 0) < 0) {
+            unretainable = true;
+            return false;
+        }
+        record(children, g);
+        return true;
+    }
+
+    private static boolean canReplay(Graphics g) {
+        return !(g instanceof PrinterGraphics) &&
+               !g.isDepthBuffer() &&
+               g.getTransformNoClone().is2D() &&
+               g.getCompositeMode() == CompositeMode.SRC_OVER;
+    }
+
+    /**
+     * Returns the number of nodes in the given subtrees plus {@code count},
+     * or -1 if any of them cannot be recorded.
+     */
+    private static int countNodes(List<NGNode> children, int count) {
+        for (int i = 0; i < children.size(); i++) {
+            NGNode child = children.get(i);
+            if (++count > MAX_NODES ||
+                child.getEffectFilter() != null ||
+                child.getClipNode() != null ||
+                child.getCacheFilter() != null ||
+                child.needsBlending())
+            {
+                return -1;
+            }
+            if (child instanceof NGGroup && !(child instanceof NGRegion)) {
+                count = countNodes(((NGGroup) child).getChildren(), count);
+                if (count < 0) {
+                    return -1;
+                }
+            } else if (!(child instanceof NGShape) || child instanceof NGText) {
+                return -1;
+            }
+        }
+        return count;
+    }
+
+    private void record(List<NGNode> children, Graphics g) {
+        GrowableDataBuffer buf = GrowableDataBuffer.getBuffer(1024);
+        RecordingGraphics rg = new RecordingGraphics(g, buf);
+        // The commands must cover the whole subtree, not only the nodes
+        // which intersect the current dirty region
+        boolean hasPreCullingBits = g.hasPreCullingBits();
+        g.setHasPreCullingBits(false);
+        for (int i = 0; i < children.size(); i++) {
+            children.get(i).render(rg);
+        }
+        g.setHasPreCullingBits(hasPreCullingBits);
+        if (rg.isValid()) {
+            commands = buf;
+            if (PulseLogger.PULSE_LOGGING_ENABLED) {
+                PulseLogger.incrementCounter("Render list recorded");
+            }
+        } else {
+            GrowableDataBuffer.returnBuffer(buf);
+            unretainable = true;
+        }
+    }
+
+    private void replay(Graphics g) {
+        BaseTransform tx = g.getTransformNoClone();
+        double mxx = tx.getMxx();
+        double mxy = tx.getMxy();
+        double mxt = tx.getMxt();
+        double myx = tx.getMyx();
+        double myy = tx.getMyy();
+        double myt = tx.getMyt();
+        float extraAlpha = g.getExtraAlpha();
+        boolean antialiasedShape = g.isAntialiasedShape();
+
+        GrowableDataBuffer buf = commands;
+        buf.restore();
+        while (buf.hasValues()) {
+            byte op = buf.getByte();
+            switch (op) {
+                case TRANSFORM:
+                    replayTx.setTransform(mxx, myx, mxy, myy, mxt, myt);
+                    replayTx.concatenate(buf.getDouble(), buf.getDouble(), buf.getDouble(),
+                                         buf.getDouble(), buf.getDouble(), buf.getDouble());
+                    g.setTransform(replayTx);
+                    break;
+                case PAINT:
+                    g.setPaint((Paint) buf.getObject());
+                    break;
+                case STROKE:
+                    g.setStroke((BasicStroke) buf.getObject());
+                    break;
+                case EXTRA_ALPHA:
+                    g.setExtraAlpha(extraAlpha * buf.getFloat());
+                    break;
+                case ANTIALIAS:
+                    g.setAntialiasedShape(buf.getBoolean());
+                    break;
+                case COMPOSITE:
+                    g.setCompositeMode((CompositeMode) buf.getObject());
+                    break;
+                case FILL:
+                    g.fill((Shape) buf.getObject());
+                    break;
+                case FILL_QUAD:
+                    g.fillQuad(buf.getFloat(), buf.getFloat(), buf.getFloat(), buf.getFloat());
+                    break;
+                case FILL_RECT:
+                    g.fillRect(buf.getFloat(), buf.getFloat(), buf.getFloat(), buf.getFloat());
+                    break;
+                case FILL_ROUND_RECT:
+                    g.fillRoundRect(buf.getFloat(), buf.getFloat(), buf.getFloat(), buf.getFloat(),
+                                    buf.getFloat(), buf.getFloat());
+                    break;
+                case FILL_ELLIPSE:
+                    g.fillEllipse(buf.getFloat(), buf.getFloat(), buf.getFloat(), buf.getFloat());
+                    break;
+                case DRAW:
+                    g.draw((Shape) buf.getObject());
+                    break;
+                case DRAW_LINE:
+                    g.drawLine(buf.getFloat(), buf.getFloat(), buf.getFloat(), buf.getFloat());
+                    break;
+                case DRAW_RECT:
+                    g.drawRect(buf.getFloat(), buf.getFloat(), buf.getFloat(), buf.getFloat());
+                    break;
+                case DRAW_ROUND_RECT:
+                    g.drawRoundRect(buf.getFloat(), buf.getFloat(), buf.getFloat(), buf.getFloat(),
+                                    buf.getFloat(), buf.getFloat());
+                    break;
+                case DRAW_ELLIPSE:
+                    g.drawEllipse(buf.getFloat(), buf.getFloat(), buf.getFloat(), buf.getFloat());
+                    break;
+                default:
+                    throw new InternalError("Unrecognized render list command: " + op);
+            }
+        }
+
+        g.setTransform(mxx, myx, mxy, myy, mxt, myt);
+        g.setExtraAlpha(extraAlpha);
+        g.setAntialiasedShape(antialiasedShape);
+        g.setCompositeMode(CompositeMode.SRC_OVER);
+    }
+}
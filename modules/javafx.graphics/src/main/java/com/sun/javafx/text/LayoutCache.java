@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -38,4 +38,40 @@ class LayoutCache {
     int runCount;
     TextLine[] lines;
     float layoutWidth, layoutHeight;
+
+    /**
+     * Returns an estimate of the number of bytes used by this cache.
+     */
+    int estimateSize() {
+        int size = 64;
+        if (text != null) {
+            size += 16 + 2 * text.length;
+        }
+        if (glyphs != null) {
+            size += 16 + 4 * glyphs.length;
+        }
+        if (advances != null) {
+            size += 16 + 4 * advances.length;
+        }
+        if (runs != null) {
+            size += 16 + 4 * runs.length;
+            for (int i = 0; i < runCount; i++) {
+                final TextRun run = runs[i];
+                size += 96;
+                if (run.gids != null) {
+                    size += 16 + 4 * run.gids.length;
+                }
+                if (run.positions != null) {
+                    size += 16 + 4 * run.positions.length;
+                }
+                if (run.charIndices != null) {
+                    size += 16 + 4 * run.charIndices.length;
+                }
+            }
+        }
+        if (lines != null) {
+            size += 16 + 4 * lines.length + 64 * lines.length;
+        }
+        return size;
+    }
 }
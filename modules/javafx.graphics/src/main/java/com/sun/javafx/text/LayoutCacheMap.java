@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.text;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A cache of the layouts of short strings shared by all the
+ * {@code PrismTextLayout} instances, bounded by an estimate of the number
+ * of bytes used by the cached layouts.
+ *
+ * Lookups do not lock: the entries live in a concurrent map and a hit only
+ * marks its entry as referenced. Insertions are serialized and evict the
+ * entries in approximate least recently used order, using a clock over the
+ * insertion order which gives referenced entries a second chance. New
+ * entries start unreferenced, so strings which are laid out only once are
+ * evicted before the ones which are reused.
+ */
+final class LayoutCacheMap {
+
+    /**
+     * The key of a layout, composed of its text and its font. The text
+     * array must not be modified once the key is created.
+     */
+    static final class Key {
+        private final char[] text;
+        private final Object font;
+        private final int hash;
+
+        Key(char[] text, Object font) {
+            this.text = text;
+            this.font = font;
+            this.hash = 31 * Arrays.hashCode(text) + font.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return hash == other.hash &&
+                   Arrays.equals(text, other.text) &&
+                   font.equals(other.font);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry {
+        final Key key;
+        final LayoutCache value;
+        final int size;
+        volatile boolean referenced;
+
+        Entry(Key key, LayoutCache value, int size) {
+            this.key = key;
+            this.value = value;
+            this.size = size;
+        }
+    }
+
+    private final long maxSize;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /* The following are guarded by this */
+    private final ArrayDeque<Entry> clock = new ArrayDeque<>();
+    private long size;
+    private long evictions;
+
+    LayoutCacheMap(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    LayoutCache get(Key key) {
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Adds the given layout, of the given estimated size in bytes, evicting
+     * other layouts as needed to stay within the size of the cache.
+     */
+    synchronized void put(Key key, LayoutCache value, int bytes) {
+        if (bytes > maxSize) {
+            return;
+        }
+        final Entry entry = new Entry(key, value, bytes);
+        final Entry old = entries.put(key, entry);
+        if (old != null) {
+            // the old entry is dropped when the clock reaches it
+            size -= old.size;
+        }
+        clock.addLast(entry);
+        size += bytes;
+        while (size > maxSize) {
+            final Entry e = clock.pollFirst();
+            if (entries.get(e.key) != e) {
+                continue;
+            }
+            if (e.referenced) {
+                e.referenced = false;
+                clock.addLast(e);
+                continue;
+            }
+            entries.remove(e.key, e);
+            size -= e.size;
+            evictions++;
+        }
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        clock.clear();
+        size = 0;
+    }
+
+    int getCount() {
+        return entries.size();
+    }
+
+    synchronized long getSize() {
+        return size;
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    synchronized long getEvictionCount() {
+        return evictions;
+    }
+}
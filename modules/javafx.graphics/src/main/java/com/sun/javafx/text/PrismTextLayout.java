@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -49,8 +49,6 @@ import com.sun.javafx.scene.text.TextSpan;
 import java.text.Bidi;
 import java.text.BreakIterator;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Hashtable;
 
 public class PrismTextLayout implements TextLayout {
     private static final BaseTransform IDENTITY = BaseTransform.IDENTITY_TRANSFORM;
@@ -59,17 +57,15 @@ public class PrismTextLayout implements TextLayout {
     private static final int X_MAX_INDEX = 2;
     private static final int Y_MAX_INDEX = 3;
 
-    private static final Hashtable<Integer, LayoutCache> stringCache = new Hashtable<>();
-    private static final Object  CACHE_SIZE_LOCK = new Object();
-    private static int cacheSize = 0;
     private static final int MAX_STRING_SIZE = 256;
     private static final int MAX_CACHE_SIZE = PrismFontFactory.cacheLayoutSize;
+    private static final LayoutCacheMap stringCache = new LayoutCacheMap(MAX_CACHE_SIZE);
 
     private char[] text;
     private TextSpan[] spans;   /* Rich text  (null for single font text) */
     private PGFont font;        /* Single font text (null for rich text) */
     private FontStrike strike;  /* cached strike of font (identity) */
-    private Integer cacheKey;
+    private LayoutCacheMap.Key cacheKey;
     private TextLine[] lines;
     private TextRun[] runs;
     private int runCount;
@@ -136,10 +132,11 @@ public class PrismTextLayout implements TextLayout {
         this.font = (PGFont)font;
         this.strike = ((PGFont)font).getStrike(IDENTITY);
         this.text = text.toCharArray();
+        this.cacheKey = null;
         if (MAX_CACHE_SIZE > 0) {
             int length = text.length();
             if (0 < length && length <= MAX_STRING_SIZE) {
-                cacheKey = text.hashCode() * strike.hashCode();
+                cacheKey = new LayoutCacheMap.Key(this.text, font);
             }
         }
         return true;
@@ -671,14 +668,14 @@ public class PrismTextLayout implements TextLayout {
         int align = flags & ALIGN_MASK;
         int boundsType = flags & BOUNDS_MASK;
         /* Caching for boundsType == Center, bias towards  Modena */
-        return wrapWidth != 0 || align != ALIGN_LEFT || boundsType == 0 || isMirrored();
+        return wrapWidth != 0 || spacing != 0 || align != ALIGN_LEFT || boundsType == 0 || isMirrored();
     }
 
     private void initCache() {
         if (cacheKey != null) {
             if (layoutCache == null) {
                 LayoutCache cache = stringCache.get(cacheKey);
-                if (cache != null && cache.font.equals(font) && Arrays.equals(cache.text, text)) {
+                if (cache != null) {
                     layoutCache = cache;
                     runs = cache.runs;
                     runCount = cache.runCount;
@@ -1292,15 +1289,7 @@ public class PrismTextLayout implements TextLayout {
                 layoutCache.layoutWidth = layoutWidth;
                 layoutCache.layoutHeight = layoutHeight;
                 layoutCache.analysis = flags & ANALYSIS_MASK;
-                synchronized (CACHE_SIZE_LOCK) {
-                    int charCount = chars.length;
-                    if (cacheSize + charCount > MAX_CACHE_SIZE) {
-                        stringCache.clear();
-                        cacheSize = 0;
-                    }
-                    stringCache.put(cacheKey, layoutCache);
-                    cacheSize += charCount;
-                }
+                stringCache.put(cacheKey, layoutCache, layoutCache.estimateSize());
             }
             layoutCache.valid = true;
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2018, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -576,6 +576,14 @@ public abstract class Toolkit {
                                           boolean preserveRatio,
                                           boolean smooth);
 
+    /*
+     * Returns the maximum number of images which are loaded in the
+     * background at the same time.
+     */
+    public int getMaxImageLoadingTasks() {
+        return 4;
+    }
+
     /*
      * The loadPlatformImage method supports the following image types:
      *   - an object returned by the renderToImage method
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2018, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -39,6 +39,7 @@ import com.sun.javafx.tk.RenderJob;
 
 import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
 import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.logging.PulseMetrics;
 
 /**
  * Manages the collection and rendering of dirty scenes. This class has
@@ -311,6 +312,7 @@ final class PaintCollector implements CompletionListener {
             if (PULSE_LOGGING_ENABLED) {
                 PulseLogger.renderEnd();
             }
+            PulseMetrics.renderEnd();
         }
 
         // Count down the latch, indicating that drawing has
@@ -376,6 +378,7 @@ final class PaintCollector implements CompletionListener {
         if (PULSE_LOGGING_ENABLED) {
             PulseLogger.renderStart();
         }
+        PulseMetrics.renderStart();
 
         // This part needs to be handled a bit differently depending on whether our platform has a native
         // window manager or not.
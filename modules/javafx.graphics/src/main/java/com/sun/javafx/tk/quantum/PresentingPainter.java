@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,7 @@
 package com.sun.javafx.tk.quantum;
 
 import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.logging.PulseMetrics;
 import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
 import com.sun.prism.Graphics;
 import com.sun.prism.GraphicsPipeline;
@@ -88,6 +89,7 @@ final class PresentingPainter extends ViewPainter {
 
                 ViewScene vs = (ViewScene) sceneState.getScene();
                 if (g != null) {
+                    PulseMetrics.renderPhase(PulseMetrics.RENDER);
                     paintImpl(g);
                     freshBackBuffer = false;
                 }
@@ -95,6 +97,7 @@ final class PresentingPainter extends ViewPainter {
                 if (PULSE_LOGGING_ENABLED) {
                     PulseLogger.newPhase("Presenting");
                 }
+                PulseMetrics.renderPhase(PulseMetrics.PRESENT);
                 if (!presentable.prepare(null)) {
                     disposePresentable();
                     sceneState.getScene().entireSceneNeedsRepaint();
@@ -113,6 +116,7 @@ final class PresentingPainter extends ViewPainter {
             errored = true;
             th.printStackTrace(System.err);
         } finally {
+            PulseMetrics.renderPhase(PulseMetrics.NONE);
             Disposer.cleanUp();
 
             if (locked) {
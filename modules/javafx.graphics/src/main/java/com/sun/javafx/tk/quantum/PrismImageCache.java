@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.tk.quantum;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.sun.prism.Image;
+import com.sun.prism.impl.PrismSettings;
+
+/**
+ * A shared cache of decoded images, keyed by the URL and the requested
+ * size, ratio, smoothing and pixel scale of the image.
+ *
+ * Concurrent requests for the same key are coalesced: the first request
+ * decodes the image and the others wait for its result. Successfully
+ * decoded images are then kept in a least recently used cache bounded by
+ * the number of bytes of their pixels. A cache size of zero disables the
+ * caching, but not the coalescing of concurrent requests.
+ */
+final class PrismImageCache {
+
+    interface Loader {
+        PrismImageLoader2 load() throws IOException;
+    }
+
+    static final class Key {
+        private final String url;
+        private final double width;
+        private final double height;
+        private final boolean preserveRatio;
+        private final float pixelScale;
+        private final boolean smooth;
+        private final int hash;
+
+        Key(String url, double width, double height, boolean preserveRatio,
+            float pixelScale, boolean smooth)
+        {
+            this.url = url;
+            this.width = width;
+            this.height = height;
+            this.preserveRatio = preserveRatio;
+            this.pixelScale = pixelScale;
+            this.smooth = smooth;
+            int h = url.hashCode();
+            h = 31 * h + Double.hashCode(width);
+            h = 31 * h + Double.hashCode(height);
+            h = 31 * h + Float.hashCode(pixelScale);
+            h = 31 * h + (preserveRatio ? 2 : 0) + (smooth ? 1 : 0);
+            hash = h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return url.equals(other.url) &&
+                   Double.compare(width, other.width) == 0 &&
+                   Double.compare(height, other.height) == 0 &&
+                   Float.compare(pixelScale, other.pixelScale) == 0 &&
+                   preserveRatio == other.preserveRatio &&
+                   smooth == other.smooth;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A load in progress, which other requests for the same key wait for.
+     */
+    private static final class Load {
+        PrismImageLoader2 result;
+        IOException exception;
+        boolean done;
+        // the loading thread was interrupted, waiting requests load again
+        boolean abandoned;
+    }
+
+    private static PrismImageCache instance;
+
+    static synchronized PrismImageCache getInstance() {
+        if (instance == null) {
+            instance = new PrismImageCache(PrismSettings.imageCacheSize);
+        }
+        return instance;
+    }
+
+    private final long maxSize;
+    private final LinkedHashMap<Key, PrismImageLoader2> entries =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private final HashMap<Key, Load> loads = new HashMap<>();
+    private long size;
+
+    PrismImageCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached image for the given key, or the result of the given
+     * loader. If the image is being loaded by another thread, waits for that
+     * load to complete and returns its result instead.
+     */
+    PrismImageLoader2 get(Key key, Loader loader) throws IOException {
+        Load load;
+        while (true) {
+            synchronized (this) {
+                final PrismImageLoader2 cached = entries.get(key);
+                if (cached != null) {
+                    return cached;
+                }
+                load = loads.get(key);
+                if (load == null) {
+                    load = new Load();
+                    loads.put(key, load);
+                    break;
+                }
+            }
+            final PrismImageLoader2 result = await(load);
+            if (result != null) {
+                return result;
+            }
+        }
+
+        PrismImageLoader2 result = null;
+        IOException exception = null;
+        try {
+            result = loader.load();
+        } catch (IOException e) {
+            exception = e;
+            throw e;
+        } finally {
+            synchronized (this) {
+                loads.remove(key);
+                if (Thread.currentThread().isInterrupted() ||
+                        (result == null && exception == null)) {
+                    load.abandoned = true;
+                } else if (result != null && result.getException() == null) {
+                    put(key, result);
+                }
+                load.result = result;
+                load.exception = exception;
+                load.done = true;
+                notifyAll();
+            }
+        }
+        return result;
+    }
+
+    private synchronized PrismImageLoader2 await(Load load) throws IOException {
+        while (!load.done) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+        }
+        if (load.abandoned) {
+            return null;
+        }
+        if (load.exception != null) {
+            throw load.exception;
+        }
+        return load.result;
+    }
+
+    private void put(Key key, PrismImageLoader2 loader) {
+        final long bytes = sizeOf(loader);
+        if (bytes > maxSize) {
+            return;
+        }
+        final PrismImageLoader2 old = entries.put(key, loader);
+        if (old != null) {
+            size -= sizeOf(old);
+        }
+        size += bytes;
+        final Iterator<Map.Entry<Key, PrismImageLoader2>> it = entries.entrySet().iterator();
+        while (size > maxSize && it.hasNext()) {
+            size -= sizeOf(it.next().getValue());
+            it.remove();
+        }
+    }
+
+    private static long sizeOf(PrismImageLoader2 loader) {
+        long bytes = 0;
+        for (int i = 0; i < loader.getFrameCount(); i++) {
+            final Image image = (Image) loader.getFrame(i);
+            bytes += (long) image.getScanlineStride() * image.getHeight();
+        }
+        return bytes;
+    }
+
+    synchronized int getCount() {
+        return entries.size();
+    }
+
+    synchronized long getSize() {
+        return size;
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        size = 0;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2018, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -46,7 +46,7 @@ import java.security.PrivilegedAction;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -77,6 +77,29 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         loadAll(stream, width, height, preserveRatio, smooth);
     }
 
+    private PrismImageLoader2(Exception exception) {
+        this.exception = exception;
+    }
+
+    /**
+     * Loads the image at the given URL, or returns the shared decoded image
+     * for the same URL and parameters if there is one.
+     */
+    static PrismImageLoader2 load(String url, double width, double height,
+                                  boolean preserveRatio, float pixelScale,
+                                  boolean smooth)
+    {
+        final PrismImageCache.Key key = new PrismImageCache.Key(
+                url, width, height, preserveRatio, pixelScale, smooth);
+        try {
+            return PrismImageCache.getInstance().get(key,
+                    () -> new PrismImageLoader2(url, width, height, preserveRatio, pixelScale, smooth));
+        } catch (IOException e) {
+            // a concurrent background load of the same image failed
+            return new PrismImageLoader2(e);
+        }
+    }
+
     public double getWidth() {
         return width;
     }
@@ -233,6 +256,7 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         double width, height;
         boolean preserveRatio;
         boolean smooth;
+        private final PrismImageCache.Key key;
 
         public AsyncImageLoader(
                 AsyncOperationListener<PrismImageLoader2> listener,
@@ -245,6 +269,8 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
             this.preserveRatio = preserveRatio;
             this.smooth = smooth;
             this.acc = AccessController.getContext();
+            // the stream is always decoded with a pixel scale of 1
+            this.key = new PrismImageCache.Key(url, width, height, preserveRatio, 1.0f, smooth);
         }
 
         @Override
@@ -254,6 +280,10 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
 
         @Override
         public PrismImageLoader2 call() throws IOException {
+            return PrismImageCache.getInstance().get(key, this::loadPrivileged);
+        }
+
+        private PrismImageLoader2 loadPrivileged() throws IOException {
             try {
                 return AccessController.doPrivileged(
                         (PrivilegedExceptionAction<PrismImageLoader2>) () -> AsyncImageLoader.super.call(), acc);
@@ -295,10 +325,13 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
                             }
                     );
 
-            final ExecutorService bgLoadingExecutor =
-                    Executors.newCachedThreadPool(bgLoadingThreadFactory);
-            ((ThreadPoolExecutor) bgLoadingExecutor).setKeepAliveTime(
-                                                         1, TimeUnit.SECONDS);
+            final int threads = PrismSettings.imageLoadThreads;
+            final ThreadPoolExecutor bgLoadingExecutor =
+                    new ThreadPoolExecutor(threads, threads,
+                                           1, TimeUnit.SECONDS,
+                                           new LinkedBlockingQueue<Runnable>(),
+                                           bgLoadingThreadFactory);
+            bgLoadingExecutor.allowCoreThreadTimeOut(true);
 
             return bgLoadingExecutor;
         }
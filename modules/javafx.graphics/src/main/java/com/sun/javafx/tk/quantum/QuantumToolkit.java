@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -131,6 +131,7 @@ import com.sun.scenario.effect.Filterable;
 import com.sun.scenario.effect.impl.prism.PrFilterContext;
 import com.sun.scenario.effect.impl.prism.PrImage;
 import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.logging.PulseMetrics;
 import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
 import com.sun.javafx.scene.input.DragboardHelper;
 
@@ -549,11 +550,13 @@ public final class QuantumToolkit extends Toolkit {
             if (PULSE_LOGGING_ENABLED) {
                 PulseLogger.pulseStart();
             }
+            PulseMetrics.pulseStart();
 
             if (!toolkitRunning.get()) {
                 return;
             }
             nextPulseRequested.set(false);
+            PulseMetrics.phase(PulseMetrics.ANIMATION);
             if (animationRunnable != null) {
                 animationRunning.set(true);
                 animationRunnable.run();
@@ -564,6 +567,7 @@ public final class QuantumToolkit extends Toolkit {
             if (collect) collector.renderAll();
         } finally {
             inPulse--;
+            PulseMetrics.pulseEnd();
             if (PULSE_LOGGING_ENABLED) {
                 PulseLogger.pulseEnd();
             }
@@ -786,7 +790,7 @@ public final class QuantumToolkit extends Toolkit {
     }
 
     @Override public ImageLoader loadImage(String url, double width, double height, boolean preserveRatio, boolean smooth) {
-        return new PrismImageLoader2(url, width, height, preserveRatio, getMaxRenderScale(), smooth);
+        return PrismImageLoader2.load(url, width, height, preserveRatio, getMaxRenderScale(), smooth);
     }
 
     @Override public ImageLoader loadImage(InputStream stream, double width, double height,
@@ -800,6 +804,10 @@ public final class QuantumToolkit extends Toolkit {
         return new PrismImageLoader2.AsyncImageLoader(listener, url, width, height, preserveRatio, smooth);
     }
 
+    @Override public int getMaxImageLoadingTasks() {
+        return PrismSettings.imageLoadThreads;
+    }
+
     // Note that this method should only be called by PlatformImpl.runLater
     // It should not be called directly by other FX code since the underlying
     // glass invokeLater method is not thread-safe with respect to toolkit
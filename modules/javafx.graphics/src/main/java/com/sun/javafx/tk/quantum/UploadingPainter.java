@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,6 +27,7 @@ package com.sun.javafx.tk.quantum;
 
 import java.nio.IntBuffer;
 import com.sun.glass.ui.Pixels;
+import com.sun.javafx.logging.PulseMetrics;
 import com.sun.prism.Graphics;
 import com.sun.prism.GraphicsPipeline;
 import com.sun.prism.RTTexture;
@@ -139,8 +140,10 @@ final class UploadingPainter extends ViewPainter implements Runnable {
                 return;
             }
             g.scale(scalex, scaley);
+            PulseMetrics.renderPhase(PulseMetrics.RENDER);
             paintImpl(g);
             freshBackBuffer = false;
+            PulseMetrics.renderPhase(PulseMetrics.PRESENT);
 
             int outWidth = sceneState.getOutputWidth();
             int outHeight = sceneState.getOutputHeight();
@@ -185,6 +188,7 @@ final class UploadingPainter extends ViewPainter implements Runnable {
             errored = true;
             th.printStackTrace(System.err);
         } finally {
+            PulseMetrics.renderPhase(PulseMetrics.NONE);
             if (rttexture != null && rttexture.isLocked()) {
                 rttexture.unlock();
             }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -35,10 +35,12 @@ import com.sun.javafx.geom.Rectangle;
 import com.sun.javafx.geom.transform.Affine3D;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.GeneralTransform3D;
+import com.sun.javafx.sg.prism.EffectFilter;
 import com.sun.javafx.sg.prism.NGCamera;
 import com.sun.javafx.sg.prism.NGNode;
 import com.sun.javafx.sg.prism.NGPerspectiveCamera;
 import com.sun.javafx.sg.prism.NodePath;
+import com.sun.javafx.sg.prism.RenderList;
 import com.sun.prism.Graphics;
 import com.sun.prism.GraphicsResource;
 import com.sun.prism.Image;
@@ -50,6 +52,7 @@ import com.sun.prism.impl.PrismSettings;
 import com.sun.prism.paint.Color;
 import com.sun.prism.paint.Paint;
 import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.logging.PulseMetrics;
 import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
 
 /**
@@ -137,7 +140,8 @@ abstract class ViewPainter implements Runnable {
             clip = new RectBounds();
             dirtyRect = new Rectangle();
             dirtyRegionTemp = new RectBounds();
-            dirtyRegionPool = new DirtyRegionPool(PrismSettings.dirtyRegionCount);
+            dirtyRegionPool = new DirtyRegionPool(PrismSettings.dirtyRegionCount,
+                                                  PrismSettings.dirtyRegionMergeCost);
             dirtyRegionContainer = dirtyRegionPool.checkOut();
         }
     }
@@ -173,6 +177,9 @@ abstract class ViewPainter implements Runnable {
         // This "g" variable might represent the back buffer graphics, or it
         // might be reassigned to the sceneBuffer graphics.
         Graphics g = backBufferGraphics;
+
+        EffectFilter.nextFrame();
+        RenderList.nextFrame();
         // Take into account the pixel scale factor for retina displays
         final float pixelScaleX = getPixelScaleFactorX();
         final float pixelScaleY = getPixelScaleFactorY();
@@ -274,10 +281,14 @@ abstract class ViewPainter implements Runnable {
                 root.getRenderRoot(getRootPath(i), dirtyRegionContainer.getDirtyRegion(i), i, tx, projTx);
             }
 
+            final int dirtyArea = (int) dirtyRegionContainer.getArea();
+            PulseMetrics.dirtyRegionsPainted(dirtyRegionSize, dirtyArea);
+
             // For debug purposes, write out to the pulse logger the number and size of the dirty
-            // regions that are being used to render this pulse.
+            // regions that are being used to render this pulse, and the area they cover.
             if (PULSE_LOGGING_ENABLED) {
-                PulseLogger.addMessage(dirtyRegionSize + " different dirty regions to render");
+                PulseLogger.addMessage(dirtyRegionSize + " different dirty regions to render, covering " +
+                        dirtyArea + " of " + ((long) width * height) + " pixels");
                 for (int i=0; i<dirtyRegionSize; i++) {
                     PulseLogger.addMessage("Dirty Region " + i + ": " + dirtyRegionContainer.getDirtyRegion(i));
                     PulseLogger.addMessage("Render Root Path " + i + ": " + getRootPath(i));
@@ -323,6 +334,7 @@ abstract class ViewPainter implements Runnable {
             }
         } else {
             // There are no dirty regions, so just paint everything
+            PulseMetrics.dirtyRegionsPainted(1, width * height);
             g.setHasPreCullingBits(false);
             g.setClipRect(null);
             this.doPaint(g, null);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2008, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2008, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,7 @@
 
 package com.sun.prism.d3d;
 
+import com.sun.javafx.logging.PulseMetrics;
 import com.sun.prism.MediaFrame;
 import com.sun.prism.PixelFormat;
 import com.sun.prism.Texture;
@@ -140,6 +141,7 @@ class D3DTexture extends BaseTexture<D3DTextureResource>
     {
         checkUpdateParams(pixels, format,
                           dstx, dsty, srcx, srcy, srcw, srch, srcscan);
+        PulseMetrics.textureUploaded();
 
         if (!skipFlush) {
             getContext().flushVertexBuffer();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,7 @@
 package com.sun.prism.es2;
 
 import com.sun.javafx.PlatformUtil;
+import com.sun.javafx.logging.PulseMetrics;
 import com.sun.prism.Image;
 import com.sun.prism.Texture;
 import com.sun.prism.MediaFrame;
@@ -639,6 +640,7 @@ class ES2Texture<T extends ES2TextureData> extends BaseTexture<ES2TextureResourc
             boolean skipFlush) {
         checkUpdateParams(pixels, format,
                 dstx, dsty, srcx, srcy, srcw, srch, srcscan);
+        PulseMetrics.textureUploaded();
 
         if (!skipFlush) {
             context.flushVertexBuffer();
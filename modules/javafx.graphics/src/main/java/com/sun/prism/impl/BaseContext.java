@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2018, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -184,6 +184,19 @@ public abstract class BaseContext {
         glyphCaches.clear();
     }
 
+    /**
+     * Removes the given glyph cache of the given strike, which no longer has
+     * glyphs in the glyph textures.
+     */
+    void removeGlyphCache(FontStrike strike, GlyphCache glyphCache) {
+        Map<FontStrike, GlyphCache> glyphCaches =
+            (strike.getAAMode() == FontResource.AA_LCD)
+            ? lcdGlyphCaches : greyGlyphCaches;
+        if (glyphCaches.remove(strike, glyphCache)) {
+            strike.clearDesc();
+        }
+    }
+
     abstract public RTTexture getLCDBuffer();
 
     public GlyphCache getGlyphCache(FontStrike strike) {
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.impl;
+
+import com.sun.javafx.geom.Rectangle;
+import com.sun.prism.Texture;
+import com.sun.prism.impl.packrect.RectanglePacker;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.function.IntFunction;
+
+/**
+ * The textures in which the glyphs of all the strikes rendered with a given
+ * context are packed.
+ *
+ * The atlas starts with a single page and adds pages on demand, up to a
+ * maximum number of pages. Once all the pages are full, the least recently
+ * used page is evicted: the owners of the glyphs on that page drop them and
+ * the page is reused, while the glyphs on the other pages stay valid.
+ */
+final class GlyphAtlas {
+
+    /**
+     * An owner of glyphs packed on the pages of the atlas.
+     */
+    interface Owner {
+        /**
+         * Drops the glyphs packed on the given page, which is being evicted.
+         */
+        void evict(Page page);
+    }
+
+    static final class Page {
+        private final RectanglePacker packer;
+        private final HashSet<Owner> owners = new HashSet<>();
+        private long lastUsed;
+
+        private Page(RectanglePacker packer) {
+            this.packer = packer;
+        }
+
+        Texture getTexture() {
+            return packer.getBackingStore();
+        }
+    }
+
+    private final ArrayList<Page> pages = new ArrayList<>();
+    private final int maxPages;
+    private final int pageWidth;
+    private final int pageHeight;
+    private final IntFunction<RectanglePacker> pageFactory;
+    private final Runnable flush;
+    private Page current;
+    private long clock;
+    private int evictions;
+
+    /**
+     * Creates an atlas with the first of its pages.
+     *
+     * @param maxPages the maximum number of pages
+     * @param pageWidth the width of the pages
+     * @param pageHeight the height of the pages
+     * @param pageFactory creates the packer (and its texture) of the page
+     *        with the given index
+     * @param flush flushes any pending rendering which may use the pages,
+     *        called before a page is evicted
+     */
+    GlyphAtlas(int maxPages, int pageWidth, int pageHeight,
+               IntFunction<RectanglePacker> pageFactory, Runnable flush) {
+        this.maxPages = Math.max(1, maxPages);
+        this.pageWidth = pageWidth;
+        this.pageHeight = pageHeight;
+        this.pageFactory = pageFactory;
+        this.flush = flush;
+        current = newPage();
+    }
+
+    private Page newPage() {
+        final Page page = new Page(pageFactory.apply(pages.size()));
+        pages.add(page);
+        return page;
+    }
+
+    Page getFirstPage() {
+        return pages.get(0);
+    }
+
+    int getPageCount() {
+        return pages.size();
+    }
+
+    int getEvictionCount() {
+        return evictions;
+    }
+
+    int indexOf(Page page) {
+        return pages.indexOf(page);
+    }
+
+    Page getPage(int index) {
+        return pages.get(index);
+    }
+
+    /**
+     * Marks the given page as used by the glyphs being rendered.
+     */
+    void touch(Page page) {
+        page.lastUsed = ++clock;
+    }
+
+    /**
+     * Places the given rectangle on one of the pages, adding or evicting a
+     * page if needed, and returns that page. Returns null if the rectangle
+     * is larger than a page.
+     */
+    Page add(Rectangle rect, Owner owner) {
+        if (rect.width > pageWidth || rect.height > pageHeight) {
+            return null;
+        }
+        Page page = current;
+        if (!page.packer.add(rect)) {
+            page = null;
+            for (Page p : pages) {
+                if (p != current && p.packer.add(rect)) {
+                    page = p;
+                    break;
+                }
+            }
+            if (page == null) {
+                if (pages.size() < maxPages) {
+                    page = newPage();
+                } else {
+                    page = evictLeastRecentlyUsed();
+                }
+                if (!page.packer.add(rect)) {
+                    return null;
+                }
+            }
+            current = page;
+        }
+        page.owners.add(owner);
+        touch(page);
+        return page;
+    }
+
+    private Page evictLeastRecentlyUsed() {
+        Page victim = pages.get(0);
+        for (Page p : pages) {
+            if (p.lastUsed < victim.lastUsed) {
+                victim = p;
+            }
+        }
+        // the pending rendering may sample the glyphs about to be replaced
+        flush.run();
+        final Owner[] owners = victim.owners.toArray(new Owner[victim.owners.size()]);
+        victim.owners.clear();
+        for (Owner owner : owners) {
+            owner.evict(victim);
+        }
+        victim.packer.clear();
+        evictions++;
+        return victim;
+    }
+
+    /**
+     * Stops tracking the given owner, which no longer has glyphs on the pages.
+     */
+    void remove(Owner owner) {
+        for (Page p : pages) {
+            p.owners.remove(owner);
+        }
+    }
+}
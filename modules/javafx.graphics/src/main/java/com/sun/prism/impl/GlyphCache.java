@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -43,14 +43,16 @@ import com.sun.prism.paint.Color;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.WeakHashMap;
+import java.util.function.Consumer;
 
 import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
 import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.logging.PulseMetrics;
 
 import com.sun.prism.ResourceFactory;
 import com.sun.prism.Texture.WrapMode;
 
-public class GlyphCache {
+public class GlyphCache implements GlyphAtlas.Owner {
 
     // REMIND: For a less powerful device, the size of this cache
     // is likely something we'd want to tune as they may have much less
@@ -61,6 +63,9 @@ public class GlyphCache {
     // to 1/4 of the strikes.
     private static final int WIDTH = PrismSettings.glyphCacheWidth; // in pixels
     private static final int HEIGHT = PrismSettings.glyphCacheHeight; // in pixels
+    // The mask textures use one byte per pixel
+    private static final int MAX_PAGES =
+        (int) Math.max(1, Math.min(64, PrismSettings.glyphCacheVram / ((long) WIDTH * HEIGHT)));
     private static ByteBuffer emptyMask;
 
     private final BaseContext context;
@@ -76,18 +81,23 @@ public class GlyphCache {
     // Using them for subpixel
     private static final int SUBPIXEL_SHIFT = 27;
 
-    private RectanglePacker packer;
+    private GlyphAtlas atlas;
+
+    // The number of glyphs of this cache packed on the pages of the atlas
+    private int packedGlyphs;
+    // True while this cache is packing a glyph and may evict its own glyphs
+    private boolean packing;
 
     private boolean isLCDCache;
 
-    /* Share a RectanglePacker and its associated texture cache
+    /* Share a GlyphAtlas and its associated texture pages
      * for all uses on a particular screen.
      */
-    static WeakHashMap<BaseContext, RectanglePacker> greyPackerMap =
-        new WeakHashMap<BaseContext, RectanglePacker>();
+    static WeakHashMap<BaseContext, GlyphAtlas> greyAtlasMap =
+        new WeakHashMap<BaseContext, GlyphAtlas>();
 
-    static WeakHashMap<BaseContext, RectanglePacker> lcdPackerMap =
-        new WeakHashMap<BaseContext, RectanglePacker>();
+    static WeakHashMap<BaseContext, GlyphAtlas> lcdAtlasMap =
+        new WeakHashMap<BaseContext, GlyphAtlas>();
 
     public GlyphCache(BaseContext context, FontStrike strike) {
         this.context = context;
@@ -96,27 +106,38 @@ public class GlyphCache {
         //int numSegments = (numGlyphs + SEGSIZE-1)/SEGSIZE;
         //this.glyphs = new GlyphData[numSegments][];
         isLCDCache = strike.getAAMode() == FontResource.AA_LCD;
-        WeakHashMap<BaseContext, RectanglePacker>
-            packerMap = isLCDCache ? lcdPackerMap : greyPackerMap;
-        packer = packerMap.get(context);
-        if (packer == null) {
-            ResourceFactory factory = context.getResourceFactory();
-            Texture tex = factory.createMaskTexture(WIDTH, HEIGHT,
-                                                    WrapMode.CLAMP_NOT_NEEDED);
-            tex.contentsUseful();
-            tex.makePermanent();
-            if (!isLCDCache) {
-                factory.setGlyphTexture(tex);
-            }
-            tex.setLinearFiltering(false);
-            packer = new RectanglePacker(tex, WIDTH, HEIGHT);
-            packerMap.put(context, packer);
+        WeakHashMap<BaseContext, GlyphAtlas>
+            atlasMap = isLCDCache ? lcdAtlasMap : greyAtlasMap;
+        atlas = atlasMap.get(context);
+        if (atlas == null) {
+            final ResourceFactory factory = context.getResourceFactory();
+            final boolean lcd = isLCDCache;
+            atlas = new GlyphAtlas(MAX_PAGES, WIDTH, HEIGHT, index -> {
+                Texture tex = factory.createMaskTexture(WIDTH, HEIGHT,
+                                                        WrapMode.CLAMP_NOT_NEEDED);
+                tex.contentsUseful();
+                tex.makePermanent();
+                // Only the first page can be used by the super shader
+                if (!lcd && index == 0) {
+                    factory.setGlyphTexture(tex);
+                }
+                tex.setLinearFiltering(false);
+                return new RectanglePacker(tex, WIDTH, HEIGHT);
+            }, context::flushVertexBuffer);
+            atlasMap.put(context, atlas);
         }
     }
 
+    /**
+     * Renders the glyphs of the given list. The context must have been
+     * validated for the texture returned by {@link #getBackingStore()}. The
+     * glyphs may be spread over several textures, in which case the given
+     * validator is called before rendering glyphs from another texture.
+     */
     public void render(BaseContext ctx, GlyphList gl, float x, float y,
                        int start, int end, Color rangeColor, Color textColor,
-                       BaseTransform xform, BaseBounds clip) {
+                       BaseTransform xform, BaseBounds clip,
+                       Consumer<Texture> validator) {
 
         int dstw, dsth;
         if (isLCDCache) {
@@ -152,6 +173,12 @@ public class GlyphCache {
                     if (x + gl.getPosX(gi) > clip.getMaxX()) break;
                     if (x + gl.getPosX(gi + 1) < clip.getMinX()) continue;
                 }
+                if (data.page != null && data.page.getTexture() != tex) {
+                    // The glyph is on another page of the atlas
+                    tex = data.page.getTexture();
+                    validator.accept(tex);
+                    currentColor = null;
+                }
                 /* Will not render selected text for complex
                  * paints such as gradient.
                  */
@@ -221,20 +248,34 @@ public class GlyphCache {
         }
     }
 
+    /**
+     * Returns the texture which the context must be validated for before
+     * calling {@link #render}.
+     */
     public Texture getBackingStore() {
-        return packer.getBackingStore();
+        return atlas.getFirstPage().getTexture();
     }
 
     public void clear() {
         glyphDataMap.clear();
+        atlas.remove(this);
+        packedGlyphs = 0;
     }
 
-    private void clearAll() {
-        // flush any pending vertices that may depend on the current state
-        // of the glyph cache texture.
-        context.flushVertexBuffer();
-        context.clearGlyphCaches();
-        packer.clear();
+    @Override
+    public void evict(GlyphAtlas.Page page) {
+        for (GlyphData[] segment : glyphDataMap.values()) {
+            for (int i = 0; i < segment.length; i++) {
+                if (segment[i] != null && segment[i].page == page) {
+                    segment[i] = null;
+                    packedGlyphs--;
+                }
+            }
+        }
+        if (packedGlyphs == 0 && !packing) {
+            // Allow the strike to be released if it is not used anymore
+            context.removeGlyphCache(strike, this);
+        }
     }
 
     private GlyphData getCachedGlyph(int glyphCode, int subPixel) {
@@ -243,8 +284,12 @@ public class GlyphCache {
         segIndex |= (subPixel << SUBPIXEL_SHIFT);
         GlyphData[] segment = glyphDataMap.get(segIndex);
         if (segment != null) {
-            if (segment[subIndex] != null) {
-                return segment[subIndex];
+            GlyphData data = segment[subIndex];
+            if (data != null) {
+                if (data.page != null) {
+                    atlas.touch(data.page);
+                }
+                return data;
             }
         } else {
             segment = new GlyphData[SEGSIZE];
@@ -284,14 +329,27 @@ public class GlyphCache {
                                      glyph.getPixelYAdvance(),
                                      rect);
 
-                if (!packer.add(rect)) {
-                    if (PULSE_LOGGING_ENABLED) {
-                        PulseLogger.incrementCounter("Font Glyph Cache Cleared");
+                int evictions = atlas.getEvictionCount();
+                packing = true;
+                GlyphAtlas.Page page;
+                try {
+                    page = atlas.add(rect, this);
+                } finally {
+                    packing = false;
+                }
+                if (page == null) {
+                    // The glyph is larger than the backing store
+                    return null;
+                }
+                if (PULSE_LOGGING_ENABLED) {
+                    PulseLogger.incrementCounter("Font Glyph Cache Rasterized");
+                    if (evictions != atlas.getEvictionCount()) {
+                        PulseLogger.incrementCounter("Font Glyph Cache Page Evicted");
                     }
-                    // If add fails,clear up the cache. Try add again.
-                    clearAll();
-                    packer.add(rect);
                 }
+                PulseMetrics.glyphRasterized();
+                data.page = page;
+                packedGlyphs++;
 
                 // We always pass skipFlush=true to backingStore.update()
                 // since we are in control of the contents of the backingStore
@@ -302,7 +360,7 @@ public class GlyphCache {
                 // Upload the an empty byte array to ensure the boundary
                 // area is filled with zeros. Note that the rectangle
                 // is already padded on each edge.
-                Texture backingStore = getBackingStore();
+                Texture backingStore = page.getTexture();
                 int emw = rect.width;
                 int emh = rect.height;
                 int bpp = backingStore.getPixelFormat().getBytesPerPixelUnit();
@@ -354,6 +412,9 @@ public class GlyphCache {
         // The rectangle on the backing store corresponding to this glyph
         private final Rectangle rect;
 
+        // The page of the backing store holding the glyph
+        private GlyphAtlas.Page page;
+
         GlyphData(int originX, int originY, int blankBoundary,
                   float xAdvance, float yAdvance, Rectangle rect)
         {
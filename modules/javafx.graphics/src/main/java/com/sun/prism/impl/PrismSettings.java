@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -63,6 +63,7 @@ public final class PrismSettings {
     public static final boolean printRenderGraph;
     public static final int minRTTSize;
     public static final int dirtyRegionCount;
+    public static final int dirtyRegionMergeCost;
     public static final boolean disableBadDriverWarning;
     public static final boolean forceGPU;
     public static final int maxTextureSize;
@@ -79,6 +80,7 @@ public final class PrismSettings {
     public static final boolean disableEffects;
     public static final int glyphCacheWidth;
     public static final int glyphCacheHeight;
+    public static final long glyphCacheVram;
     public static final String perfLog;
     public static final boolean perfLogExitFlush;
     public static final boolean perfLogFirstPaintFlush;
@@ -87,6 +89,14 @@ public final class PrismSettings {
     public static final boolean forceUploadingPainter;
     public static final boolean forceAlphaTestShader;
     public static final boolean forceNonAntialiasedShape;
+    public static final boolean swTiledRendering;
+    public static final int swTileSize;
+    public static final int swTileMinSize;
+    public static final int swTileThreads;
+    public static final long imageCacheSize;
+    public static final int imageLoadThreads;
+    public static final long effectCacheVram;
+    public static final boolean retainedRendering;
 
     public static enum RasterizerType {
         JavaPisces("Java-based Pisces Rasterizer"),
@@ -136,8 +146,14 @@ public final class PrismSettings {
                                                true);
 
         // The maximum number of dirty regions to use. The absolute max that we can
-        // support at present is 15.
-        dirtyRegionCount = Utils.clamp(0, getInt(systemProperties, "prism.dirtyregioncount", 6, null), 15);
+        // support at present is 31, as NGNode keeps 2 culling bits per region in a long.
+        dirtyRegionCount = Utils.clamp(0, getInt(systemProperties, "prism.dirtyregioncount", 6, null), 31);
+
+        // The cost of painting one more dirty region, as an area in pixels. Dirty
+        // regions are merged whenever painting their union costs less than painting
+        // both (disabled by default, only intersecting regions are merged then).
+        dirtyRegionMergeCost = Math.max(0, getInt(systemProperties, "prism.dirtyRegionMergeCost", 0,
+                "Try -Dprism.dirtyRegionMergeCost=<number>"));
 
         // Scrolling cache optimization
         // Disabled as a workaround for RT-39755.
@@ -369,6 +385,9 @@ public final class PrismSettings {
                 "Try -Dprism.glyphCacheWidth=<number>");
         glyphCacheHeight = getInt(systemProperties, "prism.glyphCacheHeight", 1024,
                 "Try -Dprism.glyphCacheHeight=<number>");
+        // The glyph cache adds textures of the above size up to this budget
+        glyphCacheVram = getLong(systemProperties, "prism.glyphCacheVram", 4 * 1024 * 1024,
+                "Try -Dprism.glyphCacheVram=<long>[kKmMgG]");
 
         /*
          * Performance Logger flags
@@ -390,6 +409,47 @@ public final class PrismSettings {
         // Force non anti-aliasing (not smooth) shape rendering
         forceNonAntialiasedShape = getBoolean(systemProperties, "prism.forceNonAntialiasedShape", false);
 
+        /*
+         * Tiled rendering for the software pipeline (opt-in).
+         * Shape rendering on large SW render targets is recorded and then
+         * replayed per tile on a pool of worker threads. Targets whose width
+         * or height is smaller than swTileMinSize are always rendered
+         * directly on the render thread.
+         */
+        swTiledRendering = getBoolean(systemProperties, "prism.sw.tiles", false);
+        swTileSize = Math.max(16, getInt(systemProperties, "prism.sw.tileSize", 256,
+                "Try -Dprism.sw.tileSize=<number>"));
+        swTileMinSize = getInt(systemProperties, "prism.sw.tileMinSize", 512,
+                "Try -Dprism.sw.tileMinSize=<number>");
+        swTileThreads = Math.max(1, getInt(systemProperties, "prism.sw.tileThreads",
+                Runtime.getRuntime().availableProcessors(),
+                "Try -Dprism.sw.tileThreads=<number>"));
+
+        /*
+         * Decoded images loaded from a URL are kept in a shared cache of at
+         * most imageCacheSize bytes (disabled by default), and images loaded
+         * in the background are decoded by imageLoadThreads worker threads.
+         */
+        imageCacheSize = getLong(systemProperties, "prism.imageCacheSize", 0,
+                "Try -Dprism.imageCacheSize=<long>[kKmMgG]");
+        imageLoadThreads = Math.max(1, getInt(systemProperties, "prism.imageLoadThreads", 4,
+                "Try -Dprism.imageLoadThreads=<number>"));
+
+        /*
+         * The filtered results of effects on nodes which did not change since
+         * the previous frame are kept for up to effectCacheVram bytes of
+         * textures (disabled by default).
+         */
+        effectCacheVram = getLong(systemProperties, "prism.effectCacheVram", 0,
+                "Try -Dprism.effectCacheVram=<long>[kKmMgG]");
+
+        /*
+         * Groups of shapes which did not change since the previous frame
+         * record their rendering once and replay it in the next frames
+         * (disabled by default).
+         */
+        retainedRendering = getBoolean(systemProperties, "prism.retainedRendering", false);
+
     }
 
     private static int parseInt(String s, int dflt, int trueDflt,
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,6 +27,7 @@ package com.sun.prism.impl.ps;
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.function.Consumer;
 import com.sun.javafx.font.FontResource;
 import com.sun.javafx.font.FontStrike;
 import com.sun.javafx.font.Metrics;
@@ -2035,6 +2036,8 @@ public abstract class BaseShaderGraphics
         GlyphCache glyphCache = context.getGlyphCache(strike);
         Texture cacheTex = glyphCache.getBackingStore();
 
+        // Validates the context for rendering glyphs from a glyph cache texture
+        Consumer<Texture> validator;
         //Since we currently cannot support LCD text on transparant surfaces, we
         //verify that we are drawing to an opaque surface.
         if (strike.getAAMode() == FontResource.AA_LCD) {
@@ -2072,22 +2075,13 @@ public abstract class BaseShaderGraphics
                         (float)Math.pow(selectColor.getAlpha(), invgamma));
             }
 
-            // In order to handle transparency, the LCD shader need to manually
-            // composite source with destination. Thus, SRC_OVER compositing
-            // needs to be set to SRC, while shader is active.
-            setCompositeMode(CompositeMode.SRC);
-
-            //set our 2nd LCD shader.
-            Shader shader = context.validateLCDOp(this, IDENT,
-                                                context.getLCDBuffer(),
-                                                cacheTex, false, textColor);
-
-            float unitXCoord = 1.0f/((float)cacheTex.getPhysicalWidth());
-            shader.setConstant("gamma", gamma, invgamma, unitXCoord);
-            setCompositeMode(blendMode); // Restore composite mode
+            final Color lcdTextColor = textColor;
+            validator = tex -> validateLCDGlyphTexture(tex, lcdTextColor, gamma, invgamma, blendMode);
         } else {
-            context.validatePaintOp(this, IDENT, cacheTex, bx, by, bw, bh);
+            final float vbx = bx, vby = by, vbw = bw, vbh = bh;
+            validator = tex -> context.validatePaintOp(this, IDENT, tex, vbx, vby, vbw, vbh);
         }
+        validator.accept(cacheTex);
         if (isSimpleTranslate) {
             // Applying this rounding allows for smoother text animation,
             // when animating simple translated text.
@@ -2099,7 +2093,25 @@ public abstract class BaseShaderGraphics
             p2d.x = Math.round(p2d.x);
         }
         glyphCache.render(context, gl, p2d.x, p2d.y, selectStart, selectEnd,
-                          selectColor, textColor, xform, clip);
+                          selectColor, textColor, xform, clip, validator);
+    }
+
+    private void validateLCDGlyphTexture(Texture cacheTex, Color textColor,
+                                         float gamma, float invgamma,
+                                         CompositeMode blendMode) {
+        // In order to handle transparency, the LCD shader need to manually
+        // composite source with destination. Thus, SRC_OVER compositing
+        // needs to be set to SRC, while shader is active.
+        setCompositeMode(CompositeMode.SRC);
+
+        //set our 2nd LCD shader.
+        Shader shader = context.validateLCDOp(this, IDENT,
+                                            context.getLCDBuffer(),
+                                            cacheTex, false, textColor);
+
+        float unitXCoord = 1.0f/((float)cacheTex.getPhysicalWidth());
+        shader.setConstant("gamma", gamma, invgamma, unitXCoord);
+        setCompositeMode(blendMode); // Restore composite mode
     }
 
     //This function is used by the LCD path to render a quad into the
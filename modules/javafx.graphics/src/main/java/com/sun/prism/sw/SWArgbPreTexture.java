@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -33,6 +33,7 @@ import com.sun.javafx.image.impl.ByteBgraPre;
 import com.sun.javafx.image.impl.ByteGray;
 import com.sun.javafx.image.impl.ByteRgb;
 import com.sun.javafx.image.impl.IntArgbPre;
+import com.sun.javafx.logging.PulseMetrics;
 import com.sun.prism.MediaFrame;
 import com.sun.prism.PixelFormat;
 import com.sun.prism.Texture;
@@ -77,6 +78,7 @@ class SWArgbPreTexture extends SWTexture {
     public void update(Buffer buffer, PixelFormat format, int dstx, int dsty,
                        int srcx, int srcy, int srcw, int srch, int srcscan, boolean skipFlush)
     {
+        PulseMetrics.textureUploaded();
         if (PrismSettings.debug) {
             System.out.println("ARGB_PRE TEXTURE, Pixel format: " + format + ", buffer: " + buffer);
             System.out.println("dstx:" + dstx + " dsty:" + dsty);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -74,6 +74,8 @@ final class SWGraphics implements ReadbackGraphics {
     private final SWContext context;
     private final SWRTTexture target;
     private final SWPaint swPaint;
+    private final Rectangle bounds;
+    private final SWTileRenderer tileRenderer;
 
     private final BaseTransform tx = new Affine2D();
 
@@ -109,14 +111,57 @@ final class SWGraphics implements ReadbackGraphics {
     }
 
     public SWGraphics(SWRTTexture target, SWContext context, PiscesRenderer pr) {
+        this(target, context, pr, target.getDimensions(), target.getTileRenderer());
+    }
+
+    /**
+     * Creates a graphics which renders directly into the given
+     * {@code bounds} of the target, used for the tiles of a
+     * {@code SWTileRenderer}.
+     */
+    SWGraphics(SWRTTexture target, SWContext context, PiscesRenderer pr, Rectangle bounds) {
+        this(target, context, pr, bounds, null);
+    }
+
+    /**
+     * Creates a graphics which records its shape rendering into the given
+     * {@code tileRenderer}, or renders directly if it is null.
+     */
+    SWGraphics(SWRTTexture target, SWContext context, PiscesRenderer pr,
+               Rectangle bounds, SWTileRenderer tileRenderer) {
         this.target = target;
         this.context = context;
         this.pr = pr;
         this.swPaint = new SWPaint(context, pr);
+        this.bounds = bounds;
+        this.tileRenderer = tileRenderer;
 
         this.setClipRect(null);
     }
 
+    /**
+     * Records the given operation for tiled rendering if possible.
+     * Returns false if the operation must be rendered directly, in which
+     * case all previously recorded operations have been flushed.
+     */
+    private boolean deferToTiles(Shape shape, boolean stroked, SWTileRenderer.Op op) {
+        if (tileRenderer == null) {
+            return false;
+        }
+        if (tileRenderer.canDefer(this.paint)) {
+            tileRenderer.defer(this, shape, stroked, op);
+            return true;
+        }
+        tileRenderer.flush();
+        return false;
+    }
+
+    private void flushTiles() {
+        if (tileRenderer != null) {
+            tileRenderer.flush();
+        }
+    }
+
     public RenderTarget getRenderTarget() {
         return target;
     }
@@ -130,6 +175,7 @@ final class SWGraphics implements ReadbackGraphics {
     }
 
     public void sync() {
+        flushTiles();
     }
 
     public BaseTransform getTransformNoClone() {
@@ -247,8 +293,12 @@ final class SWGraphics implements ReadbackGraphics {
         return finalClip.toRectBounds();
     }
 
+    Rectangle getFinalClip() {
+        return finalClip;
+    }
+
     public void setClipRect(Rectangle clipRect) {
-        finalClip.setBounds(target.getDimensions());
+        finalClip.setBounds(bounds);
         if (clipRect == null) {
             if (PrismSettings.debug) {
                 System.out.println("+ PR.resetClip");
@@ -352,6 +402,10 @@ final class SWGraphics implements ReadbackGraphics {
         nodeBounds = bounds;
     }
 
+    RectBounds getNodeBounds() {
+        return nodeBounds;
+    }
+
     public void clear() {
         this.clear(Color.TRANSPARENT);
     }
@@ -366,6 +420,11 @@ final class SWGraphics implements ReadbackGraphics {
         if (PrismSettings.debug) {
             System.out.println("+ PR.clear: " + color);
         }
+        if (tileRenderer != null) {
+            tileRenderer.defer(this, null, false, g -> g.clear(color));
+            getRenderTarget().setOpaque(color.isOpaque());
+            return;
+        }
         this.swPaint.setColor(color, 1f);
         pr.clearRect(0, 0, target.getPhysicalWidth(), target.getPhysicalHeight());
         getRenderTarget().setOpaque(color.isOpaque());
@@ -392,6 +451,12 @@ final class SWGraphics implements ReadbackGraphics {
         if (PrismSettings.debug) {
             System.out.println("+ fill(Shape)");
         }
+        if (tileRenderer != null) {
+            final Shape s = shape.copy();
+            if (deferToTiles(s, false, g -> g.fill(s))) {
+                return;
+            }
+        }
         paintShape(shape, null, this.tx);
     }
 
@@ -406,6 +471,12 @@ final class SWGraphics implements ReadbackGraphics {
         if (PrismSettings.debug) {
             System.out.printf("+ SWG.fillRect, x: %f, y: %f, w: %f, h: %f\n", x, y, width, height);
         }
+        if (tileRenderer != null &&
+            deferToTiles(new RoundRectangle2D(x, y, width, height, 0, 0), false,
+                         g -> g.fillRect(x, y, width, height)))
+        {
+            return;
+        }
         if (tx.getMxy() == 0 && tx.getMyx() == 0) {
             if (PrismSettings.debug) {
                 System.out.println("GR: " + this);
@@ -468,6 +539,12 @@ final class SWGraphics implements ReadbackGraphics {
         if (PrismSettings.debug) {
             System.out.println("+ SWG.fillRoundRect");
         }
+        if (tileRenderer != null &&
+            deferToTiles(new RoundRectangle2D(x, y, width, height, arcw, arch), false,
+                         g -> g.fillRoundRect(x, y, width, height, arcw, arch)))
+        {
+            return;
+        }
         this.paintRoundRect(x, y, width, height, arcw, arch, null);
     }
 
@@ -475,6 +552,12 @@ final class SWGraphics implements ReadbackGraphics {
         if (PrismSettings.debug) {
             System.out.println("+ SWG.fillEllipse");
         }
+        if (tileRenderer != null &&
+            deferToTiles(new Ellipse2D(x, y, width, height), false,
+                         g -> g.fillEllipse(x, y, width, height)))
+        {
+            return;
+        }
         this.paintEllipse(x, y, width, height, null);
     }
 
@@ -482,6 +565,12 @@ final class SWGraphics implements ReadbackGraphics {
         if (PrismSettings.debug) {
             System.out.println("+ draw(Shape)");
         }
+        if (tileRenderer != null) {
+            final Shape s = shape.copy();
+            if (deferToTiles(s, true, g -> g.draw(s))) {
+                return;
+            }
+        }
         paintShape(shape, this.stroke, this.tx);
     }
 
@@ -539,6 +628,12 @@ final class SWGraphics implements ReadbackGraphics {
         if (PrismSettings.debug) {
             System.out.println("+ drawLine");
         }
+        if (tileRenderer != null &&
+            deferToTiles(new Line2D(x1, y1, x2, y2), true,
+                         g -> g.drawLine(x1, y1, x2, y2)))
+        {
+            return;
+        }
         if (line2d == null) {
             line2d = new Line2D(x1, y1, x2, y2);
         } else {
@@ -559,6 +654,12 @@ final class SWGraphics implements ReadbackGraphics {
         if (PrismSettings.debug) {
             System.out.println("+ SWG.drawRoundRect");
         }
+        if (tileRenderer != null &&
+            deferToTiles(new RoundRectangle2D(x, y, width, height, arcw, arch), true,
+                         g -> g.drawRoundRect(x, y, width, height, arcw, arch)))
+        {
+            return;
+        }
         this.paintRoundRect(x, y, width, height, arcw, arch, stroke);
     }
 
@@ -566,6 +667,12 @@ final class SWGraphics implements ReadbackGraphics {
         if (PrismSettings.debug) {
             System.out.println("+ SWG.drawEllipse");
         }
+        if (tileRenderer != null &&
+            deferToTiles(new Ellipse2D(x, y, width, height), true,
+                         g -> g.drawEllipse(x, y, width, height)))
+        {
+            return;
+        }
         this.paintEllipse(x, y, width, height, stroke);
     }
 
@@ -577,6 +684,7 @@ final class SWGraphics implements ReadbackGraphics {
                     ", x: " + x + ", y: " + y +
                     ", selectStart: " + selectStart + ", selectEnd: " + selectEnd);
         }
+        flushTiles();
 
         final float bx, by, bw, bh;
         if (paint.isProportional()) {
@@ -685,6 +793,7 @@ final class SWGraphics implements ReadbackGraphics {
                              float dx1, float dy1, float dx2, float dy2,
                              float sx1, float sy1, float sx2, float sy2,
                              int lEdge, int rEdge, int tEdge, int bEdge) {
+        flushTiles();
         final int imageMode;
         final float compositeAlpha = swPaint.getCompositeAlpha();
         if (compositeAlpha == 1f) {
@@ -835,6 +944,7 @@ final class SWGraphics implements ReadbackGraphics {
         if (PrismSettings.debug) {
             System.out.println("* drawTextureVO");
         }
+        flushTiles();
         final int[] fractions = { 0x0000, 0x10000 };
         final int[] argb = { 0xffffff | (((int)(topopacity * 255)) << 24),
                              0xffffff | (((int)(botopacity * 255)) << 24) };
@@ -917,6 +1027,7 @@ final class SWGraphics implements ReadbackGraphics {
             return rbb;
         }
 
+        flushTiles();
         final int pixels[] = rbb.getDataNoClone();
         this.target.getSurface().getRGB(pixels, 0, rbb.getPhysicalWidth(), view.x, view.y, w, h);
         return rbb;
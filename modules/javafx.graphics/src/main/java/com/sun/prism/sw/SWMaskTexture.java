@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,6 +27,7 @@ package com.sun.prism.sw;
 
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import com.sun.javafx.logging.PulseMetrics;
 import com.sun.prism.MediaFrame;
 import com.sun.prism.PixelFormat;
 import com.sun.prism.Texture;
@@ -58,6 +59,7 @@ public class SWMaskTexture extends SWTexture {
     public void update(Buffer buffer, PixelFormat format, int dstx, int dsty,
                        int srcx, int srcy, int srcw, int srch, int srcscan, boolean skipFlush)
     {
+        PulseMetrics.textureUploaded();
         if (PrismSettings.debug) {
             System.out.println("MASK TEXTURE, Pixel format: " + format + ", buffer: " + buffer);
             System.out.println("dstx:" + dstx + " dsty:" + dsty);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -56,6 +56,7 @@ final class SWPresentable extends SWRTTexture implements Presentable {
              * TODO: make sure the imgrep matches the Pixels.getNativeFormat()
              * TODO: dirty region support
              */
+            flushTiles();
             int w = getPhysicalWidth();
             int h = getPhysicalHeight();
             pixels = pixelSource.getUnusedPixels(w, h, 1.0f, 1.0f);
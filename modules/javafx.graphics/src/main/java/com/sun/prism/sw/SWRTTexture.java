@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -44,6 +44,7 @@ class SWRTTexture extends SWArgbPreTexture implements RTTexture {
     private JavaSurface surface;
     private final Rectangle dimensions = new Rectangle();
     private boolean isOpaque;
+    private SWTileRenderer tileRenderer;
 
     SWRTTexture(SWResourceFactory factory, int w, int h) {
         super(factory, WrapMode.CLAMP_TO_ZERO, w, h);
@@ -56,6 +57,33 @@ class SWRTTexture extends SWArgbPreTexture implements RTTexture {
         return this.surface;
     }
 
+    /**
+     * Returns the tile renderer shared by all graphics rendering into this
+     * texture, or null if this texture is rendered on the render thread only.
+     */
+    SWTileRenderer getTileRenderer() {
+        if (tileRenderer == null && SWTileRenderer.isTileable(physicalWidth, physicalHeight)) {
+            tileRenderer = new SWTileRenderer(this);
+        }
+        return tileRenderer;
+    }
+
+    /**
+     * Completes any rendering recorded for tiled rendering, so that the
+     * pixels of this texture can be read.
+     */
+    void flushTiles() {
+        if (tileRenderer != null) {
+            tileRenderer.flush();
+        }
+    }
+
+    @Override
+    int[] getDataNoClone() {
+        flushTiles();
+        return super.getDataNoClone();
+    }
+
     @Override
     public int[] getPixels() {
         if (contentWidth == physicalWidth) {
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.sw;
+
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.geom.Shape;
+import com.sun.javafx.geom.transform.Affine2D;
+import com.sun.pisces.JavaSurface;
+import com.sun.pisces.PiscesRenderer;
+import com.sun.pisces.RendererBase;
+import com.sun.prism.BasicStroke;
+import com.sun.prism.CompositeMode;
+import com.sun.prism.impl.PrismSettings;
+import com.sun.prism.paint.Paint;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Records the shape rendering issued to a large {@code SWRTTexture} and
+ * replays it once per tile on a shared fork-join pool.
+ *
+ * Every tile owns its own {@code JavaSurface} and {@code PiscesRenderer}
+ * over the pixel array of the target, as well as its own {@code SWContext},
+ * so that each worker uses a private shape renderer (and, for Marlin, a
+ * private {@code RendererContext}). Only operations whose result does not
+ * depend on other shared state (solid colors and gradients) are recorded;
+ * everything else flushes the pending commands and is then rendered
+ * directly on the render thread, which preserves the painter's order.
+ */
+final class SWTileRenderer {
+
+    // Flush eagerly so that recorded shapes do not accumulate without bound
+    static final int MAX_PENDING_OPS = 4096;
+
+    private static ForkJoinPool pool;
+
+    private static synchronized ForkJoinPool getPool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(PrismSettings.swTileThreads);
+        }
+        return pool;
+    }
+
+    /**
+     * Returns true if a render target of the given size should be tiled.
+     */
+    static boolean isTileable(int width, int height) {
+        if (!PrismSettings.swTiledRendering || PrismSettings.swTileThreads < 2) {
+            return false;
+        }
+        // The Pisces rasterizers share static state and cannot run concurrently
+        switch (PrismSettings.rasterizerSpec) {
+            case FloatMarlin:
+            case DoubleMarlin:
+                break;
+            default:
+                return false;
+        }
+        return width >= PrismSettings.swTileMinSize && height >= PrismSettings.swTileMinSize;
+    }
+
+    private static final class Tile {
+        final Rectangle bounds;
+        final SWGraphics g;
+        State applied;
+
+        Tile(SWRTTexture target, int x, int y, int w, int h) {
+            bounds = new Rectangle(x, y, w, h);
+            final JavaSurface surface = new JavaSurface(target.getSurface().getDataIntBuffer().array(),
+                    RendererBase.TYPE_INT_ARGB_PRE,
+                    target.getPhysicalWidth(), target.getPhysicalHeight());
+            final PiscesRenderer pr = new PiscesRenderer(surface);
+            g = new SWGraphics(target, new SWContext(target.getResourceFactory()), pr, bounds);
+        }
+    }
+
+    /**
+     * Snapshot of the rendering attributes of a {@code SWGraphics} which
+     * may be shared by consecutive commands.
+     */
+    private static final class State {
+        final Affine2D tx;
+        final Rectangle clip;
+        final Paint paint;
+        final BasicStroke stroke;
+        final CompositeMode compositeMode;
+        final float extraAlpha;
+        final boolean antialiasedShape;
+        final RectBounds nodeBounds;
+
+        State(SWGraphics g) {
+            tx = new Affine2D(g.getTransformNoClone());
+            clip = g.getClipRect();
+            paint = g.getPaint();
+            final BasicStroke s = g.getStroke();
+            stroke = (s == null) ? null : s.copy();
+            compositeMode = g.getCompositeMode();
+            extraAlpha = g.getExtraAlpha();
+            antialiasedShape = g.isAntialiasedShape();
+            final RectBounds nb = g.getNodeBounds();
+            nodeBounds = (nb == null) ? null : new RectBounds(nb);
+        }
+
+        boolean matches(SWGraphics g) {
+            final Rectangle c = g.getClipRectNoClone();
+            final RectBounds nb = g.getNodeBounds();
+            return paint == g.getPaint() &&
+                   compositeMode == g.getCompositeMode() &&
+                   extraAlpha == g.getExtraAlpha() &&
+                   antialiasedShape == g.isAntialiasedShape() &&
+                   tx.equals(g.getTransformNoClone()) &&
+                   (clip == null ? c == null : clip.equals(c)) &&
+                   (nodeBounds == null ? nb == null : nodeBounds.equals(nb)) &&
+                   (stroke == null ? g.getStroke() == null : stroke.equals(g.getStroke()));
+        }
+
+        void apply(SWGraphics g) {
+            g.setTransform(tx);
+            g.setClipRect(clip);
+            g.setPaint(paint);
+            g.setStroke(stroke);
+            g.setCompositeMode(compositeMode);
+            g.setExtraAlpha(extraAlpha);
+            g.setAntialiasedShape(antialiasedShape);
+            g.setNodeBounds(nodeBounds);
+        }
+    }
+
+    /**
+     * A rendering operation to be replayed on the graphics of each tile.
+     */
+    interface Op {
+        void execute(SWGraphics g);
+    }
+
+    private static final class Command {
+        final Op op;
+        final State state;
+        // device space bounds, clipped to the final clip of the recording graphics
+        final int x0, y0, x1, y1;
+
+        Command(Op op, State state, int x0, int y0, int x1, int y1) {
+            this.op = op;
+            this.state = state;
+            this.x0 = x0;
+            this.y0 = y0;
+            this.x1 = x1;
+            this.y1 = y1;
+        }
+    }
+
+    private final SWRTTexture target;
+    private final Tile[] tiles;
+    private final ArrayList<Command> commands = new ArrayList<>();
+    private final float[] bbox = new float[4];
+    private State lastState;
+
+    SWTileRenderer(SWRTTexture target) {
+        this.target = target;
+        final int w = target.getPhysicalWidth();
+        final int h = target.getPhysicalHeight();
+        final int size = PrismSettings.swTileSize;
+        final int cols = (w + size - 1) / size;
+        final int rows = (h + size - 1) / size;
+        tiles = new Tile[cols * rows];
+        int i = 0;
+        for (int y = 0; y < h; y += size) {
+            for (int x = 0; x < w; x += size) {
+                tiles[i++] = new Tile(target, x, y, Math.min(size, w - x), Math.min(size, h - y));
+            }
+        }
+    }
+
+    /**
+     * Returns true if an operation using the given paint can be recorded.
+     * Image patterns share the texture cached in the {@code SWContext} of
+     * the render thread and are rendered directly.
+     */
+    boolean canDefer(Paint paint) {
+        return paint.getType() != Paint.Type.IMAGE_PATTERN;
+    }
+
+    /**
+     * Records an operation with the current attributes of the given graphics.
+     * The user space {@code shape} is only used to compute the tiles touched
+     * by the operation; if it is null the operation covers the whole clip.
+     */
+    void defer(SWGraphics g, Shape shape, boolean stroked, Op op) {
+        final Rectangle finalClip = g.getFinalClip();
+        if (finalClip.isEmpty()) {
+            return;
+        }
+        int x0 = finalClip.x;
+        int y0 = finalClip.y;
+        int x1 = finalClip.x + finalClip.width;
+        int y1 = finalClip.y + finalClip.height;
+        if (shape != null) {
+            bbox[0] = bbox[1] = Float.POSITIVE_INFINITY;
+            bbox[2] = bbox[3] = Float.NEGATIVE_INFINITY;
+            final BasicStroke stroke = g.getStroke();
+            if (stroked && stroke != null) {
+                stroke.accumulateShapeBounds(bbox, shape, g.getTransformNoClone());
+            } else {
+                Shape.accumulate(bbox, shape, g.getTransformNoClone());
+            }
+            if (bbox[0] <= bbox[2] && bbox[1] <= bbox[3]) {
+                // pad by one pixel to account for antialiasing
+                x0 = Math.max(x0, (int) Math.floor(bbox[0]) - 1);
+                y0 = Math.max(y0, (int) Math.floor(bbox[1]) - 1);
+                x1 = Math.min(x1, (int) Math.ceil(bbox[2]) + 1);
+                y1 = Math.min(y1, (int) Math.ceil(bbox[3]) + 1);
+                if (x0 >= x1 || y0 >= y1) {
+                    return;
+                }
+            }
+        }
+        if (lastState == null || !lastState.matches(g)) {
+            lastState = new State(g);
+        }
+        commands.add(new Command(op, lastState, x0, y0, x1, y1));
+        if (commands.size() >= MAX_PENDING_OPS) {
+            flush();
+        }
+    }
+
+    /**
+     * Returns the number of recorded operations which have not been
+     * replayed yet.
+     */
+    int getPendingCount() {
+        return commands.size();
+    }
+
+    /**
+     * Replays all recorded operations into the tiles and waits for the
+     * workers to finish.
+     */
+    void flush() {
+        if (commands.isEmpty()) {
+            return;
+        }
+        final Command[] pending = commands.toArray(new Command[commands.size()]);
+        commands.clear();
+        lastState = null;
+        if (PrismSettings.debug) {
+            System.out.println("+ SWTileRenderer.flush: " + pending.length +
+                               " ops, " + tiles.length + " tiles, target: " + target);
+        }
+        getPool().invoke(new TileTask(pending, 0, tiles.length));
+    }
+
+    private void renderTile(Tile tile, Command[] pending) {
+        final Rectangle b = tile.bounds;
+        final int tx0 = b.x;
+        final int ty0 = b.y;
+        final int tx1 = b.x + b.width;
+        final int ty1 = b.y + b.height;
+        tile.applied = null;
+        for (Command c : pending) {
+            if (c.x1 <= tx0 || c.x0 >= tx1 || c.y1 <= ty0 || c.y0 >= ty1) {
+                continue;
+            }
+            if (tile.applied != c.state) {
+                c.state.apply(tile.g);
+                tile.applied = c.state;
+            }
+            c.op.execute(tile.g);
+        }
+    }
+
+    private final class TileTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Command[] pending;
+        private final int from, to;
+
+        TileTask(Command[] pending, int from, int to) {
+            this.pending = pending;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                renderTile(tiles[from], pending);
+            } else {
+                final int mid = (from + to) >>> 1;
+                invokeAll(new TileTask(pending, from, mid),
+                          new TileTask(pending, mid, to));
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -131,15 +131,7 @@ public class PrEffectHelper {
             rclip = clipbounds(cul, cur, cll, clr);
         }
 
-        Screen screen = g.getAssociatedScreen();
-        FilterContext fctx;
-        // RT-27555
-        if (screen == null) {
-            ResourceFactory factory = g.getResourceFactory();
-            fctx = PrFilterContext.getPrinterContext(factory);
-        } else {
-            fctx = PrFilterContext.getInstance(screen);
-        }
+        FilterContext fctx = getFilterContext(g);
         // TODO: Pass the camera down so that nodes can render with it
         // for proper perspective below this level.
         PrRenderInfo prinfo;
@@ -180,6 +172,86 @@ public class PrEffectHelper {
         g.setTransform(origtx);
     }
 
+    /**
+     * Applies the given filter effect to the series of inputs for the
+     * current 2D transform of the provided {@code Graphics} and returns
+     * the result, which may then be rendered any number of times with
+     * {@link #render(ImageData, Graphics)} for as long as the inputs and
+     * the transform do not change.
+     * Unlike {@link #render(Effect, Graphics, float, float, Effect)}, the
+     * result covers the whole render target rather than just the clip of
+     * the {@code Graphics}, and it is never rendered directly to the target.
+     *
+     * @param effect the effect to be filtered
+     * @param g the {@code Graphics} to which the result will be rendered
+     * @param defaultInput the default input {@code Effect} to be used if
+     *                     any of the inputs for any of the effects in the
+     *                     chain are unspecified (i.e. {@code null}).
+     * @return the result, to be released with {@code unref()} by the
+     *         caller, or null if there is nothing to render or if the
+     *         current transform is not 2D
+     */
+    public static ImageData filter(Effect effect, Graphics g, Effect defaultInput) {
+        BaseTransform origtx = g.getTransformNoClone();
+        if (!origtx.is2D()) {
+            return null;
+        }
+        BaseTransform transform = origtx.isIdentity()
+                ? BaseTransform.IDENTITY_TRANSFORM
+                : new Affine2D(origtx);
+        RenderTarget rt = g.getRenderTarget();
+        Rectangle rclip = new Rectangle(rt.getContentWidth(), rt.getContentHeight());
+        FilterContext fctx = getFilterContext(g);
+        ImagePool.numEffects++;
+
+        while (true) {
+            ImageData res = effect.filter(fctx, transform, rclip, null, defaultInput);
+            if (res == null || res.validate(fctx)) {
+                return res;
+            }
+            res.unref();
+        }
+    }
+
+    /**
+     * Renders a result returned by {@link #filter(Effect, Graphics, Effect)}
+     * to the provided {@code Graphics}, whose transform must be the one
+     * for which the result was filtered.
+     *
+     * @param res the filtered result
+     * @param g the {@code Graphics} to which the result will be rendered
+     * @return false, and nothing is rendered, if the result is no longer
+     *         valid for the {@code Graphics}
+     */
+    public static boolean render(ImageData res, Graphics g) {
+        if (!res.validate(getFilterContext(g))) {
+            return false;
+        }
+        BaseTransform origtx = g.getTransformNoClone().copy();
+        Rectangle r = res.getUntransformedBounds();
+        Texture tex = ((PrTexture)res.getUntransformedImage()).getTextureObject();
+        g.setTransform(null);
+        g.transform(res.getTransform());
+        g.drawTexture(tex, r.x, r.y, r.width, r.height);
+        g.setTransform(origtx);
+        return true;
+    }
+
+    /**
+     * Returns the {@code FilterContext} used to filter effects for the
+     * provided {@code Graphics}.
+     */
+    public static FilterContext getFilterContext(Graphics g) {
+        Screen screen = g.getAssociatedScreen();
+        // RT-27555
+        if (screen == null) {
+            ResourceFactory factory = g.getResourceFactory();
+            return PrFilterContext.getPrinterContext(factory);
+        } else {
+            return PrFilterContext.getInstance(screen);
+        }
+    }
+
     static Point2D project(float x, float y, double vw, double vh,
                            NGCamera cam, BaseTransform inv,
                            PickRay tmpray, Vec3d tmpvec, Point2D ret)
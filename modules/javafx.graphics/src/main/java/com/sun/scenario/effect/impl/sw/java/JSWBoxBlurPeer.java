@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -117,9 +117,18 @@ public class JSWBoxBlurPeer extends JSWEffectPeer<BoxRenderState> {
     {
         int hsize = dstw - srcw + 1;
         int kscale = 0x7fffffff / (hsize * 255);
-        int srcoff = 0;
-        int dstoff = 0;
-        for (int y = 0; y < dsth; y++) {
+        filterLines(dsth, dstw, (y0, y1) ->
+            filterHorizontalRows(dstPixels, dstw, y0, y1, dstscan,
+                                 srcPixels, srcw, srcscan, hsize, kscale));
+    }
+
+    private static void filterHorizontalRows(int dstPixels[], int dstw, int y0, int y1, int dstscan,
+                                             int srcPixels[], int srcw, int srcscan,
+                                             int hsize, int kscale)
+    {
+        int srcoff = y0 * srcscan;
+        int dstoff = y0 * dstscan;
+        for (int y = y0; y < y1; y++) {
             int suma = 0;
             int sumr = 0;
             int sumg = 0;
@@ -154,8 +163,17 @@ public class JSWBoxBlurPeer extends JSWEffectPeer<BoxRenderState> {
     {
         int vsize = dsth - srch + 1;
         int kscale = 0x7fffffff / (vsize * 255);
+        filterLines(dstw, dsth, (x0, x1) ->
+            filterVerticalColumns(dstPixels, x0, x1, dsth, dstscan,
+                                  srcPixels, srch, srcscan, vsize, kscale));
+    }
+
+    private static void filterVerticalColumns(int dstPixels[], int x0, int x1, int dsth, int dstscan,
+                                              int srcPixels[], int srch, int srcscan,
+                                              int vsize, int kscale)
+    {
         int voff = vsize * srcscan;
-        for (int x = 0; x < dstw; x++) {
+        for (int x = x0; x < x1; x++) {
             int suma = 0;
             int sumr = 0;
             int sumg = 0;
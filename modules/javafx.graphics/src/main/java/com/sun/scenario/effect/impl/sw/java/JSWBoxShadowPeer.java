@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -152,9 +152,20 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
         amax += (255 - amax) * spread;
         int kscale = 0x7fffffff / amax;
         int amin = (amax / 255);
-        int srcoff = 0;
-        int dstoff = 0;
-        for (int y = 0; y < dsth; y++) {
+        int amaxc = amax;
+        filterLines(dsth, dstw, (y0, y1) ->
+            filterHorizontalBlackRows(dstPixels, dstw, y0, y1, dstscan,
+                                      srcPixels, srcw, srcscan,
+                                      hsize, amin, amaxc, kscale));
+    }
+
+    private static void filterHorizontalBlackRows(int dstPixels[], int dstw, int y0, int y1, int dstscan,
+                                                  int srcPixels[], int srcw, int srcscan,
+                                                  int hsize, int amin, int amax, int kscale)
+    {
+        int srcoff = y0 * srcscan;
+        int dstoff = y0 * dstscan;
+        for (int y = y0; y < y1; y++) {
             int suma = 0;
             for (int x = 0; x < dstw; x++) {
                 int rgb;
@@ -185,8 +196,19 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
         amax += (255 - amax) * spread;
         int kscale = 0x7fffffff / amax;
         int amin = (amax / 255);
+        int amaxc = amax;
+        filterLines(dstw, dsth, (x0, x1) ->
+            filterVerticalBlackColumns(dstPixels, x0, x1, dsth, dstscan,
+                                       srcPixels, srch, srcscan,
+                                       vsize, amin, amaxc, kscale));
+    }
+
+    private static void filterVerticalBlackColumns(int dstPixels[], int x0, int x1, int dsth, int dstscan,
+                                                   int srcPixels[], int srch, int srcscan,
+                                                   int vsize, int amin, int amax, int kscale)
+    {
         int voff = vsize * srcscan;
-        for (int x = 0; x < dstw; x++) {
+        for (int x = x0; x < x1; x++) {
             int suma = 0;
             int srcoff = x;
             int dstoff = x;
@@ -223,13 +245,27 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
         int kscaleb = (int) (kscalea * shadowColor[2]);
         kscalea *= shadowColor[3];
         int amin = (amax / 255);
-        int voff = vsize * srcscan;
         int shadowRGB =
             (((int) (shadowColor[0] * 255)) << 16) |
             (((int) (shadowColor[1] * 255)) <<  8) |
             (((int) (shadowColor[2] * 255))      ) |
             (((int) (shadowColor[3] * 255)) << 24);
-        for (int x = 0; x < dstw; x++) {
+        int amaxc = amax;
+        int kscaleac = kscalea;
+        filterLines(dstw, dsth, (x0, x1) ->
+            filterVerticalColumns(dstPixels, x0, x1, dsth, dstscan,
+                                  srcPixels, srch, srcscan,
+                                  vsize, amin, amaxc, shadowRGB,
+                                  kscaleac, kscaler, kscaleg, kscaleb));
+    }
+
+    private static void filterVerticalColumns(int dstPixels[], int x0, int x1, int dsth, int dstscan,
+                                              int srcPixels[], int srch, int srcscan,
+                                              int vsize, int amin, int amax, int shadowRGB,
+                                              int kscalea, int kscaler, int kscaleg, int kscaleb)
+    {
+        int voff = vsize * srcscan;
+        for (int x = x0; x < x1; x++) {
             int suma = 0;
             int srcoff = x;
             int dstoff = x;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,10 @@
 
 package com.sun.scenario.effect.impl.sw.java;
 
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import com.sun.scenario.effect.FilterContext;
 import com.sun.scenario.effect.impl.EffectPeer;
 import com.sun.scenario.effect.impl.Renderer;
@@ -36,6 +40,101 @@ public abstract class JSWEffectPeer<T extends RenderState> extends EffectPeer<T>
         super(fctx, r, uniqueName);
     }
 
+    /*
+     * The number of threads used to filter large images, set with the
+     * decora.sw.threads property. One thread filters on the calling thread.
+     * Not final so that the tests can compare banded and unbanded passes.
+     */
+    static int bandThreads = AccessController.doPrivileged(
+            (PrivilegedAction<Integer>) () -> Integer.getInteger("decora.sw.threads",
+                    Math.min(Runtime.getRuntime().availableProcessors(), 8)));
+
+    /*
+     * The number of pixels below which an image is filtered on the calling
+     * thread, set with the decora.sw.bandThreshold property.
+     */
+    static int bandThreshold = AccessController.doPrivileged(
+            (PrivilegedAction<Integer>) () -> Integer.getInteger("decora.sw.bandThreshold", 256 * 256));
+
+    // Bands thinner than this are not worth a task of their own
+    private static final int MIN_BAND_LINES = 16;
+
+    private static ForkJoinPool bandPool;
+
+    private static synchronized ForkJoinPool getBandPool() {
+        if (bandPool == null) {
+            bandPool = new ForkJoinPool(bandThreads);
+        }
+        return bandPool;
+    }
+
+    /**
+     * Filters the lines of an image from the line {@code from}, included,
+     * to the line {@code to}, excluded. The lines are either the rows or
+     * the columns of the image, depending on the direction of the pass.
+     */
+    protected interface LineFilter {
+        void filter(int from, int to);
+    }
+
+    /**
+     * Applies a filter to all the lines of an image. Large images are split
+     * into bands of lines which are filtered in parallel, so the filter must
+     * only write the destination pixels of the lines it is given and must
+     * not share any mutable state between calls.
+     *
+     * @param lines the number of lines of the image
+     * @param lineLength the number of pixels in each line
+     * @param filter the filter to apply to each band
+     */
+    protected static void filterLines(int lines, int lineLength, LineFilter filter) {
+        int bands = getBandCount(lines, lineLength);
+        if (bands < 2) {
+            filter.filter(0, lines);
+        } else {
+            getBandPool().invoke(new BandTask(filter, lines, bands, 0, bands));
+        }
+    }
+
+    /*
+     * Returns the number of bands an image with the given number of lines
+     * is split into, or 1 if it is filtered on the calling thread.
+     */
+    static int getBandCount(int lines, int lineLength) {
+        int bands = Math.min(bandThreads, lines / MIN_BAND_LINES);
+        if (bands < 2 || (long) lines * lineLength < bandThreshold) {
+            return 1;
+        }
+        return bands;
+    }
+
+    private static final class BandTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final LineFilter filter;
+        private final int lines, bands, from, to;
+
+        BandTask(LineFilter filter, int lines, int bands, int from, int to) {
+            this.filter = filter;
+            this.lines = lines;
+            this.bands = bands;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                filter.filter((int) ((long) lines * from / bands),
+                              (int) ((long) lines * to / bands));
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new BandTask(filter, lines, bands, from, mid),
+                          new BandTask(filter, lines, bands, mid, to));
+            }
+        }
+    }
+
     protected final static int FVALS_A = 3;
     protected final static int FVALS_R = 0;
     protected final static int FVALS_G = 1;
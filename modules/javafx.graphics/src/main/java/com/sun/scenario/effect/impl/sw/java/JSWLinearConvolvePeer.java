@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,6 +31,7 @@
 package com.sun.scenario.effect.impl.sw.java;
 
 import java.nio.FloatBuffer;
+import java.util.Arrays;
 import com.sun.scenario.effect.FilterContext;
 import com.sun.scenario.effect.ImageData;
 import com.sun.scenario.effect.Effect;
@@ -177,12 +178,50 @@ public class JSWLinearConvolvePeer extends JSWEffectPeer<LinearConvolveRenderSta
                                 float deltax, float deltay,
                                 float dxcol, float dycol, float dxrow, float dyrow)
     {
-        int dstrow = 0;
-        float fvals[] = new float[4];
         // srcxy0 point at UL corner, shift them to center of 1st dest pixel:
         srcx0 += (dxrow + dxcol) * 0.5f;
         srcy0 += (dyrow + dycol) * 0.5f;
-        for (int dy = 0; dy < dsth; dy++) {
+        if (alignedLoopEnabled &&
+            dxcol == 1f && dycol == 0f && dxrow == 0f && dyrow == 1f &&
+            isAligned(srcx0, offsetx, deltax, count, dstw) &&
+            isAligned(srcy0, offsety, deltay, count, dsth))
+        {
+            int col0 = (int) (srcx0 + offsetx - 0.5f);
+            int row0 = (int) (srcy0 + offsety - 0.5f);
+            if (filterAligned(dstPixels, dstw, dsth, dstscan,
+                              srcPixels, srcw, srch, srcscan,
+                              weights, count,
+                              col0, row0, (int) deltax, (int) deltay))
+            {
+                return;
+            }
+        }
+        final float srcx0c = srcx0;
+        final float srcy0c = srcy0;
+        filterLines(dsth, dstw, (dy0, dy1) ->
+            filterVectorRows(dstPixels, dstw, dy0, dy1, dstscan,
+                             srcPixels, srcw, srch, srcscan,
+                             weights, count, srcx0c, srcy0c,
+                             offsetx, offsety, deltax, deltay,
+                             dxcol, dycol, dxrow, dyrow));
+    }
+
+    private void filterVectorRows(int dstPixels[], int dstw, int dy0, int dy1, int dstscan,
+                                  int srcPixels[], int srcw, int srch, int srcscan,
+                                  float weights[], int count,
+                                  float srcx0, float srcy0,
+                                  float offsetx, float offsety,
+                                  float deltax, float deltay,
+                                  float dxcol, float dycol, float dxrow, float dyrow)
+    {
+        // Step to the first row of the band in the same way as the loop
+        for (int dy = 0; dy < dy0; dy++) {
+            srcx0 += dxrow;
+            srcy0 += dyrow;
+        }
+        float fvals[] = new float[4];
+        int dstrow = dy0 * dstscan;
+        for (int dy = dy0; dy < dy1; dy++) {
             float srcx = srcx0;
             float srcy = srcy0;
             for (int dx = 0; dx < dstw; dx++) {
@@ -210,6 +249,161 @@ public class JSWLinearConvolvePeer extends JSWEffectPeer<LinearConvolveRenderSta
         }
     }
 
+    // Cleared by the tests to compare filterAligned with the generic loop
+    static boolean alignedLoopEnabled = true;
+
+    // The largest number of values unpacked for each channel by filterAligned
+    private static final int MAX_ALIGNED_PLANE = 1 << 19;
+    // Coordinates below this magnitude are exact in float arithmetic
+    private static final float MAX_ALIGNED_COORD = 1 << 20;
+
+    /*
+     * Returns true if every sample taken by filterVector along one axis,
+     * starting from the pixel center src0 and stepping by one pixel per
+     * destination pixel, falls exactly on the center of a source pixel, so
+     * that the bilinear interpolation reduces to reading that pixel. The
+     * coordinates are also required to be small enough that the float
+     * arithmetic of filterVector is exact.
+     */
+    static boolean isAligned(float src0, float offset, float delta,
+                             int count, int dstlen)
+    {
+        float samp0 = src0 + offset;
+        return (src0 * 2f == (int) (src0 * 2f)) &&
+               (offset * 2f == (int) (offset * 2f)) &&
+               (samp0 - 0.5f == (int) (samp0 - 0.5f)) &&
+               (delta == (int) delta) &&
+               Math.abs(src0) + Math.abs(offset) + dstlen +
+                   Math.abs(delta) * count < MAX_ALIGNED_COORD;
+    }
+
+    /*
+     * Computes the same result as filterVector when every sample falls on a
+     * pixel center, in which case the sample for tap i of the destination
+     * pixel (dx, dy) is the source pixel (col0 + dx + i * deltax,
+     * row0 + dy + i * deltay), or transparent outside of the source.
+     *
+     * Source rows are unpacked into one float array per channel, and each
+     * tap is accumulated over a whole destination row at a time, so that
+     * the inner loops only combine floats from contiguous arrays and can be
+     * compiled to SIMD instructions. The additions are done in the same
+     * order as in filterVector, so the results are identical.
+     *
+     * Returns false, leaving the destination untouched, if the unpacked
+     * rows would take too much memory.
+     */
+    private static boolean filterAligned(int dstPixels[], int dstw, int dsth, int dstscan,
+                                  int srcPixels[], int srcw, int srch, int srcscan,
+                                  float weights[], int count,
+                                  int col0, int row0, int deltax, int deltay)
+    {
+        if (count <= 0) {
+            return false;
+        }
+        // The source columns read for one destination row
+        int colmin = col0 + Math.min(0, (count - 1) * deltax);
+        int cols = dstw + Math.abs((count - 1) * deltax);
+        // The source rows read for one destination row, which are kept in
+        // a ring indexed by the row modulo its size
+        int rows = Math.abs((count - 1) * deltay) + 1;
+        if ((long) rows * cols > MAX_ALIGNED_PLANE) {
+            return false;
+        }
+
+        // The factor applied by laccumsample and laccum to a whole pixel
+        float muls[] = new float[count];
+        for (int i = 0; i < count; i++) {
+            muls[i] = (weights[i] * 255f) / 255f;
+        }
+
+        filterLines(dsth, dstw, (dy0, dy1) ->
+            filterAlignedRows(dstPixels, dstw, dy0, dy1, dstscan,
+                              srcPixels, srcw, srch, srcscan,
+                              muls, count, col0, row0, deltax, deltay,
+                              colmin, cols, rows));
+        return true;
+    }
+
+    private static void filterAlignedRows(int dstPixels[], int dstw, int dy0, int dy1, int dstscan,
+                                          int srcPixels[], int srcw, int srch, int srcscan,
+                                          float muls[], int count,
+                                          int col0, int row0, int deltax, int deltay,
+                                          int colmin, int cols, int rows)
+    {
+        float planea[] = new float[rows * cols];
+        float planer[] = new float[rows * cols];
+        float planeg[] = new float[rows * cols];
+        float planeb[] = new float[rows * cols];
+        int planerow[] = new int[rows];
+        Arrays.fill(planerow, -1);
+
+        float suma[] = new float[dstw];
+        float sumr[] = new float[dstw];
+        float sumg[] = new float[dstw];
+        float sumb[] = new float[dstw];
+        int dstrow = dy0 * dstscan;
+        for (int dy = dy0; dy < dy1; dy++) {
+            Arrays.fill(suma, 0f);
+            Arrays.fill(sumr, 0f);
+            Arrays.fill(sumg, 0f);
+            Arrays.fill(sumb, 0f);
+            for (int i = 0; i < count; i++) {
+                int srcy = row0 + dy + i * deltay;
+                if (srcy < 0 || srcy >= srch) {
+                    continue;
+                }
+                int slot = Math.floorMod(srcy, rows);
+                int planeoff = slot * cols;
+                if (planerow[slot] != srcy) {
+                    unpackRow(srcPixels, srcy * srcscan, srcw, colmin, cols,
+                              planea, planer, planeg, planeb, planeoff);
+                    planerow[slot] = srcy;
+                }
+                planeoff += col0 + i * deltax - colmin;
+                float mul = muls[i];
+                for (int dx = 0; dx < dstw; dx++) {
+                    suma[dx] += planea[planeoff + dx] * mul;
+                    sumr[dx] += planer[planeoff + dx] * mul;
+                    sumg[dx] += planeg[planeoff + dx] * mul;
+                    sumb[dx] += planeb[planeoff + dx] * mul;
+                }
+            }
+            for (int dx = 0; dx < dstw; dx++) {
+                dstPixels[dstrow + dx] =
+                    (((suma[dx] < cmin) ? 0 : ((suma[dx] > cmax) ? 255 : ((int) suma[dx]))) << 24) +
+                    (((sumr[dx] < cmin) ? 0 : ((sumr[dx] > cmax) ? 255 : ((int) sumr[dx]))) << 16) +
+                    (((sumg[dx] < cmin) ? 0 : ((sumg[dx] > cmax) ? 255 : ((int) sumg[dx]))) <<  8) +
+                    (((sumb[dx] < cmin) ? 0 : ((sumb[dx] > cmax) ? 255 : ((int) sumb[dx])))      );
+            }
+            dstrow += dstscan;
+        }
+    }
+
+    /*
+     * Unpacks the columns colmin to colmin+cols of a source row into the
+     * channel arrays, with transparent pixels outside of the source.
+     */
+    private static void unpackRow(int srcPixels[], int srcrow, int srcw,
+                                  int colmin, int cols,
+                                  float planea[], float planer[],
+                                  float planeg[], float planeb[], int planeoff)
+    {
+        Arrays.fill(planea, planeoff, planeoff + cols, 0f);
+        Arrays.fill(planer, planeoff, planeoff + cols, 0f);
+        Arrays.fill(planeg, planeoff, planeoff + cols, 0f);
+        Arrays.fill(planeb, planeoff, planeoff + cols, 0f);
+        int x0 = Math.max(0, colmin);
+        int x1 = Math.min(srcw, colmin + cols);
+        for (int x = x0; x < x1; x++) {
+            int pixel = srcPixels[srcrow + x];
+            int i = planeoff + x - colmin;
+            planea[i] = (pixel >>> 24);
+            planer[i] = (pixel >>  16) & 0xff;
+            planeg[i] = (pixel >>   8) & 0xff;
+            planeb[i] = (pixel       ) & 0xff;
+        }
+    }
+
     /*
      * In the nomenclature of the argument list for this method, "row" refers
      * to the coordinate which increments once for each new stream of single
@@ -225,10 +419,20 @@ public class JSWLinearConvolvePeer extends JSWEffectPeer<LinearConvolveRenderSta
         // cvals stores the component values from the surrounding K pixels
         // from x-r to x+r
         int kernelSize = weights.length / 2;
+        filterLines(dstrows, dstcols, (r0, r1) ->
+            filterHVRows(dstPixels, dstcols, r0, r1, dcolinc, drowinc,
+                         srcPixels, srccols, scolinc, srowinc,
+                         weights, kernelSize));
+    }
+
+    private static void filterHVRows(int dstPixels[], int dstcols, int r0, int r1, int dcolinc, int drowinc,
+                                     int srcPixels[], int srccols, int scolinc, int srowinc,
+                                     float weights[], int kernelSize)
+    {
         float cvals[] = new float[kernelSize * 4];
-        int dstrow = 0;
-        int srcrow = 0;
-        for (int r = 0; r < dstrows; r++) {
+        int dstrow = r0 * drowinc;
+        int srcrow = r0 * srowinc;
+        for (int r = r0; r < r1; r++) {
             int dstoff = dstrow;
             int srcoff = srcrow;
             // Must clear out the array at the start of every line
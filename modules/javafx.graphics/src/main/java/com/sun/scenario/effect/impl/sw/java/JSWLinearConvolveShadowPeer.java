@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -53,11 +53,33 @@ public class JSWLinearConvolveShadowPeer extends JSWLinearConvolvePeer {
     {
         float shadowColor[] = getShadowColor();
 
-        int dstrow = 0;
         // srcxy0 point at UL corner, shift them to center of 1st dest pixel:
-        srcx0 += (dxrow + dxcol) * 0.5f;
-        srcy0 += (dyrow + dycol) * 0.5f;
-        for (int dy = 0; dy < dsth; dy++) {
+        final float srcx0c = srcx0 + (dxrow + dxcol) * 0.5f;
+        final float srcy0c = srcy0 + (dyrow + dycol) * 0.5f;
+        filterLines(dsth, dstw, (dy0, dy1) ->
+            filterVectorRows(dstPixels, dstw, dy0, dy1, dstscan,
+                             srcPixels, srcw, srch, srcscan,
+                             weights, count, srcx0c, srcy0c,
+                             offsetx, offsety, deltax, deltay,
+                             dxcol, dycol, dxrow, dyrow, shadowColor));
+    }
+
+    private static void filterVectorRows(int dstPixels[], int dstw, int dy0, int dy1, int dstscan,
+                                         int srcPixels[], int srcw, int srch, int srcscan,
+                                         float weights[], int count,
+                                         float srcx0, float srcy0,
+                                         float offsetx, float offsety,
+                                         float deltax, float deltay,
+                                         float dxcol, float dycol, float dxrow, float dyrow,
+                                         float shadowColor[])
+    {
+        // Step to the first row of the band in the same way as the loop
+        for (int dy = 0; dy < dy0; dy++) {
+            srcx0 += dxrow;
+            srcy0 += dyrow;
+        }
+        int dstrow = dy0 * dstscan;
+        for (int dy = dy0; dy < dy1; dy++) {
             float srcx = srcx0;
             float srcy = srcy0;
             for (int dx = 0; dx < dstw; dx++) {
@@ -109,9 +131,6 @@ public class JSWLinearConvolveShadowPeer extends JSWLinearConvolvePeer {
         // avals stores the alpha values from the surrounding K pixels
         // from x-r to x+r
         int kernelSize = weights.length / 2;
-        float avals[] = new float[kernelSize];
-        int dstrow = 0;
-        int srcrow = 0;
         int shadowRGBs[] = new int[256];
         for (int i = 0; i < shadowRGBs.length; i++) {
             shadowRGBs[i] = ((int) (shadowColor[0] * i) << 16) |
@@ -119,7 +138,20 @@ public class JSWLinearConvolveShadowPeer extends JSWLinearConvolvePeer {
                             ((int) (shadowColor[2] * i)      ) |
                             ((int) (shadowColor[3] * i) << 24);
         }
-        for (int r = 0; r < dstrows; r++) {
+        filterLines(dstrows, dstcols, (r0, r1) ->
+            filterHVRows(dstPixels, dstcols, r0, r1, dcolinc, drowinc,
+                         srcPixels, srccols, scolinc, srowinc,
+                         weights, kernelSize, shadowRGBs));
+    }
+
+    private static void filterHVRows(int dstPixels[], int dstcols, int r0, int r1, int dcolinc, int drowinc,
+                                     int srcPixels[], int srccols, int scolinc, int srowinc,
+                                     float weights[], int kernelSize, int shadowRGBs[])
+    {
+        float avals[] = new float[kernelSize];
+        int dstrow = r0 * drowinc;
+        int srcrow = r0 * srowinc;
+        for (int r = r0; r < r1; r++) {
             int dstoff = dstrow;
             int srcoff = srcrow;
             // Must clear out the array at the start of every line
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.application;
+
+import com.sun.javafx.logging.LongHistogram;
+import com.sun.javafx.logging.PulseMetrics;
+
+/**
+ * Statistics about the pulses processed by the JavaFX runtime. On each pulse,
+ * the runtime runs the animations, applies CSS and lays out the scenes,
+ * synchronizes them with the render graph, then renders and presents them.
+ * When statistics are {@link #setEnabled(boolean) enabled}, the duration of
+ * each of these {@link Phase phases} and the number of nodes and textures
+ * processed by the pulse are counted in {@link Histogram histograms}, which
+ * can be queried at any time, from any thread, to watch the frame rate of an
+ * application while it runs:
+ *
+ * <pre>{@code
+ * PulseStatistics.setEnabled(true);
+ * ...
+ * PulseStatistics stats = PulseStatistics.getStatistics();
+ * long overruns = stats.getHistogram(PulseStatistics.Phase.TOTAL)
+ *         .getCountAbove(TimeUnit.MILLISECONDS.toNanos(16));
+ * long p99 = stats.getHistogram(PulseStatistics.Phase.LAYOUT).getValueAtPercentile(99);
+ * }</pre>
+ *
+ * Collecting statistics has a small cost on each pulse, and is disabled by
+ * default. The same measures are also recorded for each pulse by the
+ * {@code javafx.Pulse} Java Flight Recorder event, whether statistics are
+ * enabled or not, when the event is enabled in a recording.
+ *
+ * @since 14
+ */
+public final class PulseStatistics {
+
+    /**
+     * The phases of a pulse, whose durations are measured in nanoseconds.
+     *
+     * @since 14
+     */
+    public enum Phase {
+        /** Running the animations and timers. */
+        ANIMATION,
+        /** Applying CSS to the scenes. */
+        CSS,
+        /** Laying out the scenes. */
+        LAYOUT,
+        /** Updating bounds and copying the state of the scenes to the render graph. */
+        SYNC,
+        /** Rendering the scenes, on the render thread. */
+        RENDER,
+        /** Presenting the rendered scenes to the screen, on the render thread. */
+        PRESENT,
+        /**
+         * The whole pulse, from its start until its rendering is complete.
+         * This can be larger than the sum of the other phases, which do not
+         * include the time spent waiting for the render thread, or running
+         * pulse listeners.
+         */
+        TOTAL
+    }
+
+    /**
+     * The quantities counted on each pulse.
+     *
+     * @since 14
+     */
+    public enum Counter {
+        /** The number of nodes synchronized with the render graph. */
+        DIRTY_NODES,
+        /** The number of nodes whose styles were applied by CSS. */
+        CSS_NODES,
+        /** The number of uploads of pixels to textures, on the render thread. */
+        TEXTURE_UPLOADS,
+        /** The number of glyphs rasterized into the glyph cache, on the render thread. */
+        GLYPH_RASTERIZATIONS,
+        /**
+         * The number of dirty regions painted, on the render thread. A scene
+         * that is painted in full counts as one region.
+         */
+        DIRTY_REGIONS,
+        /** The area covered by the painted dirty regions, in pixels. */
+        DIRTY_AREA
+    }
+
+    /**
+     * A histogram of the values of a phase duration or a counter, one per
+     * pulse. The count, minimum, maximum and mean are exact, while the other
+     * values are approximated with a precision of 12.5%.
+     *
+     * @since 14
+     */
+    public static final class Histogram {
+        private final LongHistogram histogram;
+
+        private Histogram(LongHistogram histogram) {
+            this.histogram = histogram;
+        }
+
+        /**
+         * Gets the number of values, that is the number of pulses.
+         *
+         * @return the number of values
+         */
+        public long getCount() {
+            return histogram.getCount();
+        }
+
+        /**
+         * Gets the smallest value, or 0 if there are no values.
+         *
+         * @return the smallest value
+         */
+        public long getMin() {
+            return histogram.getMin();
+        }
+
+        /**
+         * Gets the largest value, or 0 if there are no values.
+         *
+         * @return the largest value
+         */
+        public long getMax() {
+            return histogram.getMax();
+        }
+
+        /**
+         * Gets the mean of the values, or 0 if there are no values.
+         *
+         * @return the mean of the values
+         */
+        public double getMean() {
+            return histogram.getMean();
+        }
+
+        /**
+         * Gets the value below or at which the given percentage of the values
+         * fall, for instance {@code getValueAtPercentile(50)} for the median.
+         *
+         * @param percentile the percentage, between 0 and 100
+         * @return the value at the percentile, or 0 if there are no values
+         * @throws IllegalArgumentException if percentile is not between 0 and 100
+         */
+        public long getValueAtPercentile(double percentile) {
+            return histogram.getValueAtPercentile(percentile);
+        }
+
+        /**
+         * Gets the number of values greater than the given threshold, for
+         * instance the number of pulses that took longer than a frame budget.
+         *
+         * @param threshold the threshold
+         * @return the number of values greater than threshold
+         */
+        public long getCountAbove(long threshold) {
+            return histogram.getCountAbove(threshold);
+        }
+    }
+
+    private final Histogram[] histograms;
+
+    private PulseStatistics(LongHistogram[] histograms) {
+        this.histograms = new Histogram[histograms.length];
+        for (int i = 0; i < histograms.length; ++i) {
+            this.histograms[i] = new Histogram(histograms[i]);
+        }
+    }
+
+    /**
+     * Gets whether pulse statistics are collected.
+     *
+     * @return true if pulse statistics are collected
+     */
+    public static boolean isEnabled() {
+        return PulseMetrics.isStatisticsEnabled();
+    }
+
+    /**
+     * Sets whether pulse statistics are collected. The statistics collected
+     * so far are kept when collection is disabled.
+     *
+     * @param enabled true to collect pulse statistics
+     */
+    public static void setEnabled(boolean enabled) {
+        PulseMetrics.setStatisticsEnabled(enabled);
+    }
+
+    /**
+     * Discards the statistics collected so far.
+     */
+    public static void reset() {
+        PulseMetrics.resetStatistics();
+    }
+
+    /**
+     * Gets a snapshot of the statistics collected since they were enabled or
+     * last {@link #reset() reset}. The returned object does not change as
+     * further pulses are processed.
+     *
+     * @return a snapshot of the pulse statistics
+     */
+    public static PulseStatistics getStatistics() {
+        return new PulseStatistics(PulseMetrics.copyStatistics());
+    }
+
+    /**
+     * Gets the number of pulses counted by these statistics.
+     *
+     * @return the number of pulses
+     */
+    public long getPulseCount() {
+        return getHistogram(Phase.TOTAL).getCount();
+    }
+
+    /**
+     * Gets the histogram of the durations of the given phase, in nanoseconds.
+     *
+     * @param phase the phase
+     * @return the histogram of the durations of the phase
+     */
+    public Histogram getHistogram(Phase phase) {
+        // the phases are in the order of the PulseMetrics constants
+        return histograms[phase.ordinal()];
+    }
+
+    /**
+     * Gets the histogram of the values of the given counter.
+     *
+     * @param counter the counter
+     * @return the histogram of the values of the counter
+     */
+    public Histogram getHistogram(Counter counter) {
+        return histograms[PulseMetrics.PHASE_COUNT + counter.ordinal()];
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.css;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A DataInputStream which reads a binary stylesheet from a ByteBuffer, such
+ * as a memory-mapped file. The serialized declarations of the rules are
+ * sliced out of the buffer rather than copied, and are only decoded when
+ * the declarations of a rule are first needed.
+ */
+final class ByteBufferDataInputStream extends DataInputStream {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferDataInputStream(ByteBuffer buffer) {
+        super(new Source(buffer));
+        this.buffer = buffer;
+    }
+
+    /**
+     * Returns the next {@code length} bytes as a buffer sharing the content
+     * of this stream, and skips them.
+     */
+    ByteBuffer slice(int length) throws IOException {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("invalid length: " + length);
+        }
+        final ByteBuffer slice = buffer.slice();
+        slice.limit(length);
+        buffer.position(buffer.position() + length);
+        return slice;
+    }
+
+    private static final class Source extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private Source(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? (buffer.get() & 0xff) : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            final int k = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + k);
+            return k;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public synchronized void mark(int readlimit) {
+            buffer.mark();
+        }
+
+        @Override
+        public synchronized void reset() {
+            buffer.reset();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,11 +31,11 @@ import javafx.scene.Node;
 
 import com.sun.javafx.collections.TrackableObservableList;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -65,13 +65,13 @@ final public class Rule {
      * The list returned from this method should be treated as unmodifiable.
      * Tools should use {@link #getDeclarations()} which tracks adds and removes.
      */
-    List<Declaration> getUnobservedDeclarationList() {
+    // synchronized since the declarations may be decoded while styles are prepared
+    synchronized List<Declaration> getUnobservedDeclarationList() {
 
         if (declarations == null && serializedDecls != null) {
 
             try {
-                ByteArrayInputStream bis = new ByteArrayInputStream(serializedDecls);
-                DataInputStream dis = new DataInputStream(bis);
+                DataInputStream dis = new ByteBufferDataInputStream(serializedDecls.duplicate());
 
                 short nDeclarations = dis.readShort();
                 declarations = new ArrayList<Declaration>(nDeclarations);
@@ -181,10 +181,11 @@ final public class Rule {
         }
     }
 
-    private byte[] serializedDecls;
+    // The declarations, which are decoded when first needed
+    private ByteBuffer serializedDecls;
     private final int bssVersion;
 
-    private Rule(List<Selector> selectors, byte[] buf, int bssVersion) {
+    private Rule(List<Selector> selectors, ByteBuffer buf, int bssVersion) {
 
         this.selectors = selectors;
         this.declarations = null;
@@ -369,12 +370,17 @@ final public class Rule {
             return new Rule(selectors, declarations);
         }
 
-        // de-serialize decls into byte array
+        // de-serialize decls into byte array, or share the buffer being read
         int nBytes = is.readInt();
-        byte[] buf = new byte[nBytes];
-
-        if (nBytes > 0) {
-            is.readFully(buf);
+        final ByteBuffer buf;
+        if (is instanceof ByteBufferDataInputStream) {
+            buf = ((ByteBufferDataInputStream) is).slice(nBytes);
+        } else {
+            final byte[] bytes = new byte[nBytes];
+            if (nBytes > 0) {
+                is.readFully(bytes);
+            }
+            buf = ByteBuffer.wrap(bytes);
         }
         return new Rule(selectors, buf, bssVersion);
     }
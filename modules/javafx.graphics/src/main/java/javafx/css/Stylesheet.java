@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -33,7 +33,6 @@ import javafx.collections.ObservableList;
 import com.sun.javafx.collections.TrackableObservableList;
 import com.sun.javafx.css.FontFaceImpl;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
@@ -41,8 +40,17 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -283,8 +291,7 @@ public class Stylesheet {
 
         Stylesheet stylesheet = null;
 
-        try (DataInputStream dataInputStream =
-                     new DataInputStream(new BufferedInputStream(url.openStream(), 40 * 1024))) {
+        try (DataInputStream dataInputStream = new ByteBufferDataInputStream(readBinary(url))) {
 
             // read file version
             final int bssVersion = dataInputStream.readShort();
@@ -326,6 +333,40 @@ public class Stylesheet {
         return stylesheet;
     }
 
+    // Binary stylesheets at least this large are memory-mapped rather than read
+    private static final int MAP_THRESHOLD = 16 * 1024;
+
+    /*
+     * Returns the content of a binary stylesheet. A file is memory-mapped,
+     * so that the declarations of the rules stay in the mapping until they
+     * are decoded; any other URL is read fully, once.
+     */
+    private static ByteBuffer readBinary(URL url) throws IOException {
+
+        if ("file".equals(url.getProtocol())) {
+            Path path = null;
+            try {
+                path = Paths.get(url.toURI());
+            } catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+                // not a path of the default file system, read it as a stream
+            }
+            if (path != null) {
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    final long size = channel.size();
+                    if (size >= MAP_THRESHOLD) {
+                        return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                    }
+                } catch (NoSuchFileException nsfe) {
+                    throw new FileNotFoundException(url.toString());
+                }
+            }
+        }
+
+        try (InputStream is = url.openStream()) {
+            return ByteBuffer.wrap(is.readAllBytes());
+        }
+    }
+
     /**
      * Converts the css file referenced by {@code source} to binary format and writes it to {@code destination}.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2018, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -132,7 +132,7 @@ final class CssStyleHelper {
             node.styleHelper.cacheContainer.forceSlowpath = true;
             node.styleHelper.triggerStates.addAll(triggerStates[0]);
             node.styleHelper.firstStyleableAncestor = findFirstStyleableAncestor(node);
-            updateParentTriggerStates(node, depth, triggerStates);
+            updateParentTriggerStates(node, depth, triggerStates, styleMap.getReferencedProperties());
             return node.styleHelper;
 
         }
@@ -172,7 +172,8 @@ final class CssStyleHelper {
         final CssStyleHelper helper = new CssStyleHelper();
         helper.triggerStates.addAll(triggerStates[0]);
 
-        updateParentTriggerStates(node, depth, triggerStates);
+        updateParentTriggerStates(node, depth, triggerStates,
+                styleMap != null ? styleMap.getReferencedProperties() : Collections.emptySet());
 
         helper.cacheContainer = new CacheContainer(node, styleMap, depth);
 
@@ -186,9 +187,11 @@ final class CssStyleHelper {
         return helper;
     }
 
-    private static void updateParentTriggerStates(Styleable styleable, int depth, PseudoClassState[] triggerStates) {
+    private static void updateParentTriggerStates(Styleable styleable, int depth, PseudoClassState[] triggerStates,
+                                                  Set<String> referencedProperties) {
         // make sure parent's transition states include the pseudo-classes
-        // found when matching selectors
+        // found when matching selectors, and that the parent knows which of
+        // its properties may be inherited or looked up by this node
         Styleable parent = styleable.getStyleableParent();
         for(int n=1; n<depth; n++) {
 
@@ -212,9 +215,14 @@ final class CssStyleHelper {
                     parentNode.styleHelper.firstStyleableAncestor = findFirstStyleableAncestor(parentNode) ;
                 }
                 parentNode.styleHelper.triggerStates.addAll(triggerState);
+                parentNode.styleHelper.descendantTriggerStates.addAll(triggerState);
 
             }
 
+            if (parentNode.styleHelper != null && referencedProperties.isEmpty() == false) {
+                parentNode.styleHelper.descendantProperties.addAll(referencedProperties);
+            }
+
             parent=parent.getStyleableParent();
         }
 
@@ -445,6 +453,36 @@ final class CssStyleHelper {
         private final Map<CssMetaData, CalculatedValue> cssSetProperties;
 
         private boolean forceSlowpath = false;
+
+        // The names of the node's properties, and their sub-properties, that
+        // descendants do not see unless the value is inherited or looked up
+        // explicitly. Fonts are excluded since they determine relative sizes.
+        private Set<String> localProperties;
+
+        private Set<String> getLocalProperties(Node node) {
+            if (localProperties == null) {
+                final Set<String> properties = new HashSet<>();
+                final List<CssMetaData<? extends Styleable, ?>> props = node.getCssMetaData();
+                final int pMax = props != null ? props.size() : 0;
+                for (int p=0; p<pMax; p++) {
+                    addLocalProperties(props.get(p), properties);
+                }
+                localProperties = properties;
+            }
+            return localProperties;
+        }
+
+        private static void addLocalProperties(CssMetaData<? extends Styleable, ?> prop, Set<String> properties) {
+            if (prop.isInherits() || prop.getConverter() == FontConverter.getInstance()) {
+                return;
+            }
+            properties.add(prop.getProperty());
+            final List<CssMetaData<? extends Styleable, ?>> subProperties = prop.getSubProperties();
+            final int sMax = subProperties != null ? subProperties.size() : 0;
+            for (int n=0; n<sMax; n++) {
+                addLocalProperties(subProperties.get(n), properties);
+            }
+        }
     }
 
     private void resetToInitialValues(final Styleable styleable) {
@@ -500,10 +538,60 @@ final class CssStyleHelper {
      */
     private PseudoClassState triggerStates = new PseudoClassState();
 
+    /**
+     * The subset of triggerStates that come from selectors which match a
+     * descendant of the Node, such as "hover" in ".button:hover *.label".
+     */
+    private final PseudoClassState descendantTriggerStates = new PseudoClassState();
+
+    /**
+     * The names of the properties that the styles of descendants resolve
+     * against the styles of this Node, either because the value is "inherit"
+     * or because the name is looked up.
+     */
+    private final Set<String> descendantProperties = new HashSet<>();
+
     boolean pseudoClassStateChanged(PseudoClass pseudoClass) {
         return triggerStates.contains(pseudoClass);
     }
 
+    /**
+     * Returns true if a change to the given pseudo-class may change the
+     * styles of a descendant of the Node. This is the case if a selector that
+     * matches a descendant references the pseudo-class, or if a style of the
+     * Node that references the pseudo-class sets a value that a descendant
+     * can see. Otherwise, the change only needs to be transitioned on the
+     * Node itself.
+     */
+    boolean isDescendantTransition(final Node node, final PseudoClass pseudoClass) {
+
+        if (descendantTriggerStates.contains(pseudoClass)) {
+            return true;
+        }
+
+        if (cacheContainer == null) {
+            return false;
+        }
+
+        final StyleMap styleMap = getStyleMap(node);
+        if (styleMap == null) {
+            return true;
+        }
+
+        final Set<String> properties = styleMap.getPseudoClassDependencies().get(pseudoClass);
+        if (properties == null) {
+            return false;
+        }
+
+        final Set<String> localProperties = cacheContainer.getLocalProperties(node);
+        for (String property : properties) {
+            if (localProperties.contains(property) == false || descendantProperties.contains(property)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Dynamic pseudo-class state of the node and its parents.
      * Only valid during a pulse.
@@ -576,8 +664,12 @@ final class CssStyleHelper {
      * how things are specified in the CSS file. Currently animation support
      * is disabled until the new parser comes online with support for
      * animations and that support is detectable via the API.
+     *
+     * If changedStates is not null, then only those pseudo-classes have
+     * changed since the Node was last styled, and the properties whose
+     * styles do not reference them keep their current values.
      */
-    void transitionToState(final Node node) {
+    void transitionToState(final Node node, final Set<PseudoClass> changedStates) {
 
         if (cacheContainer == null) {
             return;
@@ -648,6 +740,12 @@ final class CssStyleHelper {
         final boolean isForceSlowpath = cacheContainer.forceSlowpath;
         cacheContainer.forceSlowpath = false;
 
+        // On the slowpath every property has to be looked up so that the
+        // cache entry is complete for the next Node in the same state.
+        final Set<String> affectedProperties = (fastpath && !isForceSlowpath && changedStates != null)
+                ? getAffectedProperties(node, styleMap, changedStates)
+                : null;
+
         // For each property that is settable, we need to do a lookup and
         // transition to that value.
         for(int n=0; n<max; n++) {
@@ -665,6 +763,9 @@ final class CssStyleHelper {
             // to be set (usually due to a "bind").
             if (!cssMetaData.isSettable(node)) continue;
 
+            // The styles for this property do not depend on the pseudo-classes that changed.
+            if (affectedProperties != null && !isAffected(cssMetaData, affectedProperties)) continue;
+
             final String property = cssMetaData.getProperty();
 
             CalculatedValue calculatedValue = cacheEntry.get(property);
@@ -837,6 +938,47 @@ final class CssStyleHelper {
         }
     }
 
+    /*
+     * Returns the names of the properties whose styles reference one of the
+     * changed pseudo-classes, or null if a change might affect a looked-up
+     * value or the font and, therefore, any property.
+     */
+    private Set<String> getAffectedProperties(final Node node, final StyleMap styleMap,
+                                              final Set<PseudoClass> changedStates) {
+
+        final Map<PseudoClass, Set<String>> dependencies = styleMap.getPseudoClassDependencies();
+        final Set<String> localProperties = cacheContainer.getLocalProperties(node);
+        final Set<String> affectedProperties = new HashSet<>();
+
+        for (PseudoClass pseudoClass : changedStates) {
+            final Set<String> properties = dependencies.get(pseudoClass);
+            if (properties == null) continue;
+            for (String property : properties) {
+                if (localProperties.contains(property) == false) {
+                    return null;
+                }
+                affectedProperties.add(property);
+            }
+        }
+        return affectedProperties;
+    }
+
+    private static boolean isAffected(final CssMetaData<? extends Styleable, ?> cssMetaData,
+                                      final Set<String> affectedProperties) {
+
+        if (affectedProperties.contains(cssMetaData.getProperty())) {
+            return true;
+        }
+        final List<CssMetaData<? extends Styleable, ?>> subProperties = cssMetaData.getSubProperties();
+        final int sMax = subProperties != null ? subProperties.size() : 0;
+        for (int n=0; n<sMax; n++) {
+            if (isAffected(subProperties.get(n), affectedProperties)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Gets the CSS CascadingStyle for the property of this node in these pseudo-class
      * states. A null style may be returned if there is no style information
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextMeasurer;
+
+import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.scene.LayoutFlags;
+
+/**
+ * Measures, before a layout pass, the text of the branches which need
+ * layout, in parallel.
+ *
+ * The preferred sizes of nodes are computed and cached by the nodes
+ * themselves during layout, which must therefore run on the FX thread.
+ * Most of the cost of measuring labels and text nodes is in shaping their
+ * strings, though, and shaped strings are shared through the text layout
+ * cache. This phase collects the strings which will be measured, shapes
+ * them on the common fork-join pool, and then lets the layout pass find
+ * them in the cache.
+ *
+ * The phase is enabled by setting the {@code javafx.layout.parallelMeasure}
+ * system property to true.
+ */
+final class MeasurePhase {
+
+    static final boolean ENABLED =
+            AccessController.doPrivileged((PrivilegedAction<Boolean>) () -> Boolean.getBoolean("javafx.layout.parallelMeasure"));
+
+    // Below this number of strings, shaping them in parallel costs more
+    // than it saves.
+    static final int MIN_STRINGS = 64;
+
+    // Longer strings are not kept in the text layout cache
+    private static final int MAX_STRING_LENGTH = 256;
+
+    private MeasurePhase() {
+    }
+
+    /**
+     * Shapes the strings which will be measured when the given root is laid
+     * out, and returns the number of strings shaped.
+     */
+    static int run(Parent root) {
+        if (root.layoutFlag == LayoutFlags.CLEAN) {
+            return 0;
+        }
+        final Map<Font, Set<String>> texts = new HashMap<>();
+        root.collectMeasuredText((text, font) -> {
+            if (text != null && font != null && !text.isEmpty() && text.length() <= MAX_STRING_LENGTH) {
+                texts.computeIfAbsent(font, f -> new HashSet<>()).add(text);
+            }
+        });
+        int count = 0;
+        for (Set<String> strings : texts.values()) {
+            count += strings.size();
+        }
+        if (count < MIN_STRINGS) {
+            return 0;
+        }
+        for (Map.Entry<Font, Set<String>> entry : texts.entrySet()) {
+            new TextMeasurer(entry.getKey()).computeWidths(new ArrayList<>(entry.getValue()));
+        }
+        if (PulseLogger.PULSE_LOGGING_ENABLED) {
+            PulseLogger.addMessage("Measured " + count + " strings before layout");
+        }
+        return count;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -162,6 +162,7 @@ import com.sun.scenario.effect.EffectHelper;
 import javafx.scene.shape.Shape3D;
 import com.sun.javafx.logging.PlatformLogger;
 import com.sun.javafx.logging.PlatformLogger.Level;
+import com.sun.javafx.logging.PulseMetrics;
 
 /**
  * Base class for scene graph nodes. A scene graph is a set of tree data structures
@@ -9307,19 +9308,37 @@ public abstract class Node implements EventTarget, Styleable {
      */
     final CssFlags getCSSFlags() { return cssFlag; }
 
+    /**
+     * The pseudo-classes that have changed since the last CSS pass while the
+     * cssFlag is TRANSITION.
+     */
+    private PseudoClassState cssTransitionStates;
+
     /**
      * Called when a CSS pseudo-class change would cause styles to be reapplied.
      */
-    private void requestCssStateTransition() {
+    private void requestCssStateTransition(PseudoClass pseudoClass) {
         // If there is no scene, then we cannot make it dirty, so we'll leave
         // the flag alone
         if (getScene() == null) return;
-        // Don't bother doing anything if the cssFlag is not CLEAN.
+        // Don't bother doing anything if the cssFlag is UPDATE or REAPPLY.
         // If the flag indicates a DIRTY_BRANCH, the flag needs to be changed
-        // to UPDATE to ensure that NodeHelper.processCSS is called on the node.
-        if (cssFlag == CssFlags.CLEAN || cssFlag == CssFlags.DIRTY_BRANCH) {
-            cssFlag = CssFlags.UPDATE;
+        // to TRANSITION or UPDATE to ensure that NodeHelper.processCSS is
+        // called on the node.
+        if (styleHelper.isDescendantTransition(this, pseudoClass)) {
+            if (cssFlag.compareTo(CssFlags.UPDATE) < 0) {
+                cssFlag = CssFlags.UPDATE;
+                notifyParentsOfInvalidatedCSS();
+            }
+        } else if (cssFlag == CssFlags.CLEAN || cssFlag == CssFlags.DIRTY_BRANCH) {
+            // Only the styles of this node depend on the pseudo-class, so
+            // there is no need to update the children.
+            cssFlag = CssFlags.TRANSITION;
+            cssTransitionStates = new PseudoClassState();
+            cssTransitionStates.add(pseudoClass);
             notifyParentsOfInvalidatedCSS();
+        } else if (cssFlag == CssFlags.TRANSITION) {
+            cssTransitionStates.add(pseudoClass);
         }
     }
 
@@ -9360,7 +9379,7 @@ public abstract class Node implements EventTarget, Styleable {
         if (modified && styleHelper != null) {
             final boolean isTransition = styleHelper.pseudoClassStateChanged(pseudoClass);
             if (isTransition) {
-                requestCssStateTransition();
+                requestCssStateTransition(pseudoClass);
             }
         }
    }
@@ -9416,7 +9435,7 @@ public abstract class Node implements EventTarget, Styleable {
         if (cssFlag == CssFlags.REAPPLY) return;
 
         // RT-36838 - don't reapply CSS in the middle of an update
-        if (cssFlag == CssFlags.UPDATE) {
+        if (cssFlag == CssFlags.UPDATE || cssFlag == CssFlags.TRANSITION) {
             cssFlag = CssFlags.REAPPLY;
             notifyParentsOfInvalidatedCSS();
             return;
@@ -9531,6 +9550,7 @@ public abstract class Node implements EventTarget, Styleable {
             }
             case REAPPLY:
             case UPDATE:
+            case TRANSITION:
             default:
                 NodeHelper.processCSS(this);
         }
@@ -9592,6 +9612,9 @@ public abstract class Node implements EventTarget, Styleable {
         // If so, process css from the top-most CssFlags.UPDATE node
         // since my ancestor's styles may affect mine.
         //
+        // An ancestor with the flag TRANSITION is skipped: its changed styles
+        // cannot affect mine, and it would not step into clean branches.
+        //
         // If the scene-graph root isn't NODE_CSS dirty, then all my
         // ancestor flags should be CLEAN and I can skip this lookup.
         //
@@ -9644,13 +9667,20 @@ public abstract class Node implements EventTarget, Styleable {
             reapplyCss();
         }
 
+        // If only pseudo-classes have changed, only the properties that
+        // depend on them need to be transitioned.
+        final Set<PseudoClass> changedStates =
+                (cssFlag == CssFlags.TRANSITION) ? cssTransitionStates : null;
+        cssTransitionStates = null;
+
         // Clear the flag first in case the flag is set to something
         // other than clean by downstream processing.
         cssFlag = CssFlags.CLEAN;
 
         // Transition to the new state and apply styles
         if (styleHelper != null && getScene() != null) {
-            styleHelper.transitionToState(this);
+            PulseMetrics.cssNodeProcessed();
+            styleHelper.transitionToState(this, changedStates);
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,9 +32,11 @@ import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener.Change;
 import javafx.collections.ObservableList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 import com.sun.javafx.util.TempState;
 import com.sun.javafx.util.Utils;
@@ -55,10 +57,12 @@ import com.sun.javafx.sg.prism.NGGroup;
 import com.sun.javafx.sg.prism.NGNode;
 import com.sun.javafx.tk.Toolkit;
 import com.sun.javafx.scene.LayoutFlags;
+import com.sun.javafx.scene.LayoutTrace;
 import com.sun.javafx.scene.NodeHelper;
 import com.sun.javafx.scene.ParentHelper;
 import com.sun.javafx.stage.WindowHelper;
 import java.util.Collections;
+import javafx.scene.text.Font;
 import javafx.stage.Window;
 
 /**
@@ -924,6 +928,80 @@ public abstract class Parent extends Node {
     private double minWidthCache = -1;
     private double minHeightCache = -1;
 
+    /*
+     * Sizes computed for a specific height or width, which layout panes such
+     * as GridPane and VBox ask for several times per layout pass. For each of
+     * the four kinds of size, the last SIZE_MEMO_SLOTS pairs of constraint and
+     * size are kept until the next requestLayout or the next layout pass.
+     */
+    private static final int SIZE_MEMO_SLOTS = 4;
+    private static int sizeMemoPass;
+    private double[] sizeMemo;
+    private int sizeMemoNext;
+    private int sizeMemoPassOfThis;
+
+    /*
+     * Called at the start of each layout pass of a scene, which expires the
+     * sizes memoized for specific constraints during the previous pass.
+     */
+    static void startSizeMemoPass() {
+        sizeMemoPass++;
+    }
+
+    /*
+     * Reports the strings which will be measured when this branch is laid
+     * out: those of the parents which need layout and of their leaf
+     * children. Clean branches are skipped as their sizes are cached.
+     */
+    void collectMeasuredText(BiConsumer<String, Font> collector) {
+        if (layoutFlag == LayoutFlags.CLEAN) {
+            return;
+        }
+        final boolean needsLayout = layoutFlag == LayoutFlags.NEEDS_LAYOUT;
+        if (needsLayout) {
+            NodeHelper.collectMeasuredText(this, collector);
+        }
+        for (int i = 0, max = children.size(); i < max; i++) {
+            final Node child = children.get(i);
+            if (child instanceof Parent) {
+                ((Parent) child).collectMeasuredText(collector);
+            } else if (needsLayout) {
+                NodeHelper.collectMeasuredText(child, collector);
+            }
+        }
+    }
+
+    private double getMemoizedSize(int kind, double constraint) {
+        if (sizeMemo == null || sizeMemoPassOfThis != sizeMemoPass) {
+            return Double.NaN;
+        }
+        final int base = kind * SIZE_MEMO_SLOTS * 2;
+        for (int i = base, max = base + SIZE_MEMO_SLOTS * 2; i < max; i += 2) {
+            if (sizeMemo[i] == constraint) {
+                return sizeMemo[i + 1];
+            }
+        }
+        return Double.NaN;
+    }
+
+    private void memoizeSize(int kind, double constraint, double size) {
+        if (sizeMemo == null) {
+            sizeMemo = new double[4 * SIZE_MEMO_SLOTS * 2];
+            Arrays.fill(sizeMemo, Double.NaN);
+        } else if (sizeMemoPassOfThis != sizeMemoPass) {
+            Arrays.fill(sizeMemo, Double.NaN);
+        }
+        sizeMemoPassOfThis = sizeMemoPass;
+        // two bits per kind select the slot to replace next
+        final int shift = kind * 2;
+        final int slot = (sizeMemoNext >>> shift) & (SIZE_MEMO_SLOTS - 1);
+        sizeMemoNext = (sizeMemoNext & ~((SIZE_MEMO_SLOTS - 1) << shift)) | (((slot + 1) & (SIZE_MEMO_SLOTS - 1)) << shift);
+        final int i = (kind * SIZE_MEMO_SLOTS + slot) * 2;
+        sizeMemo[i] = constraint;
+        sizeMemo[i + 1] = size;
+        sizeCacheClear = false;
+    }
+
     void setLayoutFlag(LayoutFlags flag) {
         if (needsLayout != null) {
             needsLayout.set(flag == LayoutFlags.NEEDS_LAYOUT);
@@ -1011,61 +1089,108 @@ public abstract class Parent extends Node {
         prefHeightCache = -1;
         minWidthCache = -1;
         minHeightCache = -1;
+        if (sizeMemo != null) {
+            Arrays.fill(sizeMemo, Double.NaN);
+        }
     }
 
     @Override public double prefWidth(double height) {
         if (height == -1) {
             if (prefWidthCache == -1) {
+                if (LayoutTrace.ENABLED) LayoutTrace.computed(this, LayoutTrace.PREF_WIDTH);
                 prefWidthCache = computePrefWidth(-1);
                 if (Double.isNaN(prefWidthCache) || prefWidthCache < 0) prefWidthCache = 0;
                 sizeCacheClear = false;
+            } else if (LayoutTrace.ENABLED) {
+                LayoutTrace.reused(this, LayoutTrace.PREF_WIDTH);
             }
             return prefWidthCache;
         } else {
-            double result = computePrefWidth(height);
-            return Double.isNaN(result) || result < 0 ? 0 : result;
+            double result = getMemoizedSize(LayoutTrace.PREF_WIDTH, height);
+            if (Double.isNaN(result)) {
+                if (LayoutTrace.ENABLED) LayoutTrace.computed(this, LayoutTrace.PREF_WIDTH);
+                result = computePrefWidth(height);
+                result = Double.isNaN(result) || result < 0 ? 0 : result;
+                memoizeSize(LayoutTrace.PREF_WIDTH, height, result);
+            } else if (LayoutTrace.ENABLED) {
+                LayoutTrace.reused(this, LayoutTrace.PREF_WIDTH);
+            }
+            return result;
         }
     }
 
     @Override public double prefHeight(double width) {
         if (width == -1) {
             if (prefHeightCache == -1) {
+                if (LayoutTrace.ENABLED) LayoutTrace.computed(this, LayoutTrace.PREF_HEIGHT);
                 prefHeightCache = computePrefHeight(-1);
                 if (Double.isNaN(prefHeightCache) || prefHeightCache < 0) prefHeightCache = 0;
                 sizeCacheClear = false;
+            } else if (LayoutTrace.ENABLED) {
+                LayoutTrace.reused(this, LayoutTrace.PREF_HEIGHT);
             }
             return prefHeightCache;
         } else {
-            double result = computePrefHeight(width);
-            return Double.isNaN(result) || result < 0 ? 0 : result;
+            double result = getMemoizedSize(LayoutTrace.PREF_HEIGHT, width);
+            if (Double.isNaN(result)) {
+                if (LayoutTrace.ENABLED) LayoutTrace.computed(this, LayoutTrace.PREF_HEIGHT);
+                result = computePrefHeight(width);
+                result = Double.isNaN(result) || result < 0 ? 0 : result;
+                memoizeSize(LayoutTrace.PREF_HEIGHT, width, result);
+            } else if (LayoutTrace.ENABLED) {
+                LayoutTrace.reused(this, LayoutTrace.PREF_HEIGHT);
+            }
+            return result;
         }
     }
 
     @Override public double minWidth(double height) {
         if (height == -1) {
             if (minWidthCache == -1) {
+                if (LayoutTrace.ENABLED) LayoutTrace.computed(this, LayoutTrace.MIN_WIDTH);
                 minWidthCache = computeMinWidth(-1);
                 if (Double.isNaN(minWidthCache) || minWidthCache < 0) minWidthCache = 0;
                 sizeCacheClear = false;
+            } else if (LayoutTrace.ENABLED) {
+                LayoutTrace.reused(this, LayoutTrace.MIN_WIDTH);
             }
             return minWidthCache;
         } else {
-            double result = computeMinWidth(height);
-            return Double.isNaN(result) || result < 0 ? 0 : result;
+            double result = getMemoizedSize(LayoutTrace.MIN_WIDTH, height);
+            if (Double.isNaN(result)) {
+                if (LayoutTrace.ENABLED) LayoutTrace.computed(this, LayoutTrace.MIN_WIDTH);
+                result = computeMinWidth(height);
+                result = Double.isNaN(result) || result < 0 ? 0 : result;
+                memoizeSize(LayoutTrace.MIN_WIDTH, height, result);
+            } else if (LayoutTrace.ENABLED) {
+                LayoutTrace.reused(this, LayoutTrace.MIN_WIDTH);
+            }
+            return result;
         }
     }
 
     @Override public double minHeight(double width) {
         if (width == -1) {
             if (minHeightCache == -1) {
+                if (LayoutTrace.ENABLED) LayoutTrace.computed(this, LayoutTrace.MIN_HEIGHT);
                 minHeightCache = computeMinHeight(-1);
                 if (Double.isNaN(minHeightCache) || minHeightCache < 0) minHeightCache = 0;
                 sizeCacheClear = false;
+            } else if (LayoutTrace.ENABLED) {
+                LayoutTrace.reused(this, LayoutTrace.MIN_HEIGHT);
             }
             return minHeightCache;
         } else {
-            double result = computeMinHeight(width);
-            return Double.isNaN(result) || result < 0 ? 0 : result;
+            double result = getMemoizedSize(LayoutTrace.MIN_HEIGHT, width);
+            if (Double.isNaN(result)) {
+                if (LayoutTrace.ENABLED) LayoutTrace.computed(this, LayoutTrace.MIN_HEIGHT);
+                result = computeMinHeight(width);
+                result = Double.isNaN(result) || result < 0 ? 0 : result;
+                memoizeSize(LayoutTrace.MIN_HEIGHT, width, result);
+            } else if (LayoutTrace.ENABLED) {
+                LayoutTrace.reused(this, LayoutTrace.MIN_HEIGHT);
+            }
+            return result;
         }
     }
 
@@ -1203,6 +1328,7 @@ public abstract class Parent extends Node {
                     break;
                 }
                 performingLayout = true;
+                if (LayoutTrace.ENABLED) LayoutTrace.computed(this, LayoutTrace.LAYOUT);
                 layoutChildren();
                 // Intended fall-through
             case DIRTY_BRANCH:
@@ -1364,6 +1490,10 @@ public abstract class Parent extends Node {
             return;
         }
 
+        // If only the styles of this node depend on the pseudo-classes that
+        // changed, then the children are only processed if they are dirty.
+        final boolean updateChildren = cssFlag != CssFlags.TRANSITION;
+
         // Let the super implementation handle CSS for this node
         ParentHelper.superProcessCSS(this);
 
@@ -1393,7 +1523,7 @@ public abstract class Parent extends Node {
             // If the parent styles are being updated, recalculated or
             // reapplied, then make sure the children get the same treatment.
             // Unless the child is already more dirty than this parent (RT-29074).
-            if(CssFlags.UPDATE.compareTo(child.cssFlag) > 0) {
+            if(updateChildren && CssFlags.UPDATE.compareTo(child.cssFlag) > 0) {
                 child.cssFlag = CssFlags.UPDATE;
             }
             NodeHelper.processCSS(child);
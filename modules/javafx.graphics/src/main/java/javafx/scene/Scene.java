@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -87,9 +87,11 @@ import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.sun.javafx.logging.PulseLogger;
+import com.sun.javafx.logging.PulseMetrics;
 
 import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
 import com.sun.javafx.scene.NodeHelper;
@@ -573,6 +575,10 @@ public class Scene implements EventTarget {
     void doLayoutPass() {
         final Parent r = getRoot();
         if (r != null) {
+            Parent.startSizeMemoPass();
+            if (MeasurePhase.ENABLED) {
+                MeasurePhase.run(r);
+            }
             r.layout();
         }
     }
@@ -1697,6 +1703,38 @@ public class Scene implements EventTarget {
         userAgentStylesheetProperty().set(url);
     }
 
+    /**
+     * Prepares the CSS styles of a subtree which is not part of a scene yet,
+     * as though it were added to this scene, on a background thread. The
+     * nodes of the subtree are matched against the user agent stylesheets,
+     * the stylesheets of this scene and the stylesheets of the
+     * {@code Parent}s of the subtree, and the styles which apply to them are
+     * cached. Once the subtree is added to this scene, applying CSS to its
+     * nodes reuses the cached styles instead of matching the nodes again.
+     * <p>
+     * The nodes are matched in parallel, which makes this useful for large
+     * subtrees that are built off the JavaFX Application Thread. The stylesheets
+     * of the {@code Parent} to which the subtree is eventually added are not
+     * taken into account, and neither the subtree nor the stylesheets of this
+     * scene should be modified until the returned future completes. Preparing
+     * the styles of a subtree does not change any of its properties.
+     * </p>
+     *
+     * @param node the root of the subtree whose styles are prepared
+     * @return a {@code CompletableFuture} which completes once the styles of
+     * the subtree have been prepared
+     * @throws NullPointerException if {@code node} is null
+     * @throws IllegalArgumentException if {@code node} is already part of a scene
+     * @since 14
+     */
+    public CompletableFuture<Void> prepareCss(Node node) {
+        Objects.requireNonNull(node, "node must not be null");
+        if (node.getScene() != null) {
+            throw new IllegalArgumentException("node is already part of a scene: " + node);
+        }
+        return CompletableFuture.runAsync(() -> StyleManager.getInstance().prepareStyles(node, this));
+    }
+
     /**
      * Retrieves the depth buffer attribute for this scene.
      * @return the depth buffer attribute.
@@ -2345,12 +2383,13 @@ public class Scene implements EventTarget {
             // scene and then create the dirty nodes array list
             if (Scene.this.dirtyNodes == null) {
                 // must do this recursively
-                syncAll(getRoot());
+                PulseMetrics.addDirtyNodes(syncAll(getRoot()));
                 dirtyNodes = new Node[MIN_DIRTY_CAPACITY];
 
             } else {
                 // This is not the first time this scene has been synchronized,
                 // so we will only synchronize those nodes that need it
+                PulseMetrics.addDirtyNodes(dirtyNodesSize);
                 for (int i = 0 ; i < dirtyNodesSize; ++i) {
                     Node node = dirtyNodes[i];
                     dirtyNodes[i] = null;
@@ -2466,11 +2505,13 @@ public class Scene implements EventTarget {
             if (PULSE_LOGGING_ENABLED) {
                 PulseLogger.newPhase("CSS Pass");
             }
+            PulseMetrics.phase(PulseMetrics.CSS);
             Scene.this.doCSSPass();
 
             if (PULSE_LOGGING_ENABLED) {
                 PulseLogger.newPhase("Layout Pass");
             }
+            PulseMetrics.phase(PulseMetrics.LAYOUT);
             Scene.this.doLayoutPass();
 
             // run any scene post pulse listeners immediately _after_ css / layout,
@@ -2486,6 +2527,7 @@ public class Scene implements EventTarget {
                 if (PULSE_LOGGING_ENABLED) {
                     PulseLogger.newPhase("Update bounds");
                 }
+                PulseMetrics.phase(PulseMetrics.SYNC);
                 getRoot().updateBounds();
                 if (peer != null) {
                     try {
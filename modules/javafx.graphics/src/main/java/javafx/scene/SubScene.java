@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -626,7 +626,8 @@ public class SubScene extends Node {
         // Nothing to do...
         if (cssFlag == CssFlags.CLEAN) { return; }
 
-        if (getRoot().cssFlag == CssFlags.CLEAN) {
+        // A TRANSITION of the SubScene itself does not affect its root
+        if (getRoot().cssFlag == CssFlags.CLEAN && cssFlag != CssFlags.TRANSITION) {
             getRoot().cssFlag = cssFlag;
         }
         SubSceneHelper.superProcessCSS(this);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -930,35 +930,35 @@ public class Image {
         }
     }
 
-    private void cycleTasks() {
-        synchronized (pendingTasks) {
-            runningTasks--;
-            // do we have any pending tasks to run ?
-            // we can assume we are under the throttle limit because
-            // one task just completed.
-            final ImageTask nextTask = pendingTasks.poll();
-            if (nextTask != null) {
-                runningTasks++;
-                nextTask.start();
-            }
-        }
-    }
-
     private void loadInBackground() {
-        backgroundTask = new ImageTask();
+        backgroundTask = new ImageTask(this);
         // This is an artificial throttle on background image loading tasks.
         // It has been shown that with large images, we can quickly use up the
         // heap loading images, even if they result in thumbnails.
-        // The limit of MAX_RUNNING_TASKS is arbitrary, and was based on initial
-        // testing with
-        // about 60 2-6 megapixel images.
+        // The default limit of 4 running tasks is arbitrary, and was based on
+        // initial testing with about 60 2-6 megapixel images.
         synchronized (pendingTasks) {
-            if (runningTasks >= MAX_RUNNING_TASKS) {
-                pendingTasks.offer(backgroundTask);
-            } else {
-                runningTasks++;
-                backgroundTask.start();
+            pendingTasks.offer(backgroundTask);
+            startPendingTasks();
+        }
+    }
+
+    // Must be called with the pendingTasks lock held
+    private static void startPendingTasks() {
+        final int maxRunningTasks = Toolkit.getToolkit().getMaxImageLoadingTasks();
+        while (runningTasks < maxRunningTasks) {
+            final ImageTask nextTask = pendingTasks.poll();
+            if (nextTask == null) {
+                break;
+            }
+            if (nextTask.imageRef.get() == null) {
+                // the image has been garbage collected before it was loaded
+                nextTask.cancel();
+                continue;
             }
+            runningTasks++;
+            nextTask.running = true;
+            nextTask.start();
         }
     }
 
@@ -1007,44 +1007,64 @@ public class Image {
         platformImage.set(newPlatformImage);
     }
 
-    private static final int MAX_RUNNING_TASKS = 4;
     private static int runningTasks = 0;
     private static final Queue<ImageTask> pendingTasks =
             new LinkedList<ImageTask>();
 
-    private final class ImageTask
+    // The task only holds a weak reference to its image, so that the loading
+    // is cancelled once the image is no longer referenced by the application.
+    private static final class ImageTask
             implements AsyncOperationListener<ImageLoader> {
 
+        private final WeakReference<Image> imageRef;
         private final AsyncOperation peer;
+        private boolean running;
 
-        public ImageTask() {
-            peer = constructPeer();
+        public ImageTask(Image image) {
+            imageRef = new WeakReference<>(image);
+            peer = loadImageAsync(this, image.url,
+                                  image.requestedWidth, image.requestedHeight,
+                                  image.preserveRatio, image.smooth);
         }
 
         @Override
         public void onCancel() {
-            finishImage(new CancellationException("Loading cancelled"));
-            cycleTasks();
+            final Image image = imageRef.get();
+            if (image != null) {
+                image.finishImage(new CancellationException("Loading cancelled"));
+            }
+            finished();
         }
 
         @Override
         public void onException(Exception exception) {
-            finishImage(exception);
-            cycleTasks();
+            final Image image = imageRef.get();
+            if (image != null) {
+                image.finishImage(exception);
+            }
+            finished();
         }
 
         @Override
         public void onCompletion(ImageLoader value) {
-            finishImage(value);
-            cycleTasks();
+            final Image image = imageRef.get();
+            if (image != null) {
+                image.finishImage(value);
+            }
+            finished();
         }
 
         @Override
         public void onProgress(int cur, int max) {
+            final Image image = imageRef.get();
+            if (image == null) {
+                cancel();
+                return;
+            }
             if (max > 0) {
                 double curProgress = (double) cur / max;
-                if ((curProgress < 1) && (curProgress >= (getProgress() + 0.1))) {
-                    setProgress(curProgress);
+                if ((curProgress < 1) && (curProgress >= (image.getProgress() + 0.1))) {
+                    image.setProgress(curProgress);
                 }
             }
         }
@@ -1057,10 +1077,17 @@ public class Image {
             peer.cancel();
         }
 
-        private AsyncOperation constructPeer() {
-            return loadImageAsync(this, url,
-                                  requestedWidth, requestedHeight,
-                                  preserveRatio, smooth);
+        private void finished() {
+            synchronized (pendingTasks) {
+                if (running) {
+                    running = false;
+                    runningTasks--;
+                    startPendingTasks();
+                } else {
+                    // cancelled before it was started
+                    pendingTasks.remove(this);
+                }
+            }
         }
     }
 
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.text;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import com.sun.javafx.scene.text.FontHelper;
+import com.sun.javafx.scene.text.TextLayout;
+import com.sun.javafx.tk.Toolkit;
+
+/**
+ * Measures the logical bounds of strings rendered with a given font.
+ * <p>
+ * Unlike {@link Text} nodes, a {@code TextMeasurer} may be used from any
+ * thread, and by several threads at the same time. This allows applications
+ * to measure large collections of strings on background threads, for
+ * example to compute the preferred width of table columns before the data
+ * is shown. The methods which take a list of strings measure them in
+ * parallel.
+ * <p>
+ * The width of a string is the same as the width of the logical bounds of a
+ * {@code Text} node with the same font and content. Short strings which are
+ * measured by a {@code TextMeasurer} are shaped once, and the result of the
+ * shaping is shared with the {@code Text} nodes which later display them.
+ *
+ * @since 14
+ */
+public final class TextMeasurer {
+
+    // Text layouts are not thread safe, each thread uses its own
+    private static final ThreadLocal<TextLayout> layouts =
+            ThreadLocal.withInitial(() -> Toolkit.getToolkit().getTextLayoutFactory().createLayout());
+
+    private final Font font;
+    private final Object nativeFont;
+
+    /**
+     * Creates a {@code TextMeasurer} for the given font.
+     *
+     * @param font the font used to measure the strings
+     * @throws NullPointerException if {@code font} is null
+     */
+    public TextMeasurer(Font font) {
+        this.font = Objects.requireNonNull(font, "font must not be null");
+        this.nativeFont = FontHelper.getNativeFont(font);
+    }
+
+    /**
+     * Returns the font used to measure the strings.
+     *
+     * @return the font of this {@code TextMeasurer}
+     */
+    public Font getFont() {
+        return font;
+    }
+
+    /**
+     * Computes the width of the given string. Line breaks in the string
+     * start new lines, and the width of the widest line is returned.
+     *
+     * @param text the string to measure, null is treated as an empty string
+     * @return the logical width of the string
+     */
+    public double computeWidth(String text) {
+        // The width does not depend on the bounds type, use the one of the
+        // text of the controls so that the shaped layout is shared with them
+        return getLayout(text, 0, TextLayout.BOUNDS_CENTER).getBounds().getWidth();
+    }
+
+    /**
+     * Computes the height of the given string, wrapped at the given width.
+     *
+     * @param text the string to measure, null is treated as an empty string
+     * @param wrappingWidth the width at which lines are wrapped, or zero
+     *        to only break lines at line breaks in the string
+     * @return the logical height of the string
+     */
+    public double computeHeight(String text, double wrappingWidth) {
+        return getLayout(text, wrappingWidth, 0).getBounds().getHeight();
+    }
+
+    /**
+     * Computes the width of each string of the given list, measuring the
+     * strings in parallel.
+     *
+     * @param texts the strings to measure, null elements are treated as
+     *        empty strings
+     * @return an array with the width of each string of the list
+     * @throws NullPointerException if {@code texts} is null
+     */
+    public double[] computeWidths(List<String> texts) {
+        final double[] widths = new double[texts.size()];
+        IntStream.range(0, widths.length).parallel()
+                 .forEach(i -> widths[i] = computeWidth(texts.get(i)));
+        return widths;
+    }
+
+    /**
+     * Computes the width of the widest string of the given list, measuring
+     * the strings in parallel.
+     *
+     * @param texts the strings to measure, null elements are treated as
+     *        empty strings
+     * @return the width of the widest string, or zero if the list is empty
+     * @throws NullPointerException if {@code texts} is null
+     */
+    public double computeMaxWidth(List<String> texts) {
+        return IntStream.range(0, texts.size()).parallel()
+                        .mapToDouble(i -> computeWidth(texts.get(i)))
+                        .max().orElse(0);
+    }
+
+    private TextLayout getLayout(String text, double wrappingWidth, int boundsType) {
+        final TextLayout layout = layouts.get();
+        layout.setContent(text != null ? text : "", nativeFont);
+        layout.setWrapWidth((float) wrappingWidth);
+        layout.setLineSpacing(0);
+        layout.setBoundsType(boundsType);
+        return layout;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -48,7 +48,7 @@ public abstract class NGNodeShim extends NGNode {
         return node.computeOpaqueRegion(opaqueRegion);
     }
 
-    public static int cullingBits(NGNode node) {
+    public static long cullingBits(NGNode node) {
         return node.cullingBits;
     }
 
@@ -67,7 +67,7 @@ public abstract class NGNodeShim extends NGNode {
     public static void markCullRegions(
             NGNode node,
             DirtyRegionContainer drc,
-            int cullingRegionsBitsOfParent,
+            long cullingRegionsBitsOfParent,
             BaseTransform tx,
             GeneralTransform3D pvTx) {
         node.markCullRegions(drc, cullingRegionsBitsOfParent, tx, pvTx);
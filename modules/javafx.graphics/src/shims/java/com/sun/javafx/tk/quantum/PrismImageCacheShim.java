@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.tk.quantum;
+
+import com.sun.javafx.tk.ImageLoader;
+import java.io.IOException;
+
+public class PrismImageCacheShim {
+
+    public interface Loader {
+        ImageLoader load() throws IOException;
+    }
+
+    private final PrismImageCache cache;
+
+    public PrismImageCacheShim(long maxSize) {
+        cache = new PrismImageCache(maxSize);
+    }
+
+    public ImageLoader get(String url, double width, double height,
+                           boolean preserveRatio, boolean smooth,
+                           Loader loader) throws IOException {
+        return cache.get(new PrismImageCache.Key(url, width, height, preserveRatio, 1.0f, smooth),
+                () -> (PrismImageLoader2) loader.load());
+    }
+
+    public static ImageLoader decode(String url) {
+        return new PrismImageLoader2(url, 0, 0, false, 1.0f, true);
+    }
+
+    public int getCount() {
+        return cache.getCount();
+    }
+
+    public long getSize() {
+        return cache.getSize();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+}
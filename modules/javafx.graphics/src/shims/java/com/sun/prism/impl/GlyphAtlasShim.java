@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.impl;
+
+import com.sun.javafx.geom.Rectangle;
+import com.sun.prism.impl.packrect.RectanglePacker;
+import java.util.List;
+
+public class GlyphAtlasShim {
+
+    private final GlyphAtlas atlas;
+    private final GlyphAtlas.Owner owner;
+
+    /**
+     * Creates an atlas of square pages without textures. The index of every
+     * page evicted from the atlas is added to the given list.
+     */
+    public GlyphAtlasShim(int maxPages, int pageSize, List<Integer> evicted) {
+        atlas = new GlyphAtlas(maxPages, pageSize, pageSize,
+                index -> new RectanglePacker(null, pageSize, pageSize),
+                () -> {});
+        owner = page -> evicted.add(atlas.indexOf(page));
+    }
+
+    /**
+     * Returns the index of the page on which the rectangle was placed,
+     * or -1 if it does not fit on a page.
+     */
+    public int add(int width, int height) {
+        final GlyphAtlas.Page page = atlas.add(new Rectangle(width, height), owner);
+        return page == null ? -1 : atlas.indexOf(page);
+    }
+
+    public void touch(int index) {
+        atlas.touch(atlas.getPage(index));
+    }
+
+    public int getPageCount() {
+        return atlas.getPageCount();
+    }
+
+    public int getEvictionCount() {
+        return atlas.getEvictionCount();
+    }
+}
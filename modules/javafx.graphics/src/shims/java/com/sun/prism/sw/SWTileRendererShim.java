@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.sw;
+
+import com.sun.pisces.PiscesRenderer;
+import com.sun.prism.Graphics;
+import com.sun.prism.RTTexture;
+import com.sun.prism.impl.PrismSettings;
+
+public class SWTileRendererShim {
+
+    private static SWResourceFactory factory;
+
+    /**
+     * Returns true if the native library of the software pipeline can be
+     * loaded, which the render targets need.
+     */
+    public static boolean isPipelineAvailable() {
+        try {
+            SWPipeline.getInstance();
+            return true;
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    private static synchronized SWResourceFactory getFactory() {
+        if (factory == null) {
+            factory = new SWResourceFactory(null);
+        }
+        return factory;
+    }
+
+    public static RTTexture createTarget(int width, int height) {
+        return new SWRTTexture(getFactory(), width, height);
+    }
+
+    /**
+     * Returns a graphics which renders directly into the target, whatever
+     * the tiled rendering settings.
+     */
+    public static Graphics createDirectGraphics(RTTexture target) {
+        final SWRTTexture t = (SWRTTexture) target;
+        return new SWGraphics(t, new SWContext(getFactory()), new PiscesRenderer(t.getSurface()),
+                              t.getDimensions(), null);
+    }
+
+    public static int getTileSize() {
+        return PrismSettings.swTileSize;
+    }
+
+    public static int getMaxPendingCount() {
+        return SWTileRenderer.MAX_PENDING_OPS;
+    }
+
+    private final SWRTTexture target;
+    private final SWTileRenderer renderer;
+
+    public SWTileRendererShim(RTTexture target) {
+        this.target = (SWRTTexture) target;
+        this.renderer = new SWTileRenderer(this.target);
+    }
+
+    /**
+     * Returns a graphics which records its rendering into this tile renderer.
+     */
+    public Graphics createGraphics() {
+        return new SWGraphics(target, new SWContext(getFactory()), new PiscesRenderer(target.getSurface()),
+                              target.getDimensions(), renderer);
+    }
+
+    public int getPendingCount() {
+        return renderer.getPendingCount();
+    }
+
+    public void flush() {
+        renderer.flush();
+    }
+}
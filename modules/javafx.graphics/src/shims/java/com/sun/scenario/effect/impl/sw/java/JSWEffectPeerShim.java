@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.scenario.effect.impl.sw.java;
+
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.scenario.effect.Color4f;
+import com.sun.scenario.effect.FilterContext;
+import com.sun.scenario.effect.impl.state.GaussianRenderState;
+
+public class JSWEffectPeerShim {
+
+    private static final FilterContext FCTX = new FilterContext(new Object()) {};
+
+    public static int getBandThreads() {
+        return JSWEffectPeer.bandThreads;
+    }
+
+    public static int getBandThreshold() {
+        return JSWEffectPeer.bandThreshold;
+    }
+
+    public static void setBanding(int threads, int threshold) {
+        JSWEffectPeer.bandThreads = threads;
+        JSWEffectPeer.bandThreshold = threshold;
+    }
+
+    public static int getBandCount(int lines, int lineLength) {
+        return JSWEffectPeer.getBandCount(lines, lineLength);
+    }
+
+    public static void boxBlurHorizontal(int dstPixels[], int dstw, int dsth, int dstscan,
+                                         int srcPixels[], int srcw, int srch, int srcscan) {
+        new JSWBoxBlurPeer(FCTX, null, "BoxBlur").
+            filterHorizontal(dstPixels, dstw, dsth, dstscan, srcPixels, srcw, srch, srcscan);
+    }
+
+    public static void boxBlurVertical(int dstPixels[], int dstw, int dsth, int dstscan,
+                                       int srcPixels[], int srcw, int srch, int srcscan) {
+        new JSWBoxBlurPeer(FCTX, null, "BoxBlur").
+            filterVertical(dstPixels, dstw, dsth, dstscan, srcPixels, srcw, srch, srcscan);
+    }
+
+    public static void boxShadowHorizontalBlack(int dstPixels[], int dstw, int dsth, int dstscan,
+                                                int srcPixels[], int srcw, int srch, int srcscan,
+                                                float spread) {
+        new JSWBoxShadowPeer(FCTX, null, "BoxShadow").
+            filterHorizontalBlack(dstPixels, dstw, dsth, dstscan, srcPixels, srcw, srch, srcscan,
+                                  spread);
+    }
+
+    public static void boxShadowVerticalBlack(int dstPixels[], int dstw, int dsth, int dstscan,
+                                              int srcPixels[], int srcw, int srch, int srcscan,
+                                              float spread) {
+        new JSWBoxShadowPeer(FCTX, null, "BoxShadow").
+            filterVerticalBlack(dstPixels, dstw, dsth, dstscan, srcPixels, srcw, srch, srcscan,
+                                spread);
+    }
+
+    public static void boxShadowVertical(int dstPixels[], int dstw, int dsth, int dstscan,
+                                         int srcPixels[], int srcw, int srch, int srcscan,
+                                         float spread, float shadowColor[]) {
+        new JSWBoxShadowPeer(FCTX, null, "BoxShadow").
+            filterVertical(dstPixels, dstw, dsth, dstscan, srcPixels, srcw, srch, srcscan,
+                           spread, shadowColor);
+    }
+
+    public static void linearConvolveHV(int dstPixels[], int dstcols, int dstrows, int dcolinc, int drowinc,
+                                        int srcPixels[], int srccols, int srcrows, int scolinc, int srowinc,
+                                        float weights[]) {
+        new JSWLinearConvolvePeer(FCTX, null, "LinearConvolve").
+            filterHV(dstPixels, dstcols, dstrows, dcolinc, drowinc,
+                     srcPixels, srccols, srcrows, scolinc, srowinc, weights);
+    }
+
+    private static JSWLinearConvolveShadowPeer createShadowPeer() {
+        GaussianRenderState state = new GaussianRenderState(4f, 4f, 0f, true, Color4f.BLACK,
+                                                            BaseTransform.IDENTITY_TRANSFORM);
+        return new JSWLinearConvolveShadowPeer(FCTX, null, "LinearConvolveShadow") {
+            {
+                setRenderState(state);
+            }
+        };
+    }
+
+    public static void linearConvolveShadowVector(int dstPixels[], int dstw, int dsth, int dstscan,
+                                                  int srcPixels[], int srcw, int srch, int srcscan,
+                                                  float weights[], int count,
+                                                  float srcx0, float srcy0,
+                                                  float offsetx, float offsety,
+                                                  float deltax, float deltay) {
+        createShadowPeer().
+            filterVector(dstPixels, dstw, dsth, dstscan, srcPixels, srcw, srch, srcscan,
+                         weights, count, srcx0, srcy0, offsetx, offsety, deltax, deltay,
+                         1f, 0f, 0f, 1f);
+    }
+
+    public static void linearConvolveShadowHV(int dstPixels[], int dstcols, int dstrows, int dcolinc, int drowinc,
+                                              int srcPixels[], int srccols, int srcrows, int scolinc, int srowinc,
+                                              float weights[]) {
+        createShadowPeer().
+            filterHV(dstPixels, dstcols, dstrows, dcolinc, drowinc,
+                     srcPixels, srccols, srcrows, scolinc, srowinc, weights);
+    }
+}
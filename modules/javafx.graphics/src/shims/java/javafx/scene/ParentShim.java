@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,7 +26,9 @@
 package javafx.scene;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 import javafx.collections.ObservableList;
+import javafx.scene.text.Font;
 
 public class ParentShim extends Parent {
 
@@ -51,4 +53,8 @@ public class ParentShim extends Parent {
     public static List<Node> test_getViewOrderChildren(Parent p) {
         return p.test_getViewOrderChildren();
     }
+
+    public static void collectMeasuredText(Parent p, BiConsumer<String, Font> collector) {
+        p.collectMeasuredText(collector);
+    }
 }
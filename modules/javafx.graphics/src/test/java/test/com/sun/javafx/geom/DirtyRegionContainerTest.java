@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -191,6 +191,83 @@ public class DirtyRegionContainerTest {
         Assert.assertEquals(new RectBounds(0, 0, 50, 50), drc.getDirtyRegion(2));
     }
 
+    @Test
+    public void test_addDirtyRegion_no_space_31_regions() {
+        DirtyRegionContainer drc = new DirtyRegionContainer(31);
+        for (int i = 0; i < 31; i++) {
+            drc.addDirtyRegion(new RectBounds(i * 20, 0, i * 20 + 10, 10));
+        }
+        Assert.assertEquals(31, drc.size());
+
+        drc.addDirtyRegion(new RectBounds(0, 100, 10, 110));
+
+        Assert.assertTrue(drc.size() <= 31);
+        RectBounds union = new RectBounds();
+        for (int i = 0; i < drc.size(); i++) {
+            union = (RectBounds) union.deriveWithUnion(drc.getDirtyRegion(i));
+        }
+        Assert.assertEquals(new RectBounds(0, 0, 610, 110), union);
+    }
+
+    @Test
+    public void test_addDirtyRegion_mergeCost_adjacent() {
+        DirtyRegionContainer drc = new DirtyRegionContainer(10, 100);
+        drc.addDirtyRegion(new RectBounds(0, 0, 10, 10));
+        drc.addDirtyRegion(new RectBounds(11, 0, 20, 10));
+
+        Assert.assertEquals(1, drc.size());
+        Assert.assertEquals(new RectBounds(0, 0, 20, 10), drc.getDirtyRegion(0));
+    }
+
+    @Test
+    public void test_addDirtyRegion_mergeCost_distant() {
+        DirtyRegionContainer drc = new DirtyRegionContainer(10, 100);
+        drc.addDirtyRegion(new RectBounds(0, 0, 10, 10));
+        drc.addDirtyRegion(new RectBounds(100, 100, 110, 110));
+
+        Assert.assertEquals(2, drc.size());
+    }
+
+    @Test
+    public void test_addDirtyRegion_mergeCost_cheapest() {
+        DirtyRegionContainer drc = new DirtyRegionContainer(10, 100);
+        drc.addDirtyRegion(new RectBounds(0, 0, 10, 10));
+        drc.addDirtyRegion(new RectBounds(40, 0, 50, 10));
+        Assert.assertEquals(2, drc.size());
+
+        // Costs 50 with the first region and 200 with the second one
+        drc.addDirtyRegion(new RectBounds(15, 0, 20, 10));
+
+        Assert.assertEquals(2, drc.size());
+        Assert.assertEquals(new RectBounds(40, 0, 50, 10), drc.getDirtyRegion(0));
+        Assert.assertEquals(new RectBounds(0, 0, 20, 10), drc.getDirtyRegion(1));
+    }
+
+    @Test
+    public void test_addDirtyRegion_mergeCost_cascade() {
+        DirtyRegionContainer drc = new DirtyRegionContainer(10, 100);
+        drc.addDirtyRegion(new RectBounds(0, 0, 10, 10));
+        drc.addDirtyRegion(new RectBounds(40, 0, 50, 10));
+        Assert.assertEquals(2, drc.size());
+
+        drc.addDirtyRegion(new RectBounds(12, 0, 38, 10));
+
+        Assert.assertEquals(1, drc.size());
+        Assert.assertEquals(new RectBounds(0, 0, 50, 10), drc.getDirtyRegion(0));
+    }
+
+    @Test
+    public void test_copy_mergeCost() {
+        DirtyRegionContainer drc = new DirtyRegionContainer(4, 100);
+        Assert.assertEquals(100f, drc.copy().getMergeCost());
+    }
+
+    @Test
+    public void test_getArea() {
+        Assert.assertEquals(0, new DirtyRegionContainer(4).getArea(), 0);
+        Assert.assertEquals(400 + 625 + 1600, getDRC_initialized().getArea(), 0);
+    }
+
     private DirtyRegionContainer getDRC_initialized() {
         DirtyRegionContainer drc = new DirtyRegionContainer(4);
         return drc.deriveWithNewRegions(nonIntersecting_3_Regions);
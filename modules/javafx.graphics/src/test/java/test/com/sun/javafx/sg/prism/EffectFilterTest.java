@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.sg.prism;
+
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.sg.prism.EffectFilter;
+import com.sun.javafx.sg.prism.EffectFilterShim;
+import com.sun.javafx.sg.prism.NGNode;
+import com.sun.scenario.effect.GaussianBlur;
+import com.sun.scenario.effect.ImageData;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class EffectFilterTest extends NGTestBase {
+
+    private static ImageData createResult() {
+        return new ImageData(null, null, new Rectangle(0, 0, 10, 10));
+    }
+
+    private static EffectFilter createFilter(NGNode node) {
+        node.setEffect(new GaussianBlur());
+        return node.getEffectFilter();
+    }
+
+    @Test public void leastRecentlyRenderedResultIsEvicted() {
+        Object cache = EffectFilterShim.newEffectCache(100);
+        EffectFilter a = createFilter(createRectangle(0, 0, 10, 10));
+        EffectFilter b = createFilter(createRectangle(0, 0, 10, 10));
+        EffectFilter c = createFilter(createRectangle(0, 0, 10, 10));
+        ImageData resB = createResult();
+        assertTrue(EffectFilterShim.retain(cache, a, createResult(), 40));
+        assertTrue(EffectFilterShim.retain(cache, b, resB, 40));
+        EffectFilterShim.hit(cache, a);
+        assertTrue(EffectFilterShim.retain(cache, c, createResult(), 40));
+
+        assertTrue(EffectFilterShim.isCached(a));
+        assertFalse(EffectFilterShim.isCached(b));
+        assertTrue(EffectFilterShim.isCached(c));
+        assertEquals(0, resB.getReferenceCount());
+        assertEquals(80, EffectFilterShim.getSize(cache));
+        assertEquals(1, EffectFilterShim.getEvictions(cache));
+    }
+
+    @Test public void resultLargerThanBudgetIsNotRetained() {
+        Object cache = EffectFilterShim.newEffectCache(100);
+        EffectFilter a = createFilter(createRectangle(0, 0, 10, 10));
+        assertFalse(EffectFilterShim.retain(cache, a, createResult(), 200));
+        assertFalse(EffectFilterShim.isCached(a));
+        assertEquals(0, EffectFilterShim.getSize(cache));
+    }
+
+    @Test public void changingNodeReleasesResult() {
+        Object cache = EffectFilterShim.newEffectCache(1000);
+        TestNGRectangle rect = createRectangle(0, 0, 10, 10);
+        EffectFilter filter = createFilter(rect);
+        ImageData res = createResult();
+        EffectFilterShim.retain(cache, filter, res, 400);
+        rect.clearDirtyTree();
+
+        rect.updateRectangle(0, 0, 20, 20, 0, 0);
+        assertFalse(EffectFilterShim.isCached(filter));
+        assertEquals(0, res.getReferenceCount());
+    }
+
+    @Test public void changingChildReleasesResultOfGroup() {
+        Object cache = EffectFilterShim.newEffectCache(1000);
+        TestNGRectangle rect = createRectangle(0, 0, 10, 10);
+        TestNGGroup group = createGroup(rect);
+        EffectFilter filter = createFilter(group);
+        EffectFilterShim.retain(cache, filter, createResult(), 400);
+        group.clearDirtyTree();
+
+        rect.updateRectangle(0, 0, 20, 20, 0, 0);
+        assertFalse(EffectFilterShim.isCached(filter));
+    }
+
+    @Test public void translatingChildReleasesResultOfGroup() {
+        Object cache = EffectFilterShim.newEffectCache(1000);
+        TestNGRectangle rect = createRectangle(0, 0, 10, 10);
+        TestNGGroup group = createGroup(rect);
+        EffectFilter filter = createFilter(group);
+        EffectFilterShim.retain(cache, filter, createResult(), 400);
+        group.clearDirtyTree();
+
+        translate(rect, 5, 0);
+        assertFalse(EffectFilterShim.isCached(filter));
+    }
+
+    @Test public void changingSiblingKeepsResult() {
+        Object cache = EffectFilterShim.newEffectCache(1000);
+        TestNGRectangle rect = createRectangle(0, 0, 10, 10);
+        TestNGRectangle sibling = createRectangle(20, 0, 10, 10);
+        TestNGGroup group = createGroup(rect, sibling);
+        EffectFilter filter = createFilter(rect);
+        EffectFilterShim.retain(cache, filter, createResult(), 400);
+        group.clearDirtyTree();
+
+        sibling.updateRectangle(20, 0, 20, 20, 0, 0);
+        translate(sibling, 5, 0);
+        assertTrue(EffectFilterShim.isCached(filter));
+    }
+
+    @Test public void removingEffectReleasesResult() {
+        Object cache = EffectFilterShim.newEffectCache(1000);
+        TestNGRectangle rect = createRectangle(0, 0, 10, 10);
+        EffectFilter filter = createFilter(rect);
+        ImageData res = createResult();
+        EffectFilterShim.retain(cache, filter, res, 400);
+
+        rect.setEffect(null);
+        assertEquals(0, res.getReferenceCount());
+    }
+}
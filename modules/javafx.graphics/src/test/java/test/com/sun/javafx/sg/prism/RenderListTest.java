@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.sg.prism;
+
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.javafx.sg.prism.NGGroup;
+import com.sun.javafx.sg.prism.NGRectangleShim;
+import com.sun.javafx.sg.prism.RenderList;
+import com.sun.javafx.sg.prism.RenderListShim;
+import com.sun.prism.Graphics;
+import com.sun.prism.Texture;
+import com.sun.prism.paint.Color;
+import com.sun.scenario.effect.GaussianBlur;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RenderListTest extends NGTestBase {
+
+    private RecordingTestGraphics g;
+
+    @Before public void setup() {
+        g = new RecordingTestGraphics();
+    }
+
+    /**
+     * Renders the children of the group with its render list, or as usual
+     * if it is not retained, and moves on to the next frame.
+     */
+    private boolean renderFrame(NGGroup group) {
+        boolean retained = RenderListShim.render(group, g);
+        if (!retained) {
+            for (int i = 0; i < group.getChildren().size(); i++) {
+                group.getChildren().get(i).render(g);
+            }
+        }
+        RenderList.nextFrame();
+        return retained;
+    }
+
+    private static FillNode createFill(int x, int y, int width, int height) {
+        FillNode node = new FillNode();
+        node.updateRectangle(x, y, width, height, 0, 0);
+        final RectBounds bounds = new RectBounds(x, y, x + width, y + height);
+        node.setContentBounds(bounds);
+        node.setTransformMatrix(BaseTransform.IDENTITY_TRANSFORM);
+        node.setTransformedBounds(bounds, false);
+        return node;
+    }
+
+    private NGGroup createStaticGroup(FillNode... children) {
+        NGGroup group = createGroup(children);
+        renderFrame(group);
+        assertTrue(renderFrame(group));
+        assertTrue(RenderListShim.isRetained(group));
+        group.clearDirtyTree();
+        return group;
+    }
+
+    @Test public void childrenAreRecordedInTheSecondFrame() {
+        FillNode a = createFill(0, 0, 10, 10);
+        FillNode b = createFill(20, 0, 10, 10);
+        NGGroup group = createGroup(a, b);
+
+        assertFalse(renderFrame(group));
+        assertFalse(RenderListShim.isRetained(group));
+        assertTrue(renderFrame(group));
+        assertTrue(RenderListShim.isRetained(group));
+        assertEquals(4, g.fills);
+        assertEquals(2, a.renders);
+        assertEquals(2, b.renders);
+    }
+
+    @Test public void retainedCommandsAreReplayedWithoutRenderingChildren() {
+        FillNode a = createFill(0, 0, 10, 10);
+        FillNode b = createFill(20, 0, 10, 10);
+        NGGroup group = createStaticGroup(a, b);
+        g.fills = 0;
+
+        assertTrue(renderFrame(group));
+        assertEquals(2, g.fills);
+        assertEquals(2, a.renders);
+        assertEquals(2, b.renders);
+    }
+
+    @Test public void renderingTwiceInTheSameFrameDoesNotRecord() {
+        NGGroup group = createGroup(createFill(0, 0, 10, 10));
+        assertFalse(RenderListShim.render(group, g));
+        assertFalse(RenderListShim.render(group, g));
+        assertFalse(RenderListShim.isRetained(group));
+    }
+
+    @Test public void transformsAreReplayedRelativeToTheGroup() {
+        FillNode a = createFill(0, 0, 10, 10);
+        translate(a, 5, 0);
+        NGGroup group = createStaticGroup(a);
+
+        g.translate(100, 50);
+        assertTrue(renderFrame(group));
+        assertEquals(105, g.lastTx.getMxt(), 0);
+        assertEquals(50, g.lastTx.getMyt(), 0);
+        assertEquals(100, g.getTransformNoClone().getMxt(), 0);
+        assertEquals(50, g.getTransformNoClone().getMyt(), 0);
+    }
+
+    @Test public void extraAlphaIsReplayedRelativeToTheGroup() {
+        NGGroup group = createStaticGroup(createFill(0, 0, 10, 10));
+
+        g.setExtraAlpha(0.5f);
+        assertTrue(renderFrame(group));
+        assertEquals(0.5f, g.lastExtraAlpha, 0);
+        assertEquals(0.5f, g.getExtraAlpha(), 0);
+    }
+
+    @Test public void changingChildReleasesCommands() {
+        FillNode a = createFill(0, 0, 10, 10);
+        NGGroup group = createStaticGroup(a);
+
+        a.updateRectangle(0, 0, 20, 20, 0, 0);
+        assertFalse(RenderListShim.isRetained(group));
+    }
+
+    @Test public void translatingChildReleasesCommands() {
+        FillNode a = createFill(0, 0, 10, 10);
+        NGGroup group = createStaticGroup(a);
+
+        translate(a, 5, 0);
+        assertFalse(RenderListShim.isRetained(group));
+    }
+
+    @Test public void changingNestedChildReleasesCommands() {
+        FillNode a = createFill(0, 0, 10, 10);
+        NGGroup inner = createGroup(a);
+        NGGroup group = createGroup(inner);
+        renderFrame(group);
+        assertTrue(renderFrame(group));
+        group.clearDirtyTree();
+
+        a.updateRectangle(0, 0, 20, 20, 0, 0);
+        assertFalse(RenderListShim.isRetained(group));
+    }
+
+    @Test public void translatingGroupKeepsCommands() {
+        NGGroup group = createStaticGroup(createFill(0, 0, 10, 10));
+        NGGroup parent = createGroup(group);
+        parent.clearDirtyTree();
+
+        translate(group, 5, 0);
+        assertTrue(RenderListShim.isRetained(group));
+    }
+
+    @Test public void childWithEffectIsNotRecorded() {
+        FillNode a = createFill(0, 0, 10, 10);
+        setEffect(a, new GaussianBlur());
+        NGGroup group = createGroup(a);
+
+        assertFalse(renderFrame(group));
+        assertFalse(renderFrame(group));
+        assertFalse(RenderListShim.isRetained(group));
+    }
+
+    @Test public void drawingTextureAbandonsRecording() {
+        FillNode a = createFill(0, 0, 10, 10);
+        a.drawsTexture = true;
+        NGGroup group = createGroup(a);
+
+        assertFalse(renderFrame(group));
+        assertTrue(renderFrame(group));
+        assertFalse(RenderListShim.isRetained(group));
+        assertFalse(renderFrame(group));
+        assertEquals(3, a.renders);
+    }
+
+    private static final class FillNode extends NGRectangleShim {
+        int renders;
+        boolean drawsTexture;
+
+        @Override
+        protected void renderContent(Graphics g) {
+            renders++;
+            g.setPaint(Color.RED);
+            g.fillRect(0, 0, 10, 10);
+            if (drawsTexture) {
+                g.drawTexture(null, 0, 0, 10, 10);
+            }
+        }
+    }
+
+    private static final class RecordingTestGraphics extends TestGraphics {
+        int fills;
+        BaseTransform lastTx;
+        float lastExtraAlpha;
+
+        @Override
+        public void fillRect(float x, float y, float width, float height) {
+            fills++;
+            lastTx = getTransformNoClone().copy();
+            lastExtraAlpha = getExtraAlpha();
+        }
+
+        @Override
+        public void drawTexture(Texture tex, float x, float y, float w, float h) {
+        }
+    }
+}
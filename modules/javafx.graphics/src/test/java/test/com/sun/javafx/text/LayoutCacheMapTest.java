@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.text;
+
+import com.sun.javafx.text.LayoutCacheMapShim;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LayoutCacheMapTest {
+
+    private static final Object FONT = "Font A";
+    private static final Object OTHER_FONT = "Font B";
+
+    @Test
+    public void testGetReturnsCachedLayout() {
+        LayoutCacheMapShim map = new LayoutCacheMapShim(1000);
+        Object layout = LayoutCacheMapShim.newLayoutCache();
+        map.put("hello", FONT, layout, 100);
+
+        assertSame(layout, map.get("hello", FONT));
+        assertEquals(1, map.getCount());
+        assertEquals(100, map.getSize());
+        assertEquals(1, map.getHitCount());
+        assertEquals(0, map.getMissCount());
+    }
+
+    @Test
+    public void testKeyComparesTextAndFont() {
+        LayoutCacheMapShim map = new LayoutCacheMapShim(1000);
+        map.put("hello", FONT, LayoutCacheMapShim.newLayoutCache(), 100);
+
+        assertNull(map.get("hello", OTHER_FONT));
+        assertNull(map.get("hellp", FONT));
+        // "Aa" and "BB" have the same String hash code
+        map.put("Aa", FONT, LayoutCacheMapShim.newLayoutCache(), 100);
+        assertNull(map.get("BB", FONT));
+        assertEquals(3, map.getMissCount());
+    }
+
+    @Test
+    public void testOversizedLayoutIsNotCached() {
+        LayoutCacheMapShim map = new LayoutCacheMapShim(1000);
+        map.put("hello", FONT, LayoutCacheMapShim.newLayoutCache(), 1001);
+
+        assertNull(map.get("hello", FONT));
+        assertEquals(0, map.getCount());
+        assertEquals(0, map.getSize());
+    }
+
+    @Test
+    public void testSizeBudgetEvictsInsteadOfClearing() {
+        LayoutCacheMapShim map = new LayoutCacheMapShim(1000);
+        for (int i = 0; i < 25; i++) {
+            map.put("text" + i, FONT, LayoutCacheMapShim.newLayoutCache(), 100);
+        }
+
+        assertEquals(10, map.getCount());
+        assertEquals(1000, map.getSize());
+        assertEquals(15, map.getEvictionCount());
+        // the most recently added layouts are kept
+        for (int i = 15; i < 25; i++) {
+            assertNotNull(map.get("text" + i, FONT));
+        }
+    }
+
+    @Test
+    public void testReferencedLayoutSurvivesEviction() {
+        LayoutCacheMapShim map = new LayoutCacheMapShim(1000);
+        Object reused = LayoutCacheMapShim.newLayoutCache();
+        map.put("reused", FONT, reused, 100);
+        for (int i = 0; i < 30; i++) {
+            assertSame(reused, map.get("reused", FONT));
+            map.put("text" + i, FONT, LayoutCacheMapShim.newLayoutCache(), 100);
+        }
+
+        assertSame(reused, map.get("reused", FONT));
+        assertEquals(10, map.getCount());
+        assertEquals(1000, map.getSize());
+    }
+
+    @Test
+    public void testReplacingLayoutKeepsSizeConsistent() {
+        LayoutCacheMapShim map = new LayoutCacheMapShim(1000);
+        map.put("hello", FONT, LayoutCacheMapShim.newLayoutCache(), 100);
+        Object layout = LayoutCacheMapShim.newLayoutCache();
+        map.put("hello", FONT, layout, 300);
+
+        assertSame(layout, map.get("hello", FONT));
+        assertEquals(1, map.getCount());
+        assertEquals(300, map.getSize());
+
+        for (int i = 0; i < 20; i++) {
+            map.put("text" + i, FONT, LayoutCacheMapShim.newLayoutCache(), 100);
+        }
+        assertEquals(10, map.getCount());
+        assertEquals(1000, map.getSize());
+    }
+
+    @Test
+    public void testClear() {
+        LayoutCacheMapShim map = new LayoutCacheMapShim(1000);
+        map.put("hello", FONT, LayoutCacheMapShim.newLayoutCache(), 100);
+        map.clear();
+
+        assertNull(map.get("hello", FONT));
+        assertEquals(0, map.getCount());
+        assertEquals(0, map.getSize());
+    }
+}
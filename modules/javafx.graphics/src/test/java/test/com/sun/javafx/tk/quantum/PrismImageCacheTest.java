@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.tk.quantum;
+
+import com.sun.javafx.tk.ImageLoader;
+import com.sun.javafx.tk.quantum.PrismImageCacheShim;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PrismImageCacheTest {
+
+    private static final String URL =
+            PrismImageCacheTest.class.getResource("/test/com/sun/javafx/sg/prism/test-opaque.png").toExternalForm();
+
+    private final AtomicInteger decodeCount = new AtomicInteger();
+
+    private ImageLoader decode() {
+        decodeCount.incrementAndGet();
+        return PrismImageCacheShim.decode(URL);
+    }
+
+    @Test
+    public void testCachedImageIsShared() throws IOException {
+        final PrismImageCacheShim cache = new PrismImageCacheShim(1024 * 1024);
+        final ImageLoader first = cache.get(URL, 0, 0, false, true, this::decode);
+        final ImageLoader second = cache.get(URL, 0, 0, false, true, this::decode);
+
+        assertNull(first.getException());
+        assertSame(first, second);
+        assertEquals(1, decodeCount.get());
+        assertEquals(1, cache.getCount());
+        assertTrue(cache.getSize() > 0);
+    }
+
+    @Test
+    public void testKeyIncludesRequestedSize() throws IOException {
+        final PrismImageCacheShim cache = new PrismImageCacheShim(1024 * 1024);
+        cache.get(URL, 0, 0, false, true, this::decode);
+        cache.get(URL, 10, 10, false, true, this::decode);
+        cache.get(URL, 10, 10, true, true, this::decode);
+        cache.get(URL, 10, 10, true, false, this::decode);
+
+        assertEquals(4, decodeCount.get());
+        assertEquals(4, cache.getCount());
+    }
+
+    @Test
+    public void testZeroSizeDisablesCaching() throws IOException {
+        final PrismImageCacheShim cache = new PrismImageCacheShim(0);
+        final ImageLoader first = cache.get(URL, 0, 0, false, true, this::decode);
+        final ImageLoader second = cache.get(URL, 0, 0, false, true, this::decode);
+
+        assertNotSame(first, second);
+        assertEquals(2, decodeCount.get());
+        assertEquals(0, cache.getCount());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedImageIsEvicted() throws IOException {
+        final long imageSize;
+        {
+            final PrismImageCacheShim probe = new PrismImageCacheShim(Long.MAX_VALUE);
+            probe.get(URL, 0, 0, false, true, this::decode);
+            imageSize = probe.getSize();
+        }
+        final PrismImageCacheShim cache = new PrismImageCacheShim(2 * imageSize);
+        decodeCount.set(0);
+        final ImageLoader a = cache.get("a:" + URL, 0, 0, false, true, this::decode);
+        cache.get("b:" + URL, 0, 0, false, true, this::decode);
+        // touch a, so that b is the least recently used image
+        assertSame(a, cache.get("a:" + URL, 0, 0, false, true, this::decode));
+        cache.get("c:" + URL, 0, 0, false, true, this::decode);
+
+        assertEquals(3, decodeCount.get());
+        assertEquals(2, cache.getCount());
+        assertEquals(2 * imageSize, cache.getSize());
+        assertSame(a, cache.get("a:" + URL, 0, 0, false, true, this::decode));
+        cache.get("b:" + URL, 0, 0, false, true, this::decode);
+        assertEquals(4, decodeCount.get());
+    }
+
+    @Test
+    public void testFailedLoadIsNotCached() throws IOException {
+        final PrismImageCacheShim cache = new PrismImageCacheShim(1024 * 1024);
+        final String missing = URL + ".missing";
+        final ImageLoader first = cache.get(missing, 0, 0, false, true,
+                () -> PrismImageCacheShim.decode(missing));
+
+        assertNotNull(first.getException());
+        assertEquals(0, cache.getCount());
+    }
+
+    @Test
+    public void testConcurrentRequestsAreCoalesced() throws Exception {
+        final PrismImageCacheShim cache = new PrismImageCacheShim(0);
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ImageLoader[] results = new ImageLoader[2];
+
+        final Thread owner = new Thread(() -> {
+            try {
+                results[0] = cache.get(URL, 0, 0, false, true, () -> {
+                    loading.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                    return decode();
+                });
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        owner.start();
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        final Thread waiter = new Thread(() -> {
+            try {
+                results[1] = cache.get(URL, 0, 0, false, true, this::decode);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        waiter.start();
+        // give the second request the chance to find the load in progress
+        waiter.join(200);
+        assertTrue(waiter.isAlive());
+
+        release.countDown();
+        owner.join(5000);
+        waiter.join(5000);
+
+        assertEquals(1, decodeCount.get());
+        assertNotNull(results[0]);
+        assertSame(results[0], results[1]);
+    }
+
+    @Test
+    public void testInterruptedLoadIsRetriedByWaitingRequest() throws Exception {
+        final PrismImageCacheShim cache = new PrismImageCacheShim(0);
+        final CountDownLatch loading = new CountDownLatch(1);
+        final ImageLoader[] results = new ImageLoader[1];
+
+        final Thread owner = new Thread(() -> {
+            try {
+                cache.get(URL, 0, 0, false, true, () -> {
+                    loading.countDown();
+                    try {
+                        Thread.sleep(10000);
+                    } catch (InterruptedException e) {
+                        // keep the interrupted state, like an interrupted decode
+                        Thread.currentThread().interrupt();
+                    }
+                    return decode();
+                });
+            } catch (IOException e) {
+            }
+        });
+        owner.start();
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        final Thread waiter = new Thread(() -> {
+            try {
+                results[0] = cache.get(URL, 0, 0, false, true, this::decode);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        waiter.start();
+        waiter.join(200);
+        assertTrue(waiter.isAlive());
+
+        owner.interrupt();
+        owner.join(5000);
+        waiter.join(5000);
+
+        assertEquals(2, decodeCount.get());
+        assertNotNull(results[0]);
+        assertNull(results[0].getException());
+    }
+}
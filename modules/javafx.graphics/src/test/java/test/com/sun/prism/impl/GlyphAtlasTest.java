@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.prism.impl;
+
+import com.sun.prism.impl.GlyphAtlasShim;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GlyphAtlasTest {
+
+    private static final int PAGE_SIZE = 64;
+
+    private List<Integer> evicted;
+    private GlyphAtlasShim atlas;
+
+    @Before
+    public void setUp() {
+        evicted = new ArrayList<>();
+        atlas = new GlyphAtlasShim(3, PAGE_SIZE, evicted);
+    }
+
+    @Test
+    public void testGlyphsArePackedOnFirstPage() {
+        for (int i = 0; i < 16; i++) {
+            assertEquals(0, atlas.add(16, 16));
+        }
+        assertEquals(1, atlas.getPageCount());
+    }
+
+    @Test
+    public void testPagesAreAddedWhenFull() {
+        assertEquals(0, atlas.add(PAGE_SIZE, PAGE_SIZE));
+        assertEquals(1, atlas.add(PAGE_SIZE, PAGE_SIZE));
+        assertEquals(2, atlas.add(PAGE_SIZE, PAGE_SIZE));
+        assertEquals(3, atlas.getPageCount());
+        assertEquals(0, atlas.getEvictionCount());
+        assertTrue(evicted.isEmpty());
+    }
+
+    @Test
+    public void testFreeSpaceOnOlderPagesIsReused() {
+        assertEquals(0, atlas.add(PAGE_SIZE, PAGE_SIZE / 2));
+        assertEquals(1, atlas.add(PAGE_SIZE, PAGE_SIZE));
+        assertEquals(0, atlas.add(PAGE_SIZE, PAGE_SIZE / 2));
+        assertEquals(2, atlas.getPageCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedPageIsEvicted() {
+        atlas.add(PAGE_SIZE, PAGE_SIZE);
+        atlas.add(PAGE_SIZE, PAGE_SIZE);
+        atlas.add(PAGE_SIZE, PAGE_SIZE);
+        atlas.touch(0);
+        atlas.touch(2);
+
+        assertEquals(1, atlas.add(PAGE_SIZE, PAGE_SIZE));
+        assertEquals(List.of(1), evicted);
+        assertEquals(1, atlas.getEvictionCount());
+        assertEquals(3, atlas.getPageCount());
+
+        atlas.touch(2);
+        assertEquals(0, atlas.add(PAGE_SIZE, PAGE_SIZE));
+        assertEquals(List.of(1, 0), evicted);
+        assertEquals(2, atlas.getEvictionCount());
+    }
+
+    @Test
+    public void testGlyphLargerThanPageIsRejected() {
+        assertEquals(-1, atlas.add(PAGE_SIZE + 1, 8));
+        assertEquals(1, atlas.getPageCount());
+        assertEquals(0, atlas.getEvictionCount());
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.prism.sw;
+
+import java.util.Arrays;
+import com.sun.javafx.geom.Ellipse2D;
+import com.sun.javafx.geom.Path2D;
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.prism.BasicStroke;
+import com.sun.prism.CompositeMode;
+import com.sun.prism.Graphics;
+import com.sun.prism.Image;
+import com.sun.prism.RTTexture;
+import com.sun.prism.paint.Color;
+import com.sun.prism.paint.Gradient;
+import com.sun.prism.paint.ImagePattern;
+import com.sun.prism.paint.LinearGradient;
+import com.sun.prism.paint.Stop;
+import com.sun.prism.sw.SWTileRendererShim;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+/**
+ * Checks that the shapes recorded by a tile renderer are replayed into
+ * every tile they touch, and that the pixels of the target are the same
+ * as when the shapes are rendered directly.
+ */
+public class SWTileRendererTest {
+
+    private int width;
+    private int height;
+    private RTTexture tiledTarget;
+    private RTTexture directTarget;
+    private SWTileRendererShim tiles;
+    private Graphics tiled;
+    private Graphics direct;
+
+    private interface Painter {
+        void paint(Graphics g);
+    }
+
+    @BeforeClass public static void checkPipeline() {
+        assumeTrue(SWTileRendererShim.isPipelineAvailable());
+    }
+
+    @Before public void setUp() {
+        // Spread the shapes over several rows and columns of tiles
+        final int tileSize = SWTileRendererShim.getTileSize();
+        width = tileSize * 2 + 37;
+        height = tileSize + 53;
+        tiledTarget = SWTileRendererShim.createTarget(width, height);
+        directTarget = SWTileRendererShim.createTarget(width, height);
+        tiles = new SWTileRendererShim(tiledTarget);
+        tiled = tiles.createGraphics();
+        direct = SWTileRendererShim.createDirectGraphics(directTarget);
+    }
+
+    private void paint(Painter painter) {
+        painter.paint(tiled);
+        painter.paint(direct);
+    }
+
+    private boolean isTiledTargetEmpty() {
+        return Arrays.stream(tiledTarget.getPixels()).allMatch(p -> p == 0);
+    }
+
+    private void assertSameAsDirect() {
+        tiles.flush();
+        assertEquals(0, tiles.getPendingCount());
+        assertArrayEquals(directTarget.getPixels(), tiledTarget.getPixels());
+    }
+
+    private static LinearGradient createGradient(float x1, float y1, float x2, float y2) {
+        return new LinearGradient(x1, y1, x2, y2, null, false, Gradient.PAD,
+                                  Arrays.asList(new Stop(new Color(1f, 0f, 0f, 1f), 0f),
+                                                new Stop(new Color(0f, 0f, 1f, 0.5f), 1f)));
+    }
+
+    private static ImagePattern createImagePattern() {
+        final int pixels[] = new int[8 * 8];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = ((i & 1) == 0) ? 0xff00ff00 : 0x80000080;
+        }
+        return new ImagePattern(Image.fromIntArgbPreData(pixels, 8, 8), 0, 0, 8, 8, false, false);
+    }
+
+    @Test public void shapesAreRecordedUntilFlushed() {
+        paint(g -> {
+            g.clear(new Color(0.2f, 0.4f, 0.6f, 1f));
+            g.setPaint(new Color(1f, 0.5f, 0f, 0.75f));
+            g.fillRect(10.5f, 20.25f, width - 30f, 40f);
+            g.fillEllipse(width / 2f - 100f, height / 2f - 80f, 200f, 160f);
+            g.fillRoundRect(width - 150f, height - 120f, 140f, 110f, 30f, 20f);
+            g.setPaint(createGradient(0f, 0f, width, height));
+            final Path2D path = new Path2D();
+            path.moveTo(5f, height - 5f);
+            path.lineTo(width / 2f, 5f);
+            path.quadTo(width - 5f, 10f, width - 5f, height - 5f);
+            path.closePath();
+            g.fill(path);
+        });
+
+        assertEquals(5, tiles.getPendingCount());
+        assertTrue(isTiledTargetEmpty());
+        assertSameAsDirect();
+    }
+
+    @Test public void strokesAreReplayedIntoEveryTile() {
+        paint(g -> {
+            g.setPaint(new Color(0f, 0f, 0f, 1f));
+            g.setStroke(new BasicStroke(7f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND, 10f));
+            g.drawLine(3f, 3f, width - 3f, height - 3f);
+            g.drawRect(20f, 20f, width - 40f, height - 40f);
+            g.setStroke(new BasicStroke(BasicStroke.TYPE_OUTER, 4f, BasicStroke.CAP_BUTT,
+                                        BasicStroke.JOIN_MITER, 10f));
+            g.drawEllipse(width / 4f, height / 4f, width / 2f, height / 2f);
+            g.draw(new Ellipse2D(width - 60f, 10f, 50f, height - 20f));
+        });
+
+        assertEquals(4, tiles.getPendingCount());
+        assertTrue(isTiledTargetEmpty());
+        assertSameAsDirect();
+    }
+
+    @Test public void stateAndClipChangesDoNotFlush() {
+        paint(g -> {
+            g.setPaint(new Color(0f, 0.5f, 1f, 1f));
+            g.fillRect(0f, 0f, width, height);
+            g.setClipRect(new Rectangle(width / 3, height / 4, width / 2, height / 2));
+            g.setPaint(new Color(1f, 0f, 0f, 1f));
+            g.fillEllipse(0f, 0f, width, height);
+            g.setTransform(BaseTransform.getRotateInstance(0.3, width / 2.0, height / 2.0));
+            g.setExtraAlpha(0.5f);
+            g.fillRect(width / 4f, height / 4f, width / 2f, height / 2f);
+            g.setClipRect(null);
+            g.setAntialiasedShape(false);
+            g.setPaint(createGradient(0f, 0f, 100f, 0f));
+            g.fillRoundRect(30f, 30f, width - 60f, height - 60f, 40f, 40f);
+            g.setTransform(BaseTransform.IDENTITY_TRANSFORM);
+            g.setExtraAlpha(1f);
+            g.setAntialiasedShape(true);
+            g.setCompositeMode(CompositeMode.SRC);
+            g.setPaint(new Color(0f, 0f, 0f, 0f));
+            g.fillEllipse(width - 120f, height - 90f, 100f, 80f);
+        });
+
+        assertEquals(5, tiles.getPendingCount());
+        assertTrue(isTiledTargetEmpty());
+        assertSameAsDirect();
+    }
+
+    @Test public void shapesOutsideOfTheClipAreNotRecorded() {
+        tiled.setPaint(new Color(1f, 0f, 0f, 1f));
+        tiled.setClipRect(new Rectangle(10, 10, 20, 20));
+        tiled.fillRect(100f, 100f, 50f, 50f);
+        assertEquals(0, tiles.getPendingCount());
+        tiled.setClipRect(new Rectangle(10, 10, 0, 0));
+        tiled.fillRect(0f, 0f, width, height);
+        assertEquals(0, tiles.getPendingCount());
+        tiled.setClipRect(null);
+        tiled.fillRect(width + 10f, 0f, 50f, 50f);
+        assertEquals(0, tiles.getPendingCount());
+        tiles.flush();
+        assertTrue(isTiledTargetEmpty());
+    }
+
+    @Test public void imagePatternFlushesPendingShapes() {
+        final ImagePattern pattern = createImagePattern();
+        paint(g -> {
+            g.setPaint(new Color(1f, 1f, 0f, 1f));
+            g.fillRect(0f, 0f, width, height / 2f);
+        });
+        assertEquals(1, tiles.getPendingCount());
+        assertTrue(isTiledTargetEmpty());
+
+        // The pattern is rendered directly, on top of the recorded shapes
+        paint(g -> {
+            g.setPaint(pattern);
+            g.fillEllipse(width / 4f, height / 4f, width / 2f, height / 2f);
+        });
+        assertEquals(0, tiles.getPendingCount());
+        assertArrayEquals(directTarget.getPixels(), tiledTarget.getPixels());
+
+        paint(g -> {
+            g.setPaint(new Color(0f, 0f, 1f, 0.5f));
+            g.fillRect(width / 3f, 0f, width / 3f, height);
+        });
+        assertEquals(1, tiles.getPendingCount());
+        assertSameAsDirect();
+    }
+
+    @Test public void syncFlushesPendingShapes() {
+        paint(g -> {
+            g.setPaint(new Color(0f, 1f, 0f, 1f));
+            g.fillEllipse(0f, 0f, width, height);
+        });
+        assertEquals(1, tiles.getPendingCount());
+        tiled.sync();
+        assertEquals(0, tiles.getPendingCount());
+        assertArrayEquals(directTarget.getPixels(), tiledTarget.getPixels());
+    }
+
+    @Test public void tooManyPendingShapesAreFlushed() {
+        final int max = SWTileRendererShim.getMaxPendingCount();
+        paint(g -> {
+            g.setPaint(new Color(0f, 0f, 0f, 0.01f));
+            for (int i = 0; i < max - 1; i++) {
+                g.fillRect(i % width, i % height, 20f, 20f);
+            }
+        });
+        assertEquals(max - 1, tiles.getPendingCount());
+        assertTrue(isTiledTargetEmpty());
+
+        paint(g -> g.fillRect(0f, 0f, width, height));
+        assertEquals(0, tiles.getPendingCount());
+        assertArrayEquals(directTarget.getPixels(), tiledTarget.getPixels());
+
+        paint(g -> g.fillRect(5f, 5f, 10f, 10f));
+        assertEquals(1, tiles.getPendingCount());
+        assertSameAsDirect();
+    }
+}
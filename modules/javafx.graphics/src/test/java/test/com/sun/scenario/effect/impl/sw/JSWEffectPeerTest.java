@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.scenario.effect.impl.sw;
+
+import java.util.Random;
+import com.sun.scenario.effect.impl.sw.java.JSWEffectPeerShim;
+import com.sun.scenario.effect.impl.sw.java.JSWLinearConvolvePeerShim;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the software effect passes which split their lines into
+ * bands across threads compute the same pixels as a single threaded pass.
+ */
+public class JSWEffectPeerTest {
+
+    private static final int THREADS = 4;
+    private static final int THRESHOLD = 64 * 64;
+
+    private final Random random = new Random(42);
+    private int savedThreads;
+    private int savedThreshold;
+
+    private interface Pass {
+        int[] filter();
+    }
+
+    @Before public void setUp() {
+        savedThreads = JSWEffectPeerShim.getBandThreads();
+        savedThreshold = JSWEffectPeerShim.getBandThreshold();
+    }
+
+    @After public void tearDown() {
+        JSWEffectPeerShim.setBanding(savedThreads, savedThreshold);
+        JSWLinearConvolvePeerShim.setAlignedLoopEnabled(true);
+    }
+
+    private int[] createPixels(int w, int h) {
+        int pixels[] = new int[w * h];
+        for (int i = 0; i < pixels.length; i++) {
+            int a = random.nextInt(256);
+            int r = random.nextInt(a + 1);
+            int g = random.nextInt(a + 1);
+            int b = random.nextInt(a + 1);
+            pixels[i] = (a << 24) | (r << 16) | (g << 8) | b;
+        }
+        return pixels;
+    }
+
+    private float[] createWeights(int count) {
+        float weights[] = new float[count];
+        for (int i = 0; i < count; i++) {
+            weights[i] = random.nextFloat() * 0.3f;
+        }
+        return weights;
+    }
+
+    /**
+     * Runs the pass over lines of the given length once without banding
+     * and once split into several bands, and compares the results.
+     */
+    private static void check(int lines, int lineLength, Pass pass) {
+        JSWEffectPeerShim.setBanding(1, THRESHOLD);
+        assertEquals(1, JSWEffectPeerShim.getBandCount(lines, lineLength));
+        int expected[] = pass.filter();
+
+        JSWEffectPeerShim.setBanding(THREADS, THRESHOLD);
+        assertTrue(JSWEffectPeerShim.getBandCount(lines, lineLength) > 1);
+        int actual[] = pass.filter();
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test public void bandCountFollowsThreadSetting() {
+        JSWEffectPeerShim.setBanding(1, THRESHOLD);
+        assertEquals(1, JSWEffectPeerShim.getBandCount(150, 200));
+        JSWEffectPeerShim.setBanding(THREADS, THRESHOLD);
+        assertEquals(THREADS, JSWEffectPeerShim.getBandCount(150, 200));
+    }
+
+    @Test public void bandCountFollowsThresholdSetting() {
+        JSWEffectPeerShim.setBanding(THREADS, 150 * 200 + 1);
+        assertEquals(1, JSWEffectPeerShim.getBandCount(150, 200));
+        JSWEffectPeerShim.setBanding(THREADS, 150 * 200);
+        assertEquals(THREADS, JSWEffectPeerShim.getBandCount(150, 200));
+    }
+
+    @Test public void bandsHaveAMinimumNumberOfLines() {
+        JSWEffectPeerShim.setBanding(THREADS, THRESHOLD);
+        assertEquals(2, JSWEffectPeerShim.getBandCount(40, 1000));
+        assertEquals(1, JSWEffectPeerShim.getBandCount(31, 1000));
+    }
+
+    @Test public void boxBlurHorizontal() {
+        int src[] = createPixels(196, 150);
+        check(150, 200, () -> {
+            int dst[] = new int[200 * 150];
+            JSWEffectPeerShim.boxBlurHorizontal(dst, 200, 150, 200, src, 196, 150, 196);
+            return dst;
+        });
+    }
+
+    @Test public void boxBlurVertical() {
+        int src[] = createPixels(150, 196);
+        check(150, 200, () -> {
+            int dst[] = new int[150 * 200];
+            JSWEffectPeerShim.boxBlurVertical(dst, 150, 200, 150, src, 150, 196, 150);
+            return dst;
+        });
+    }
+
+    @Test public void boxShadowHorizontalBlack() {
+        int src[] = createPixels(194, 150);
+        check(150, 200, () -> {
+            int dst[] = new int[200 * 150];
+            JSWEffectPeerShim.boxShadowHorizontalBlack(dst, 200, 150, 200, src, 194, 150, 194, 0.3f);
+            return dst;
+        });
+    }
+
+    @Test public void boxShadowVerticalBlack() {
+        int src[] = createPixels(150, 194);
+        check(150, 200, () -> {
+            int dst[] = new int[150 * 200];
+            JSWEffectPeerShim.boxShadowVerticalBlack(dst, 150, 200, 150, src, 150, 194, 150, 0.3f);
+            return dst;
+        });
+    }
+
+    @Test public void boxShadowVertical() {
+        int src[] = createPixels(150, 194);
+        float color[] = { 0.2f, 0.4f, 0.1f, 0.5f };
+        check(150, 200, () -> {
+            int dst[] = new int[150 * 200];
+            JSWEffectPeerShim.boxShadowVertical(dst, 150, 200, 150, src, 150, 194, 150, 0.3f, color);
+            return dst;
+        });
+    }
+
+    private void checkLinearConvolveVector(boolean aligned) {
+        int src[] = createPixels(196, 150);
+        float weights[] = createWeights(5);
+        JSWLinearConvolvePeerShim.setAlignedLoopEnabled(aligned);
+        check(150, 200, () -> {
+            int dst[] = new int[200 * 150];
+            JSWLinearConvolvePeerShim.filterVector(dst, 200, 150, 200, src, 196, 150, 196,
+                                                   weights, 5, -2f, 0f, -2f, 0f, 1f, 0f,
+                                                   1f, 0f, 0f, 1f);
+            return dst;
+        });
+    }
+
+    @Test public void linearConvolveVector() {
+        checkLinearConvolveVector(false);
+    }
+
+    @Test public void linearConvolveAlignedVector() {
+        checkLinearConvolveVector(true);
+    }
+
+    @Test public void linearConvolveHV() {
+        int src[] = createPixels(196, 150);
+        float weights[] = createWeights(5);
+        float hvweights[] = new float[10];
+        System.arraycopy(weights, 0, hvweights, 0, 5);
+        System.arraycopy(weights, 0, hvweights, 5, 5);
+        check(150, 200, () -> {
+            int dst[] = new int[200 * 150];
+            JSWEffectPeerShim.linearConvolveHV(dst, 200, 150, 1, 200, src, 196, 150, 1, 196, hvweights);
+            return dst;
+        });
+    }
+
+    @Test public void linearConvolveShadowVector() {
+        int src[] = createPixels(150, 194);
+        float weights[] = createWeights(7);
+        check(200, 150, () -> {
+            int dst[] = new int[150 * 200];
+            JSWEffectPeerShim.linearConvolveShadowVector(dst, 150, 200, 150, src, 150, 194, 150,
+                                                         weights, 7, 0f, -3f, 0f, -3f, 0f, 1f);
+            return dst;
+        });
+    }
+
+    @Test public void linearConvolveShadowHV() {
+        int src[] = createPixels(150, 194);
+        float weights[] = createWeights(7);
+        float hvweights[] = new float[14];
+        System.arraycopy(weights, 0, hvweights, 0, 7);
+        System.arraycopy(weights, 0, hvweights, 7, 7);
+        check(150, 200, () -> {
+            int dst[] = new int[150 * 200];
+            JSWEffectPeerShim.linearConvolveShadowHV(dst, 200, 150, 150, 1, src, 194, 150, 150, 1, hvweights);
+            return dst;
+        });
+    }
+}
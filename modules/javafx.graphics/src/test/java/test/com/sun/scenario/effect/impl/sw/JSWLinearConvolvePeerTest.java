@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.scenario.effect.impl.sw;
+
+import java.util.Arrays;
+import java.util.Random;
+import com.sun.scenario.effect.impl.sw.java.JSWLinearConvolvePeerShim;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the loop used for passes whose samples all fall on pixel
+ * centers computes exactly the same pixels as the generic loop.
+ */
+public class JSWLinearConvolvePeerTest {
+
+    private static final int SENTINEL = 0x12345678;
+
+    private final Random random = new Random(42);
+
+    @After public void tearDown() {
+        JSWLinearConvolvePeerShim.setAlignedLoopEnabled(true);
+    }
+
+    private int[] createPixels(int w, int h) {
+        int pixels[] = new int[w * h];
+        for (int i = 0; i < pixels.length; i++) {
+            int a = random.nextInt(256);
+            int r = random.nextInt(a + 1);
+            int g = random.nextInt(a + 1);
+            int b = random.nextInt(a + 1);
+            pixels[i] = (a << 24) | (r << 16) | (g << 8) | b;
+        }
+        return pixels;
+    }
+
+    private float[] createWeights(int count) {
+        float weights[] = new float[count];
+        for (int i = 0; i < count; i++) {
+            weights[i] = random.nextFloat() * 0.4f;
+        }
+        return weights;
+    }
+
+    private static int[] filter(boolean aligned, int dstw, int dsth,
+                                int src[], int srcw, int srch,
+                                float weights[], float srcx0, float srcy0,
+                                float offsetx, float offsety,
+                                float deltax, float deltay, float dxcol, float dyrow)
+    {
+        // Leave a gap after each row to check that it is not written
+        int dstscan = dstw + 3;
+        int dst[] = new int[dstscan * dsth];
+        Arrays.fill(dst, SENTINEL);
+        JSWLinearConvolvePeerShim.setAlignedLoopEnabled(aligned);
+        JSWLinearConvolvePeerShim.filterVector(dst, dstw, dsth, dstscan,
+                                               src, srcw, srch, srcw,
+                                               weights, weights.length, srcx0, srcy0,
+                                               offsetx, offsety, deltax, deltay,
+                                               dxcol, 0f, 0f, dyrow);
+        return dst;
+    }
+
+    /**
+     * Filters a source of srcw x srch pixels into a destination of
+     * dstw x dsth pixels whose upper left corner is at (srcx0, srcy0)
+     * in the source, and compares the results of both loops.
+     */
+    private void check(boolean expectAligned, int srcw, int srch, int dstw, int dsth,
+                       int count, float srcx0, float srcy0,
+                       float offsetx, float offsety, float deltax, float deltay,
+                       float dxcol, float dyrow)
+    {
+        int src[] = createPixels(srcw, srch);
+        float weights[] = createWeights(count);
+        boolean aligned = dxcol == 1f && dyrow == 1f &&
+            JSWLinearConvolvePeerShim.isAligned(srcx0 + 0.5f, offsetx, deltax, count, dstw) &&
+            JSWLinearConvolvePeerShim.isAligned(srcy0 + 0.5f, offsety, deltay, count, dsth);
+        assertEquals(expectAligned, aligned);
+
+        int expected[] = filter(false, dstw, dsth, src, srcw, srch, weights,
+                                srcx0, srcy0, offsetx, offsety, deltax, deltay, dxcol, dyrow);
+        int actual[] = filter(true, dstw, dsth, src, srcw, srch, weights,
+                              srcx0, srcy0, offsetx, offsety, deltax, deltay, dxcol, dyrow);
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test public void horizontalPassOddKernel() {
+        check(true, 37, 23, 41, 23, 5, -2f, 0f, -2f, 0f, 1f, 0f, 1f, 1f);
+    }
+
+    @Test public void horizontalPassEvenKernel() {
+        check(true, 37, 23, 40, 23, 4, -1.5f, 0f, -1.5f, 0f, 1f, 0f, 1f, 1f);
+    }
+
+    @Test public void verticalPassOddKernel() {
+        check(true, 23, 37, 23, 45, 9, 0f, -4f, 0f, -4f, 0f, 1f, 1f, 1f);
+    }
+
+    @Test public void verticalPassEvenKernel() {
+        check(true, 23, 37, 23, 44, 8, 0f, -3.5f, 0f, -3.5f, 0f, 1f, 1f, 1f);
+    }
+
+    @Test public void edgePixels() {
+        // The destination extends beyond the source on all sides, so that
+        // whole rows and columns of taps fall outside of the source
+        check(true, 20, 20, 34, 30, 7, -7f, -5f, -3f, 0f, 1f, 0f, 1f, 1f);
+        check(true, 20, 20, 30, 34, 6, -5f, -7.5f, 0f, -2.5f, 0f, 1f, 1f, 1f);
+    }
+
+    @Test public void sparseTaps() {
+        check(true, 40, 40, 48, 40, 5, -4f, 0f, -4f, 0f, 2f, 0f, 1f, 1f);
+        check(true, 40, 40, 40, 52, 4, 0f, -6f, 0f, -4f, 0f, 3f, 1f, 1f);
+    }
+
+    @Test public void singleTap() {
+        check(true, 16, 16, 16, 16, 1, 0f, 0f, 0f, 0f, 1f, 0f, 1f, 1f);
+    }
+
+    @Test public void samplesBetweenPixelsUseGenericLoop() {
+        check(false, 37, 23, 41, 23, 5, -2.25f, 0f, -2f, 0f, 1f, 0f, 1f, 1f);
+        check(false, 37, 23, 40, 23, 4, -2f, 0f, -1.5f, 0f, 1f, 0f, 1f, 1f);
+    }
+
+    @Test public void fractionalTapStepUsesGenericLoop() {
+        check(false, 37, 23, 44, 23, 5, -3f, 0f, -3f, 0f, 1.5f, 0f, 1f, 1f);
+    }
+
+    @Test public void scaledPassUsesGenericLoop() {
+        check(false, 37, 23, 74, 23, 5, -2f, 0f, -2f, 0f, 1f, 0f, 0.5f, 1f);
+    }
+
+    @Test public void largeRowRingFallsBackToGenericLoop() {
+        // The ring of source rows for taps this far apart does not fit in
+        // the limit of filterAligned, which leaves the pass to the generic loop
+        check(true, 900, 700, 900, 10, 3, 0f, 0f, 0f, 0f, 0f, 300f, 1f, 1f);
+    }
+}
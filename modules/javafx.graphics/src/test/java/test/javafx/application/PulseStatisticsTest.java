@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.application;
+
+import com.sun.javafx.logging.PulseMetrics;
+import javafx.application.PulseStatistics;
+import javafx.application.PulseStatistics.Counter;
+import javafx.application.PulseStatistics.Phase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class PulseStatisticsTest {
+
+    @Before
+    public void setUp() {
+        PulseStatistics.reset();
+    }
+
+    @After
+    public void tearDown() {
+        PulseStatistics.setEnabled(false);
+        PulseStatistics.reset();
+    }
+
+    private static void pulse(int cssNodes, int dirtyNodes) {
+        PulseMetrics.pulseStart();
+        PulseMetrics.phase(PulseMetrics.CSS);
+        for (int i = 0; i < cssNodes; i++) {
+            PulseMetrics.cssNodeProcessed();
+        }
+        PulseMetrics.phase(PulseMetrics.SYNC);
+        PulseMetrics.addDirtyNodes(dirtyNodes);
+        PulseMetrics.pulseEnd();
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        assertFalse(PulseStatistics.isEnabled());
+        pulse(1, 1);
+        assertEquals(0, PulseStatistics.getStatistics().getPulseCount());
+    }
+
+    @Test
+    public void testStatistics() {
+        PulseStatistics.setEnabled(true);
+        assertTrue(PulseStatistics.isEnabled());
+        pulse(10, 2);
+        pulse(20, 4);
+        pulse(30, 6);
+
+        PulseStatistics stats = PulseStatistics.getStatistics();
+        assertEquals(3, stats.getPulseCount());
+        for (Phase phase : Phase.values()) {
+            assertEquals(3, stats.getHistogram(phase).getCount());
+        }
+        PulseStatistics.Histogram css = stats.getHistogram(Counter.CSS_NODES);
+        assertEquals(10, css.getMin());
+        assertEquals(30, css.getMax());
+        assertEquals(20, css.getMean(), 0);
+        assertEquals(2, css.getCountAbove(15));
+        PulseStatistics.Histogram dirty = stats.getHistogram(Counter.DIRTY_NODES);
+        assertEquals(4, dirty.getValueAtPercentile(50));
+        assertEquals(0, stats.getHistogram(Counter.TEXTURE_UPLOADS).getMax());
+        assertEquals(0, stats.getHistogram(Phase.RENDER).getMax());
+    }
+
+    @Test
+    public void testSnapshotDoesNotChange() {
+        PulseStatistics.setEnabled(true);
+        pulse(1, 1);
+        PulseStatistics stats = PulseStatistics.getStatistics();
+        pulse(1, 1);
+        assertEquals(1, stats.getPulseCount());
+        assertEquals(2, PulseStatistics.getStatistics().getPulseCount());
+    }
+
+    @Test
+    public void testDisablingKeepsStatistics() {
+        PulseStatistics.setEnabled(true);
+        pulse(1, 1);
+        PulseStatistics.setEnabled(false);
+        pulse(1, 1);
+        assertEquals(1, PulseStatistics.getStatistics().getPulseCount());
+        PulseStatistics.reset();
+        assertEquals(0, PulseStatistics.getStatistics().getPulseCount());
+    }
+}
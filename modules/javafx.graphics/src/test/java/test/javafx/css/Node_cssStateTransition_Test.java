@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,6 +27,7 @@ package test.javafx.css;
 
 
 import com.sun.javafx.css.StyleManager;
+import com.sun.javafx.tk.Toolkit;
 
 import java.io.IOException;
 import javafx.css.CssMetaData;
@@ -39,8 +40,10 @@ import javafx.scene.Scene;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
+import javafx.stage.Stage;
 import static org.junit.Assert.*;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -60,6 +63,16 @@ public class Node_cssStateTransition_Test {
         sm.hasDefaultUserAgentStylesheet = false;
     }
 
+    private Stage stage;
+
+    @After
+    public void tearDown() {
+        if (stage != null) {
+            stage.hide();
+            stage = null;
+        }
+    }
+
     @Test
     public void testPropertiesResetOnStyleclassChange() {
 
@@ -202,4 +215,147 @@ public class Node_cssStateTransition_Test {
 
     }
 
+    private static final PseudoClass HOVER = PseudoClass.getPseudoClass("hover");
+
+    private Rectangle showParentAndChild(String name, String css) {
+
+        Stylesheet stylesheet = null;
+        try {
+            stylesheet = new CssParser().parse(name, css);
+        } catch(IOException ioe) {
+            fail();
+        }
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+
+        Rectangle rect = new Rectangle(50,50);
+        rect.getStyleClass().add("child");
+        // The inline style is reapplied over the user set fill whenever the child is updated
+        rect.setStyle("-fx-fill: red;");
+
+        Group parent = new Group(rect);
+        parent.getStyleClass().add("parent");
+
+        stage = new Stage();
+        stage.setScene(new Scene(new Group(parent)));
+        stage.show();
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(Color.RED, rect.getFill());
+        rect.setFill(Color.BLUE);
+        return rect;
+    }
+
+    @Test
+    public void testPseudoClassStateChangeDoesNotUpdateChildren() {
+
+        Rectangle rect = showParentAndChild(
+                "testPseudoClassStateChangeDoesNotUpdateChildren",
+                ".parent:hover { -fx-opacity: 0.5; }");
+
+        rect.getParent().pseudoClassStateChanged(HOVER, true);
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(0.5, rect.getParent().getOpacity(), 1e-6);
+        assertEquals(Color.BLUE, rect.getFill());
+
+        rect.getParent().pseudoClassStateChanged(HOVER, false);
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(1.0, rect.getParent().getOpacity(), 1e-6);
+        assertEquals(Color.BLUE, rect.getFill());
+    }
+
+    @Test
+    public void testPseudoClassStateChangeInDescendantSelectorUpdatesChildren() {
+
+        Rectangle rect = showParentAndChild(
+                "testPseudoClassStateChangeInDescendantSelectorUpdatesChildren",
+                ".parent:hover .child { -fx-stroke: green; }");
+
+        rect.getParent().pseudoClassStateChanged(HOVER, true);
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(Color.GREEN, rect.getStroke());
+        assertEquals(Color.RED, rect.getFill());
+    }
+
+    @Test
+    public void testPseudoClassStateChangeOfLookedUpValueUpdatesChildren() {
+
+        Rectangle rect = showParentAndChild(
+                "testPseudoClassStateChangeOfLookedUpValueUpdatesChildren",
+                ".parent { -fx-base: red; }" +
+                ".parent:hover { -fx-base: green; }" +
+                ".child { -fx-stroke: -fx-base; }");
+
+        assertEquals(Color.RED, rect.getStroke());
+
+        rect.getParent().pseudoClassStateChanged(HOVER, true);
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(Color.GREEN, rect.getStroke());
+    }
+
+    @Test
+    public void testPseudoClassStateChangeOfInheritedValueUpdatesChildren() {
+
+        Rectangle rect = showParentAndChild(
+                "testPseudoClassStateChangeOfInheritedValueUpdatesChildren",
+                ".parent:hover { -fx-opacity: 0.5; }" +
+                ".child { -fx-opacity: inherit; }");
+
+        rect.getParent().pseudoClassStateChanged(HOVER, true);
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(0.5, rect.getOpacity(), 1e-6);
+    }
+
+    @Test
+    public void testPseudoClassStateChangeOnlyUpdatesAffectedProperties() {
+
+        Rectangle rect = showParentAndChild(
+                "testPseudoClassStateChangeOnlyUpdatesAffectedProperties",
+                ".child:hover { -fx-stroke: green; }");
+
+        // the node is on the fastpath once both states have been styled
+        rect.pseudoClassStateChanged(HOVER, true);
+        Toolkit.getToolkit().firePulse();
+        rect.pseudoClassStateChanged(HOVER, false);
+        Toolkit.getToolkit().firePulse();
+        rect.setFill(Color.BLUE);
+
+        rect.pseudoClassStateChanged(HOVER, true);
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(Color.GREEN, rect.getStroke());
+        assertEquals(Color.BLUE, rect.getFill());
+    }
+
+    @Test
+    public void testApplyCssUnderPseudoClassStateChangeStylesNode() {
+
+        Rectangle rect = showParentAndChild(
+                "testApplyCssUnderPseudoClassStateChangeStylesNode",
+                ".parent:hover { -fx-opacity: 0.5; }");
+
+        // Put a clean branch between the parent and the child
+        Group parent = (Group) rect.getParent();
+        Group branch = new Group();
+        parent.getChildren().add(branch);
+        Toolkit.getToolkit().firePulse();
+        parent.getChildren().remove(rect);
+        branch.getChildren().add(rect);
+        Toolkit.getToolkit().firePulse();
+        rect.setFill(Color.BLUE);
+
+        parent.pseudoClassStateChanged(HOVER, true);
+        rect.applyCss();
+
+        assertEquals(Color.RED, rect.getFill());
+
+        Toolkit.getToolkit().firePulse();
+        assertEquals(0.5, parent.getOpacity(), 1e-6);
+        assertEquals(Color.RED, rect.getFill());
+    }
+
 }
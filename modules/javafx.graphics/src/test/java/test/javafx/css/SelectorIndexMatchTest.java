@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,10 +25,11 @@
 
 package test.javafx.css;
 
-import com.sun.javafx.css.SelectorPartitioning;
+import com.sun.javafx.css.SelectorIndex;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import javafx.css.CssParser;
 import javafx.css.Declaration;
@@ -48,14 +49,13 @@ import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
 @RunWith(Parameterized.class)
-public class SelectorPartitioningTest {
+public class SelectorIndexMatchTest {
 
-    public SelectorPartitioningTest(final Data data) {
+    public SelectorIndexMatchTest(final Data data) {
         this.data = data;
-        this.instance = new SelectorPartitioning();
     }
     private final Data data;
-    private final SelectorPartitioning instance;
+    private SelectorIndex instance;
 
     private static class Data {
         final Color  color;
@@ -190,16 +190,12 @@ public class SelectorPartitioningTest {
     }
 
     @Test
-    public void testSelectorPartitionAndMatch() {
+    public void testSelectorIndexMatch() {
 
         Stylesheet stylesheet =
                 new CssParser().parse(data.stylesheetText);
 
-        for (Rule rule : stylesheet.getRules()) {
-            for (Selector selector : RuleShim.getUnobservedSelectorList(rule)) {
-                instance.partition(selector);
-            }
-        }
+        instance = new SelectorIndex(Collections.singletonList(stylesheet));
 
         if (data instanceof SimpleData) {
             testWithSimpleData((SimpleData)data, stylesheet);
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.css;
+
+import com.sun.javafx.css.SelectorIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javafx.css.CompoundSelector;
+import javafx.css.CssParser;
+import javafx.css.Rule;
+import javafx.css.Selector;
+import javafx.css.SimpleSelector;
+import javafx.css.SimpleSelectorShim;
+import javafx.css.Stylesheet;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class SelectorIndexTest {
+
+    private static final String[] SELECTORS = {
+        "*", "A", "B", "A.b", "A#c", "A.b#c", "*.b", "*#c", "*.b#c",
+        "*.c", "*.b.c", "B.b", "B#c", "A .b", "B > A.b", "*#d", ".b:hover"
+    };
+
+    private static Stylesheet parse(String... selectors) {
+        StringBuilder buf = new StringBuilder();
+        for (String selector : selectors) {
+            buf.append(selector).append(" { -fx-fill: red; }\n");
+        }
+        return new CssParser().parse(buf.toString());
+    }
+
+    // type.class1.class2#id
+    private static SimpleSelector node(String selector) {
+        String[] idSplit = selector.split("#");
+        String[] parts = idSplit[0].split("\\.");
+        List<String> styleClasses = Arrays.asList(parts).subList(1, parts.length);
+        String id = idSplit.length > 1 ? idSplit[1] : "";
+        return SimpleSelectorShim.getSimpleSelector(parts[0], styleClasses, null, id);
+    }
+
+    // The selectors whose rightmost simple selector may apply to the node,
+    // in stylesheet order, found without an index
+    private static List<Selector> matchAll(Stylesheet stylesheet, SimpleSelector node) {
+        List<Selector> matched = new ArrayList<>();
+        for (Rule rule : stylesheet.getRules()) {
+            for (Selector selector : rule.getSelectors()) {
+                SimpleSelector simple;
+                if (selector instanceof CompoundSelector) {
+                    List<SimpleSelector> parts = ((CompoundSelector) selector).getSelectors();
+                    simple = parts.get(parts.size() - 1);
+                } else {
+                    simple = (SimpleSelector) selector;
+                }
+                if (("*".equals(simple.getName()) || simple.getName().equals(node.getName()))
+                        && (simple.getId().isEmpty() || simple.getId().equals(node.getId()))
+                        && node.getStyleClassSet().containsAll(simple.getStyleClassSet())) {
+                    matched.add(selector);
+                }
+            }
+        }
+        return matched;
+    }
+
+    @Test
+    public void testMatchAgreesWithMatchingEverySelector() {
+        Stylesheet stylesheet = parse(SELECTORS);
+        SelectorIndex index = new SelectorIndex(Collections.singletonList(stylesheet));
+        assertEquals(SELECTORS.length, index.getSelectorCount());
+
+        String[] nodes = { "A", "B", "C", "A.b", "A.c", "A.b.c", "A#c", "A.b#c", "B.b#c", "C#d", "C.b.c#d" };
+        for (String n : nodes) {
+            SimpleSelector node = node(n);
+            List<Selector> expected = matchAll(stylesheet, node);
+            List<Selector> actual = index.match(node.getId(), node.getName(), node.getStyleClassSet());
+            assertEquals(n, expected, actual);
+        }
+    }
+
+    @Test
+    public void testSelectorsAreInStylesheetOrder() {
+        Stylesheet first = parse("A.b", "*");
+        Stylesheet second = parse("*.b", "A");
+        SelectorIndex index = new SelectorIndex(Arrays.asList(first, second));
+
+        SimpleSelector node = node("A.b");
+        List<Selector> matched = index.match(null, node.getName(), node.getStyleClassSet());
+
+        List<Selector> expected = new ArrayList<>();
+        expected.addAll(first.getRules().get(0).getSelectors());
+        expected.addAll(first.getRules().get(1).getSelectors());
+        expected.addAll(second.getRules().get(0).getSelectors());
+        expected.addAll(second.getRules().get(1).getSelectors());
+        assertEquals(expected, matched);
+    }
+
+    @Test
+    public void testUnknownTypeMatchesWildcardOnly() {
+        Stylesheet stylesheet = parse("*", "A", "*.b", "*#c");
+        SelectorIndex index = new SelectorIndex(Collections.singletonList(stylesheet));
+
+        SimpleSelector node = node("Unknown.b#unknown");
+        List<Selector> matched = index.match(node.getId(), node.getName(), node.getStyleClassSet());
+        assertEquals(2, matched.size());
+        assertEquals("*", matched.get(0).toString());
+        assertEquals("*.b", matched.get(1).toString());
+    }
+
+    @Test
+    public void testMatchIsRemembered() {
+        SelectorIndex index = new SelectorIndex(Collections.singletonList(parse(SELECTORS)));
+
+        List<Selector> first = index.match("c", "A", node("A.b").getStyleClassSet());
+        List<Selector> second = index.match("c", "A", node("A.b").getStyleClassSet());
+        assertSame(first, second);
+        assertNotSame(first, index.match("c", "A", node("A.c").getStyleClassSet()));
+    }
+
+    @Test(expected=UnsupportedOperationException.class)
+    public void testMatchIsImmutable() {
+        SelectorIndex index = new SelectorIndex(Collections.singletonList(parse(SELECTORS)));
+        index.match(null, "A", null).clear();
+    }
+
+    @Test
+    public void testNullStylesheetIsSkipped() {
+        Stylesheet stylesheet = parse("A", "*");
+        SelectorIndex index = new SelectorIndex(Arrays.asList(null, stylesheet));
+        assertEquals(2, index.getSelectorCount());
+        assertEquals(2, index.match(null, "A", null).size());
+    }
+
+    @Test
+    public void testIsIndexOfComparesStylesheetIdentity() {
+        Stylesheet first = parse("A");
+        Stylesheet second = parse("A");
+        SelectorIndex index = new SelectorIndex(Arrays.asList(first, second));
+
+        assertTrue(index.isIndexOf(Arrays.asList(first, second)));
+        assertFalse(index.isIndexOf(Arrays.asList(second, first)));
+        assertFalse(index.isIndexOf(Arrays.asList(first)));
+        assertFalse(index.isIndexOf(Arrays.asList(first, parse("A"))));
+
+        assertTrue(index.contains(second));
+        assertFalse(index.contains(parse("A")));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2018, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,7 @@
 
 package test.javafx.css;
 
+import com.sun.javafx.css.parser.Css2Bin;
 import javafx.css.StyleConverter.StringStore;
 import javafx.css.converter.EnumConverter;
 import javafx.css.converter.StringConverter;
@@ -646,4 +647,92 @@ public class StylesheetTest {
         }
     }
 
+    private static File writeCss(File file, String css) throws IOException {
+        try (FileWriter writer = new FileWriter(file)) {
+            writer.write(css);
+        }
+        return file;
+    }
+
+    @Test
+    public void testLoadBinaryFromLargeFile() throws IOException {
+        StringBuilder css = new StringBuilder();
+        for (int n = 0; n < 1000; n++) {
+            css.append(".c").append(n).append(" { -fx-fill: red; -fx-stroke-width: ").append(n).append("px; }\n");
+        }
+        File source = writeCss(File.createTempFile("largeStylesheet_", ".css"), css.toString());
+        File target = File.createTempFile("largeStylesheet_", ".bss");
+        source.deleteOnExit();
+        target.deleteOnExit();
+        Stylesheet.convertToBinary(source, target);
+        // large enough to be memory-mapped
+        assertTrue(target.length() > 16 * 1024);
+
+        Stylesheet parsed = new CssParser().parse(source.toURL());
+        Stylesheet loaded = Stylesheet.loadBinary(target.toURL());
+        assertEquals(parsed.getRules().size(), loaded.getRules().size());
+        for (int n = 0; n < parsed.getRules().size(); n++) {
+            Rule expected = parsed.getRules().get(n);
+            Rule actual = loaded.getRules().get(n);
+            assertEquals(expected.getSelectors().toString(), actual.getSelectors().toString());
+            assertEquals(2, actual.getDeclarations().size());
+            assertEquals(expected.getDeclarations().get(1).getParsedValue().convert(null).toString(),
+                         actual.getDeclarations().get(1).getParsedValue().convert(null).toString());
+        }
+    }
+
+    @Test
+    public void testLoadBinaryOfMissingFileReturnsNull() throws IOException {
+        File missing = File.createTempFile("missingStylesheet_", ".bss");
+        missing.delete();
+        assertNull(Stylesheet.loadBinary(missing.toURL()));
+    }
+
+    @Test
+    public void testStaleBinaryStylesheetIsNotLoaded() throws IOException {
+        File dir = java.nio.file.Files.createTempDirectory("staleStylesheet_").toFile();
+        File source = writeCss(new File(dir, "stale.css"), ".a { -fx-fill: red; }");
+        File target = new File(dir, "stale.bss");
+        Stylesheet.convertToBinary(source, target);
+        target.setLastModified(System.currentTimeMillis() - 60_000);
+        writeCss(source, ".b { -fx-fill: blue; }");
+        source.setLastModified(System.currentTimeMillis());
+
+        Stylesheet stylesheet = com.sun.javafx.css.StyleManager.loadStylesheet(source.toURI().toURL().toExternalForm());
+        assertEquals("*.b", stylesheet.getRules().get(0).getSelectors().get(0).toString());
+
+        // once compiled again, the binary stylesheet is used
+        Stylesheet.convertToBinary(source, target);
+        target.setLastModified(System.currentTimeMillis() + 60_000);
+        final String binaryCss = System.getProperty("binary.css");
+        System.clearProperty("binary.css");
+        try {
+            stylesheet = com.sun.javafx.css.StyleManager.loadStylesheet(source.toURI().toURL().toExternalForm());
+            assertTrue(stylesheet.getUrl().endsWith("stale.bss"));
+        } finally {
+            if (binaryCss != null) System.setProperty("binary.css", binaryCss);
+        }
+    }
+
+    @Test
+    public void testCss2BinConvertsDirectory() throws IOException {
+        File input = java.nio.file.Files.createTempDirectory("css2bin_in_").toFile();
+        File output = java.nio.file.Files.createTempDirectory("css2bin_out_").toFile();
+        new File(input, "sub").mkdir();
+        writeCss(new File(input, "a.css"), ".a { -fx-fill: red; }");
+        writeCss(new File(input, "sub/b.css"), ".b { -fx-fill: blue; }");
+        writeCss(new File(input, "sub/c.txt"), "not a stylesheet");
+
+        assertEquals(2, Css2Bin.convertDirectory(input.getPath(), output.getPath()));
+        assertTrue(new File(output, "a.bss").isFile());
+        assertTrue(new File(output, "sub/b.bss").isFile());
+        assertFalse(new File(output, "sub/c.bss").exists());
+
+        Stylesheet stylesheet = Stylesheet.loadBinary(new File(output, "sub/b.bss").toURL());
+        assertEquals("*.b", stylesheet.getRules().get(0).getSelectors().get(0).toString());
+
+        // up to date files are not converted again
+        assertEquals(0, Css2Bin.convertDirectory(input.getPath(), output.getPath()));
+    }
+
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.scene.Group;
+import javafx.scene.MeasurePhaseShim;
+import javafx.scene.ParentShim;
+import javafx.scene.Scene;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextFlow;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MeasurePhaseTest {
+
+    private static List<String> collect(Group root) {
+        final List<String> texts = new ArrayList<>();
+        ParentShim.collectMeasuredText(root, (text, font) -> {
+            assertEquals(Font.getDefault(), font);
+            texts.add(text);
+        });
+        return texts;
+    }
+
+    @Test
+    public void testCollectsTextOfBranchNeedingLayout() {
+        Group root = new Group(new Text("a"), new Group(new Text("b")),
+                               new TextFlow(new Text("span")));
+
+        assertEquals(List.of("a", "b"), collect(root));
+    }
+
+    @Test
+    public void testSkipsCleanBranches() {
+        Group inner = new Group(new Text("b"));
+        Group root = new Group(new Text("a"), inner, new Group(new Text("c")));
+        new Scene(root);
+        root.layout();
+        assertTrue(collect(root).isEmpty());
+
+        // The layout request reaches the root, but not the sibling branch
+        ParentShim.getChildren(inner).add(new Text("d"));
+
+        assertEquals(List.of("a", "b", "d"), collect(root));
+    }
+
+    @Test
+    public void testSkipsFewStrings() {
+        Group root = new Group();
+        for (int i = 0; i < MeasurePhaseShim.MIN_STRINGS - 1; i++) {
+            ParentShim.getChildren(root).addAll(new Text("text " + i), new Text("text " + i));
+        }
+
+        assertEquals(0, MeasurePhaseShim.run(root));
+    }
+
+    @Test
+    public void testMeasuresEachStringOnce() {
+        Group root = new Group();
+        for (int i = 0; i < MeasurePhaseShim.MIN_STRINGS; i++) {
+            ParentShim.getChildren(root).addAll(new Text("text " + i), new Text("text " + i));
+        }
+        ParentShim.getChildren(root).add(new Text(""));
+
+        assertEquals(MeasurePhaseShim.MIN_STRINGS, MeasurePhaseShim.run(root));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -838,6 +838,55 @@ public class ParentTest {
         assertNull(res.getIntersectedNode());
     }
 
+    @Test
+    public void testConstrainedSizesAreMemoized() {
+        CountingParent p = new CountingParent();
+
+        assertEquals(50, p.prefHeight(100), 0);
+        assertEquals(50, p.prefHeight(100), 0);
+        assertEquals(1, p.computeCount);
+
+        assertEquals(100, p.prefHeight(200), 0);
+        assertEquals(50, p.prefHeight(100), 0);
+        assertEquals(2, p.computeCount);
+    }
+
+    @Test
+    public void testRequestLayoutClearsMemoizedSizes() {
+        CountingParent p = new CountingParent();
+
+        p.prefHeight(100);
+        p.requestLayout();
+        p.prefHeight(100);
+        assertEquals(2, p.computeCount);
+    }
+
+    @Test
+    public void testLayoutPassExpiresMemoizedSizes() {
+        CountingParent p = new CountingParent();
+        Scene scene = new Scene(new Group(p));
+        stage.setScene(scene);
+        stage.show();
+        toolkit.fireTestPulse();
+
+        p.prefHeight(100);
+        p.prefHeight(100);
+        assertEquals(1, p.computeCount);
+
+        toolkit.fireTestPulse();
+        p.prefHeight(100);
+        assertEquals(2, p.computeCount);
+    }
+
+    private static class CountingParent extends Parent {
+        int computeCount;
+
+        @Override protected double computePrefHeight(double width) {
+            computeCount++;
+            return width / 2;
+        }
+    }
+
     public static class MockParent extends Parent {
         public MockParent(Node... children) {
             ParentShim.getChildren(this).addAll(children);
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene;
+
+import com.sun.javafx.css.StyleManagerShim;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.stage.Stage;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class Scene_prepareCss_Test {
+
+    private static final String SCENE_STYLESHEET =
+            Scene_prepareCss_Test.class.getResource("/test/javafx/css/HonorDeveloperSettingsTest_AUTHOR.css").toExternalForm();
+    private static final String PARENT_STYLESHEET =
+            Scene_prepareCss_Test.class.getResource("/test/com/sun/javafx/css/ua1.css").toExternalForm();
+
+    private Scene scene;
+    private Group subtree;
+    private Rectangle rectangle;
+    private Rectangle other;
+
+    @Before
+    public void setUp() {
+        StyleManagerShim.getInstance().stylesheetContainerMap_clear();
+
+        scene = new Scene(new Group());
+        scene.getStylesheets().add(SCENE_STYLESHEET);
+
+        rectangle = new Rectangle();
+        rectangle.setId("rectangle");
+        other = new Rectangle();
+        other.getStyleClass().add("rect");
+
+        subtree = new Group(rectangle, new Group(other));
+        subtree.getStylesheets().add(PARENT_STYLESHEET);
+    }
+
+    @Test
+    public void testStylesheetsAreLoadedBeforeSubtreeIsAdded() throws Exception {
+        scene.prepareCss(subtree).get();
+
+        assertTrue(StyleManagerShim.getInstance().stylesheetContainerMap_containsKey(SCENE_STYLESHEET));
+        assertTrue(StyleManagerShim.getInstance().stylesheetContainerMap_containsKey(PARENT_STYLESHEET));
+    }
+
+    @Test
+    public void testPreparingStylesDoesNotStyleTheSubtree() throws Exception {
+        scene.prepareCss(subtree).get();
+
+        assertNull(rectangle.getStroke());
+        assertNull(other.getStroke());
+    }
+
+    @Test
+    public void testPreparedSubtreeIsStyledOnceAdded() throws Exception {
+        scene.prepareCss(subtree).get();
+
+        Stage stage = new Stage();
+        stage.setScene(scene);
+        stage.show();
+        ((Group) scene.getRoot()).getChildren().add(subtree);
+        subtree.applyCss();
+
+        assertEquals(Color.RED, rectangle.getStroke());
+        assertEquals(Color.YELLOW, other.getStroke());
+    }
+
+    @Test(expected=NullPointerException.class)
+    public void testPrepareNullThrowsNPE() {
+        scene.prepareCss(null);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testPrepareAttachedNodeThrowsIAE() {
+        scene.prepareCss(scene.getRoot());
+    }
+}
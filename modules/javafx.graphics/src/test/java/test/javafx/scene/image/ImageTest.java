@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -39,6 +39,7 @@ import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.lang.ref.WeakReference;
 import java.util.LinkedList;
 import java.util.Queue;
 import javafx.scene.image.Image;
@@ -311,6 +312,47 @@ public final class ImageTest {
         }
     }
 
+    @Test
+    public void collectedPendingImageIsNotLoadedTest() {
+        final int maxRunningTasks = toolkit.getMaxImageLoadingTasks();
+        final Image[] runningImages = new Image[maxRunningTasks];
+        final StubAsyncImageLoader[] runningLoaders =
+                new StubAsyncImageLoader[maxRunningTasks];
+
+        for (int i = 0; i < maxRunningTasks; ++i) {
+            final String url = "file:gc_running_" + i + ".png";
+            registerImage(url, 100, 100);
+
+            runningImages[i] = new Image(url, true);
+            runningLoaders[i] = getLastAsyncImageLoader();
+        }
+
+        registerImage("file:gc_pending.png", 100, 100);
+        Image pendingImage = new Image("file:gc_pending.png", true);
+        final StubAsyncImageLoader pendingLoader =
+                imageLoaderFactory.getLastAsyncImageLoader();
+        assertFalse(pendingLoader.isStarted());
+
+        final WeakReference<Image> pendingRef = new WeakReference<>(pendingImage);
+        pendingImage = null;
+        for (int i = 0; i < 10 && pendingRef.get() != null; ++i) {
+            System.gc();
+            System.runFinalization();
+        }
+        assertNull(pendingRef.get());
+
+        runningLoaders[0].finish();
+        assertFalse(pendingLoader.isStarted());
+        assertTrue(pendingLoader.isCancelled());
+
+        for (int i = 1; i < maxRunningTasks; ++i) {
+            runningLoaders[i].finish();
+        }
+        for (final Image image: runningImages) {
+            verifyLoadedImage(image, 0, 0, false, false, 100, 100);
+        }
+    }
+
     @Test
     public void animatedImageTest() {
         // reset time
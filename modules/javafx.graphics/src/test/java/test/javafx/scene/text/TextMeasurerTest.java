@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javafx.geometry.Bounds;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextMeasurer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TextMeasurerTest {
+
+    private final Font font = new Font(10);
+    private final TextMeasurer measurer = new TextMeasurer(font);
+
+    @Test(expected = NullPointerException.class)
+    public void testNullFont() {
+        new TextMeasurer(null);
+    }
+
+    @Test
+    public void testGetFont() {
+        assertSame(font, measurer.getFont());
+    }
+
+    @Test
+    public void testWidthMatchesText() {
+        Text text = new Text("Hello World");
+        text.setFont(font);
+        Bounds bounds = text.getLayoutBounds();
+
+        assertEquals(bounds.getWidth(), measurer.computeWidth("Hello World"), 0);
+    }
+
+    @Test
+    public void testNullIsEmptyString() {
+        assertEquals(measurer.computeWidth(""), measurer.computeWidth(null), 0);
+    }
+
+    @Test
+    public void testWidthOfMultipleLines() {
+        assertEquals(measurer.computeWidth("Hello World"),
+                     measurer.computeWidth("Hello\nHello World\nWorld"), 0);
+    }
+
+    @Test
+    public void testHeightOfMultipleLines() {
+        double lineHeight = measurer.computeHeight("Hello", 0);
+        assertTrue(lineHeight > 0);
+        assertEquals(3 * lineHeight, measurer.computeHeight("a\nb\nc", 0), 0);
+    }
+
+    @Test
+    public void testComputeWidths() {
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            texts.add("Cell " + i);
+        }
+        texts.add(null);
+
+        double[] widths = measurer.computeWidths(texts);
+
+        assertEquals(texts.size(), widths.length);
+        for (int i = 0; i < widths.length; i++) {
+            assertEquals(measurer.computeWidth(texts.get(i)), widths[i], 0);
+        }
+    }
+
+    @Test
+    public void testComputeMaxWidth() {
+        List<String> texts = Arrays.asList("a", "abcdef", null, "abc");
+
+        assertEquals(measurer.computeWidth("abcdef"), measurer.computeMaxWidth(texts), 0);
+        assertEquals(0, measurer.computeMaxWidth(Collections.emptyList()), 0);
+    }
+
+    @Test
+    public void testConcurrentMeasurement() throws Exception {
+        final TextMeasurer other = new TextMeasurer(new Font(20));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final TextMeasurer m = (t % 2 == 0) ? measurer : other;
+                final double expected = m.computeWidth("0123456789");
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        if (m.computeWidth("0123456789") != expected) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}